@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.TargetLatencyStatistics;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.TargetLatencyStatisticsRegistry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Readwrite-splitting replica latency exporter.
+ */
+public final class ReadwriteSplittingReplicaLatencyExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("readwrite_splitting_replica_latency",
+            MetricCollectorType.GAUGE_METRIC_FAMILY,
+            "Replica latency statistics collected by LATENCY_AWARE load balance algorithm. ewma_latency_millis is EWMA latency of SQL executions; "
+                    + "in_flight_count is number of running SQL executions; completed_count and failed_count are numbers of finished and failed SQL executions",
+            Arrays.asList("database", "replica", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        Map<String, Map<String, TargetLatencyStatistics>> allStatistics = TargetLatencyStatisticsRegistry.getAll();
+        if (allStatistics.isEmpty()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (Entry<String, Map<String, TargetLatencyStatistics>> entry : allStatistics.entrySet()) {
+            for (TargetLatencyStatistics each : entry.getValue().values()) {
+                result.addMetric(Arrays.asList(entry.getKey(), each.getTargetName(), "ewma_latency_millis"), each.getEwmaLatencyMillis());
+                result.addMetric(Arrays.asList(entry.getKey(), each.getTargetName(), "in_flight_count"), each.getInFlightCount());
+                result.addMetric(Arrays.asList(entry.getKey(), each.getTargetName(), "completed_count"), each.getCompletedCount());
+                result.addMetric(Arrays.asList(entry.getKey(), each.getTargetName(), "failed_count"), each.getFailedCount());
+            }
+        }
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.agent.plugin.core.context.ShardingSphereDataSourceContext;
+import org.apache.shardingsphere.agent.plugin.core.holder.ShardingSphereDataSourceContextHolder;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * JDBC encrypt value cache exporter.
+ */
+public final class JDBCEncryptValueCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("jdbc_encrypt_value_cache", MetricCollectorType.GAUGE_METRIC_FAMILY,
+            "Encrypted value cache of encryptors configured with cache-maximum-size. hit_count and miss_count are numbers of cache lookups; eviction_count is number of evicted values",
+            Arrays.asList("driver_instance", "database", "encryptor", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (Entry<String, ShardingSphereDataSourceContext> entry : ShardingSphereDataSourceContextHolder.getShardingSphereDataSourceContexts().entrySet()) {
+            ShardingSphereDatabase database = entry.getValue().getContextManager().getDatabase(entry.getValue().getDatabaseName());
+            if (null != database) {
+                database.getRuleMetaData().findSingleRule(EncryptRule.class).ifPresent(optional -> addMetrics(result, entry.getKey(), database.getName(), optional));
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private void addMetrics(final GaugeMetricFamilyMetricsCollector collector, final String instanceId, final String databaseName, final EncryptRule rule) {
+        for (Entry<String, CacheStats> entry : rule.getEncryptValueCacheStats().entrySet()) {
+            collector.addMetric(Arrays.asList(instanceId, databaseName, entry.getKey(), "hit_count"), entry.getValue().hitCount());
+            collector.addMetric(Arrays.asList(instanceId, databaseName, entry.getKey(), "miss_count"), entry.getValue().missCount());
+            collector.addMetric(Arrays.asList(instanceId, databaseName, entry.getKey(), "eviction_count"), entry.getValue().evictionCount());
+        }
+    }
+}
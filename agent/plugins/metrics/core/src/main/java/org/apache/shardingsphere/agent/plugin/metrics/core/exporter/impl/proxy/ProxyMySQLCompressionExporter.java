@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressionStatistics;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Proxy MySQL compressed protocol exporter.
+ */
+public final class ProxyMySQLCompressionExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_mysql_compression",
+            MetricCollectorType.GAUGE_METRIC_FAMILY,
+            "MySQL compressed protocol of ShardingSphere-Proxy. uncompressed_bytes and compressed_bytes are outbound payload bytes before and after compression; "
+                    + "compression_ratio is uncompressed_bytes divided by compressed_bytes; compress_cpu_millis and decompress_cpu_millis are CPU time spent on compression and decompression",
+            Collections.singletonList("name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        MySQLCompressionStatistics statistics = MySQLCompressionStatistics.getInstance();
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        result.addMetric(Collections.singletonList("uncompressed_bytes"), statistics.getUncompressedBytes());
+        result.addMetric(Collections.singletonList("compressed_bytes"), statistics.getCompressedBytes());
+        result.addMetric(Collections.singletonList("compression_ratio"), statistics.getCompressionRatio());
+        result.addMetric(Collections.singletonList("compress_cpu_millis"), TimeUnit.NANOSECONDS.toMillis(statistics.getCompressNanos()));
+        result.addMetric(Collections.singletonList("decompress_cpu_millis"), TimeUnit.NANOSECONDS.toMillis(statistics.getDecompressNanos()));
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.TargetLatencyStatistics;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.TargetLatencyStatisticsRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadwriteSplittingReplicaLatencyExporterTest {
+    
+    @AfterEach
+    void reset() {
+        TargetLatencyStatisticsRegistry.clear();
+        MetricConfiguration config = new MetricConfiguration("readwrite_splitting_replica_latency",
+                MetricCollectorType.GAUGE_METRIC_FAMILY, null, Arrays.asList("database", "replica", "name"), Collections.emptyMap());
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertExportWithoutStatistics() {
+        assertFalse(new ReadwriteSplittingReplicaLatencyExporter().export("FIXTURE").isPresent());
+    }
+    
+    @Test
+    void assertExport() {
+        TargetLatencyStatistics statistics = TargetLatencyStatisticsRegistry.get("foo_db", "read_ds_0");
+        statistics.start();
+        statistics.finish(TimeUnit.MILLISECONDS.toNanos(2L), true);
+        Optional<GaugeMetricFamilyMetricsCollector> collector = new ReadwriteSplittingReplicaLatencyExporter().export("FIXTURE");
+        assertTrue(collector.isPresent());
+        assertThat(collector.get().toString(), is("foo_db=3, read_ds_0=3, ewma_latency_millis=2, in_flight_count=0, completed_count=1, failed_count=0"));
+    }
+}
@@ -25,9 +25,13 @@ import org.apache.shardingsphere.agent.api.PluginConfiguration;
 import org.apache.shardingsphere.agent.plugin.core.config.validator.PluginConfigurationValidator;
 import org.apache.shardingsphere.agent.plugin.core.context.PluginContext;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.BuildInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.ReadwriteSplittingReplicaLatencyExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCEncryptValueCacheExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCMetaDataInfoExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCStateExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyEncryptValueCacheExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMetaDataInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMySQLCompressionExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.exoprter.PrometheusMetricsExporter;
 import org.apache.shardingsphere.agent.spi.PluginLifecycleService;
@@ -65,6 +69,7 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     
     private void registerCollector(final boolean isCollectJVMInformation, final boolean isEnhancedForProxy) {
         new PrometheusMetricsExporter(new BuildInfoExporter()).register();
+        new PrometheusMetricsExporter(new ReadwriteSplittingReplicaLatencyExporter()).register();
         if (isEnhancedForProxy) {
             registerCollectorForProxy();
         } else {
@@ -78,11 +83,14 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     private void registerCollectorForProxy() {
         new PrometheusMetricsExporter(new ProxyStateExporter()).register();
         new PrometheusMetricsExporter(new ProxyMetaDataInfoExporter()).register();
+        new PrometheusMetricsExporter(new ProxyMySQLCompressionExporter()).register();
+        new PrometheusMetricsExporter(new ProxyEncryptValueCacheExporter()).register();
     }
     
     private void registerCollectorForJDBC() {
         new PrometheusMetricsExporter(new JDBCStateExporter()).register();
         new PrometheusMetricsExporter(new JDBCMetaDataInfoExporter()).register();
+        new PrometheusMetricsExporter(new JDBCEncryptValueCacheExporter()).register();
     }
     
     private InetSocketAddress getSocketAddress(final PluginConfiguration pluginConfig) {
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decoder of MySQL compressed protocol, which unwraps compressed packets into plain MySQL packets.
+ *
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_basic_compression_packet.html">Compressed Packet</a>
+ */
+@RequiredArgsConstructor
+public final class MySQLCompressedPacketDecoder extends ByteToMessageDecoder {
+    
+    static final int HEADER_LENGTH = 7;
+    
+    private final AtomicInteger compressedSequenceId;
+    
+    private final Inflater inflater = new Inflater();
+    
+    @Override
+    protected void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) {
+        if (in.readableBytes() < HEADER_LENGTH) {
+            return;
+        }
+        int compressedLength = in.getUnsignedMediumLE(in.readerIndex());
+        if (in.readableBytes() < HEADER_LENGTH + compressedLength) {
+            return;
+        }
+        compressedSequenceId.set(in.getUnsignedByte(in.readerIndex() + 3) + 1);
+        int uncompressedLength = in.getUnsignedMediumLE(in.readerIndex() + 4);
+        in.skipBytes(HEADER_LENGTH);
+        if (0 == uncompressedLength) {
+            out.add(in.readRetainedSlice(compressedLength));
+            return;
+        }
+        out.add(inflate(context, in.readSlice(compressedLength), uncompressedLength));
+    }
+    
+    private ByteBuf inflate(final ChannelHandlerContext context, final ByteBuf compressed, final int uncompressedLength) {
+        long startNanos = System.nanoTime();
+        ByteBuf result = context.alloc().heapBuffer(uncompressedLength, uncompressedLength);
+        try {
+            inflater.reset();
+            inflater.setInput(ByteBufUtil.getBytes(compressed));
+            int inflatedLength = 0;
+            while (inflatedLength < uncompressedLength && !inflater.finished()) {
+                int length = inflater.inflate(result.array(), result.arrayOffset() + inflatedLength, uncompressedLength - inflatedLength);
+                if (0 == length && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflatedLength += length;
+            }
+            if (inflatedLength != uncompressedLength) {
+                throw new CorruptedFrameException(String.format("Compressed packet inflated to %d bytes, expected %d bytes.", inflatedLength, uncompressedLength));
+            }
+            result.writerIndex(uncompressedLength);
+            MySQLCompressionStatistics.getInstance().recordDecompression(System.nanoTime() - startNanos);
+            return result;
+        } catch (final DataFormatException ex) {
+            result.release();
+            throw new CorruptedFrameException(ex);
+        } catch (final CorruptedFrameException ex) {
+            result.release();
+            throw ex;
+        }
+    }
+    
+    @Override
+    protected void handlerRemoved0(final ChannelHandlerContext context) {
+        inflater.end();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.PromiseNotifier;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+/**
+ * Encoder of MySQL compressed protocol, which wraps plain MySQL packets into compressed packets on flush or once a frame payload is filled.
+ *
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_basic_compression_packet.html">Compressed Packet</a>
+ */
+@RequiredArgsConstructor
+public final class MySQLCompressedPacketEncoder extends ChannelOutboundHandlerAdapter {
+    
+    /**
+     * Pending plain bytes are emitted as a compressed packet once reaching this length, same as default {@code net_buffer_length} of MySQL server.
+     */
+    static final int MAX_FRAME_PAYLOAD_LENGTH = 16 * 1024;
+    
+    /**
+     * Payloads shorter than this are sent uncompressed, same as {@code MIN_COMPRESS_LENGTH} of MySQL server.
+     */
+    static final int MIN_COMPRESS_LENGTH = 50;
+    
+    private final AtomicInteger compressedSequenceId;
+    
+    private final Deflater deflater = new Deflater();
+    
+    private final Collection<ChannelPromise> pendingPromises = new ArrayList<>();
+    
+    private ByteBuf pending;
+    
+    @Override
+    public void write(final ChannelHandlerContext context, final Object msg, final ChannelPromise promise) {
+        if (!(msg instanceof ByteBuf)) {
+            context.write(msg, promise);
+            return;
+        }
+        ByteBuf byteBuf = (ByteBuf) msg;
+        try {
+            while (byteBuf.isReadable()) {
+                if (null != pending && !pending.isWritable()) {
+                    writePending(context);
+                }
+                if (null == pending) {
+                    pending = context.alloc().heapBuffer(MAX_FRAME_PAYLOAD_LENGTH, MAX_FRAME_PAYLOAD_LENGTH);
+                }
+                pending.writeBytes(byteBuf, Math.min(byteBuf.readableBytes(), pending.writableBytes()));
+            }
+        } finally {
+            byteBuf.release();
+        }
+        if (!promise.isVoid()) {
+            pendingPromises.add(promise);
+        }
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext context) {
+        writePending(context);
+        context.flush();
+    }
+    
+    private void writePending(final ChannelHandlerContext context) {
+        if (null == pending) {
+            // only promises of empty writes are left, bytes of other writes are always in the pending frame
+            for (ChannelPromise each : pendingPromises) {
+                each.trySuccess();
+            }
+            pendingPromises.clear();
+            return;
+        }
+        ChannelFuture future;
+        try {
+            future = context.write(encodeFrame(context, pending));
+        } finally {
+            pending.release();
+            pending = null;
+        }
+        if (!pendingPromises.isEmpty()) {
+            future.addListener(new PromiseNotifier<>(pendingPromises.toArray(new ChannelPromise[0])));
+            pendingPromises.clear();
+        }
+    }
+    
+    private ByteBuf encodeFrame(final ChannelHandlerContext context, final ByteBuf payload) {
+        int payloadLength = payload.readableBytes();
+        long compressNanos = 0L;
+        if (payloadLength >= MIN_COMPRESS_LENGTH) {
+            long startNanos = System.nanoTime();
+            ByteBuf result = context.alloc().heapBuffer(MySQLCompressedPacketDecoder.HEADER_LENGTH + payloadLength);
+            int compressedLength = deflate(payload, result);
+            compressNanos = System.nanoTime() - startNanos;
+            if (compressedLength > 0) {
+                MySQLCompressionStatistics.getInstance().recordCompression(payloadLength, compressedLength, compressNanos);
+                return result.writerIndex(MySQLCompressedPacketDecoder.HEADER_LENGTH + compressedLength).setMediumLE(0, compressedLength).setByte(3, nextSequenceId()).setMediumLE(4, payloadLength);
+            }
+            result.release();
+        }
+        MySQLCompressionStatistics.getInstance().recordCompression(payloadLength, payloadLength, compressNanos);
+        ByteBuf header = context.alloc().ioBuffer(MySQLCompressedPacketDecoder.HEADER_LENGTH).writeMediumLE(payloadLength).writeByte(nextSequenceId()).writeMediumLE(0);
+        return context.alloc().compositeBuffer(2).addComponents(true, header, payload.retain());
+    }
+    
+    private int deflate(final ByteBuf payload, final ByteBuf out) {
+        int payloadLength = payload.readableBytes();
+        deflater.reset();
+        deflater.setInput(payload.array(), payload.arrayOffset() + payload.readerIndex(), payloadLength);
+        deflater.finish();
+        int offset = out.arrayOffset() + MySQLCompressedPacketDecoder.HEADER_LENGTH;
+        int result = 0;
+        while (!deflater.finished() && result < payloadLength) {
+            result += deflater.deflate(out.array(), offset + result, payloadLength - result);
+        }
+        // zero means compressed payload would not be shorter than uncompressed one
+        return deflater.finished() && result < payloadLength ? result : 0;
+    }
+    
+    private int nextSequenceId() {
+        return compressedSequenceId.getAndIncrement() & 0xFF;
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) {
+        if (null != pending) {
+            pending.release();
+            pending = null;
+        }
+        for (ChannelPromise each : pendingPromises) {
+            each.tryFailure(new ClosedChannelException());
+        }
+        pendingPromises.clear();
+        deflater.end();
+    }
+}
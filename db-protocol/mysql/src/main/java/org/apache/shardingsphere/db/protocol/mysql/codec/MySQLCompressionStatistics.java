@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of MySQL compressed protocol.
+ */
+@NoArgsConstructor(access = AccessLevel.NONE)
+public final class MySQLCompressionStatistics {
+    
+    private static final MySQLCompressionStatistics INSTANCE = new MySQLCompressionStatistics();
+    
+    private final LongAdder uncompressedBytes = new LongAdder();
+    
+    private final LongAdder compressedBytes = new LongAdder();
+    
+    private final LongAdder compressNanos = new LongAdder();
+    
+    private final LongAdder decompressNanos = new LongAdder();
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static MySQLCompressionStatistics getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record outbound compression.
+     *
+     * @param uncompressedLength payload length before compression
+     * @param compressedLength payload length sent on the wire
+     * @param nanos nanos spent on compression
+     */
+    public void recordCompression(final int uncompressedLength, final int compressedLength, final long nanos) {
+        uncompressedBytes.add(uncompressedLength);
+        compressedBytes.add(compressedLength);
+        compressNanos.add(nanos);
+    }
+    
+    /**
+     * Record inbound decompression.
+     *
+     * @param nanos nanos spent on decompression
+     */
+    public void recordDecompression(final long nanos) {
+        decompressNanos.add(nanos);
+    }
+    
+    /**
+     * Get outbound payload bytes before compression.
+     *
+     * @return outbound payload bytes before compression
+     */
+    public long getUncompressedBytes() {
+        return uncompressedBytes.sum();
+    }
+    
+    /**
+     * Get outbound payload bytes sent on the wire.
+     *
+     * @return outbound payload bytes sent on the wire
+     */
+    public long getCompressedBytes() {
+        return compressedBytes.sum();
+    }
+    
+    /**
+     * Get compression ratio, which is uncompressed bytes divided by compressed bytes.
+     *
+     * @return compression ratio
+     */
+    public double getCompressionRatio() {
+        long compressed = compressedBytes.sum();
+        return 0L == compressed ? 1D : (double) uncompressedBytes.sum() / compressed;
+    }
+    
+    /**
+     * Get nanos spent on compression.
+     *
+     * @return nanos spent on compression
+     */
+    public long getCompressNanos() {
+        return compressNanos.sum();
+    }
+    
+    /**
+     * Get nanos spent on decompression.
+     *
+     * @return nanos spent on decompression
+     */
+    public long getDecompressNanos() {
+        return decompressNanos.sum();
+    }
+}
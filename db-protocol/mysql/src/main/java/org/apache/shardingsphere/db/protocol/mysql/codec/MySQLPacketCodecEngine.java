@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLEncodedPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -87,6 +88,10 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
     
     @Override
     public void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
+        if (message instanceof MySQLEncodedPacket) {
+            writeEncodedPacket(context, ((MySQLEncodedPacket) message).getByteBuf());
+            return;
+        }
         MySQLPacketPayload payload = new MySQLPacketPayload(prepareMessageHeader(out).markWriterIndex(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
         try {
             message.write(payload);
@@ -104,6 +109,15 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
         }
     }
     
+    private void writeEncodedPacket(final ChannelHandlerContext context, final ByteBuf byteBuf) {
+        if (byteBuf.readableBytes() - PAYLOAD_LENGTH - SEQUENCE_LENGTH < MAX_PACKET_LENGTH) {
+            updateMessageHeader(byteBuf, context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().getAndIncrement());
+            context.write(byteBuf.retain());
+            return;
+        }
+        writeMultiPackets(context, byteBuf);
+    }
+    
     private ByteBuf prepareMessageHeader(final ByteBuf out) {
         return out.writeInt(0);
     }
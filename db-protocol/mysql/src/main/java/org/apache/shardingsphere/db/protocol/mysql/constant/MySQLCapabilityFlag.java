@@ -77,7 +77,9 @@ public enum MySQLCapabilityFlag {
     
     CLIENT_SESSION_TRACK(0x00800000),
     
-    CLIENT_DEPRECATE_EOF(0x01000000);
+    CLIENT_DEPRECATE_EOF(0x01000000),
+    
+    CLIENT_OPTIONAL_RESULTSET_METADATA(0x02000000);
     
     private final int value;
     
@@ -87,7 +89,7 @@ public enum MySQLCapabilityFlag {
      * @return handshake capability flags lower bit
      */
     public static int calculateHandshakeCapabilityFlagsLower() {
-        return calculateCapabilityFlags(CLIENT_LONG_PASSWORD, CLIENT_FOUND_ROWS, CLIENT_LONG_FLAG, CLIENT_CONNECT_WITH_DB, CLIENT_ODBC, CLIENT_IGNORE_SPACE,
+        return calculateCapabilityFlags(CLIENT_LONG_PASSWORD, CLIENT_FOUND_ROWS, CLIENT_LONG_FLAG, CLIENT_CONNECT_WITH_DB, CLIENT_COMPRESS, CLIENT_ODBC, CLIENT_IGNORE_SPACE,
                 CLIENT_PROTOCOL_41, CLIENT_INTERACTIVE, CLIENT_IGNORE_SIGPIPE, CLIENT_TRANSACTIONS, CLIENT_SECURE_CONNECTION) & 0x0000ffff;
     }
     
@@ -97,7 +99,17 @@ public enum MySQLCapabilityFlag {
      * @return handshake capability flags upper bit
      */
     public static int calculateHandshakeCapabilityFlagsUpper() {
-        return calculateCapabilityFlags(CLIENT_MULTI_STATEMENTS, CLIENT_PLUGIN_AUTH) >> 16;
+        return calculateCapabilityFlags(CLIENT_MULTI_STATEMENTS, CLIENT_PLUGIN_AUTH, CLIENT_DEPRECATE_EOF, CLIENT_OPTIONAL_RESULTSET_METADATA) >> 16;
+    }
+    
+    /**
+     * Judge whether capability is enabled in capability flags.
+     *
+     * @param capabilityFlags capability flags
+     * @return is enabled or not
+     */
+    public boolean isEnabled(final int capabilityFlags) {
+        return 0 != (capabilityFlags & value);
     }
     
     /**
@@ -35,6 +35,10 @@ public final class MySQLConstants {
     
     public static final AttributeKey<Integer> OPTION_MULTI_STATEMENTS_ATTRIBUTE_KEY = AttributeKey.valueOf("MYSQL_OPTION_MULTI_STATEMENTS");
     
+    public static final AttributeKey<Integer> CLIENT_CAPABILITY_FLAGS_ATTRIBUTE_KEY = AttributeKey.valueOf("MYSQL_CLIENT_CAPABILITY_FLAGS");
+    
+    public static final AttributeKey<MySQLResultSetMetadata> RESULTSET_METADATA_ATTRIBUTE_KEY = AttributeKey.valueOf(MySQLResultSetMetadata.class.getName());
+    
     /**
      * Protocol version is always 0x0A.
      */
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Result set metadata flag for MySQL, which is sent when {@code CLIENT_OPTIONAL_RESULTSET_METADATA} is negotiated.
+ *
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/mysql__com_8h.html">enum_resultset_metadata</a>
+ */
+@RequiredArgsConstructor
+@Getter
+public enum MySQLResultSetMetadata {
+    
+    RESULTSET_METADATA_NONE(0),
+    
+    RESULTSET_METADATA_FULL(1);
+    
+    private final int value;
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCounted;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+/**
+ * Encoded packet for MySQL, whose payload has been written into byte buffer after reserved packet header.
+ * The byte buffer is released together with the packet, so the packet is released by the encoder or by the pipeline when the write is dropped.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MySQLEncodedPacket extends MySQLPacket implements ReferenceCounted {
+    
+    public static final int HEADER_LENGTH = 4;
+    
+    private final ByteBuf byteBuf;
+    
+    @Override
+    protected void write(final MySQLPacketPayload payload) {
+        payload.getByteBuf().writeBytes(byteBuf, HEADER_LENGTH, byteBuf.writerIndex() - HEADER_LENGTH);
+    }
+    
+    @Override
+    public int refCnt() {
+        return byteBuf.refCnt();
+    }
+    
+    @Override
+    public MySQLEncodedPacket retain() {
+        byteBuf.retain();
+        return this;
+    }
+    
+    @Override
+    public MySQLEncodedPacket retain(final int increment) {
+        byteBuf.retain(increment);
+        return this;
+    }
+    
+    @Override
+    public MySQLEncodedPacket touch() {
+        byteBuf.touch();
+        return this;
+    }
+    
+    @Override
+    public MySQLEncodedPacket touch(final Object hint) {
+        byteBuf.touch(hint);
+        return this;
+    }
+    
+    @Override
+    public boolean release() {
+        return byteBuf.release();
+    }
+    
+    @Override
+    public boolean release(final int decrement) {
+        return byteBuf.release(decrement);
+    }
+}
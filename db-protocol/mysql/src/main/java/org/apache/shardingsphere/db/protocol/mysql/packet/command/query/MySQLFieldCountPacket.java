@@ -19,6 +19,7 @@ package org.apache.shardingsphere.db.protocol.mysql.packet.command.query;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
@@ -31,6 +32,12 @@ public final class MySQLFieldCountPacket extends MySQLPacket {
     
     private final int columnCount;
     
+    private final MySQLResultSetMetadata resultSetMetadata;
+    
+    public MySQLFieldCountPacket(final int columnCount) {
+        this(columnCount, null);
+    }
+    
     public MySQLFieldCountPacket(final MySQLPacketPayload payload) {
         this(payload.readInt1());
     }
@@ -38,5 +45,8 @@ public final class MySQLFieldCountPacket extends MySQLPacket {
     @Override
     protected void write(final MySQLPacketPayload payload) {
         payload.writeIntLenenc(columnCount);
+        if (null != resultSetMetadata) {
+            payload.writeInt1(resultSetMetadata.getValue());
+        }
     }
 }
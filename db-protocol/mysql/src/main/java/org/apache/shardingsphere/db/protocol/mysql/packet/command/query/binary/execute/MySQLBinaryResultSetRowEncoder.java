@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.binary.BinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLEncodedPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.nio.charset.Charset;
+
+/**
+ * Binary result set row encoder for MySQL, writes values of row straight into byte buffer without building {@link MySQLBinaryResultSetRowPacket}.
+ */
+public final class MySQLBinaryResultSetRowEncoder {
+    
+    private static final int PACKET_HEADER = 0x00;
+    
+    private static final int NULL_BITMAP_OFFSET = 2;
+    
+    private final MySQLPacketPayload payload;
+    
+    private final int nullBitmapIndex;
+    
+    private int columnIndex;
+    
+    public MySQLBinaryResultSetRowEncoder(final ByteBuf byteBuf, final int columnCount, final Charset charset) {
+        payload = new MySQLPacketPayload(byteBuf.writeZero(MySQLEncodedPacket.HEADER_LENGTH), charset);
+        payload.writeInt1(PACKET_HEADER);
+        nullBitmapIndex = byteBuf.writerIndex();
+        byteBuf.writeZero((columnCount + NULL_BITMAP_OFFSET + 7) / 8);
+    }
+    
+    /**
+     * Write value.
+     *
+     * @param columnType column type
+     * @param data data of value
+     */
+    public void writeValue(final BinaryColumnType columnType, final Object data) {
+        if (null == data) {
+            setNullBit();
+        } else {
+            MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnType).write(payload, data);
+        }
+        columnIndex++;
+    }
+    
+    private void setNullBit() {
+        ByteBuf byteBuf = payload.getByteBuf();
+        int index = nullBitmapIndex + (columnIndex + NULL_BITMAP_OFFSET) / 8;
+        byteBuf.setByte(index, byteBuf.getByte(index) | 1 << (columnIndex + NULL_BITMAP_OFFSET) % 8);
+    }
+    
+    /**
+     * Convert to encoded packet.
+     *
+     * @return encoded packet
+     */
+    public MySQLEncodedPacket toPacket() {
+        return new MySQLEncodedPacket(payload.getByteBuf());
+    }
+}
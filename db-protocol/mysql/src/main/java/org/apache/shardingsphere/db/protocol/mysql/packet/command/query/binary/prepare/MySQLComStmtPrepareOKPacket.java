@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.prepare;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
@@ -39,6 +40,12 @@ public final class MySQLComStmtPrepareOKPacket extends MySQLPacket {
     
     private final int warningCount;
     
+    private final MySQLResultSetMetadata resultSetMetadata;
+    
+    public MySQLComStmtPrepareOKPacket(final int statementId, final int columnCount, final int parameterCount, final int warningCount) {
+        this(statementId, columnCount, parameterCount, warningCount, null);
+    }
+    
     @Override
     protected void write(final MySQLPacketPayload payload) {
         payload.writeInt1(STATUS);
@@ -48,5 +55,8 @@ public final class MySQLComStmtPrepareOKPacket extends MySQLPacket {
         payload.writeInt2(parameterCount);
         payload.writeReserved(1);
         payload.writeInt2(warningCount);
+        if (null != resultSetMetadata) {
+            payload.writeInt1(resultSetMetadata.getValue());
+        }
     }
 }
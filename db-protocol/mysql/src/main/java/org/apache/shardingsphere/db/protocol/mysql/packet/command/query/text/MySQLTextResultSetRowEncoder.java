@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLEncodedPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.nio.charset.Charset;
+
+/**
+ * Text result set row encoder for MySQL, writes values of row straight into byte buffer without building {@link MySQLTextResultSetRowPacket}.
+ */
+public final class MySQLTextResultSetRowEncoder {
+    
+    private final MySQLPacketPayload payload;
+    
+    public MySQLTextResultSetRowEncoder(final ByteBuf byteBuf, final Charset charset) {
+        payload = new MySQLPacketPayload(byteBuf.writeZero(MySQLEncodedPacket.HEADER_LENGTH), charset);
+    }
+    
+    /**
+     * Write value.
+     *
+     * @param data data of value
+     */
+    public void writeValue(final Object data) {
+        MySQLTextResultSetRowPacket.writeValue(payload, data);
+    }
+    
+    /**
+     * Convert to encoded packet.
+     *
+     * @return encoded packet
+     */
+    public MySQLEncodedPacket toPacket() {
+        return new MySQLEncodedPacket(payload.getByteBuf());
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.generic;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+/**
+ * OK packet with EOF header for MySQL, which replaces EOF packet when {@code CLIENT_DEPRECATE_EOF} is negotiated.
+ *
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_basic_ok_packet.html">OK Packet</a>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MySQLEofOKPacket extends MySQLPacket {
+    
+    private final int warnings;
+    
+    private final int statusFlags;
+    
+    public MySQLEofOKPacket(final int statusFlags) {
+        this(0, statusFlags);
+    }
+    
+    @Override
+    protected void write(final MySQLPacketPayload payload) {
+        payload.writeInt1(MySQLEofPacket.HEADER);
+        payload.writeIntLenenc(0L);
+        payload.writeIntLenenc(0L);
+        payload.writeInt2(statusFlags);
+        payload.writeInt2(warnings);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLCompressionCodecTest {
+    
+    @Test
+    void assertWriteCompressedPacketOnFlush() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec());
+        byte[] packet = createCompressiblePayload(1000);
+        channel.write(Unpooled.wrappedBuffer(packet, 0, 600));
+        channel.write(Unpooled.wrappedBuffer(packet, 600, 400));
+        assertNull(channel.readOutbound());
+        channel.flush();
+        ByteBuf actual = channel.readOutbound();
+        int compressedLength = actual.readUnsignedMediumLE();
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(1000));
+        assertTrue(compressedLength < 1000);
+        assertThat(actual.readableBytes(), is(compressedLength));
+        assertThat(inflate(ByteBufUtil.getBytes(actual), 1000), is(packet));
+        actual.release();
+        assertNull(channel.readOutbound());
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    void assertWriteCompressedPacketsOnceFrameFilled() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec());
+        int frameLength = MySQLCompressedPacketEncoder.MAX_FRAME_PAYLOAD_LENGTH;
+        byte[] packet = createCompressiblePayload(frameLength * 2 + 100);
+        ChannelFuture future = channel.write(Unpooled.wrappedBuffer(packet));
+        assertTrue(channel.unsafe().outboundBuffer().totalPendingWriteBytes() > 0L);
+        assertFalse(future.isDone());
+        channel.flush();
+        assertFrame(channel.readOutbound(), 0, Arrays.copyOfRange(packet, 0, frameLength));
+        assertFrame(channel.readOutbound(), 1, Arrays.copyOfRange(packet, frameLength, frameLength * 2));
+        assertFrame(channel.readOutbound(), 2, Arrays.copyOfRange(packet, frameLength * 2, packet.length));
+        assertNull(channel.readOutbound());
+        assertTrue(future.isSuccess());
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    void assertWriteUncompressedPacketBelowThreshold() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec());
+        byte[] packet = createCompressiblePayload(MySQLCompressedPacketEncoder.MIN_COMPRESS_LENGTH - 1);
+        channel.writeAndFlush(Unpooled.wrappedBuffer(packet));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readUnsignedMediumLE(), is(packet.length));
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(0));
+        assertThat(ByteBufUtil.getBytes(actual), is(packet));
+        actual.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    void assertReadCompressedPacketAndReplyWithNextSequenceId() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec());
+        byte[] packet = createCompressiblePayload(500);
+        byte[] compressed = deflate(packet);
+        ByteBuf frame = Unpooled.buffer().writeMediumLE(compressed.length).writeByte(3).writeMediumLE(packet.length).writeBytes(compressed);
+        channel.writeInbound(frame.readRetainedSlice(5));
+        assertNull(channel.readInbound());
+        channel.writeInbound(frame);
+        ByteBuf actual = channel.readInbound();
+        assertThat(ByteBufUtil.getBytes(actual), is(packet));
+        actual.release();
+        channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{1, 2, 3}));
+        ByteBuf reply = channel.readOutbound();
+        assertThat(reply.getUnsignedByte(3), is((short) 4));
+        reply.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    void assertReadUncompressedPacket() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec());
+        byte[] packet = {1, 0, 0, 0, 0x0e};
+        channel.writeInbound(Unpooled.buffer().writeMediumLE(packet.length).writeByte(0).writeMediumLE(0).writeBytes(packet));
+        ByteBuf actual = channel.readInbound();
+        assertThat(ByteBufUtil.getBytes(actual), is(packet));
+        actual.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    private void assertFrame(final ByteBuf actual, final int sequenceId, final byte[] expectedPayload) {
+        int compressedLength = actual.readUnsignedMediumLE();
+        assertThat(actual.readUnsignedByte(), is((short) sequenceId));
+        assertThat(actual.readUnsignedMediumLE(), is(expectedPayload.length));
+        assertThat(actual.readableBytes(), is(compressedLength));
+        assertThat(inflate(ByteBufUtil.getBytes(actual), expectedPayload.length), is(expectedPayload));
+        actual.release();
+    }
+    
+    private byte[] createCompressiblePayload(final int length) {
+        byte[] result = new byte[length];
+        Arrays.fill(result, (byte) 'a');
+        return result;
+    }
+    
+    private byte[] deflate(final byte[] data) {
+        Deflater deflater = new Deflater();
+        deflater.setInput(data);
+        deflater.finish();
+        byte[] buffer = new byte[data.length + 64];
+        int length = deflater.deflate(buffer);
+        deflater.end();
+        return Arrays.copyOf(buffer, length);
+    }
+    
+    @SneakyThrows(DataFormatException.class)
+    private byte[] inflate(final byte[] data, final int uncompressedLength) {
+        Inflater inflater = new Inflater();
+        inflater.setInput(data);
+        byte[] result = new byte[uncompressedLength];
+        inflater.inflate(result);
+        inflater.end();
+        return result;
+    }
+}
@@ -24,6 +24,7 @@ import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLEncodedPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,6 +53,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -144,6 +146,18 @@ class MySQLPacketCodecEngineTest {
         verify(byteBuf).setByte(3, 1);
     }
     
+    @Test
+    void assertEncodeEncodedPacket() {
+        ByteBuf encoded = Unpooled.buffer().writeZero(MySQLEncodedPacket.HEADER_LENGTH).writeBytes(new byte[]{1, 2, 3});
+        context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().set(3);
+        new MySQLPacketCodecEngine().encode(context, new MySQLEncodedPacket(encoded), byteBuf);
+        verify(context).write(encoded);
+        assertThat(encoded.getUnsignedMediumLE(0), is(3));
+        assertThat(encoded.getUnsignedByte(3), is((short) 3));
+        assertThat(encoded.refCnt(), is(2));
+        verifyNoInteractions(byteBuf);
+    }
+    
     @Test
     void assertEncodePacketMoreThan16MB() {
         CompositeByteBuf expected = new CompositeByteBuf(UnpooledByteBufAllocator.DEFAULT, false, 6);
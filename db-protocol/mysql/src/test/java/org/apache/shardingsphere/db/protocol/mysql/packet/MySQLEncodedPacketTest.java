@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLEncodedPacketTest {
+    
+    @Test
+    void assertWrite() {
+        ByteBuf byteBuf = Unpooled.buffer().writeZero(MySQLEncodedPacket.HEADER_LENGTH).writeBytes(new byte[]{1, 2, 3});
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLEncodedPacket(byteBuf).write(new MySQLPacketPayload(actual, StandardCharsets.UTF_8));
+        assertThat(actual, is(Unpooled.wrappedBuffer(new byte[]{1, 2, 3})));
+        assertThat(byteBuf.refCnt(), is(1));
+    }
+    
+    @Test
+    void assertRelease() {
+        ByteBuf byteBuf = Unpooled.buffer().writeZero(MySQLEncodedPacket.HEADER_LENGTH);
+        MySQLEncodedPacket actual = new MySQLEncodedPacket(byteBuf).retain();
+        assertThat(actual.refCnt(), is(2));
+        assertFalse(actual.release());
+        assertTrue(actual.release());
+        assertThat(byteBuf.refCnt(), is(0));
+    }
+}
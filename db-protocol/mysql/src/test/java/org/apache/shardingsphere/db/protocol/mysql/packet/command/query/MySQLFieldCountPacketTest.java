@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query;
 
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,4 +43,11 @@ class MySQLFieldCountPacketTest {
         actual.write(payload);
         verify(payload).writeIntLenenc(3L);
     }
+    
+    @Test
+    void assertWriteWithResultSetMetadata() {
+        new MySQLFieldCountPacket(3, MySQLResultSetMetadata.RESULTSET_METADATA_NONE).write(payload);
+        verify(payload).writeIntLenenc(3L);
+        verify(payload).writeInt1(MySQLResultSetMetadata.RESULTSET_METADATA_NONE.getValue());
+    }
 }
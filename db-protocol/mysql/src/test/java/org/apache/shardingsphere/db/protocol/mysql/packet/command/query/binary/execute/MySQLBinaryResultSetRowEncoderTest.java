@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLEncodedPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLBinaryResultSetRowEncoderTest {
+    
+    @Test
+    void assertToPacket() {
+        List<BinaryCell> cells = Arrays.asList(new BinaryCell(MySQLBinaryColumnType.LONG, 1), new BinaryCell(MySQLBinaryColumnType.STRING, null), new BinaryCell(MySQLBinaryColumnType.STRING, "value"),
+                new BinaryCell(MySQLBinaryColumnType.LONGLONG, 2L), new BinaryCell(MySQLBinaryColumnType.STRING, null), new BinaryCell(MySQLBinaryColumnType.STRING, null),
+                new BinaryCell(MySQLBinaryColumnType.STRING, "a"), new BinaryCell(MySQLBinaryColumnType.STRING, null));
+        MySQLBinaryResultSetRowEncoder encoder = new MySQLBinaryResultSetRowEncoder(Unpooled.buffer(), cells.size(), StandardCharsets.UTF_8);
+        cells.forEach(each -> encoder.writeValue(each.getColumnType(), each.getData()));
+        MySQLEncodedPacket actual = encoder.toPacket();
+        ByteBuf expected = Unpooled.buffer();
+        new MySQLBinaryResultSetRowPacket(new BinaryRow(cells)).write(new MySQLPacketPayload(expected, StandardCharsets.UTF_8));
+        assertThat(actual.getByteBuf().slice(MySQLEncodedPacket.HEADER_LENGTH, actual.getByteBuf().readableBytes() - MySQLEncodedPacket.HEADER_LENGTH), is(expected));
+    }
+}
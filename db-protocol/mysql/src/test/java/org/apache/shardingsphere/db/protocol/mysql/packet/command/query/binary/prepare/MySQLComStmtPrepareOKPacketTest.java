@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.prepare;
 
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -42,4 +44,11 @@ class MySQLComStmtPrepareOKPacketTest {
         verify(payload).writeInt4(1);
         verify(payload).writeReserved(1);
     }
+    
+    @Test
+    void assertWriteWithResultSetMetadata() {
+        new MySQLComStmtPrepareOKPacket(1, 1, 0, 0, MySQLResultSetMetadata.RESULTSET_METADATA_FULL).write(payload);
+        verify(payload, times(2)).writeInt1(anyInt());
+        verify(payload).writeInt1(MySQLResultSetMetadata.RESULTSET_METADATA_FULL.getValue());
+    }
 }
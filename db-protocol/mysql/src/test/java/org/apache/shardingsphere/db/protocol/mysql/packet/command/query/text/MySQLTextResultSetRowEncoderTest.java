@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLEncodedPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLTextResultSetRowEncoderTest {
+    
+    @Test
+    void assertToPacket() {
+        List<Object> data = Arrays.asList(null, "value", BigDecimal.ONE, new byte[]{1, 2}, Boolean.TRUE);
+        MySQLTextResultSetRowEncoder encoder = new MySQLTextResultSetRowEncoder(Unpooled.buffer(), StandardCharsets.UTF_8);
+        data.forEach(encoder::writeValue);
+        MySQLEncodedPacket actual = encoder.toPacket();
+        ByteBuf expected = Unpooled.buffer();
+        new MySQLTextResultSetRowPacket(data).write(new MySQLPacketPayload(expected, StandardCharsets.UTF_8));
+        assertThat(actual.getByteBuf().readerIndex(), is(0));
+        assertThat(actual.getByteBuf().slice(MySQLEncodedPacket.HEADER_LENGTH, actual.getByteBuf().readableBytes() - MySQLEncodedPacket.HEADER_LENGTH), is(expected));
+    }
+}
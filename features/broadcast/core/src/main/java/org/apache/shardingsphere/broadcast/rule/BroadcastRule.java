@@ -22,6 +22,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.broadcast.config.BroadcastRuleConfiguration;
 import org.apache.shardingsphere.broadcast.constant.BroadcastOrder;
 import org.apache.shardingsphere.broadcast.rule.attribute.BroadcastDataNodeRuleAttribute;
+import org.apache.shardingsphere.broadcast.rule.attribute.BroadcastTableDistributionRuleAttribute;
 import org.apache.shardingsphere.broadcast.rule.attribute.BroadcastTableNamesRuleAttribute;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
@@ -54,7 +55,7 @@ public final class BroadcastRule implements DatabaseRule {
         configuration = config;
         dataSourceNames = getAggregatedDataSourceNames(dataSources, builtRules);
         tables = new CaseInsensitiveSet<>(config.getTables());
-        attributes = new RuleAttributes(new BroadcastDataNodeRuleAttribute(dataSourceNames, tables), new BroadcastTableNamesRuleAttribute(tables));
+        attributes = new RuleAttributes(new BroadcastDataNodeRuleAttribute(dataSourceNames, tables), new BroadcastTableNamesRuleAttribute(tables), new BroadcastTableDistributionRuleAttribute(tables));
     }
     
     private Collection<String> getAggregatedDataSourceNames(final Map<String, DataSource> dataSources, final Collection<ShardingSphereRule> builtRules) {
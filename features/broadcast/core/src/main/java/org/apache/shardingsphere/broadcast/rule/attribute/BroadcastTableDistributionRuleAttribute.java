@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.broadcast.rule.attribute;
+
+import org.apache.shardingsphere.infra.rule.attribute.distribution.TableDistribution;
+import org.apache.shardingsphere.infra.rule.attribute.distribution.TableDistributionRuleAttribute;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Broadcast table distribution rule attribute.
+ */
+public final class BroadcastTableDistributionRuleAttribute implements TableDistributionRuleAttribute {
+    
+    private static final TableDistribution BROADCAST_DISTRIBUTION = TableDistribution.broadcast();
+    
+    private final Collection<String> tables;
+    
+    public BroadcastTableDistributionRuleAttribute(final Collection<String> tables) {
+        this.tables = tables;
+    }
+    
+    @Override
+    public Optional<TableDistribution> findTableDistribution(final String logicTableName) {
+        return tables.contains(logicTableName) ? Optional.of(BROADCAST_DISTRIBUTION) : Optional.empty();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.broadcast.rule.attribute;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import org.apache.shardingsphere.infra.rule.attribute.distribution.TableDistribution;
+import org.apache.shardingsphere.infra.rule.attribute.distribution.TableDistributionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BroadcastTableDistributionRuleAttributeTest {
+    
+    private final BroadcastTableDistributionRuleAttribute ruleAttribute = new BroadcastTableDistributionRuleAttribute(new CaseInsensitiveSet<>(Collections.singleton("foo_tbl")));
+    
+    @Test
+    void assertFindTableDistribution() {
+        Optional<TableDistribution> actual = ruleAttribute.findTableDistribution("FOO_TBL");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getType(), is(TableDistributionType.BROADCAST));
+        assertTrue(actual.get().getDistributionColumns().isEmpty());
+    }
+    
+    @Test
+    void assertNotFindTableDistribution() {
+        assertFalse(ruleAttribute.findTableDistribution("bar_tbl").isPresent());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithmMetaData;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encrypt algorithm with cache of encrypted values.
+ */
+public final class CachedEncryptAlgorithm implements EncryptAlgorithm {
+    
+    public static final String CACHE_MAXIMUM_SIZE = "cache-maximum-size";
+    
+    public static final String CACHE_EXPIRE_AFTER_WRITE_MILLISECONDS = "cache-expire-after-write-milliseconds";
+    
+    private final EncryptAlgorithm delegate;
+    
+    private final Cache<EncryptValueCacheKey, Object> cache;
+    
+    private CachedEncryptAlgorithm(final EncryptAlgorithm delegate, final long maximumSize, final long expireAfterWriteMillis) {
+        this.delegate = delegate;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maximumSize).recordStats();
+        if (expireAfterWriteMillis > 0L) {
+            builder.expireAfterWrite(expireAfterWriteMillis, TimeUnit.MILLISECONDS);
+        }
+        cache = builder.build();
+    }
+    
+    /**
+     * Decorate encrypt algorithm with cache if configured, only deterministic encrypt algorithms which support equivalent filter can be decorated.
+     *
+     * @param encryptAlgorithm encrypt algorithm to be decorated
+     * @param props encrypt algorithm properties
+     * @return decorated encrypt algorithm, or original encrypt algorithm if cache is not enabled
+     * @throws AlgorithmInitializationException algorithm initialization exception if cache property is not number
+     */
+    public static EncryptAlgorithm decorate(final EncryptAlgorithm encryptAlgorithm, final Properties props) {
+        long maximumSize = getLongProperty(encryptAlgorithm, props, CACHE_MAXIMUM_SIZE);
+        if (maximumSize <= 0L || !encryptAlgorithm.getMetaData().isSupportEquivalentFilter()) {
+            return encryptAlgorithm;
+        }
+        return new CachedEncryptAlgorithm(encryptAlgorithm, maximumSize, getLongProperty(encryptAlgorithm, props, CACHE_EXPIRE_AFTER_WRITE_MILLISECONDS));
+    }
+    
+    private static long getLongProperty(final EncryptAlgorithm encryptAlgorithm, final Properties props, final String key) {
+        String value = props.getProperty(key, "0");
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException ignored) {
+            throw new AlgorithmInitializationException(encryptAlgorithm, "Property `%s` should be number, but got `%s`", key, value);
+        }
+    }
+    
+    @Override
+    public Object encrypt(final Object plainValue, final AlgorithmSQLContext algorithmSQLContext) {
+        if (!isCacheable(plainValue)) {
+            return delegate.encrypt(plainValue, algorithmSQLContext);
+        }
+        EncryptValueCacheKey key = new EncryptValueCacheKey(algorithmSQLContext.getSchemaName(), algorithmSQLContext.getTableName(), algorithmSQLContext.getColumnName(), plainValue);
+        Object result = cache.getIfPresent(key);
+        if (null == result) {
+            result = delegate.encrypt(plainValue, algorithmSQLContext);
+            if (null != result) {
+                cache.put(key, result);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isCacheable(final Object plainValue) {
+        return plainValue instanceof String || plainValue instanceof Number || plainValue instanceof Boolean || plainValue instanceof Character;
+    }
+    
+    @Override
+    public Object decrypt(final Object cipherValue, final AlgorithmSQLContext algorithmSQLContext) {
+        return delegate.decrypt(cipherValue, algorithmSQLContext);
+    }
+    
+    /**
+     * Get cache statistics.
+     *
+     * @return cache statistics, includes hit count and miss count
+     */
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+    
+    @Override
+    public EncryptAlgorithmMetaData getMetaData() {
+        return delegate.getMetaData();
+    }
+    
+    @Override
+    public AlgorithmConfiguration toConfiguration() {
+        return delegate.toConfiguration();
+    }
+    
+    @Override
+    public String getType() {
+        return delegate.getType();
+    }
+    
+    @Override
+    public Collection<Object> getTypeAliases() {
+        return delegate.getTypeAliases();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class EncryptValueCacheKey {
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final String columnName;
+        
+        private final Object plainValue;
+    }
+}
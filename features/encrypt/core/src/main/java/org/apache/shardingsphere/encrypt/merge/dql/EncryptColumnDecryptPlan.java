@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.exception.core.external.sql.identifier.SQLExceptionIdentifier;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+
+import java.util.Optional;
+
+/**
+ * Column decrypt plan for encrypt, which resolves decryptor of each column index only once.
+ */
+public final class EncryptColumnDecryptPlan {
+    
+    private final ShardingSphereDatabase database;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final Optional<ColumnDecryptor>[] columnDecryptors;
+    
+    @SuppressWarnings("unchecked")
+    public EncryptColumnDecryptPlan(final ShardingSphereDatabase database, final ShardingSphereMetaData metaData, final SelectStatementContext selectStatementContext) {
+        this.database = database;
+        this.metaData = metaData;
+        this.selectStatementContext = selectStatementContext;
+        columnDecryptors = new Optional[selectStatementContext.getProjectionsContext().getExpandProjections().size() + 1];
+    }
+    
+    /**
+     * Find column decryptor.
+     *
+     * @param columnIndex column index
+     * @return found column decryptor, empty if column value does not need decrypt
+     */
+    public Optional<ColumnDecryptor> findColumnDecryptor(final int columnIndex) {
+        if (columnIndex <= 0 || columnIndex >= columnDecryptors.length) {
+            return createColumnDecryptor(columnIndex);
+        }
+        Optional<ColumnDecryptor> result = columnDecryptors[columnIndex];
+        if (null == result) {
+            result = createColumnDecryptor(columnIndex);
+            columnDecryptors[columnIndex] = result;
+        }
+        return result;
+    }
+    
+    private Optional<ColumnDecryptor> createColumnDecryptor(final int columnIndex) {
+        Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
+        if (!columnProjection.isPresent()) {
+            return Optional.empty();
+        }
+        String originalTableName = columnProjection.get().getOriginalTable().getValue();
+        String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
+        ShardingSphereDatabase database = metaData.containsDatabase(columnProjection.get().getColumnBoundInfo().getOriginalDatabase().getValue())
+                ? metaData.getDatabase(columnProjection.get().getColumnBoundInfo().getOriginalDatabase().getValue())
+                : this.database;
+        Optional<EncryptRule> rule = database.getRuleMetaData().findSingleRule(EncryptRule.class);
+        if (!rule.isPresent() || !rule.get().findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
+            return Optional.empty();
+        }
+        EncryptAlgorithm encryptor = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName).getCipher().getEncryptor();
+        String schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
+        return Optional.of(new ColumnDecryptor(encryptor, new AlgorithmSQLContext(database.getName(), schemaName, originalTableName, originalColumnName)));
+    }
+    
+    /**
+     * Column decryptor.
+     */
+    @RequiredArgsConstructor
+    public static final class ColumnDecryptor {
+        
+        private final EncryptAlgorithm encryptor;
+        
+        private final AlgorithmSQLContext algorithmSQLContext;
+        
+        /**
+         * Decrypt.
+         *
+         * @param cipherValue cipher value
+         * @return decrypted value
+         * @throws DecryptFailedException decrypt failed exception
+         */
+        public Object decrypt(final Object cipherValue) {
+            if (null == cipherValue) {
+                return null;
+            }
+            try {
+                return encryptor.decrypt(cipherValue, algorithmSQLContext);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                throw new DecryptFailedException(String.valueOf(cipherValue),
+                        new SQLExceptionIdentifier(algorithmSQLContext.getDatabaseName(), algorithmSQLContext.getTableName(), algorithmSQLContext.getColumnName()), ex);
+            }
+        }
+    }
+}
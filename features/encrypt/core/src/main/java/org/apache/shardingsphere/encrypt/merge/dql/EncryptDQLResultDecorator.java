@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
@@ -29,17 +28,16 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 /**
  * DQL result decorator for encrypt.
  */
-@RequiredArgsConstructor
 public final class EncryptDQLResultDecorator implements ResultDecorator<EncryptRule> {
     
-    private final ShardingSphereDatabase database;
+    private final EncryptColumnDecryptPlan decryptPlan;
     
-    private final ShardingSphereMetaData metaData;
-    
-    private final SelectStatementContext selectStatementContext;
+    public EncryptDQLResultDecorator(final ShardingSphereDatabase database, final ShardingSphereMetaData metaData, final SelectStatementContext selectStatementContext) {
+        decryptPlan = new EncryptColumnDecryptPlan(database, metaData, selectStatementContext);
+    }
     
     @Override
     public MergedResult decorate(final MergedResult mergedResult, final SQLStatementContext sqlStatementContext, final EncryptRule rule) {
-        return new EncryptMergedResult(database, metaData, selectStatementContext, mergedResult);
+        return new EncryptMergedResult(decryptPlan, mergedResult);
     }
 }
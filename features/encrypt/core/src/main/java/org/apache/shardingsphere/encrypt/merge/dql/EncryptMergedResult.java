@@ -18,13 +18,8 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
-import org.apache.shardingsphere.encrypt.rule.EncryptRule;
-import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
-import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.encrypt.merge.dql.EncryptColumnDecryptPlan.ColumnDecryptor;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
-import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
-import org.apache.shardingsphere.infra.exception.core.external.sql.identifier.SQLExceptionIdentifier;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -37,18 +32,21 @@ import java.util.Optional;
 
 /**
  * Merged result for encrypt.
+ *
+ * <p>Cipher values are decrypted one by one when they are read. Rows are not read ahead for batch decryption,
+ * because that would move the cursor of the underlying streaming merged result, which calendar, stream and null reads of the current row rely on.</p>
  */
 @RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
     
-    private final ShardingSphereDatabase database;
-    
-    private final ShardingSphereMetaData metaData;
-    
-    private final SelectStatementContext selectStatementContext;
+    private final EncryptColumnDecryptPlan decryptPlan;
     
     private final MergedResult mergedResult;
     
+    public EncryptMergedResult(final ShardingSphereDatabase database, final ShardingSphereMetaData metaData, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) {
+        this(new EncryptColumnDecryptPlan(database, metaData, selectStatementContext), mergedResult);
+    }
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -56,30 +54,8 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
-        if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        String originalTableName = columnProjection.get().getOriginalTable().getValue();
-        String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
-        ShardingSphereDatabase database = metaData.containsDatabase(columnProjection.get().getColumnBoundInfo().getOriginalDatabase().getValue())
-                ? metaData.getDatabase(columnProjection.get().getColumnBoundInfo().getOriginalDatabase().getValue())
-                : this.database;
-        Optional<EncryptRule> rule = database.getRuleMetaData().findSingleRule(EncryptRule.class);
-        if (!rule.isPresent() || !rule.get().findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        EncryptColumn encryptColumn = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
-        String schemaName = selectStatementContext.getTablesContext().getSchemaName()
-                .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        try {
-            return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
-            // CHECKSTYLE:OFF
-        } catch (final Exception ex) {
-            // CHECKSTYLE:ON
-            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(database.getName(), originalTableName, originalColumnName), ex);
-        }
+        Optional<ColumnDecryptor> columnDecryptor = decryptPlan.findColumnDecryptor(columnIndex);
+        return columnDecryptor.isPresent() ? columnDecryptor.get().decrypt(mergedResult.getValue(columnIndex, Object.class)) : mergedResult.getValue(columnIndex, type);
     }
     
     @Override
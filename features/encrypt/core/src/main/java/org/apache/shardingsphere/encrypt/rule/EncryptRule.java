@@ -19,7 +19,9 @@ package org.apache.shardingsphere.encrypt.rule;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
 import com.cedarsoftware.util.CaseInsensitiveSet;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.encrypt.cache.CachedEncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.config.EncryptRuleConfiguration;
 import org.apache.shardingsphere.encrypt.config.rule.EncryptColumnRuleConfiguration;
 import org.apache.shardingsphere.encrypt.config.rule.EncryptTableRuleConfiguration;
@@ -40,6 +42,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -84,11 +87,15 @@ public final class EncryptRule implements DatabaseRule, PartialRuleUpdateSupport
     private Map<String, EncryptAlgorithm> createEncryptors(final EncryptRuleConfiguration ruleConfig) {
         Map<String, EncryptAlgorithm> result = new CaseInsensitiveMap<>(Collections.emptyMap(), new ConcurrentHashMap<>(ruleConfig.getEncryptors().size(), 1F));
         for (Entry<String, AlgorithmConfiguration> entry : ruleConfig.getEncryptors().entrySet()) {
-            result.put(entry.getKey(), TypedSPILoader.getService(EncryptAlgorithm.class, entry.getValue().getType(), entry.getValue().getProps()));
+            result.put(entry.getKey(), createEncryptor(entry.getValue()));
         }
         return result;
     }
     
+    private EncryptAlgorithm createEncryptor(final AlgorithmConfiguration algorithmConfig) {
+        return CachedEncryptAlgorithm.decorate(TypedSPILoader.getService(EncryptAlgorithm.class, algorithmConfig.getType(), algorithmConfig.getProps()), algorithmConfig.getProps());
+    }
+    
     // TODO How to process changed encryptors and tables if check failed? It should check before rule change
     private void checkEncryptorType(final EncryptColumnRuleConfiguration columnRuleConfig) {
         ShardingSpherePreconditions.checkState(encryptors.containsKey(columnRuleConfig.getCipher().getEncryptorName())
@@ -145,6 +152,21 @@ public final class EncryptRule implements DatabaseRule, PartialRuleUpdateSupport
         return findEncryptTable(tableName).flatMap(optional -> optional.findQueryEncryptor(columnName));
     }
     
+    /**
+     * Get cache statistics of encryptors which cache encrypted values.
+     *
+     * @return encryptor name and cache statistics map
+     */
+    public Map<String, CacheStats> getEncryptValueCacheStats() {
+        Map<String, CacheStats> result = new LinkedHashMap<>();
+        for (Entry<String, EncryptAlgorithm> entry : encryptors.entrySet()) {
+            if (entry.getValue() instanceof CachedEncryptAlgorithm) {
+                result.put(entry.getKey(), ((CachedEncryptAlgorithm) entry.getValue()).getCacheStats());
+            }
+        }
+        return result;
+    }
+    
     @Override
     public RuleAttributes getAttributes() {
         return attributes.get();
@@ -184,7 +206,7 @@ public final class EncryptRule implements DatabaseRule, PartialRuleUpdateSupport
     private void addTableRule(final String tableName, final EncryptRuleConfiguration toBeUpdatedRuleConfig) {
         EncryptTableRuleConfiguration tableRuleConfig = getTableRuleConfiguration(tableName, toBeUpdatedRuleConfig);
         for (Entry<String, AlgorithmConfiguration> entry : toBeUpdatedRuleConfig.getEncryptors().entrySet()) {
-            encryptors.computeIfAbsent(entry.getKey(), key -> TypedSPILoader.getService(EncryptAlgorithm.class, entry.getValue().getType(), entry.getValue().getProps()));
+            encryptors.computeIfAbsent(entry.getKey(), key -> createEncryptor(entry.getValue()));
         }
         tableRuleConfig.getColumns().forEach(this::checkEncryptorType);
         tables.put(tableName, new EncryptTable(tableRuleConfig, encryptors));
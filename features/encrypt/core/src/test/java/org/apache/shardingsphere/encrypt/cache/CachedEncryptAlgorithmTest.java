@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.cache;
+
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithmMetaData;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachedEncryptAlgorithmTest {
+    
+    private final AlgorithmSQLContext algorithmSQLContext = new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "foo_col");
+    
+    @Test
+    void assertDecorateWithoutCacheConfiguration() {
+        EncryptAlgorithm encryptAlgorithm = mockEncryptAlgorithm(true);
+        assertThat(CachedEncryptAlgorithm.decorate(encryptAlgorithm, new Properties()), is(encryptAlgorithm));
+    }
+    
+    @Test
+    void assertDecorateWithNonDeterministicAlgorithm() {
+        EncryptAlgorithm encryptAlgorithm = mockEncryptAlgorithm(false);
+        assertThat(CachedEncryptAlgorithm.decorate(encryptAlgorithm, PropertiesBuilder.build(new Property(CachedEncryptAlgorithm.CACHE_MAXIMUM_SIZE, "10"))), is(encryptAlgorithm));
+    }
+    
+    @Test
+    void assertDecorateWithInvalidCacheProperty() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> CachedEncryptAlgorithm.decorate(mockEncryptAlgorithm(true), PropertiesBuilder.build(new Property(CachedEncryptAlgorithm.CACHE_MAXIMUM_SIZE, "foo"))));
+    }
+    
+    @Test
+    void assertEncryptWithCache() {
+        EncryptAlgorithm encryptAlgorithm = mockEncryptAlgorithm(true);
+        when(encryptAlgorithm.encrypt(eq("foo_value"), any())).thenReturn("encrypted_foo_value");
+        EncryptAlgorithm actual = CachedEncryptAlgorithm.decorate(encryptAlgorithm,
+                PropertiesBuilder.build(new Property(CachedEncryptAlgorithm.CACHE_MAXIMUM_SIZE, "10"), new Property(CachedEncryptAlgorithm.CACHE_EXPIRE_AFTER_WRITE_MILLISECONDS, "60000")));
+        assertThat(actual, instanceOf(CachedEncryptAlgorithm.class));
+        assertThat(actual.encrypt("foo_value", algorithmSQLContext), is("encrypted_foo_value"));
+        assertThat(actual.encrypt("foo_value", algorithmSQLContext), is("encrypted_foo_value"));
+        verify(encryptAlgorithm).encrypt("foo_value", algorithmSQLContext);
+        assertThat(((CachedEncryptAlgorithm) actual).getCacheStats().hitCount(), is(1L));
+        assertThat(((CachedEncryptAlgorithm) actual).getCacheStats().missCount(), is(1L));
+    }
+    
+    @Test
+    void assertEncryptWithDifferentColumns() {
+        EncryptAlgorithm encryptAlgorithm = mockEncryptAlgorithm(true);
+        when(encryptAlgorithm.encrypt(eq("foo_value"), any())).thenReturn("encrypted_foo_value");
+        EncryptAlgorithm actual = CachedEncryptAlgorithm.decorate(encryptAlgorithm, PropertiesBuilder.build(new Property(CachedEncryptAlgorithm.CACHE_MAXIMUM_SIZE, "10")));
+        actual.encrypt("foo_value", algorithmSQLContext);
+        actual.encrypt("foo_value", new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "bar_col"));
+        verify(encryptAlgorithm, times(2)).encrypt(eq("foo_value"), any());
+    }
+    
+    @Test
+    void assertEncryptWithUncacheableValue() {
+        EncryptAlgorithm encryptAlgorithm = mockEncryptAlgorithm(true);
+        byte[] plainValue = new byte[]{1};
+        EncryptAlgorithm actual = CachedEncryptAlgorithm.decorate(encryptAlgorithm, PropertiesBuilder.build(new Property(CachedEncryptAlgorithm.CACHE_MAXIMUM_SIZE, "10")));
+        actual.encrypt(plainValue, algorithmSQLContext);
+        actual.encrypt(plainValue, algorithmSQLContext);
+        verify(encryptAlgorithm, times(2)).encrypt(plainValue, algorithmSQLContext);
+        assertThat(((CachedEncryptAlgorithm) actual).getCacheStats().requestCount(), is(0L));
+    }
+    
+    private EncryptAlgorithm mockEncryptAlgorithm(final boolean supportEquivalentFilter) {
+        EncryptAlgorithm result = mock(EncryptAlgorithm.class);
+        when(result.getMetaData()).thenReturn(new EncryptAlgorithmMetaData(true, supportEquivalentFilter, false));
+        return result;
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.encrypt.config.rule.EncryptTableRuleConfigurati
 import org.apache.shardingsphere.encrypt.exception.metadata.EncryptTableNotFoundException;
 import org.apache.shardingsphere.encrypt.exception.metadata.MismatchedEncryptAlgorithmTypeException;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -84,6 +86,16 @@ class EncryptRuleTest {
         return result;
     }
     
+    @Test
+    void assertGetEncryptValueCacheStats() {
+        EncryptColumnRuleConfiguration columnConfig = createEncryptColumnRuleConfiguration("standard_encryptor", "assisted_encryptor", "like_encryptor");
+        EncryptTableRuleConfiguration tableConfig = new EncryptTableRuleConfiguration("t_encrypt", Collections.singleton(columnConfig));
+        EncryptRuleConfiguration ruleConfig = new EncryptRuleConfiguration(Collections.singleton(tableConfig), getEncryptors(new AlgorithmConfiguration("CORE.FIXTURE", new Properties()),
+                new AlgorithmConfiguration("CORE.QUERY_ASSISTED.FIXTURE", PropertiesBuilder.build(new Property("cache-maximum-size", "10"))),
+                new AlgorithmConfiguration("CORE.QUERY_LIKE.FIXTURE", new Properties())));
+        assertThat(new EncryptRule("foo_db", ruleConfig).getEncryptValueCacheStats().keySet(), is(Collections.singleton("assisted_encryptor")));
+    }
+    
     @Test
     void assertFindQueryEncryptor() {
         EncryptRule encryptRule = new EncryptRule("foo_db", createEncryptRuleConfiguration());
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.readwritesplitting.rule;
 
 import lombok.Getter;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseAwareLoadBalanceAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
@@ -46,7 +48,7 @@ import java.util.stream.Collectors;
 /**
  * Readwrite-splitting rule.
  */
-public final class ReadwriteSplittingRule implements DatabaseRule {
+public final class ReadwriteSplittingRule implements DatabaseRule, AutoCloseable {
     
     @Getter
     private final ReadwriteSplittingRuleConfiguration configuration;
@@ -61,7 +63,7 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     
     public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final ComputeNodeInstanceContext computeNodeInstanceContext) {
         configuration = ruleConfig;
-        loadBalancers = createLoadBalancers(ruleConfig);
+        loadBalancers = createLoadBalancers(databaseName, ruleConfig);
         dataSourceRuleGroups = createDataSourceGroupRules(databaseName, ruleConfig);
         attributes = new RuleAttributes(
                 new ReadwriteSplittingDataSourceMapperRuleAttribute(dataSourceRuleGroups.values()),
@@ -70,7 +72,7 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
                 new ReadwriteSplittingStorageConnectorReusableRuleAttribute());
     }
     
-    private Map<String, LoadBalanceAlgorithm> createLoadBalancers(final ReadwriteSplittingRuleConfiguration ruleConfig) {
+    private Map<String, LoadBalanceAlgorithm> createLoadBalancers(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig) {
         Map<String, LoadBalanceAlgorithm> result = new HashMap<>(ruleConfig.getDataSourceGroups().size(), 1F);
         for (ReadwriteSplittingDataSourceGroupRuleConfiguration each : ruleConfig.getDataSourceGroups()) {
             if (ruleConfig.getLoadBalancers().containsKey(each.getLoadBalancerName())) {
@@ -78,6 +80,7 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
                 result.put(each.getName() + "." + each.getLoadBalancerName(), TypedSPILoader.getService(LoadBalanceAlgorithm.class, algorithmConfig.getType(), algorithmConfig.getProps()));
             }
         }
+        result.values().stream().filter(DatabaseAwareLoadBalanceAlgorithm.class::isInstance).forEach(each -> ((DatabaseAwareLoadBalanceAlgorithm) each).setDatabaseName(databaseName));
         return result;
     }
     
@@ -145,4 +148,14 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     public int getOrder() {
         return ReadwriteSplittingOrder.ORDER;
     }
+    
+    @SneakyThrows(Exception.class)
+    @Override
+    public void close() {
+        for (LoadBalanceAlgorithm each : loadBalancers.values()) {
+            if (each instanceof AutoCloseable) {
+                ((AutoCloseable) each).close();
+            }
+        }
+    }
 }
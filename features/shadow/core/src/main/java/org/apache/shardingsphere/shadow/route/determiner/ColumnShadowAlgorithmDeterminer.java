@@ -20,13 +20,11 @@ package org.apache.shardingsphere.shadow.route.determiner;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.shadow.condition.ShadowColumnCondition;
 import org.apache.shardingsphere.shadow.condition.ShadowCondition;
 import org.apache.shardingsphere.shadow.spi.column.ColumnShadowAlgorithm;
 import org.apache.shardingsphere.shadow.spi.column.PreciseColumnShadowValue;
 
-import java.util.Collection;
-import java.util.LinkedList;
-
 /**
  * Column shadow algorithm determiner.
  */
@@ -42,19 +40,18 @@ public final class ColumnShadowAlgorithmDeterminer {
      * @return is shadow or not
      */
     public static boolean isShadow(final ColumnShadowAlgorithm<Comparable<?>> shadowAlgorithm, final ShadowCondition shadowCondition) {
-        for (PreciseColumnShadowValue<Comparable<?>> each : createColumnShadowValues(shadowCondition)) {
-            if (!shadowCondition.getTableName().equals(shadowCondition.getColumnCondition().getTable()) || !shadowAlgorithm.isShadow(each)) {
+        ShadowColumnCondition columnCondition = shadowCondition.getColumnCondition();
+        if (columnCondition.getValues().isEmpty()) {
+            return true;
+        }
+        if (!shadowCondition.getTableName().equals(columnCondition.getTable())) {
+            return false;
+        }
+        for (Comparable<?> each : columnCondition.getValues()) {
+            if (!shadowAlgorithm.isShadow(new PreciseColumnShadowValue<>(shadowCondition.getTableName(), shadowCondition.getOperationType(), columnCondition.getColumn(), each))) {
                 return false;
             }
         }
         return true;
     }
-    
-    private static Collection<PreciseColumnShadowValue<Comparable<?>>> createColumnShadowValues(final ShadowCondition shadowCondition) {
-        Collection<PreciseColumnShadowValue<Comparable<?>>> result = new LinkedList<>();
-        for (Comparable<?> each : shadowCondition.getColumnCondition().getValues()) {
-            result.add(new PreciseColumnShadowValue<>(shadowCondition.getTableName(), shadowCondition.getOperationType(), shadowCondition.getColumnCondition().getColumn(), each));
-        }
-        return result;
-    }
 }
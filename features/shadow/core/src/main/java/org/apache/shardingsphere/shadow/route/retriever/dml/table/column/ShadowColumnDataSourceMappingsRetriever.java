@@ -66,16 +66,16 @@ public abstract class ShadowColumnDataSourceMappingsRetriever implements ShadowT
             return false;
         }
         for (ShadowColumnCondition each : getShadowColumnConditions(shadowColumn)) {
-            if (isMatchColumnShadowAlgorithm(shadowTable, columnShadowAlgorithms, each)) {
+            if (isMatchColumnShadowAlgorithm(columnShadowAlgorithms, new ShadowCondition(shadowTable, operationType, each))) {
                 return true;
             }
         }
         return false;
     }
     
-    private boolean isMatchColumnShadowAlgorithm(final String shadowTable, final Collection<ColumnShadowAlgorithm<Comparable<?>>> algorithms, final ShadowColumnCondition condition) {
+    private boolean isMatchColumnShadowAlgorithm(final Collection<ColumnShadowAlgorithm<Comparable<?>>> algorithms, final ShadowCondition condition) {
         for (ColumnShadowAlgorithm<Comparable<?>> each : algorithms) {
-            if (ColumnShadowAlgorithmDeterminer.isShadow(each, new ShadowCondition(shadowTable, operationType, condition))) {
+            if (ColumnShadowAlgorithmDeterminer.isShadow(each, condition)) {
                 return true;
             }
         }
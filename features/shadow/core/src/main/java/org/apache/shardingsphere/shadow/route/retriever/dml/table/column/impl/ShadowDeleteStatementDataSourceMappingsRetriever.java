@@ -42,6 +42,8 @@ public final class ShadowDeleteStatementDataSourceMappingsRetriever extends Shad
     
     private final List<Object> parameters;
     
+    private Collection<ExpressionSegment> wherePredicates;
+    
     public ShadowDeleteStatementDataSourceMappingsRetriever(final DeleteStatementContext sqlStatementContext, final List<Object> parameters) {
         super(ShadowOperationType.DELETE);
         this.sqlStatementContext = sqlStatementContext;
@@ -59,12 +61,16 @@ public final class ShadowDeleteStatementDataSourceMappingsRetriever extends Shad
     }
     
     private Collection<ExpressionSegment> getWhereSegment() {
+        if (null != wherePredicates) {
+            return wherePredicates;
+        }
         Collection<ExpressionSegment> result = new LinkedList<>();
         for (WhereSegment each : sqlStatementContext.getWhereSegments()) {
             for (AndPredicate predicate : ExpressionExtractor.extractAndPredicates(each.getExpr())) {
                 result.addAll(predicate.getPredicates());
             }
         }
+        wherePredicates = result;
         return result;
     }
 }
@@ -46,6 +46,8 @@ public final class ShadowSelectStatementDataSourceMappingsRetriever extends Shad
     
     private final List<Object> parameters;
     
+    private Collection<ExpressionSegment> wherePredicates;
+    
     public ShadowSelectStatementDataSourceMappingsRetriever(final SelectStatementContext sqlStatementContext, final List<Object> parameters) {
         super(ShadowOperationType.SELECT);
         this.sqlStatementContext = sqlStatementContext;
@@ -66,12 +68,16 @@ public final class ShadowSelectStatementDataSourceMappingsRetriever extends Shad
     }
     
     private Collection<ExpressionSegment> getWhereSegment() {
+        if (null != wherePredicates) {
+            return wherePredicates;
+        }
         Collection<ExpressionSegment> result = new LinkedList<>();
         for (WhereSegment each : sqlStatementContext.getWhereSegments()) {
             for (AndPredicate predicate : ExpressionExtractor.extractAndPredicates(each.getExpr())) {
                 result.addAll(predicate.getPredicates());
             }
         }
+        wherePredicates = result;
         return result;
     }
     
@@ -43,6 +43,8 @@ public final class ShadowUpdateStatementDataSourceMappingsRetriever extends Shad
     
     private final List<Object> parameters;
     
+    private Collection<ExpressionSegment> wherePredicates;
+    
     public ShadowUpdateStatementDataSourceMappingsRetriever(final UpdateStatementContext sqlStatementContext, final List<Object> parameters) {
         super(ShadowOperationType.UPDATE);
         this.sqlStatementContext = sqlStatementContext;
@@ -63,12 +65,16 @@ public final class ShadowUpdateStatementDataSourceMappingsRetriever extends Shad
     }
     
     private Collection<ExpressionSegment> getWhereSegment() {
+        if (null != wherePredicates) {
+            return wherePredicates;
+        }
         Collection<ExpressionSegment> result = new LinkedList<>();
         for (WhereSegment each : sqlStatementContext.getWhereSegments()) {
             for (AndPredicate predicate : ExpressionExtractor.extractAndPredicates(each.getExpr())) {
                 result.addAll(predicate.getPredicates());
             }
         }
+        wherePredicates = result;
         return result;
     }
 }
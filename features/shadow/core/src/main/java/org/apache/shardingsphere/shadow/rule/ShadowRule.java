@@ -35,6 +35,7 @@ import org.apache.shardingsphere.shadow.spi.hint.HintShadowAlgorithm;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -58,6 +59,12 @@ public final class ShadowRule implements DatabaseRule {
     
     private final Map<String, ShadowTableRule> tableRules;
     
+    private final Collection<HintShadowAlgorithm<Comparable<?>>> allHintShadowAlgorithms;
+    
+    private final Map<String, String> allShadowDataSourceMappings;
+    
+    private final Map<String, Map<String, String>> tableShadowDataSourceMappings;
+    
     @Getter
     private final RuleAttributes attributes;
     
@@ -67,6 +74,9 @@ public final class ShadowRule implements DatabaseRule {
         defaultShadowAlgorithm = shadowAlgorithms.get(ruleConfig.getDefaultShadowAlgorithmName());
         dataSourceRules = createDataSourceRules(ruleConfig.getDataSources());
         tableRules = createTableRules(ruleConfig.getTables());
+        allHintShadowAlgorithms = createAllHintShadowAlgorithms();
+        allShadowDataSourceMappings = createAllShadowDataSourceMappings();
+        tableShadowDataSourceMappings = createTableShadowDataSourceMappings();
         attributes = new RuleAttributes(new ShadowDataSourceMapperRuleAttribute(dataSourceRules));
     }
     
@@ -85,6 +95,41 @@ public final class ShadowRule implements DatabaseRule {
                 entry -> new ShadowTableRule(entry.getKey(), entry.getValue().getDataSourceNames(), entry.getValue().getShadowAlgorithmNames(), shadowAlgorithms), (a, b) -> b, LinkedHashMap::new));
     }
     
+    @SuppressWarnings("unchecked")
+    private Collection<HintShadowAlgorithm<Comparable<?>>> createAllHintShadowAlgorithms() {
+        Collection<HintShadowAlgorithm<Comparable<?>>> result = new LinkedList<>();
+        for (Entry<String, ShadowAlgorithm> entry : shadowAlgorithms.entrySet()) {
+            if (entry.getValue() instanceof HintShadowAlgorithm) {
+                result.add((HintShadowAlgorithm<Comparable<?>>) entry.getValue());
+            }
+        }
+        return Collections.unmodifiableCollection(result);
+    }
+    
+    private Map<String, String> createAllShadowDataSourceMappings() {
+        Map<String, String> result = new LinkedHashMap<>(dataSourceRules.size(), 1F);
+        for (Entry<String, ShadowDataSourceRule> entry : dataSourceRules.entrySet()) {
+            ShadowDataSourceRule dataSourceRule = entry.getValue();
+            result.put(dataSourceRule.getProductionDataSource(), dataSourceRule.getShadowDataSource());
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Map<String, Map<String, String>> createTableShadowDataSourceMappings() {
+        Map<String, Map<String, String>> result = new HashMap<>(tableRules.size(), 1F);
+        for (Entry<String, ShadowTableRule> entry : tableRules.entrySet()) {
+            Map<String, String> dataSourceMappings = new LinkedHashMap<>(entry.getValue().getLogicDataSourceNames().size(), 1F);
+            for (String each : entry.getValue().getLogicDataSourceNames()) {
+                ShadowDataSourceRule dataSourceRule = dataSourceRules.get(each);
+                if (null != dataSourceRule) {
+                    dataSourceMappings.put(dataSourceRule.getProductionDataSource(), dataSourceRule.getShadowDataSource());
+                }
+            }
+            result.put(entry.getKey(), Collections.unmodifiableMap(dataSourceMappings));
+        }
+        return result;
+    }
+    
     /**
      * Whether contains shadow algorithm.
      *
@@ -138,15 +183,8 @@ public final class ShadowRule implements DatabaseRule {
      * @return all hint shadow algorithms
      */
     @HighFrequencyInvocation
-    @SuppressWarnings("unchecked")
     public Collection<HintShadowAlgorithm<Comparable<?>>> getAllHintShadowAlgorithms() {
-        Collection<HintShadowAlgorithm<Comparable<?>>> result = new LinkedList<>();
-        for (Entry<String, ShadowAlgorithm> entry : shadowAlgorithms.entrySet()) {
-            if (entry.getValue() instanceof HintShadowAlgorithm) {
-                result.add((HintShadowAlgorithm<Comparable<?>>) entry.getValue());
-            }
-        }
-        return result;
+        return allHintShadowAlgorithms;
     }
     
     /**
@@ -156,13 +194,8 @@ public final class ShadowRule implements DatabaseRule {
      * @return hint shadow algorithms
      */
     @HighFrequencyInvocation
-    @SuppressWarnings("unchecked")
     public Collection<HintShadowAlgorithm<Comparable<?>>> getHintShadowAlgorithms(final String tableName) {
-        Collection<HintShadowAlgorithm<Comparable<?>>> result = new LinkedList<>();
-        for (String each : tableRules.get(tableName).getHintShadowAlgorithmNames()) {
-            result.add((HintShadowAlgorithm<Comparable<?>>) shadowAlgorithms.get(each));
-        }
-        return result;
+        return tableRules.get(tableName).getHintShadowAlgorithms();
     }
     
     /**
@@ -174,15 +207,8 @@ public final class ShadowRule implements DatabaseRule {
      * @return column shadow algorithms
      */
     @HighFrequencyInvocation
-    @SuppressWarnings("unchecked")
     public Collection<ColumnShadowAlgorithm<Comparable<?>>> getColumnShadowAlgorithms(final ShadowOperationType operationType, final String tableName, final String shadowColumnName) {
-        Collection<ColumnShadowAlgorithm<Comparable<?>>> result = new LinkedList<>();
-        for (ShadowAlgorithmNameRule each : tableRules.get(tableName).getColumnShadowAlgorithmNames().getOrDefault(operationType, Collections.emptyList())) {
-            if (shadowColumnName.equals(each.getShadowColumnName())) {
-                result.add((ColumnShadowAlgorithm<Comparable<?>>) shadowAlgorithms.get(each.getShadowAlgorithmName()));
-            }
-        }
-        return result;
+        return tableRules.get(tableName).getColumnShadowAlgorithms(operationType).getOrDefault(shadowColumnName, Collections.emptyList());
     }
     
     /**
@@ -194,11 +220,7 @@ public final class ShadowRule implements DatabaseRule {
      */
     @HighFrequencyInvocation
     public Collection<String> getShadowColumnNames(final ShadowOperationType operationType, final String tableName) {
-        Collection<String> result = new LinkedList<>();
-        for (ShadowAlgorithmNameRule each : tableRules.get(tableName).getColumnShadowAlgorithmNames().getOrDefault(operationType, Collections.emptyList())) {
-            result.add(each.getShadowColumnName());
-        }
-        return result;
+        return tableRules.get(tableName).getColumnShadowAlgorithms(operationType).keySet();
     }
     
     /**
@@ -209,12 +231,7 @@ public final class ShadowRule implements DatabaseRule {
      */
     @HighFrequencyInvocation
     public Map<String, String> getShadowDataSourceMappings(final String tableName) {
-        Map<String, String> result = new LinkedHashMap<>(dataSourceRules.size(), 1F);
-        for (String each : tableRules.get(tableName).getLogicDataSourceNames()) {
-            ShadowDataSourceRule dataSourceRule = dataSourceRules.get(each);
-            result.put(dataSourceRule.getProductionDataSource(), dataSourceRule.getShadowDataSource());
-        }
-        return result;
+        return tableShadowDataSourceMappings.get(tableName);
     }
     
     /**
@@ -224,12 +241,7 @@ public final class ShadowRule implements DatabaseRule {
      */
     @HighFrequencyInvocation
     public Map<String, String> getAllShadowDataSourceMappings() {
-        Map<String, String> result = new LinkedHashMap<>(dataSourceRules.size(), 1F);
-        for (Entry<String, ShadowDataSourceRule> entry : dataSourceRules.entrySet()) {
-            ShadowDataSourceRule dataSourceRule = entry.getValue();
-            result.put(dataSourceRule.getProductionDataSource(), dataSourceRule.getShadowDataSource());
-        }
-        return result;
+        return allShadowDataSourceMappings;
     }
     
     /**
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shadow.rule;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.shadow.spi.ShadowOperationType;
 import org.apache.shardingsphere.shadow.spi.column.ColumnShadowAlgorithm;
@@ -24,9 +25,12 @@ import org.apache.shardingsphere.shadow.spi.hint.HintShadowAlgorithm;
 import org.apache.shardingsphere.shadow.spi.ShadowAlgorithm;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
 /**
@@ -43,11 +47,18 @@ public final class ShadowTableRule {
     
     private final Map<ShadowOperationType, Collection<ShadowAlgorithmNameRule>> columnShadowAlgorithmNames;
     
+    private final Collection<HintShadowAlgorithm<Comparable<?>>> hintShadowAlgorithms;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<ShadowOperationType, Map<String, Collection<ColumnShadowAlgorithm<Comparable<?>>>>> columnShadowAlgorithms;
+    
     public ShadowTableRule(final String tableName, final Collection<String> logicDataSourceNames, final Collection<String> shadowAlgorithmNames, final Map<String, ShadowAlgorithm> shadowAlgorithms) {
         this.name = tableName;
         this.logicDataSourceNames = logicDataSourceNames;
         hintShadowAlgorithmNames = getHintShadowAlgorithmNames(shadowAlgorithmNames, shadowAlgorithms);
         columnShadowAlgorithmNames = getColumnShadowAlgorithmRules(shadowAlgorithmNames, shadowAlgorithms);
+        hintShadowAlgorithms = getHintShadowAlgorithms(shadowAlgorithms);
+        columnShadowAlgorithms = getColumnShadowAlgorithms(shadowAlgorithms);
     }
     
     private Collection<String> getHintShadowAlgorithmNames(final Collection<String> shadowAlgorithmNames, final Map<String, ShadowAlgorithm> shadowAlgorithms) {
@@ -66,4 +77,36 @@ public final class ShadowTableRule {
         }
         return result;
     }
+    
+    @SuppressWarnings("unchecked")
+    private Collection<HintShadowAlgorithm<Comparable<?>>> getHintShadowAlgorithms(final Map<String, ShadowAlgorithm> shadowAlgorithms) {
+        Collection<HintShadowAlgorithm<Comparable<?>>> result = new LinkedList<>();
+        for (String each : hintShadowAlgorithmNames) {
+            result.add((HintShadowAlgorithm<Comparable<?>>) shadowAlgorithms.get(each));
+        }
+        return Collections.unmodifiableCollection(result);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<ShadowOperationType, Map<String, Collection<ColumnShadowAlgorithm<Comparable<?>>>>> getColumnShadowAlgorithms(final Map<String, ShadowAlgorithm> shadowAlgorithms) {
+        Map<ShadowOperationType, Map<String, Collection<ColumnShadowAlgorithm<Comparable<?>>>>> result = new EnumMap<>(ShadowOperationType.class);
+        for (Entry<ShadowOperationType, Collection<ShadowAlgorithmNameRule>> entry : columnShadowAlgorithmNames.entrySet()) {
+            Map<String, Collection<ColumnShadowAlgorithm<Comparable<?>>>> algorithms = new LinkedHashMap<>(entry.getValue().size(), 1F);
+            for (ShadowAlgorithmNameRule each : entry.getValue()) {
+                algorithms.computeIfAbsent(each.getShadowColumnName(), unused -> new LinkedList<>()).add((ColumnShadowAlgorithm<Comparable<?>>) shadowAlgorithms.get(each.getShadowAlgorithmName()));
+            }
+            result.put(entry.getKey(), algorithms);
+        }
+        return result;
+    }
+    
+    /**
+     * Get column shadow algorithms grouped by shadow column.
+     *
+     * @param operationType shadow operation type
+     * @return column shadow algorithms grouped by shadow column
+     */
+    public Map<String, Collection<ColumnShadowAlgorithm<Comparable<?>>>> getColumnShadowAlgorithms(final ShadowOperationType operationType) {
+        return columnShadowAlgorithms.getOrDefault(operationType, Collections.emptyMap());
+    }
 }
@@ -37,6 +37,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -128,16 +129,19 @@ class ShadowRuleTest {
     void assertGetColumnShadowAlgorithms() {
         assertThat(rule.getColumnShadowAlgorithms(ShadowOperationType.INSERT, "foo_tbl", "foo_id").size(), is(1));
         assertTrue(rule.getColumnShadowAlgorithms(ShadowOperationType.INSERT, "foo_tbl", "bar_id").isEmpty());
+        assertTrue(rule.getColumnShadowAlgorithms(ShadowOperationType.DELETE, "foo_tbl", "foo_id").isEmpty());
     }
     
     @Test
     void assertGetShadowColumnNames() {
-        assertThat(rule.getShadowColumnNames(ShadowOperationType.INSERT, "foo_tbl").size(), is(1));
+        assertThat(rule.getShadowColumnNames(ShadowOperationType.INSERT, "foo_tbl"), is(Collections.singleton("foo_id")));
+        assertTrue(rule.getShadowColumnNames(ShadowOperationType.SELECT, "foo_tbl").isEmpty());
     }
     
     @Test
     void assertGetShadowDataSourceMappings() {
         assertThat(rule.getShadowDataSourceMappings("foo_tbl"), is(Collections.singletonMap("prod_ds_0", "shadow_ds_0")));
+        assertThat(rule.getShadowDataSourceMappings("foo_tbl"), sameInstance(rule.getShadowDataSourceMappings("foo_tbl")));
     }
     
     @Test
@@ -45,4 +45,21 @@ public interface StandardShardingAlgorithm<T extends Comparable<?>> extends Shar
      * @return sharding results for data sources or table names
      */
     Collection<String> doSharding(Collection<String> availableTargetNames, RangeShardingValue<T> shardingValue);
+    
+    /**
+     * Sharding in batch.
+     *
+     * @param availableTargetNames available data sources or table names
+     * @param shardingValue batch sharding value
+     * @return sharding results for data sources or table names, index of which is same as sharding values, null if no target matched
+     */
+    default String[] doSharding(final Collection<String> availableTargetNames, final BatchShardingValue<T> shardingValue) {
+        String[] result = new String[shardingValue.getValues().size()];
+        int index = 0;
+        for (T each : shardingValue.getValues()) {
+            result[index] = doSharding(availableTargetNames, new PreciseShardingValue<>(shardingValue.getLogicTableName(), shardingValue.getColumnName(), shardingValue.getDataNodeInfo(), each));
+            index++;
+        }
+        return result;
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Target name index cache.
+ * 
+ * <p>
+ * Available target names are cached by identity, because sharding tables pass the same collection for each routing.
+ * Index is rebuilt if size of available target names or index key is changed.
+ * </p>
+ *
+ * @param <T> type of target name index
+ */
+public final class TargetNameIndexCache<T> {
+    
+    private final Cache<Collection<String>, TargetNameIndex<T>> cache = Caffeine.newBuilder().weakKeys().build();
+    
+    /**
+     * Get target name index.
+     *
+     * @param availableTargetNames available target names
+     * @param indexKey index key which target name index depends on, compared by identity
+     * @param indexBuilder index builder
+     * @return target name index
+     */
+    public T get(final Collection<String> availableTargetNames, final Object indexKey, final Function<Collection<String>, T> indexBuilder) {
+        TargetNameIndex<T> result = cache.getIfPresent(availableTargetNames);
+        if (null == result || result.size != availableTargetNames.size() || result.indexKey != indexKey) {
+            result = new TargetNameIndex<>(availableTargetNames.size(), indexKey, indexBuilder.apply(availableTargetNames));
+            cache.put(availableTargetNames, result);
+        }
+        return result.index;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class TargetNameIndex<T> {
+        
+        private final int size;
+        
+        private final Object indexKey;
+        
+        private final T index;
+    }
+}
@@ -20,9 +20,11 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
 import com.google.common.collect.Range;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.datetime.DateTimeFormatterFactory;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
+import org.apache.shardingsphere.sharding.algorithm.sharding.TargetNameIndexCache;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -37,7 +39,9 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.NavigableMap;
 import java.util.Properties;
+import java.util.TreeMap;
 
 /**
  * Auto interval sharding algorithm.
@@ -57,11 +61,14 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     @Getter
     private int autoTablesAmount;
     
+    private TargetNameIndexCache<NavigableMap<Integer, String>> targetNameIndexCache;
+    
     @Override
     public void init(final Properties props) {
         dateTimeLower = getDateTime(props);
         shardingSeconds = getShardingSeconds(props);
         autoTablesAmount = (int) (Math.ceil((double) (parseDate(props.getProperty(DATE_TIME_UPPER_KEY)) / shardingSeconds)) + 2D);
+        targetNameIndexCache = new TargetNameIndexCache<>();
     }
     
     private LocalDateTime getDateTime(final Properties props) {
@@ -82,20 +89,14 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
-        String tableNameSuffix = String.valueOf(doSharding(parseDate(shardingValue.getValue())));
-        return ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, tableNameSuffix, shardingValue.getDataNodeInfo()).orElse(null);
+        return getTargetNameIndex(availableTargetNames, shardingValue.getDataNodeInfo()).get(doSharding(parseDate(shardingValue.getValue())));
     }
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
-        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size(), 1F);
         int firstPartition = getFirstPartition(shardingValue.getValueRange());
         int lastPartition = getLastPartition(shardingValue.getValueRange());
-        for (int i = firstPartition; i <= lastPartition; i++) {
-            String suffix = String.valueOf(i);
-            ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).ifPresent(result::add);
-        }
-        return result;
+        return new LinkedHashSet<>(getTargetNameIndex(availableTargetNames, shardingValue.getDataNodeInfo()).subMap(firstPartition, true, lastPartition, true).values());
     }
     
     private int doSharding(final long shardingValue) {
@@ -103,6 +104,19 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
         return Math.min(Math.max(0, (int) Math.ceil(Double.parseDouble(position))), autoTablesAmount - 1);
     }
     
+    private NavigableMap<Integer, String> getTargetNameIndex(final Collection<String> availableTargetNames, final DataNodeInfo dataNodeInfo) {
+        return targetNameIndexCache.get(availableTargetNames, dataNodeInfo, targetNames -> createTargetNameIndex(targetNames, dataNodeInfo));
+    }
+    
+    private NavigableMap<Integer, String> createTargetNameIndex(final Collection<String> availableTargetNames, final DataNodeInfo dataNodeInfo) {
+        NavigableMap<Integer, String> result = new TreeMap<>();
+        for (int i = 0; i < autoTablesAmount; i++) {
+            int partition = i;
+            ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, String.valueOf(i), dataNodeInfo).ifPresent(optional -> result.put(partition, optional));
+        }
+        return result;
+    }
+    
     private int getFirstPartition(final Range<Comparable<?>> valueRange) {
         return valueRange.hasLowerBound() ? doSharding(parseDate(valueRange.lowerEndpoint())) : 0;
     }
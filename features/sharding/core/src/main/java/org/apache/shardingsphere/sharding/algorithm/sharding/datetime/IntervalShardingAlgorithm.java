@@ -22,6 +22,7 @@ import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.sharding.algorithm.sharding.TargetNameIndexCache;
 import org.apache.shardingsphere.sharding.algorithm.sharding.datetime.temporal.TemporalHandler;
 import org.apache.shardingsphere.sharding.algorithm.sharding.datetime.temporal.TemporalHandlerFactory;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
@@ -38,8 +39,16 @@ import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAccessor;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.Properties;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -75,6 +84,10 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private ChronoUnit stepUnit;
     
+    private NavigableMap<Comparable<?>, String> intervalSuffixes;
+    
+    private TargetNameIndexCache<Map<String, Collection<String>>> targetNameIndexCache;
+    
     @Override
     public void init(final Properties props) {
         dateTimePatternString = getDateTimePattern(props);
@@ -85,6 +98,8 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         tableSuffixPattern = getTableSuffixPattern(props);
         stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
         stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
+        intervalSuffixes = createIntervalSuffixes();
+        targetNameIndexCache = new TargetNameIndexCache<>();
     }
     
     private String getDateTimePattern(final Properties props) {
@@ -137,33 +152,68 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     }
     
     @SuppressWarnings("unchecked")
-    private <T extends TemporalAccessor & Comparable<?>> Collection<String> getMatchedTables(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
-        Collection<String> result = new HashSet<>();
+    private <T extends TemporalAccessor & Comparable<?>> NavigableMap<Comparable<?>, String> createIntervalSuffixes() {
+        NavigableMap<Comparable<?>, String> result = new TreeMap<>();
         TemporalHandler<T> temporalHandler = TemporalHandlerFactory.newInstance(dateTimeLower);
         T dateTimeUpper = temporalHandler.convertTo(this.dateTimeUpper);
-        T dateTimeLower = temporalHandler.convertTo(this.dateTimeLower);
-        T calculateTimeAsView = temporalHandler.convertTo(this.dateTimeLower);
+        T calculateTimeAsView = temporalHandler.convertTo(dateTimeLower);
         while (!temporalHandler.isAfter(calculateTimeAsView, dateTimeUpper, stepAmount)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, temporalHandler.add(calculateTimeAsView, stepAmount, stepUnit)), range, dateTimeLower, dateTimeUpper, temporalHandler)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames, temporalHandler));
+            result.put(calculateTimeAsView, tableSuffixPattern.format(calculateTimeAsView));
+            T nextTimeAsView = temporalHandler.add(calculateTimeAsView, stepAmount, stepUnit);
+            if (((Comparable<Object>) nextTimeAsView).compareTo(calculateTimeAsView) <= 0) {
+                break;
+            }
+            calculateTimeAsView = nextTimeAsView;
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private <T extends TemporalAccessor & Comparable<?>> Collection<String> getMatchedTables(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
+        if (intervalSuffixes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        TemporalHandler<T> temporalHandler = TemporalHandlerFactory.newInstance(dateTimeLower);
+        Range<T> dateTimeRange = createDateTimeRange(range, temporalHandler);
+        Map<String, Collection<String>> targetNameIndex = targetNameIndexCache.get(availableTargetNames, null, this::createTargetNameIndex);
+        Comparable<?> firstIntervalStart = intervalSuffixes.floorKey(dateTimeRange.lowerEndpoint());
+        Collection<String> result = new LinkedHashSet<>();
+        for (Entry<Comparable<?>, String> entry : intervalSuffixes.tailMap(null == firstIntervalStart ? intervalSuffixes.firstKey() : firstIntervalStart, true).entrySet()) {
+            T intervalStart = (T) entry.getKey();
+            if (((Comparable<Object>) intervalStart).compareTo(dateTimeRange.upperEndpoint()) > 0) {
+                break;
+            }
+            if (hasIntersection(Range.closedOpen(intervalStart, temporalHandler.add(intervalStart, stepAmount, stepUnit)), dateTimeRange)) {
+                result.addAll(targetNameIndex.getOrDefault(entry.getValue(), Collections.emptyList()));
             }
-            calculateTimeAsView = temporalHandler.add(calculateTimeAsView, stepAmount, stepUnit);
         }
         return result;
     }
     
-    private <T extends TemporalAccessor & Comparable<?>> Collection<String> getMatchedTables(final TemporalAccessor calculateTimeAsView,
-                                                                                             final Collection<String> availableTargetNames, final TemporalHandler<T> temporalHandler) {
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffixPattern.format(temporalHandler.convertTo(calculateTimeAsView)))).collect(Collectors.toSet());
+    private Map<String, Collection<String>> createTargetNameIndex(final Collection<String> availableTargetNames) {
+        Collection<String> suffixes = new HashSet<>(intervalSuffixes.values());
+        Collection<Integer> suffixLengths = suffixes.stream().map(String::length).collect(Collectors.toSet());
+        Map<String, Collection<String>> result = new HashMap<>(suffixes.size(), 1F);
+        for (String each : availableTargetNames) {
+            for (int suffixLength : suffixLengths) {
+                String suffix = each.length() < suffixLength ? null : each.substring(each.length() - suffixLength);
+                if (suffixes.contains(suffix)) {
+                    result.computeIfAbsent(suffix, key -> new LinkedList<>()).add(each);
+                }
+            }
+        }
+        return result;
     }
     
-    private <T extends TemporalAccessor & Comparable<?>> boolean hasIntersection(final Range<T> calculateRange, final Range<Comparable<?>> range,
-                                                                                 final T temporalLower, final T temporalUpper, final TemporalHandler<T> temporalHandler) {
-        T lower = range.hasLowerBound() ? parseTemporal(range.lowerEndpoint(), temporalHandler) : temporalLower;
-        T upper = range.hasUpperBound() ? parseTemporal(range.upperEndpoint(), temporalHandler) : temporalUpper;
+    private <T extends TemporalAccessor & Comparable<?>> Range<T> createDateTimeRange(final Range<Comparable<?>> range, final TemporalHandler<T> temporalHandler) {
+        T lower = range.hasLowerBound() ? parseTemporal(range.lowerEndpoint(), temporalHandler) : temporalHandler.convertTo(dateTimeLower);
+        T upper = range.hasUpperBound() ? parseTemporal(range.upperEndpoint(), temporalHandler) : temporalHandler.convertTo(dateTimeUpper);
         BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
         BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<T> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
+        return Range.range(lower, lowerBoundType, upper, upperBoundType);
+    }
+    
+    private <T extends TemporalAccessor & Comparable<?>> boolean hasIntersection(final Range<T> calculateRange, final Range<T> dateTimeRange) {
         return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
     }
     
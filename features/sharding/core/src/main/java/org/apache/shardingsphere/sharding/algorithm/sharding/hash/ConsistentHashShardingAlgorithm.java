@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.hash;
+
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
+import org.apache.shardingsphere.sharding.algorithm.sharding.TargetNameIndexCache;
+import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
+
+import java.util.Collection;
+import java.util.Properties;
+
+/**
+ * Consistent hash sharding algorithm.
+ *
+ * <p>Sharding value is mapped to table by jump consistent hash, when sharding count grows from n to n + 1 only about 1 / (n + 1) of the values map to another table,
+ * and all of them map to the new table. Existing data is not moved by this algorithm.</p>
+ */
+public final class ConsistentHashShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>>, ShardingAutoTableAlgorithm {
+    
+    private static final String SHARDING_COUNT_KEY = "sharding-count";
+    
+    private static final long JUMP_MULTIPLIER = 2862933555777941757L;
+    
+    private static final double JUMP_DIVIDEND = 1L << 31;
+    
+    private int shardingCount;
+    
+    private TargetNameIndexCache<String[]> targetNameIndexCache;
+    
+    @Override
+    public void init(final Properties props) {
+        shardingCount = getShardingCount(props);
+        targetNameIndexCache = new TargetNameIndexCache<>();
+    }
+    
+    private int getShardingCount(final Properties props) {
+        ShardingSpherePreconditions.checkContainsKey(props, SHARDING_COUNT_KEY, () -> new AlgorithmInitializationException(this, "Sharding count cannot be null."));
+        int result = Integer.parseInt(String.valueOf(props.getProperty(SHARDING_COUNT_KEY)));
+        ShardingSpherePreconditions.checkState(result > 0, () -> new AlgorithmInitializationException(this, "Sharding count must be a positive integer."));
+        return result;
+    }
+    
+    @Override
+    public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
+        String suffix = String.valueOf(getShardingIndex(shardingValue.getValue()));
+        return ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).orElse(null);
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        return availableTargetNames;
+    }
+    
+    @Override
+    public String[] doSharding(final Collection<String> availableTargetNames, final BatchShardingValue<Comparable<?>> shardingValue) {
+        String[] targetNames = targetNameIndexCache.get(availableTargetNames, shardingValue.getDataNodeInfo(), each -> createTargetNameIndex(each, shardingValue.getDataNodeInfo()));
+        String[] result = new String[shardingValue.getValues().size()];
+        int index = 0;
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            result[index] = targetNames[getShardingIndex(each)];
+            index++;
+        }
+        return result;
+    }
+    
+    private String[] createTargetNameIndex(final Collection<String> availableTargetNames, final DataNodeInfo dataNodeInfo) {
+        String[] result = new String[shardingCount];
+        for (int i = 0; i < shardingCount; i++) {
+            result[i] = ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, String.valueOf(i), dataNodeInfo).orElse(null);
+        }
+        return result;
+    }
+    
+    private int getShardingIndex(final Object shardingValue) {
+        long key = mix(shardingValue.hashCode());
+        long result = -1L;
+        long next = 0L;
+        while (next < shardingCount) {
+            result = next;
+            key = key * JUMP_MULTIPLIER + 1L;
+            next = (long) ((result + 1L) * (JUMP_DIVIDEND / ((key >>> 33) + 1L)));
+        }
+        return (int) result;
+    }
+    
+    private long mix(final long hashCode) {
+        long result = hashCode;
+        result ^= result >>> 33;
+        result *= 0xff51afd7ed558ccdL;
+        result ^= result >>> 33;
+        result *= 0xc4ceb9fe1a85ec53L;
+        result ^= result >>> 33;
+        return result;
+    }
+    
+    @Override
+    public int getAutoTablesAmount() {
+        return shardingCount;
+    }
+    
+    @Override
+    public String getType() {
+        return "CONSISTENT_HASH";
+    }
+}
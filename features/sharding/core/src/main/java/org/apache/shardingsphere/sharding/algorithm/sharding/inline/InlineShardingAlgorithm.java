@@ -22,6 +22,8 @@ import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitial
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -30,6 +32,8 @@ import org.apache.shardingsphere.sharding.exception.data.NullShardingValueExcept
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 
@@ -67,11 +71,7 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
         String columnName = shardingValue.getColumnName();
         ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
-        try {
-            return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(Collections.singletonMap(columnName, shardingValue.getValue()));
-        } catch (final MissingMethodException ignored) {
-            throw new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName);
-        }
+        return evaluate(InlineExpressionParserFactory.newInstance(algorithmExpression), columnName, shardingValue.getValue());
     }
     
     @Override
@@ -81,6 +81,30 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         return availableTargetNames;
     }
     
+    @Override
+    public String[] doSharding(final Collection<String> availableTargetNames, final BatchShardingValue<Comparable<?>> shardingValue) {
+        String columnName = shardingValue.getColumnName();
+        ShardingSpherePreconditions.checkState(algorithmExpression.contains(columnName), () -> new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName));
+        InlineExpressionParser inlineExpressionParser = InlineExpressionParserFactory.newInstance(algorithmExpression);
+        Map<Comparable<?>, String> evaluatedTargetNames = new HashMap<>();
+        String[] result = new String[shardingValue.getValues().size()];
+        int index = 0;
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            result[index] = evaluatedTargetNames.computeIfAbsent(each, key -> evaluate(inlineExpressionParser, columnName, key));
+            index++;
+        }
+        return result;
+    }
+    
+    private String evaluate(final InlineExpressionParser inlineExpressionParser, final String columnName, final Comparable<?> shardingValue) {
+        try {
+            return inlineExpressionParser.evaluateWithArgs(Collections.singletonMap(columnName, shardingValue));
+        } catch (final MissingMethodException ignored) {
+            throw new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName);
+        }
+    }
+    
     @Override
     public Optional<String> getAlgorithmStructure(final String dataNodePrefix, final String shardingColumn) {
         return Optional.of(algorithmExpression.replaceFirst(dataNodePrefix, "").replaceFirst(shardingColumn, "").replaceAll(" ", ""));
@@ -18,9 +18,12 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
+import org.apache.shardingsphere.sharding.algorithm.sharding.TargetNameIndexCache;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -38,9 +41,12 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     
     private int shardingCount;
     
+    private TargetNameIndexCache<String[]> targetNameIndexCache;
+    
     @Override
     public void init(final Properties props) {
         shardingCount = getShardingCount(props);
+        targetNameIndexCache = new TargetNameIndexCache<>();
     }
     
     private int getShardingCount(final Properties props) {
@@ -53,7 +59,7 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
-        String suffix = String.valueOf(hashShardingValue(shardingValue.getValue()) % shardingCount);
+        String suffix = String.valueOf(getShardingIndex(shardingValue.getValue()));
         return ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
@@ -62,6 +68,31 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
         return availableTargetNames;
     }
     
+    @Override
+    public String[] doSharding(final Collection<String> availableTargetNames, final BatchShardingValue<Comparable<?>> shardingValue) {
+        String[] targetNames = targetNameIndexCache.get(availableTargetNames, shardingValue.getDataNodeInfo(), each -> createTargetNameIndex(each, shardingValue.getDataNodeInfo()));
+        String[] result = new String[shardingValue.getValues().size()];
+        int index = 0;
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            result[index] = targetNames[getShardingIndex(each)];
+            index++;
+        }
+        return result;
+    }
+    
+    private String[] createTargetNameIndex(final Collection<String> availableTargetNames, final DataNodeInfo dataNodeInfo) {
+        String[] result = new String[shardingCount];
+        for (int i = 0; i < shardingCount; i++) {
+            result[i] = ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, String.valueOf(i), dataNodeInfo).orElse(null);
+        }
+        return result;
+    }
+    
+    private int getShardingIndex(final Object shardingValue) {
+        return (int) (hashShardingValue(shardingValue) % shardingCount);
+    }
+    
     private long hashShardingValue(final Object shardingValue) {
         return Math.abs((long) shardingValue.hashCode());
     }
@@ -18,9 +18,12 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
+import org.apache.shardingsphere.sharding.algorithm.sharding.TargetNameIndexCache;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -55,6 +58,8 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     
     private int maxPaddingSize;
     
+    private TargetNameIndexCache<String[]> targetNameIndexCache;
+    
     @Override
     public void init(final Properties props) {
         shardingCount = getShardingCount(props);
@@ -62,6 +67,7 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         stopOffset = getStopOffset(props);
         zeroPadding = isZeroPadding(props);
         maxPaddingSize = calculateMaxPaddingSize();
+        targetNameIndexCache = new TargetNameIndexCache<>();
     }
     
     private int getShardingCount(final Properties props) {
@@ -109,6 +115,33 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         return containsAllTargets(shardingValue) ? availableTargetNames : getAvailableTargetNames(availableTargetNames, shardingValue);
     }
     
+    @Override
+    public String[] doSharding(final Collection<String> availableTargetNames, final BatchShardingValue<Comparable<?>> shardingValue) {
+        String[] targetNames = targetNameIndexCache.get(availableTargetNames, shardingValue.getDataNodeInfo(), each -> createTargetNameIndex(each, shardingValue.getDataNodeInfo()));
+        String[] result = new String[shardingValue.getValues().size()];
+        int index = 0;
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            result[index] = targetNames[getShardingIndex(each)];
+            index++;
+        }
+        return result;
+    }
+    
+    private String[] createTargetNameIndex(final Collection<String> availableTargetNames, final DataNodeInfo dataNodeInfo) {
+        String[] result = new String[shardingCount];
+        for (int i = 0; i < shardingCount; i++) {
+            result[i] = ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, getShardingResultSuffix(String.valueOf(i)), dataNodeInfo).orElse(null);
+        }
+        return result;
+    }
+    
+    private int getShardingIndex(final Comparable<?> shardingValue) {
+        return 0 == startOffset && 0 == stopOffset && shardingValue instanceof Number
+                ? (int) Math.floorMod(((Number) shardingValue).longValue(), (long) shardingCount)
+                : cutShardingValue(shardingValue).mod(BigInteger.valueOf(shardingCount)).intValue();
+    }
+    
     private boolean containsAllTargets(final RangeShardingValue<Comparable<?>> shardingValue) {
         return !shardingValue.getValueRange().hasUpperBound() || shardingValue.getValueRange().hasLowerBound()
                 && getBigInteger(shardingValue.getValueRange().upperEndpoint()).subtract(getBigInteger(shardingValue.getValueRange().lowerEndpoint())).intValue() >= shardingCount - 1;
@@ -18,10 +18,13 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.range;
 
 import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAutoTableAlgorithmUtils;
+import org.apache.shardingsphere.sharding.algorithm.sharding.TargetNameIndexCache;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -31,7 +34,9 @@ import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.Properties;
+import java.util.TreeMap;
 
 /**
  * Abstract range sharding algorithm.
@@ -40,13 +45,29 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     
     private Map<Integer, Range<Comparable<?>>> partitionRange;
     
+    private NavigableMap<Long, Integer> partitionLowerEndpoints;
+    
+    private TargetNameIndexCache<String[]> targetNameIndexCache;
+    
     @Override
     public final void init(final Properties props) {
         partitionRange = calculatePartitionRange(props);
+        partitionLowerEndpoints = createPartitionLowerEndpoints();
+        targetNameIndexCache = new TargetNameIndexCache<>();
     }
     
     protected abstract Map<Integer, Range<Comparable<?>>> calculatePartitionRange(Properties props);
     
+    private NavigableMap<Long, Integer> createPartitionLowerEndpoints() {
+        NavigableMap<Long, Integer> result = new TreeMap<>();
+        for (Entry<Integer, Range<Comparable<?>>> entry : partitionRange.entrySet()) {
+            if (entry.getValue().hasLowerBound() && entry.getValue().lowerEndpoint() instanceof Long) {
+                result.put((Long) entry.getValue().lowerEndpoint(), entry.getKey());
+            }
+        }
+        return result;
+    }
+    
     @Override
     public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         ShardingSpherePreconditions.checkNotNull(shardingValue.getValue(), NullShardingValueException::new);
@@ -66,6 +87,27 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
         return result;
     }
     
+    @Override
+    public final String[] doSharding(final Collection<String> availableTargetNames, final BatchShardingValue<Comparable<?>> shardingValue) {
+        String[] targetNames = targetNameIndexCache.get(availableTargetNames, shardingValue.getDataNodeInfo(), each -> createTargetNameIndex(each, shardingValue.getDataNodeInfo()));
+        String[] result = new String[shardingValue.getValues().size()];
+        int index = 0;
+        for (Comparable<?> each : shardingValue.getValues()) {
+            ShardingSpherePreconditions.checkNotNull(each, NullShardingValueException::new);
+            result[index] = targetNames[getPartition(each)];
+            index++;
+        }
+        return result;
+    }
+    
+    private String[] createTargetNameIndex(final Collection<String> availableTargetNames, final DataNodeInfo dataNodeInfo) {
+        String[] result = new String[partitionRange.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ShardingAutoTableAlgorithmUtils.findMatchedTargetName(availableTargetNames, String.valueOf(i), dataNodeInfo).orElse(null);
+        }
+        return result;
+    }
+    
     private int getFirstPartition(final Range<Comparable<?>> valueRange) {
         return valueRange.hasLowerBound() ? getPartition(valueRange.lowerEndpoint()) : 0;
     }
@@ -75,8 +117,13 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     }
     
     private Integer getPartition(final Comparable<?> value) {
+        Long longValue = getLongValue(value);
+        Entry<Long, Integer> floorEntry = partitionLowerEndpoints.floorEntry(longValue);
+        if (null != floorEntry && partitionRange.get(floorEntry.getValue()).contains(longValue)) {
+            return floorEntry.getValue();
+        }
         for (Entry<Integer, Range<Comparable<?>>> entry : partitionRange.entrySet()) {
-            if (entry.getValue().contains(getLongValue(value))) {
+            if (entry.getValue().contains(longValue)) {
                 return entry.getKey();
             }
         }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
 import com.cedarsoftware.util.CaseInsensitiveSet;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNode;
@@ -41,18 +42,26 @@ import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
 import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
 import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.ShardingTable;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Sharding standard route engine.
@@ -139,17 +148,103 @@ public final class ShardingStandardRouteEngine implements ShardingRouteEngine {
     
     private Collection<DataNode> routeByShardingConditionsWithCondition(final ShardingRule shardingRule, final ShardingTable shardingTable,
                                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
-        Collection<DataNode> result = new LinkedList<>();
+        if (isRoutingInBatch()) {
+            Optional<Collection<DataNode>> dataNodes = routeInBatch(shardingRule, shardingTable, databaseShardingStrategy, tableShardingStrategy);
+            if (dataNodes.isPresent()) {
+                return dataNodes.get();
+            }
+        }
+        Collection<DataNode> result = new ArrayList<>();
+        BitSet routedDataNodeIndexes = new BitSet(shardingTable.getActualDataNodes().size());
         for (ShardingCondition each : shardingConditions.getConditions()) {
             Collection<DataNode> dataNodes = route0(shardingTable,
                     databaseShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, databaseShardingStrategy.getShardingColumns(), each),
                     tableShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, tableShardingStrategy.getShardingColumns(), each));
-            result.addAll(dataNodes);
+            addDistinctDataNodes(shardingTable, dataNodes, routedDataNodeIndexes, result);
             originalDataNodes.add(dataNodes);
         }
         return result;
     }
     
+    private boolean isRoutingInBatch() {
+        return sqlStatementContext instanceof InsertStatementContext && shardingConditions.getConditions().size() > 1;
+    }
+    
+    private Optional<Collection<DataNode>> routeInBatch(final ShardingRule shardingRule, final ShardingTable shardingTable,
+                                                        final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+        Optional<List<ListShardingConditionValue<?>>> databaseShardingValues = findBatchShardingValues(shardingRule, databaseShardingStrategy);
+        Optional<List<ListShardingConditionValue<?>>> tableShardingValues = findBatchShardingValues(shardingRule, tableShardingStrategy);
+        if (!databaseShardingValues.isPresent() || !tableShardingValues.isPresent()) {
+            return Optional.empty();
+        }
+        List<Collection<DataNode>> rowDataNodes = new ArrayList<>(shardingConditions.getConditions().size());
+        for (int i = 0; i < shardingConditions.getConditions().size(); i++) {
+            rowDataNodes.add(new LinkedList<>());
+        }
+        for (Entry<String, List<Integer>> entry : routeDataSourcesInBatch(shardingTable, databaseShardingStrategy, databaseShardingValues.get()).entrySet()) {
+            routeTablesInBatch(shardingTable, entry.getKey(), entry.getValue(), tableShardingStrategy, tableShardingValues.get(), rowDataNodes);
+        }
+        Collection<DataNode> result = new LinkedHashSet<>();
+        for (Collection<DataNode> each : rowDataNodes) {
+            result.addAll(each);
+            originalDataNodes.add(each);
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<List<ListShardingConditionValue<?>>> findBatchShardingValues(final ShardingRule shardingRule, final ShardingStrategy shardingStrategy) {
+        if (shardingStrategy instanceof NoneShardingStrategy) {
+            return Optional.of(Collections.emptyList());
+        }
+        if (!(shardingStrategy instanceof StandardShardingStrategy)) {
+            return Optional.empty();
+        }
+        List<ListShardingConditionValue<?>> result = new ArrayList<>(shardingConditions.getConditions().size());
+        for (ShardingCondition each : shardingConditions.getConditions()) {
+            List<ShardingConditionValue> shardingValues = getShardingValuesFromShardingConditions(shardingRule, shardingStrategy.getShardingColumns(), each);
+            if (1 != shardingValues.size() || !(shardingValues.get(0) instanceof ListShardingConditionValue) || 1 != ((ListShardingConditionValue<?>) shardingValues.get(0)).getValues().size()) {
+                return Optional.empty();
+            }
+            result.add((ListShardingConditionValue<?>) shardingValues.get(0));
+        }
+        return Optional.of(result);
+    }
+    
+    private Map<String, List<Integer>> routeDataSourcesInBatch(final ShardingTable shardingTable, final ShardingStrategy databaseShardingStrategy,
+                                                               final List<ListShardingConditionValue<?>> databaseShardingValues) {
+        Map<String, List<Integer>> result = new LinkedHashMap<>();
+        if (databaseShardingValues.isEmpty()) {
+            List<Integer> rowIndexes = IntStream.range(0, shardingConditions.getConditions().size()).boxed().collect(Collectors.toList());
+            shardingTable.getActualDataSourceNames().forEach(each -> result.put(each, rowIndexes));
+            return result;
+        }
+        String[] routedDataSources =
+                ((StandardShardingStrategy) databaseShardingStrategy).doSharding(shardingTable.getActualDataSourceNames(), databaseShardingValues, shardingTable.getDataSourceDataNode());
+        for (int i = 0; i < routedDataSources.length; i++) {
+            checkRoutedDataSources(shardingTable, null == routedDataSources[i] ? Collections.emptyList() : Collections.singletonList(routedDataSources[i]));
+            result.computeIfAbsent(routedDataSources[i], key -> new ArrayList<>()).add(i);
+        }
+        return result;
+    }
+    
+    private void routeTablesInBatch(final ShardingTable shardingTable, final String routedDataSource, final List<Integer> rowIndexes,
+                                    final ShardingStrategy tableShardingStrategy, final List<ListShardingConditionValue<?>> tableShardingValues, final List<Collection<DataNode>> rowDataNodes) {
+        Collection<String> availableTargetTables = shardingTable.getActualTableNames(routedDataSource);
+        if (tableShardingValues.isEmpty()) {
+            Collection<DataNode> dataNodes = availableTargetTables.stream().map(each -> new DataNode(routedDataSource, each)).collect(Collectors.toList());
+            rowIndexes.forEach(each -> rowDataNodes.get(each).addAll(dataNodes));
+            return;
+        }
+        List<ListShardingConditionValue<?>> shardingValues = rowIndexes.stream().map(tableShardingValues::get).collect(Collectors.toList());
+        String[] routedTables = ((StandardShardingStrategy) tableShardingStrategy).doSharding(availableTargetTables, shardingValues, shardingTable.getTableDataNode());
+        Map<String, DataNode> dataNodes = new HashMap<>();
+        for (int i = 0; i < routedTables.length; i++) {
+            if (null != routedTables[i]) {
+                rowDataNodes.get(rowIndexes.get(i)).add(dataNodes.computeIfAbsent(routedTables[i], key -> new DataNode(routedDataSource, key)));
+            }
+        }
+    }
+    
     private Collection<DataNode> routeByMixedConditions(final ShardingRule shardingRule, final ShardingTable shardingTable,
                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
         return shardingConditions.getConditions().isEmpty()
@@ -159,16 +254,29 @@ public final class ShardingStandardRouteEngine implements ShardingRouteEngine {
     
     private Collection<DataNode> routeByMixedConditionsWithCondition(final ShardingRule shardingRule, final ShardingTable shardingTable,
                                                                      final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
-        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> result = new ArrayList<>();
+        BitSet routedDataNodeIndexes = new BitSet(shardingTable.getActualDataNodes().size());
         for (ShardingCondition each : shardingConditions.getConditions()) {
             Collection<DataNode> dataNodes = route0(shardingTable, databaseShardingStrategy,
                     getDatabaseShardingValues(shardingRule, databaseShardingStrategy, each), tableShardingStrategy, getTableShardingValues(shardingRule, tableShardingStrategy, each));
-            result.addAll(dataNodes);
+            addDistinctDataNodes(shardingTable, dataNodes, routedDataNodeIndexes, result);
             originalDataNodes.add(dataNodes);
         }
         return result;
     }
     
+    private void addDistinctDataNodes(final ShardingTable shardingTable, final Collection<DataNode> dataNodes, final BitSet routedDataNodeIndexes, final Collection<DataNode> result) {
+        for (DataNode each : dataNodes) {
+            int index = shardingTable.findActualTableIndex(each.getDataSourceName(), each.getTableName());
+            if (index < 0) {
+                result.add(each);
+            } else if (!routedDataNodeIndexes.get(index)) {
+                routedDataNodeIndexes.set(index);
+                result.add(each);
+            }
+        }
+    }
+    
     private Collection<DataNode> routeByMixedConditionsWithHint(final ShardingRule shardingRule, final ShardingTable shardingTable,
                                                                 final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
         if (shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable) instanceof HintShardingStrategyConfiguration) {
@@ -235,10 +343,11 @@ public final class ShardingStandardRouteEngine implements ShardingRouteEngine {
     
     private List<ShardingConditionValue> getShardingValuesFromShardingConditions(final ShardingRule shardingRule, final Collection<String> shardingColumns, final ShardingCondition shardingCondition) {
         List<ShardingConditionValue> result = new ArrayList<>(shardingColumns.size());
+        Collection<String> caseInsensitiveShardingColumns = new CaseInsensitiveSet<>(shardingColumns);
         for (ShardingConditionValue each : shardingCondition.getValues()) {
             Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(each.getTableName());
             if ((logicTableName.equalsIgnoreCase(each.getTableName()) || bindingTableRule.isPresent() && bindingTableRule.get().hasLogicTable(logicTableName))
-                    && new CaseInsensitiveSet<>(shardingColumns).contains(each.getColumnName())) {
+                    && caseInsensitiveShardingColumns.contains(each.getColumnName())) {
                 result.add(each);
             }
         }
@@ -249,7 +358,7 @@ public final class ShardingStandardRouteEngine implements ShardingRouteEngine {
                                         final ShardingStrategy databaseShardingStrategy, final List<ShardingConditionValue> databaseShardingValues,
                                         final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
         Collection<String> routedDataSources = routeDataSources(shardingTable, databaseShardingStrategy, databaseShardingValues);
-        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> result = new ArrayList<>();
         for (String each : routedDataSources) {
             result.addAll(routeTables(shardingTable, each, tableShardingStrategy, tableShardingValues));
         }
@@ -261,19 +370,23 @@ public final class ShardingStandardRouteEngine implements ShardingRouteEngine {
             return shardingTable.getActualDataSourceNames();
         }
         Collection<String> result = databaseShardingStrategy.doSharding(shardingTable.getActualDataSourceNames(), databaseShardingValues, shardingTable.getDataSourceDataNode(), props);
-        ShardingSpherePreconditions.checkNotEmpty(result, NoShardingDatabaseRouteInfoException::new);
-        ShardingSpherePreconditions.checkState(shardingTable.getActualDataSourceNames().containsAll(result),
-                () -> new MismatchedShardingDataSourceRouteInfoException(result, shardingTable.getActualDataSourceNames()));
+        checkRoutedDataSources(shardingTable, result);
         return result;
     }
     
+    private void checkRoutedDataSources(final ShardingTable shardingTable, final Collection<String> routedDataSources) {
+        ShardingSpherePreconditions.checkNotEmpty(routedDataSources, NoShardingDatabaseRouteInfoException::new);
+        ShardingSpherePreconditions.checkState(shardingTable.getActualDataSourceNames().containsAll(routedDataSources),
+                () -> new MismatchedShardingDataSourceRouteInfoException(routedDataSources, shardingTable.getActualDataSourceNames()));
+    }
+    
     private Collection<DataNode> routeTables(final ShardingTable shardingTable, final String routedDataSource,
                                              final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
         Collection<String> availableTargetTables = shardingTable.getActualTableNames(routedDataSource);
         Collection<String> routedTables = tableShardingValues.isEmpty()
                 ? availableTargetTables
                 : tableShardingStrategy.doSharding(availableTargetTables, tableShardingValues, shardingTable.getTableDataNode(), props);
-        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> result = new ArrayList<>(routedTables.size());
         for (String each : routedTables) {
             result.add(new DataNode(routedDataSource, each));
         }
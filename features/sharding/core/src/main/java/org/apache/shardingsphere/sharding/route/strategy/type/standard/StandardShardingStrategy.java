@@ -21,6 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -30,9 +31,13 @@ import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShar
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.TreeSet;
 
 /**
@@ -67,8 +72,35 @@ public final class StandardShardingStrategy implements ShardingStrategy {
         return result;
     }
     
+    /**
+     * Sharding in batch.
+     *
+     * @param availableTargetNames available data source or table names
+     * @param shardingValues sharding condition values of rows, each of which contains one value only
+     * @param dataNodeInfo data node info
+     * @return sharding results, index of which is same as sharding values, null if no available target matched
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public String[] doSharding(final Collection<String> availableTargetNames, final List<ListShardingConditionValue<?>> shardingValues, final DataNodeInfo dataNodeInfo) {
+        List<Object> values = new ArrayList<>(shardingValues.size());
+        for (ListShardingConditionValue<?> each : shardingValues) {
+            values.add(each.getValues().iterator().next());
+        }
+        ListShardingConditionValue<?> firstShardingValue = shardingValues.get(0);
+        String[] result = shardingAlgorithm.doSharding(availableTargetNames, new BatchShardingValue(firstShardingValue.getTableName(), firstShardingValue.getColumnName(), dataNodeInfo, values));
+        for (int i = 0; i < result.length; i++) {
+            if (null != result[i] && !availableTargetNames.contains(result[i])) {
+                result[i] = null;
+            }
+        }
+        return result;
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final ListShardingConditionValue<?> shardingValue, final DataNodeInfo dataNodeInfo) {
+        if (shardingValue.getValues().size() > 1) {
+            return doShardingInList(availableTargetNames, shardingValue, dataNodeInfo);
+        }
         Collection<String> result = new LinkedList<>();
         for (Object each : shardingValue.getValues()) {
             String target = shardingAlgorithm.doSharding(availableTargetNames,
@@ -86,4 +118,17 @@ public final class StandardShardingStrategy implements ShardingStrategy {
         return shardingAlgorithm.doSharding(availableTargetNames,
                 new RangeShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), dataNodeInfo, shardingValue.getValueRange()));
     }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Collection<String> doShardingInList(final Collection<String> availableTargetNames, final ListShardingConditionValue<?> shardingValue, final DataNodeInfo dataNodeInfo) {
+        List<Object> distinctValues = new ArrayList<>(new LinkedHashSet<>(shardingValue.getValues()));
+        String[] targets = shardingAlgorithm.doSharding(availableTargetNames, new BatchShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), dataNodeInfo, distinctValues));
+        Collection<String> result = new HashSet<>(Math.min(targets.length, availableTargetNames.size()) * 2);
+        for (String each : targets) {
+            if (null != each && availableTargetNames.contains(each)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
 }
@@ -18,9 +18,12 @@
 package org.apache.shardingsphere.sharding.rule;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
+import com.cedarsoftware.util.CaseInsensitiveSet;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
@@ -34,6 +37,7 @@ import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.PartialRuleUpdateSupported;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.scope.DatabaseRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -52,6 +56,7 @@ import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingDataNodeRuleAttribute;
+import org.apache.shardingsphere.sharding.rule.attribute.ShardingTableDistributionRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingTableNamesRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.checker.ShardingRuleChecker;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
@@ -73,9 +78,11 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -83,21 +90,30 @@ import java.util.stream.Collectors;
  * Sharding rule.
  */
 @Getter
-public final class ShardingRule implements DatabaseRule {
+public final class ShardingRule implements DatabaseRule, PartialRuleUpdateSupported<ShardingRuleConfiguration> {
     
-    private final ShardingRuleConfiguration configuration;
+    private final AtomicReference<ShardingRuleConfiguration> configuration = new AtomicReference<>();
     
     private final Collection<String> dataSourceNames;
     
-    private final Map<String, ShardingAlgorithm> shardingAlgorithms = new CaseInsensitiveMap<>();
+    private final AtomicReference<Map<String, ShardingAlgorithm>> shardingAlgorithms = new AtomicReference<>();
     
     private final Map<String, KeyGenerateAlgorithm> keyGenerators = new CaseInsensitiveMap<>();
     
     private final Map<String, ShardingAuditAlgorithm> auditors = new CaseInsensitiveMap<>();
     
-    private final Map<String, ShardingTable> shardingTables = new CaseInsensitiveMap<>();
+    private final AtomicReference<Map<String, ShardingTable>> shardingTables = new AtomicReference<>();
     
-    private final Map<String, BindingTableRule> bindingTableRules = new CaseInsensitiveMap<>();
+    private final AtomicReference<Map<String, BindingTableRule>> bindingTableRules = new AtomicReference<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<Map<String, Object>> tableRuleConfigs = new AtomicReference<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<Map<String, AlgorithmConfiguration>> shardingAlgorithmConfigs = new AtomicReference<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<Object> nonTableConfigItems;
     
     private final ShardingStrategyConfiguration defaultDatabaseShardingStrategyConfig;
     
@@ -111,19 +127,25 @@ public final class ShardingRule implements DatabaseRule {
     
     private final ShardingCache shardingCache;
     
-    private final RuleAttributes attributes;
+    private final AtomicReference<RuleAttributes> attributes = new AtomicReference<>();
     
     private final ShardingRuleChecker shardingRuleChecker = new ShardingRuleChecker(this);
     
     public ShardingRule(final ShardingRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources, final ComputeNodeInstanceContext computeNodeInstanceContext) {
-        configuration = ruleConfig;
+        configuration.set(ruleConfig);
         dataSourceNames = getDataSourceNames(ruleConfig.getTables(), ruleConfig.getAutoTables(), dataSources.keySet());
-        ruleConfig.getShardingAlgorithms().forEach((key, value) -> shardingAlgorithms.put(key, TypedSPILoader.getService(ShardingAlgorithm.class, value.getType(), value.getProps())));
+        Map<String, ShardingAlgorithm> allShardingAlgorithms = new CaseInsensitiveMap<>();
+        ruleConfig.getShardingAlgorithms().forEach((key, value) -> allShardingAlgorithms.put(key, TypedSPILoader.getService(ShardingAlgorithm.class, value.getType(), value.getProps())));
+        shardingAlgorithms.set(allShardingAlgorithms);
         ruleConfig.getKeyGenerators().forEach((key, value) -> keyGenerators.put(key, TypedSPILoader.getService(KeyGenerateAlgorithm.class, value.getType(), value.getProps())));
         ruleConfig.getAuditors().forEach((key, value) -> auditors.put(key, TypedSPILoader.getService(ShardingAuditAlgorithm.class, value.getType(), value.getProps())));
-        shardingTables.putAll(createShardingTables(ruleConfig.getTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
-        shardingTables.putAll(createShardingAutoTables(ruleConfig.getAutoTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
-        bindingTableRules.putAll(createBindingTableRules(ruleConfig.getBindingTableGroups()));
+        Map<String, ShardingTable> allShardingTables = new CaseInsensitiveMap<>(createShardingTables(ruleConfig.getTables(), ruleConfig.getDefaultKeyGenerateStrategy(), allShardingAlgorithms));
+        allShardingTables.putAll(createShardingAutoTables(ruleConfig.getAutoTables(), ruleConfig.getDefaultKeyGenerateStrategy(), allShardingAlgorithms));
+        shardingTables.set(allShardingTables);
+        bindingTableRules.set(createBindingTableRules(ruleConfig.getBindingTableGroups(), allShardingTables));
+        tableRuleConfigs.set(createTableRuleConfigurations(ruleConfig));
+        shardingAlgorithmConfigs.set(new LinkedHashMap<>(ruleConfig.getShardingAlgorithms()));
+        nonTableConfigItems = createNonTableConfigurationItems(ruleConfig);
         defaultDatabaseShardingStrategyConfig = createDefaultDatabaseShardingStrategyConfiguration(ruleConfig);
         defaultTableShardingStrategyConfig = createDefaultTableShardingStrategyConfiguration(ruleConfig);
         defaultAuditStrategy = null == ruleConfig.getDefaultAuditStrategy() ? new ShardingAuditStrategyConfiguration(Collections.emptyList(), true) : ruleConfig.getDefaultAuditStrategy();
@@ -137,17 +159,38 @@ public final class ShardingRule implements DatabaseRule {
             ((ComputeNodeInstanceContextAware) defaultKeyGenerateAlgorithm).setComputeNodeInstanceContext(computeNodeInstanceContext);
         }
         shardingCache = null == ruleConfig.getShardingCache() ? null : new ShardingCache(ruleConfig.getShardingCache(), this);
-        attributes = new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()));
+        attributes.set(createAttributes(allShardingTables));
         shardingRuleChecker.check(ruleConfig);
     }
     
+    private Map<String, Object> createTableRuleConfigurations(final ShardingRuleConfiguration ruleConfig) {
+        Map<String, Object> result = new CaseInsensitiveMap<>(ruleConfig.getTables().size() + ruleConfig.getAutoTables().size(), 1F);
+        ruleConfig.getTables().forEach(each -> result.putIfAbsent(each.getLogicTable(), each));
+        Map<String, Object> autoTableRuleConfigs = new CaseInsensitiveMap<>(ruleConfig.getAutoTables().size(), 1F);
+        ruleConfig.getAutoTables().forEach(each -> autoTableRuleConfigs.putIfAbsent(each.getLogicTable(), each));
+        result.putAll(autoTableRuleConfigs);
+        return result;
+    }
+    
+    private Collection<Object> createNonTableConfigurationItems(final ShardingRuleConfiguration ruleConfig) {
+        return Arrays.asList(ruleConfig.getDefaultDatabaseShardingStrategy(), ruleConfig.getDefaultTableShardingStrategy(), ruleConfig.getDefaultKeyGenerateStrategy(),
+                ruleConfig.getDefaultAuditStrategy(), ruleConfig.getDefaultShardingColumn(), new LinkedHashMap<>(ruleConfig.getKeyGenerators()), new LinkedHashMap<>(ruleConfig.getAuditors()),
+                ruleConfig.getShardingCache());
+    }
+    
+    private RuleAttributes createAttributes(final Map<String, ShardingTable> shardingTables) {
+        return new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()), new ShardingTableDistributionRuleAttribute(this));
+    }
+    
     private ShardingStrategyConfiguration createDefaultDatabaseShardingStrategyConfiguration(final ShardingRuleConfiguration ruleConfig) {
-        Optional.ofNullable(ruleConfig.getDefaultDatabaseShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), "default"));
+        Optional.ofNullable(ruleConfig.getDefaultDatabaseShardingStrategy())
+                .ifPresent(optional -> checkManualShardingAlgorithm(shardingAlgorithms.get().get(optional.getShardingAlgorithmName()), "default"));
         return null == ruleConfig.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : ruleConfig.getDefaultDatabaseShardingStrategy();
     }
     
     private ShardingStrategyConfiguration createDefaultTableShardingStrategyConfiguration(final ShardingRuleConfiguration ruleConfig) {
-        Optional.ofNullable(ruleConfig.getDefaultTableShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), "default"));
+        Optional.ofNullable(ruleConfig.getDefaultTableShardingStrategy())
+                .ifPresent(optional -> checkManualShardingAlgorithm(shardingAlgorithms.get().get(optional.getShardingAlgorithmName()), "default"));
         return null == ruleConfig.getDefaultTableShardingStrategy() ? new NoneShardingStrategyConfiguration() : ruleConfig.getDefaultTableShardingStrategy();
     }
     
@@ -176,37 +219,39 @@ public final class ShardingRule implements DatabaseRule {
     }
     
     private Map<String, ShardingTable> createShardingTables(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs,
-                                                            final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig) {
-        return tableRuleConfigs.stream().map(each -> createShardingTable(each, defaultKeyGenerateStrategyConfig))
+                                                            final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig, final Map<String, ShardingAlgorithm> shardingAlgorithms) {
+        return tableRuleConfigs.stream().map(each -> createShardingTable(each, defaultKeyGenerateStrategyConfig, shardingAlgorithms))
                 .collect(Collectors.toMap(ShardingTable::getLogicTable, Function.identity(), (oldValue, currentValue) -> oldValue, CaseInsensitiveMap::new));
     }
     
-    private ShardingTable createShardingTable(final ShardingTableRuleConfiguration tableRuleConfig, final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig) {
-        Optional.ofNullable(tableRuleConfig.getDatabaseShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), tableRuleConfig.getLogicTable()));
-        Optional.ofNullable(tableRuleConfig.getTableShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), tableRuleConfig.getLogicTable()));
+    private ShardingTable createShardingTable(final ShardingTableRuleConfiguration tableRuleConfig, final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig,
+                                              final Map<String, ShardingAlgorithm> shardingAlgorithms) {
+        Optional.ofNullable(tableRuleConfig.getDatabaseShardingStrategy())
+                .ifPresent(optional -> checkManualShardingAlgorithm(shardingAlgorithms.get(optional.getShardingAlgorithmName()), tableRuleConfig.getLogicTable()));
+        Optional.ofNullable(tableRuleConfig.getTableShardingStrategy())
+                .ifPresent(optional -> checkManualShardingAlgorithm(shardingAlgorithms.get(optional.getShardingAlgorithmName()), tableRuleConfig.getLogicTable()));
         return new ShardingTable(tableRuleConfig, dataSourceNames, getDefaultGenerateKeyColumn(defaultKeyGenerateStrategyConfig));
     }
     
-    private void checkManualShardingAlgorithm(final String shardingAlgorithmName, final String logicTable) {
-        ShardingAlgorithm shardingAlgorithm = shardingAlgorithms.get(shardingAlgorithmName);
+    private void checkManualShardingAlgorithm(final ShardingAlgorithm shardingAlgorithm, final String logicTable) {
         ShardingSpherePreconditions.checkState(!(shardingAlgorithm instanceof ShardingAutoTableAlgorithm),
                 () -> new AlgorithmInitializationException(shardingAlgorithm, "`%s` tables sharding configuration can not use auto sharding algorithm.", logicTable));
     }
     
     private Map<String, ShardingTable> createShardingAutoTables(final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs,
-                                                                final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig) {
-        return autoTableRuleConfigs.stream().map(each -> createShardingAutoTable(defaultKeyGenerateStrategyConfig, each))
+                                                                final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig, final Map<String, ShardingAlgorithm> shardingAlgorithms) {
+        return autoTableRuleConfigs.stream().map(each -> createShardingAutoTable(defaultKeyGenerateStrategyConfig, each, shardingAlgorithms))
                 .collect(Collectors.toMap(ShardingTable::getLogicTable, Function.identity(), (oldValue, currentValue) -> oldValue, CaseInsensitiveMap::new));
     }
     
-    private ShardingTable createShardingAutoTable(final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig, final ShardingAutoTableRuleConfiguration autoTableRuleConfig) {
-        checkAutoShardingAlgorithm(autoTableRuleConfig.getShardingStrategy().getShardingAlgorithmName(), autoTableRuleConfig.getLogicTable());
+    private ShardingTable createShardingAutoTable(final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig, final ShardingAutoTableRuleConfiguration autoTableRuleConfig,
+                                                  final Map<String, ShardingAlgorithm> shardingAlgorithms) {
         ShardingAlgorithm shardingAlgorithm = shardingAlgorithms.get(autoTableRuleConfig.getShardingStrategy().getShardingAlgorithmName());
+        checkAutoShardingAlgorithm(shardingAlgorithm, autoTableRuleConfig.getLogicTable());
         return new ShardingTable(autoTableRuleConfig, dataSourceNames, (ShardingAutoTableAlgorithm) shardingAlgorithm, getDefaultGenerateKeyColumn(defaultKeyGenerateStrategyConfig));
     }
     
-    private void checkAutoShardingAlgorithm(final String shardingAlgorithmName, final String logicTable) {
-        ShardingAlgorithm shardingAlgorithm = shardingAlgorithms.get(shardingAlgorithmName);
+    private void checkAutoShardingAlgorithm(final ShardingAlgorithm shardingAlgorithm, final String logicTable) {
         ShardingSpherePreconditions.checkState(shardingAlgorithm instanceof ShardingAutoTableAlgorithm,
                 () -> new AlgorithmInitializationException(shardingAlgorithm, "`%s` autoTables sharding configuration must use auto sharding algorithm.", logicTable));
     }
@@ -215,10 +260,10 @@ public final class ShardingRule implements DatabaseRule {
         return Optional.ofNullable(defaultKeyGenerateStrategyConfig).map(KeyGenerateStrategyConfiguration::getColumn).orElse(null);
     }
     
-    private Map<String, BindingTableRule> createBindingTableRules(final Collection<ShardingTableReferenceRuleConfiguration> bindingTableGroups) {
-        Map<String, BindingTableRule> result = new LinkedHashMap<>();
+    private Map<String, BindingTableRule> createBindingTableRules(final Collection<ShardingTableReferenceRuleConfiguration> bindingTableGroups, final Map<String, ShardingTable> shardingTables) {
+        Map<String, BindingTableRule> result = new CaseInsensitiveMap<>();
         for (ShardingTableReferenceRuleConfiguration each : bindingTableGroups) {
-            BindingTableRule bindingTableRule = createBindingTableRule(each.getReference());
+            BindingTableRule bindingTableRule = createBindingTableRule(each.getReference(), shardingTables);
             for (String logicTable : bindingTableRule.getAllLogicTables()) {
                 result.put(logicTable, bindingTableRule);
             }
@@ -226,11 +271,18 @@ public final class ShardingRule implements DatabaseRule {
         return result;
     }
     
-    private BindingTableRule createBindingTableRule(final String bindingTableGroup) {
-        Map<String, ShardingTable> shardingTables = Splitter.on(",").trimResults().splitToList(bindingTableGroup).stream()
-                .map(this::getShardingTable).collect(Collectors.toMap(ShardingTable::getLogicTable, Function.identity(), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+    private BindingTableRule createBindingTableRule(final String bindingTableGroup, final Map<String, ShardingTable> shardingTables) {
+        Map<String, ShardingTable> bindingShardingTables = Splitter.on(",").trimResults().splitToList(bindingTableGroup).stream()
+                .map(each -> getBindingShardingTable(each, shardingTables))
+                .collect(Collectors.toMap(ShardingTable::getLogicTable, Function.identity(), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
         BindingTableRule result = new BindingTableRule();
-        result.getShardingTables().putAll(shardingTables);
+        result.getShardingTables().putAll(bindingShardingTables);
+        return result;
+    }
+    
+    private ShardingTable getBindingShardingTable(final String logicTableName, final Map<String, ShardingTable> shardingTables) {
+        ShardingTable result = Strings.isNullOrEmpty(logicTableName) ? null : shardingTables.get(logicTableName);
+        ShardingSpherePreconditions.checkNotNull(result, () -> new ShardingTableRuleNotFoundException(Collections.singleton(logicTableName)));
         return result;
     }
     
@@ -279,10 +331,10 @@ public final class ShardingRule implements DatabaseRule {
      * @return sharding table
      */
     public Optional<ShardingTable> findShardingTable(final String logicTableName) {
-        if (Strings.isNullOrEmpty(logicTableName) || !shardingTables.containsKey(logicTableName)) {
+        if (Strings.isNullOrEmpty(logicTableName) || !shardingTables.get().containsKey(logicTableName)) {
             return Optional.empty();
         }
-        return Optional.of(shardingTables.get(logicTableName));
+        return Optional.of(shardingTables.get().get(logicTableName));
     }
     
     /**
@@ -292,7 +344,7 @@ public final class ShardingRule implements DatabaseRule {
      * @return sharding table
      */
     public Optional<ShardingTable> findShardingTableByActualTable(final String actualTableName) {
-        for (ShardingTable each : shardingTables.values()) {
+        for (ShardingTable each : shardingTables.get().values()) {
             if (each.isExisted(actualTableName)) {
                 return Optional.of(each);
             }
@@ -369,7 +421,7 @@ public final class ShardingRule implements DatabaseRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        return Optional.ofNullable(bindingTableRules.get(logicTableName));
+        return Optional.ofNullable(bindingTableRules.get().get(logicTableName));
     }
     
     /**
@@ -397,7 +449,7 @@ public final class ShardingRule implements DatabaseRule {
      * @return whether logic table is sharding table or not
      */
     public boolean isShardingTable(final String logicTableName) {
-        return shardingTables.containsKey(logicTableName);
+        return shardingTables.get().containsKey(logicTableName);
     }
     
     /**
@@ -407,7 +459,7 @@ public final class ShardingRule implements DatabaseRule {
      * @return whether all tables are in same data source or not
      */
     public boolean isAllTablesInSameDataSource(final Collection<String> logicTableNames) {
-        Collection<String> dataSourceNames = logicTableNames.stream().map(shardingTables::get)
+        Collection<String> dataSourceNames = logicTableNames.stream().map(shardingTables.get()::get)
                 .filter(Objects::nonNull).flatMap(each -> each.getActualDataSourceNames().stream()).collect(Collectors.toSet());
         return 1 == dataSourceNames.size();
     }
@@ -435,7 +487,7 @@ public final class ShardingRule implements DatabaseRule {
      * @return sharding column
      */
     public Optional<String> findShardingColumn(final String columnName, final String tableName) {
-        return Optional.ofNullable(shardingTables.get(tableName)).flatMap(optional -> findShardingColumn(optional, columnName));
+        return Optional.ofNullable(shardingTables.get().get(tableName)).flatMap(optional -> findShardingColumn(optional, columnName));
     }
     
     private Optional<String> findShardingColumn(final ShardingTable shardingTable, final String columnName) {
@@ -472,7 +524,7 @@ public final class ShardingRule implements DatabaseRule {
      * @return whether given logic table column is key generated column or not
      */
     public boolean isGenerateKeyColumn(final String columnName, final String tableName) {
-        return Optional.ofNullable(shardingTables.get(tableName)).filter(each -> isGenerateKeyColumn(each, columnName)).isPresent();
+        return Optional.ofNullable(shardingTables.get().get(tableName)).filter(each -> isGenerateKeyColumn(each, columnName)).isPresent();
     }
     
     private boolean isGenerateKeyColumn(final ShardingTable shardingTable, final String columnName) {
@@ -487,7 +539,7 @@ public final class ShardingRule implements DatabaseRule {
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        return Optional.ofNullable(shardingTables.get(logicTableName)).filter(each -> each.getGenerateKeyColumn().isPresent()).flatMap(ShardingTable::getGenerateKeyColumn);
+        return Optional.ofNullable(shardingTables.get().get(logicTableName)).filter(each -> each.getGenerateKeyColumn().isPresent()).flatMap(ShardingTable::getGenerateKeyColumn);
     }
     
     /**
@@ -637,6 +689,148 @@ public final class ShardingRule implements DatabaseRule {
         return binaryExpression.getLeft() instanceof ColumnSegment && binaryExpression.getRight() instanceof ColumnSegment && "=".equals(binaryExpression.getOperator());
     }
     
+    @Override
+    public ShardingRuleConfiguration getConfiguration() {
+        return configuration.get();
+    }
+    
+    /**
+     * Get sharding algorithms.
+     *
+     * @return sharding algorithms
+     */
+    public Map<String, ShardingAlgorithm> getShardingAlgorithms() {
+        return shardingAlgorithms.get();
+    }
+    
+    /**
+     * Get sharding tables.
+     *
+     * @return sharding tables
+     */
+    public Map<String, ShardingTable> getShardingTables() {
+        return shardingTables.get();
+    }
+    
+    /**
+     * Get binding table rules.
+     *
+     * @return binding table rules
+     */
+    public Map<String, BindingTableRule> getBindingTableRules() {
+        return bindingTableRules.get();
+    }
+    
+    @Override
+    public RuleAttributes getAttributes() {
+        return attributes.get();
+    }
+    
+    @Override
+    public void updateConfiguration(final ShardingRuleConfiguration toBeUpdatedRuleConfig) {
+        configuration.set(toBeUpdatedRuleConfig);
+    }
+    
+    @Override
+    public boolean partialUpdate(final ShardingRuleConfiguration toBeUpdatedRuleConfig) {
+        if (null != shardingCache || !nonTableConfigItems.equals(createNonTableConfigurationItems(toBeUpdatedRuleConfig)) || !isDataSourceNamesDerivedFromTables(toBeUpdatedRuleConfig)
+                || isShardingAlgorithmAltered(toBeUpdatedRuleConfig.getShardingAlgorithms())) {
+            return false;
+        }
+        Map<String, Object> toBeUpdatedTableRuleConfigs = createTableRuleConfigurations(toBeUpdatedRuleConfig);
+        if (!tableRuleConfigs.get().keySet().equals(toBeUpdatedTableRuleConfigs.keySet())) {
+            return false;
+        }
+        Collection<String> toBeAddedShardingAlgorithmNames = new CaseInsensitiveSet<>();
+        Map<String, ShardingAlgorithm> toBeUpdatedShardingAlgorithms = new CaseInsensitiveMap<>(toBeUpdatedRuleConfig.getShardingAlgorithms().size(), 1F);
+        for (Entry<String, AlgorithmConfiguration> entry : toBeUpdatedRuleConfig.getShardingAlgorithms().entrySet()) {
+            ShardingAlgorithm shardingAlgorithm = shardingAlgorithms.get().get(entry.getKey());
+            if (null == shardingAlgorithm) {
+                shardingAlgorithm = TypedSPILoader.getService(ShardingAlgorithm.class, entry.getValue().getType(), entry.getValue().getProps());
+                toBeAddedShardingAlgorithmNames.add(entry.getKey());
+            }
+            toBeUpdatedShardingAlgorithms.put(entry.getKey(), shardingAlgorithm);
+        }
+        Map<String, ShardingTable> toBeUpdatedShardingTables = new CaseInsensitiveMap<>(toBeUpdatedTableRuleConfigs.size(), 1F);
+        Collection<ShardingTable> toBeAddedShardingTables = new LinkedList<>();
+        for (Entry<String, Object> entry : toBeUpdatedTableRuleConfigs.entrySet()) {
+            if (entry.getValue() == tableRuleConfigs.get().get(entry.getKey())) {
+                toBeUpdatedShardingTables.put(entry.getKey(), shardingTables.get().get(entry.getKey()));
+                continue;
+            }
+            if (!dataSourceNames.containsAll(getConfiguredDataSourceNames(entry.getValue()))) {
+                return false;
+            }
+            ShardingTable shardingTable = createShardingTableByRuleConfiguration(entry.getValue(), toBeUpdatedRuleConfig.getDefaultKeyGenerateStrategy(), toBeUpdatedShardingAlgorithms);
+            toBeUpdatedShardingTables.put(entry.getKey(), shardingTable);
+            toBeAddedShardingTables.add(shardingTable);
+        }
+        if (!isAllDataSourceNamesRetained(toBeUpdatedTableRuleConfigs, toBeUpdatedShardingTables)) {
+            return false;
+        }
+        Collection<ShardingTable> toBeCheckedShardingTables = new LinkedHashSet<>(toBeAddedShardingTables);
+        toBeUpdatedShardingTables.values().stream().filter(each -> isShardingAlgorithmReferenced(each, toBeAddedShardingAlgorithmNames)).forEach(toBeCheckedShardingTables::add);
+        shardingRuleChecker.check(toBeUpdatedRuleConfig, toBeUpdatedShardingAlgorithms, toBeUpdatedShardingTables, toBeCheckedShardingTables);
+        Map<String, BindingTableRule> toBeUpdatedBindingTableRules = createBindingTableRules(toBeUpdatedRuleConfig.getBindingTableGroups(), toBeUpdatedShardingTables);
+        shardingAlgorithms.set(toBeUpdatedShardingAlgorithms);
+        shardingTables.set(toBeUpdatedShardingTables);
+        bindingTableRules.set(toBeUpdatedBindingTableRules);
+        tableRuleConfigs.set(toBeUpdatedTableRuleConfigs);
+        attributes.set(createAttributes(toBeUpdatedShardingTables));
+        shardingAlgorithmConfigs.set(new LinkedHashMap<>(toBeUpdatedRuleConfig.getShardingAlgorithms()));
+        return true;
+    }
+    
+    private boolean isShardingAlgorithmAltered(final Map<String, AlgorithmConfiguration> toBeUpdatedShardingAlgorithmConfigs) {
+        for (Entry<String, AlgorithmConfiguration> entry : shardingAlgorithmConfigs.get().entrySet()) {
+            if (toBeUpdatedShardingAlgorithmConfigs.containsKey(entry.getKey()) && !entry.getValue().equals(toBeUpdatedShardingAlgorithmConfigs.get(entry.getKey()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isShardingAlgorithmReferenced(final ShardingTable shardingTable, final Collection<String> shardingAlgorithmNames) {
+        if (shardingAlgorithmNames.isEmpty()) {
+            return false;
+        }
+        String databaseShardingAlgorithmName = getDatabaseShardingStrategyConfiguration(shardingTable).getShardingAlgorithmName();
+        String tableShardingAlgorithmName = getTableShardingStrategyConfiguration(shardingTable).getShardingAlgorithmName();
+        return null != databaseShardingAlgorithmName && shardingAlgorithmNames.contains(databaseShardingAlgorithmName)
+                || null != tableShardingAlgorithmName && shardingAlgorithmNames.contains(tableShardingAlgorithmName);
+    }
+    
+    private boolean isDataSourceNamesDerivedFromTables(final ShardingRuleConfiguration ruleConfig) {
+        return !tableRuleConfigs.get().isEmpty() && (!ruleConfig.getTables().isEmpty() || !ruleConfig.getAutoTables().isEmpty())
+                && ruleConfig.getTables().stream().map(ShardingTableRuleConfiguration::getActualDataNodes).noneMatch(Strings::isNullOrEmpty);
+    }
+    
+    private Collection<String> getConfiguredDataSourceNames(final Object tableRuleConfig) {
+        return tableRuleConfig instanceof ShardingTableRuleConfiguration
+                ? getDataSourceNames((ShardingTableRuleConfiguration) tableRuleConfig)
+                : getDataSourceNames((ShardingAutoTableRuleConfiguration) tableRuleConfig);
+    }
+    
+    private ShardingTable createShardingTableByRuleConfiguration(final Object tableRuleConfig, final KeyGenerateStrategyConfiguration defaultKeyGenerateStrategyConfig,
+                                                                 final Map<String, ShardingAlgorithm> shardingAlgorithms) {
+        return tableRuleConfig instanceof ShardingTableRuleConfiguration
+                ? createShardingTable((ShardingTableRuleConfiguration) tableRuleConfig, defaultKeyGenerateStrategyConfig, shardingAlgorithms)
+                : createShardingAutoTable(defaultKeyGenerateStrategyConfig, (ShardingAutoTableRuleConfiguration) tableRuleConfig, shardingAlgorithms);
+    }
+    
+    private boolean isAllDataSourceNamesRetained(final Map<String, Object> toBeUpdatedTableRuleConfigs, final Map<String, ShardingTable> toBeUpdatedShardingTables) {
+        Collection<String> toBeCheckedDataSourceNames = new HashSet<>();
+        for (Entry<String, Object> entry : tableRuleConfigs.get().entrySet()) {
+            if (entry.getValue() != toBeUpdatedTableRuleConfigs.get(entry.getKey())) {
+                toBeCheckedDataSourceNames.addAll(getConfiguredDataSourceNames(entry.getValue()));
+            }
+        }
+        for (ShardingTable each : toBeUpdatedShardingTables.values()) {
+            toBeCheckedDataSourceNames.removeAll(each.getActualDataSourceNames());
+        }
+        return toBeCheckedDataSourceNames.isEmpty();
+    }
+    
     @Override
     public int getOrder() {
         return ShardingOrder.ORDER;
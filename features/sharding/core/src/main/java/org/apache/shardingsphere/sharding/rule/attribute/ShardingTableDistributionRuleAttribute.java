@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule.attribute;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import com.google.common.base.Splitter;
+import org.apache.shardingsphere.infra.rule.attribute.distribution.TableDistribution;
+import org.apache.shardingsphere.infra.rule.attribute.distribution.TableDistributionRuleAttribute;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.BindingTableRule;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sharding table distribution rule attribute.
+ */
+public final class ShardingTableDistributionRuleAttribute implements TableDistributionRuleAttribute {
+    
+    private final Map<String, TableDistribution> tableDistributions;
+    
+    public ShardingTableDistributionRuleAttribute(final ShardingRule rule) {
+        tableDistributions = createTableDistributions(rule);
+    }
+    
+    private Map<String, TableDistribution> createTableDistributions(final ShardingRule rule) {
+        Map<String, TableDistribution> result = new CaseInsensitiveMap<>(rule.getShardingTables().size(), 1F);
+        for (ShardingTable each : rule.getShardingTables().values()) {
+            createTableDistribution(rule, each).ifPresent(optional -> result.put(each.getLogicTable(), optional));
+        }
+        return result;
+    }
+    
+    private Optional<TableDistribution> createTableDistribution(final ShardingRule rule, final ShardingTable shardingTable) {
+        ShardingStrategyConfiguration databaseStrategyConfig = rule.getDatabaseShardingStrategyConfiguration(shardingTable);
+        ShardingStrategyConfiguration tableStrategyConfig = rule.getTableShardingStrategyConfiguration(shardingTable);
+        if (databaseStrategyConfig instanceof HintShardingStrategyConfiguration || tableStrategyConfig instanceof HintShardingStrategyConfiguration) {
+            return Optional.empty();
+        }
+        List<String> distributionColumns = new ArrayList<>(2);
+        addShardingColumns(databaseStrategyConfig, rule.getDefaultShardingColumn(), distributionColumns);
+        addShardingColumns(tableStrategyConfig, rule.getDefaultShardingColumn(), distributionColumns);
+        if (distributionColumns.isEmpty()) {
+            return Optional.empty();
+        }
+        BindingTableRule bindingTableRule = rule.getBindingTableRules().get(shardingTable.getLogicTable());
+        String colocationGroup = null == bindingTableRule ? shardingTable.getLogicTable() : String.join(",", bindingTableRule.getAllLogicTables());
+        return Optional.of(TableDistribution.hash(colocationGroup.toLowerCase(), distributionColumns));
+    }
+    
+    private void addShardingColumns(final ShardingStrategyConfiguration shardingStrategyConfig, final String defaultShardingColumn, final List<String> distributionColumns) {
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
+            String shardingColumn = ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+            addShardingColumn(null == shardingColumn ? defaultShardingColumn : shardingColumn, distributionColumns);
+        } else if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            for (String each : Splitter.on(",").trimResults().omitEmptyStrings().split(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns())) {
+                addShardingColumn(each, distributionColumns);
+            }
+        }
+    }
+    
+    private void addShardingColumn(final String shardingColumn, final List<String> distributionColumns) {
+        if (null == shardingColumn || distributionColumns.stream().anyMatch(shardingColumn::equalsIgnoreCase)) {
+            return;
+        }
+        distributionColumns.add(shardingColumn);
+    }
+    
+    @Override
+    public Optional<TableDistribution> findTableDistribution(final String logicTableName) {
+        return Optional.ofNullable(tableDistributions.get(logicTableName));
+    }
+}
@@ -57,14 +57,27 @@ public class ShardingRuleChecker {
      * @param ruleConfig sharding rule configuration
      */
     public void check(final ShardingRuleConfiguration ruleConfig) {
-        checkUniqueActualDataNodesInTableRules();
-        checkBindingTableConfiguration(ruleConfig);
-        checkInlineShardingAlgorithmsInTableRules();
+        check(ruleConfig, shardingRule.getShardingAlgorithms(), shardingRule.getShardingTables(), shardingRule.getShardingTables().values());
     }
     
-    private void checkUniqueActualDataNodesInTableRules() {
-        Collection<DataNode> uniqueActualDataNodes = new HashSet<>(shardingRule.getShardingTables().size(), 1F);
-        shardingRule.getShardingTables().forEach((key, value) -> checkUniqueActualDataNodes(uniqueActualDataNodes, key, value.getActualDataNodes().iterator().next()));
+    /**
+     * Check sharding rule with to be updated sharding tables.
+     *
+     * @param ruleConfig sharding rule configuration
+     * @param shardingAlgorithms to be updated sharding algorithms
+     * @param shardingTables to be updated sharding tables
+     * @param toBeAddedShardingTables to be added sharding tables
+     */
+    public void check(final ShardingRuleConfiguration ruleConfig, final Map<String, ShardingAlgorithm> shardingAlgorithms, final Map<String, ShardingTable> shardingTables,
+                      final Collection<ShardingTable> toBeAddedShardingTables) {
+        checkUniqueActualDataNodesInTableRules(shardingTables);
+        checkBindingTableConfiguration(ruleConfig, shardingAlgorithms, shardingTables);
+        checkInlineShardingAlgorithmsInTableRules(shardingAlgorithms, toBeAddedShardingTables);
+    }
+    
+    private void checkUniqueActualDataNodesInTableRules(final Map<String, ShardingTable> shardingTables) {
+        Collection<DataNode> uniqueActualDataNodes = new HashSet<>(shardingTables.size(), 1F);
+        shardingTables.forEach((key, value) -> checkUniqueActualDataNodes(uniqueActualDataNodes, key, value.getActualDataNodes().iterator().next()));
     }
     
     private void checkUniqueActualDataNodes(final Collection<DataNode> uniqueActualDataNodes, final String logicTable, final DataNode sampleActualDataNode) {
@@ -73,10 +86,10 @@ public class ShardingRuleChecker {
         uniqueActualDataNodes.add(sampleActualDataNode);
     }
     
-    private void checkBindingTableConfiguration(final ShardingRuleConfiguration ruleConfig) {
+    private void checkBindingTableConfiguration(final ShardingRuleConfiguration ruleConfig, final Map<String, ShardingAlgorithm> shardingAlgorithms, final Map<String, ShardingTable> shardingTables) {
         ShardingSpherePreconditions.checkState(
-                isValidBindingTableConfiguration(shardingRule.getShardingTables(),
-                        new BindingTableCheckedConfiguration(shardingRule.getDataSourceNames(), shardingRule.getShardingAlgorithms(), ruleConfig.getBindingTableGroups(),
+                isValidBindingTableConfiguration(shardingTables,
+                        new BindingTableCheckedConfiguration(shardingRule.getDataSourceNames(), shardingAlgorithms, ruleConfig.getBindingTableGroups(),
                                 shardingRule.getDefaultDatabaseShardingStrategyConfig(), shardingRule.getDefaultTableShardingStrategyConfig(), shardingRule.getDefaultShardingColumn())),
                 InvalidBindingTablesException::new);
     }
@@ -151,18 +164,19 @@ public class ShardingRuleChecker {
         return null == shardingColumn ? "" : shardingColumn;
     }
     
-    private void checkInlineShardingAlgorithmsInTableRules() {
-        shardingRule.getShardingTables().forEach((key, value) -> {
-            validateInlineShardingAlgorithm(value, shardingRule.getTableShardingStrategyConfiguration(value), value.getTableDataNode());
-            validateInlineShardingAlgorithm(value, shardingRule.getDatabaseShardingStrategyConfiguration(value), value.getDataSourceDataNode());
+    private void checkInlineShardingAlgorithmsInTableRules(final Map<String, ShardingAlgorithm> shardingAlgorithms, final Collection<ShardingTable> shardingTables) {
+        shardingTables.forEach(each -> {
+            validateInlineShardingAlgorithm(shardingAlgorithms, each, shardingRule.getTableShardingStrategyConfiguration(each), each.getTableDataNode());
+            validateInlineShardingAlgorithm(shardingAlgorithms, each, shardingRule.getDatabaseShardingStrategyConfiguration(each), each.getDataSourceDataNode());
         });
     }
     
-    private void validateInlineShardingAlgorithm(final ShardingTable shardingTable, final ShardingStrategyConfiguration shardingStrategy, final DataNodeInfo dataNodeInfo) {
+    private void validateInlineShardingAlgorithm(final Map<String, ShardingAlgorithm> shardingAlgorithms, final ShardingTable shardingTable, final ShardingStrategyConfiguration shardingStrategy,
+                                                 final DataNodeInfo dataNodeInfo) {
         if (null == shardingStrategy) {
             return;
         }
-        ShardingAlgorithm shardingAlgorithm = shardingRule.getShardingAlgorithms().get(shardingStrategy.getShardingAlgorithmName());
+        ShardingAlgorithm shardingAlgorithm = shardingAlgorithms.get(shardingStrategy.getShardingAlgorithmName());
         if (shardingAlgorithm instanceof InlineShardingAlgorithm) {
             String shardingColumn = null == ((StandardShardingStrategyConfiguration) shardingStrategy).getShardingColumn() ? shardingRule.getDefaultShardingColumn()
                     : ((StandardShardingStrategyConfiguration) shardingStrategy).getShardingColumn();
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TargetNameIndexCacheTest {
+    
+    private final TargetNameIndexCache<Integer> cache = new TargetNameIndexCache<>();
+    
+    private final AtomicInteger buildTimes = new AtomicInteger();
+    
+    @Test
+    void assertGetWithSameTargetNames() {
+        Collection<String> availableTargetNames = createAvailableTargetNames();
+        Object indexKey = new Object();
+        assertThat(cache.get(availableTargetNames, indexKey, this::buildIndex), is(2));
+        assertThat(cache.get(availableTargetNames, indexKey, this::buildIndex), is(2));
+        assertThat(buildTimes.get(), is(1));
+    }
+    
+    @Test
+    void assertGetWithChangedTargetNames() {
+        Collection<String> availableTargetNames = createAvailableTargetNames();
+        assertThat(cache.get(availableTargetNames, null, this::buildIndex), is(2));
+        availableTargetNames.add("t_order_2");
+        assertThat(cache.get(availableTargetNames, null, this::buildIndex), is(3));
+        assertThat(buildTimes.get(), is(2));
+    }
+    
+    @Test
+    void assertGetWithDifferentTargetNamesOrIndexKey() {
+        assertThat(cache.get(createAvailableTargetNames(), null, this::buildIndex), is(2));
+        Collection<String> availableTargetNames = createAvailableTargetNames();
+        assertThat(cache.get(availableTargetNames, null, this::buildIndex), is(2));
+        assertThat(cache.get(availableTargetNames, new Object(), this::buildIndex), is(2));
+        assertThat(buildTimes.get(), is(3));
+    }
+    
+    private Collection<String> createAvailableTargetNames() {
+        Collection<String> result = new LinkedList<>();
+        result.add("t_order_0");
+        result.add("t_order_1");
+        return result;
+    }
+    
+    private Integer buildIndex(final Collection<String> availableTargetNames) {
+        buildTimes.incrementAndGet();
+        return availableTargetNames.size();
+    }
+}
@@ -45,6 +45,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.Properties;
@@ -53,6 +54,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IntervalShardingAlgorithmTest {
     
@@ -334,6 +336,14 @@ class IntervalShardingAlgorithmTest {
         return (IntervalShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INTERVAL", props);
     }
     
+    @Test
+    void assertRangeDoShardingByMonthAfterAvailableTargetNamesChanged() {
+        assertTrue(shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources, createShardingValue("2021-01-01 00:00:00", "2021-01-31 00:00:00")).isEmpty());
+        availableTablesForMonthDataSources.add("t_order_202101");
+        Collection<String> actual = shardingAlgorithmByMonth.doSharding(availableTablesForMonthDataSources, createShardingValue("2021-01-01 00:00:00", "2021-01-31 00:00:00"));
+        assertThat(actual, is(Collections.singleton("t_order_202101")));
+    }
+    
     private RangeShardingValue<Comparable<?>> createShardingValue(final Comparable<?> lower, final Comparable<?> upper) {
         return new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed(lower, upper));
     }
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.hash;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConsistentHashShardingAlgorithmTest {
+    
+    private static final DataNodeInfo DATA_NODE_INFO = new DataNodeInfo("t_order_", 1, '0');
+    
+    private ConsistentHashShardingAlgorithm shardingAlgorithm;
+    
+    @BeforeEach
+    void setup() {
+        shardingAlgorithm = createShardingAlgorithm(4);
+    }
+    
+    private ConsistentHashShardingAlgorithm createShardingAlgorithm(final int shardingCount) {
+        return (ConsistentHashShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "CONSISTENT_HASH",
+                PropertiesBuilder.build(new Property("sharding-count", String.valueOf(shardingCount))));
+    }
+    
+    @Test
+    void assertPreciseDoSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        String actual = shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 1L));
+        assertThat(actual, is(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 1L))));
+        assertThat(availableTargetNames.contains(actual), is(true));
+    }
+    
+    @Test
+    void assertBatchDoSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<Comparable<?>> values = Arrays.asList("a", "b", "c", "a");
+        String[] actual = shardingAlgorithm.doSharding(availableTargetNames, new BatchShardingValue<>("t_order", "order_type", DATA_NODE_INFO, values));
+        assertThat(actual.length, is(4));
+        for (int i = 0; i < actual.length; i++) {
+            assertThat(actual[i], is(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_type", DATA_NODE_INFO, values.get(i)))));
+        }
+    }
+    
+    @Test
+    void assertRangeDoSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closed("a", "f")));
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    void assertDoShardingWhenShardingCountIncreased() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        List<String> increasedAvailableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3", "t_order_4");
+        ConsistentHashShardingAlgorithm increasedShardingAlgorithm = createShardingAlgorithm(5);
+        int movedCount = 0;
+        for (long i = 0L; i < 10000L; i++) {
+            String expected = shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, i));
+            String actual = increasedShardingAlgorithm.doSharding(increasedAvailableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, i));
+            if (!expected.equals(actual)) {
+                assertThat(actual, is("t_order_4"));
+                movedCount++;
+            }
+        }
+        assertThat(movedCount, lessThan(2500));
+    }
+    
+    @Test
+    void assertInitWithWrongArgumentForShardingCount() {
+        Properties props = PropertiesBuilder.build(new Property("sharding-count", "0"));
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(ShardingAlgorithm.class, "CONSISTENT_HASH", props));
+    }
+}
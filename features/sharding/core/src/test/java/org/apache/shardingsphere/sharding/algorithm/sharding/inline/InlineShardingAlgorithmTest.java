@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitial
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.exception.algorithm.MismatchedInlineShardingAlgorithmExpressionAndColumnException;
@@ -80,6 +81,15 @@ class InlineShardingAlgorithmTest {
                 () -> shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "non_existent_column1", DATA_NODE_INFO, 0)));
     }
     
+    @Test
+    void assertBatchDoSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        String[] actual = shardingAlgorithm.doSharding(availableTargetNames, new BatchShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Arrays.asList(0, 5, 0, 787694822390497280L)));
+        assertThat(actual, is(new String[]{"t_order_0", "t_order_1", "t_order_0", "t_order_0"}));
+        assertThrows(MismatchedInlineShardingAlgorithmExpressionAndColumnException.class,
+                () -> shardingAlgorithm.doSharding(availableTargetNames, new BatchShardingValue<>("t_order", "non_existent_column1", DATA_NODE_INFO, Arrays.asList(0, 1))));
+    }
+    
     @Test
     void assertDoShardingWithNonExistNodes() {
         List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1");
@@ -21,6 +21,7 @@ import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.exception.data.ShardingValueOffsetException;
@@ -54,6 +55,14 @@ class ModShardingAlgorithmTest {
         assertThat(algorithm.doSharding(createAvailableTargetNames(), new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, "12345678910111213141516")), is("t_order_12"));
     }
     
+    @Test
+    void assertBatchDoSharding() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(new Property("sharding-count", "16")));
+        String[] actual = algorithm.doSharding(createAvailableTargetNames(),
+                new BatchShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Arrays.asList(17, "12345678910111213141516", 16L, -1, 20)));
+        assertThat(actual, is(new String[]{"t_order_1", "t_order_12", "t_order_0", "t_order_15", "t_order_4"}));
+    }
+    
     @Test
     void assertPreciseDoShardingWhenOffsetOverload() {
         ModShardingAlgorithm algorithm = (ModShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "MOD", PropertiesBuilder.build(
@@ -21,6 +21,7 @@ import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
@@ -75,6 +76,13 @@ class VolumeBasedRangeShardingAlgorithmTest {
         assertPreciseDoSharding(new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 0));
     }
     
+    @Test
+    void assertBatchDoSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3", "t_order_4", "t_order_5");
+        String[] actual = shardingAlgorithm.doSharding(availableTargetNames, new BatchShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Arrays.asList(0L, 15, 44L, 100L, 10)));
+        assertThat(actual, is(new String[]{"t_order_0", "t_order_1", "t_order_4", "t_order_5", "t_order_1"}));
+    }
+    
     @Test
     void assertRangeDoShardingWithoutLowerBound() {
         assertRangeDoShardingWithoutLowerBound(new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.lessThan(12L)));
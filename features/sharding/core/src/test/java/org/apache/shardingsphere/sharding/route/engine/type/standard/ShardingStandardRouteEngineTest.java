@@ -18,14 +18,19 @@
 package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.exception.algorithm.NoShardingDatabaseRouteInfoException;
 import org.apache.shardingsphere.sharding.exception.algorithm.ShardingRouteAlgorithmException;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.fixture.ShardingRouteEngineFixtureBuilder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.jupiter.api.AfterEach;
@@ -33,6 +38,7 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
@@ -90,6 +96,64 @@ class ShardingStandardRouteEngineTest {
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_order"));
     }
     
+    @Test
+    void assertRouteByShardingConditionsInBatch() {
+        List<ShardingCondition> shardingConditions = Arrays.asList(createShardingCondition(1L, 1L), createShardingCondition(0L, 1L), createShardingCondition(1L, 1L));
+        ShardingStandardRouteEngine routeEngine = createShardingStandardRouteEngine("t_order",
+                new ShardingConditions(shardingConditions, mock(InsertStatementContext.class), mock(ShardingRule.class)), mock(InsertStatementContext.class), new HintValueContext());
+        RouteContext routeContext = routeEngine.route(ShardingRouteEngineFixtureBuilder.createBasedShardingRule());
+        List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+        assertThat(routeUnits.size(), is(2));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(0).getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+        assertThat(routeUnits.get(1).getDataSourceMapper().getActualName(), is("ds_0"));
+        assertThat(routeUnits.get(1).getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+        assertThat(new ArrayList<>(routeContext.getOriginalDataNodes()), is(Arrays.asList(Collections.singletonList(new DataNode("ds_1", "t_order_1")),
+                Collections.singletonList(new DataNode("ds_0", "t_order_1")), Collections.singletonList(new DataNode("ds_1", "t_order_1")))));
+    }
+    
+    @Test
+    void assertRouteByShardingConditionsInBatchWithUnavailableDataSource() {
+        List<ShardingCondition> shardingConditions = Arrays.asList(createShardingCondition(1L, 1L), createShardingCondition(-1L, 1L));
+        ShardingStandardRouteEngine routeEngine = createShardingStandardRouteEngine("t_order",
+                new ShardingConditions(shardingConditions, mock(InsertStatementContext.class), mock(ShardingRule.class)), mock(InsertStatementContext.class), new HintValueContext());
+        assertThrows(NoShardingDatabaseRouteInfoException.class, () -> routeEngine.route(ShardingRouteEngineFixtureBuilder.createBasedShardingRule()));
+    }
+    
+    @Test
+    void assertRouteByShardingConditionsWithUnavailableDataSource() {
+        List<ShardingCondition> shardingConditions = Collections.singletonList(createShardingCondition(-1L, 1L));
+        ShardingStandardRouteEngine routeEngine = createShardingStandardRouteEngine("t_order",
+                new ShardingConditions(shardingConditions, mock(SQLStatementContext.class), mock(ShardingRule.class)), mock(SQLStatementContext.class), new HintValueContext());
+        assertThrows(NoShardingDatabaseRouteInfoException.class, () -> routeEngine.route(ShardingRouteEngineFixtureBuilder.createBasedShardingRule()));
+    }
+    
+    @Test
+    void assertRouteByShardingConditionsWithInList() {
+        ShardingCondition inListShardingCondition = new ShardingCondition();
+        inListShardingCondition.getValues().add(new ListShardingConditionValue<>("user_id", "t_order", Arrays.asList(1L, 1L, 0L, 3L)));
+        inListShardingCondition.getValues().add(new ListShardingConditionValue<>("order_id", "t_order", Arrays.asList(1L, 3L, 1L)));
+        List<ShardingCondition> shardingConditions = Arrays.asList(inListShardingCondition, createShardingCondition(1L, 1L));
+        ShardingStandardRouteEngine routeEngine = createShardingStandardRouteEngine("t_order",
+                new ShardingConditions(shardingConditions, mock(SQLStatementContext.class), mock(ShardingRule.class)), mock(SQLStatementContext.class), new HintValueContext());
+        RouteContext routeContext = routeEngine.route(ShardingRouteEngineFixtureBuilder.createBasedShardingRule());
+        List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+        assertThat(routeUnits.size(), is(2));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_0"));
+        assertThat(routeUnits.get(0).getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+        assertThat(routeUnits.get(1).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(1).getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+        assertThat(new ArrayList<>(routeContext.getOriginalDataNodes()), is(Arrays.asList(
+                Arrays.asList(new DataNode("ds_0", "t_order_1"), new DataNode("ds_1", "t_order_1")), Collections.singletonList(new DataNode("ds_1", "t_order_1")))));
+    }
+    
+    private ShardingCondition createShardingCondition(final long userId, final long orderId) {
+        ShardingCondition result = new ShardingCondition();
+        result.getValues().add(new ListShardingConditionValue<>("user_id", "t_order", Collections.singleton(userId)));
+        result.getValues().add(new ListShardingConditionValue<>("order_id", "t_order", Collections.singleton(orderId)));
+        return result;
+    }
+    
     // TODO remove @Disabled when autoTables support config actualDataNodes in #33364
     @Disabled("FIXME")
     @Test
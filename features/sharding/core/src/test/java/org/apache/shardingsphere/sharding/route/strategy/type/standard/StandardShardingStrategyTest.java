@@ -65,6 +65,21 @@ class StandardShardingStrategyTest {
         assertThat(actualListSharding.iterator().next(), is("1"));
     }
     
+    @Test
+    void assertDoShardingForInListSharding() {
+        Collection<String> actualListSharding = standardShardingStrategy.doSharding(targets, Collections.singletonList(
+                new ListShardingConditionValue<>("column", "logicTable", Arrays.asList(1, 3, 1, 2, 5))), dataNodeSegment, new ConfigurationProperties(new Properties()));
+        assertThat(actualListSharding.size(), is(1));
+        assertThat(actualListSharding.iterator().next(), is("1"));
+    }
+    
+    @Test
+    void assertDoShardingInBatch() {
+        String[] actual = standardShardingStrategy.doSharding(targets, Arrays.asList(new ListShardingConditionValue<>("column", "logicTable", Collections.singletonList(1)),
+                new ListShardingConditionValue<>("column", "logicTable", Collections.singletonList(2))), dataNodeSegment);
+        assertThat(actual, is(new String[]{"1", null}));
+    }
+    
     @Test
     void assertGetShardingColumns() {
         Collection<String> actualShardingColumns = standardShardingStrategy.getShardingColumns();
@@ -49,6 +49,7 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardS
 import org.apache.shardingsphere.sharding.exception.metadata.DuplicateShardingActualDataNodeException;
 import org.apache.shardingsphere.sharding.exception.metadata.InvalidBindingTablesException;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
@@ -78,6 +79,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -845,4 +847,77 @@ class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().isSupportAutoIncrement("logic_table"));
         assertTrue(createMaximumShardingRule().isSupportAutoIncrement("sub_logic_table"));
     }
+    
+    @Test
+    void assertPartialUpdateWithAlteredShardingTable() {
+        ShardingRule actual = createMaximumShardingRule();
+        actual.getConfiguration().getTables().removeIf(each -> "SUB_LOGIC_TABLE".equals(each.getLogicTable()));
+        actual.getConfiguration().getTables().add(createTableRuleConfiguration("SUB_LOGIC_TABLE", "ds_${0..1}.sub_table_${0..1}"));
+        actual.getConfiguration().getBindingTableGroups().clear();
+        ShardingTable originalShardingTable = actual.getShardingTable("logic_table");
+        assertTrue(actual.partialUpdate(actual.getConfiguration()));
+        assertThat(actual.getShardingTable("logic_table"), sameInstance(originalShardingTable));
+        assertThat(actual.getShardingTable("sub_logic_table").getActualDataNodes().size(), is(4));
+        assertThat(actual.getAttributes().getAttribute(DataNodeRuleAttribute.class).getDataNodesByTableName("sub_logic_table").size(), is(4));
+        assertFalse(actual.findBindingTableRule("logic_table").isPresent());
+    }
+    
+    @Test
+    void assertPartialUpdateWithToBeAddedShardingTable() {
+        ShardingRule actual = createMaximumShardingRule();
+        actual.getConfiguration().getTables().add(createTableRuleConfiguration("NEW_TABLE", "ds_${0..1}.new_table_${0..1}"));
+        assertFalse(actual.partialUpdate(actual.getConfiguration()));
+        assertFalse(actual.isShardingTable("new_table"));
+    }
+    
+    @Test
+    void assertPartialUpdateWithToBeDroppedShardingTable() {
+        ShardingRule actual = createMaximumShardingRule();
+        actual.getConfiguration().getTables().removeIf(each -> "SUB_LOGIC_TABLE".equals(each.getLogicTable()));
+        actual.getConfiguration().getBindingTableGroups().clear();
+        assertFalse(actual.partialUpdate(actual.getConfiguration()));
+        assertTrue(actual.isShardingTable("sub_logic_table"));
+    }
+    
+    @Test
+    void assertPartialUpdateWithToBeAddedShardingAlgorithm() {
+        ShardingRule actual = createMaximumShardingRule();
+        actual.getConfiguration().getShardingAlgorithms().put("new_algorithm", new AlgorithmConfiguration("CORE.STANDARD.FIXTURE", new Properties()));
+        Map<String, ShardingAlgorithm> originalShardingAlgorithms = actual.getShardingAlgorithms();
+        assertTrue(actual.partialUpdate(actual.getConfiguration()));
+        assertTrue(actual.getShardingAlgorithms().containsKey("new_algorithm"));
+        assertFalse(originalShardingAlgorithms.containsKey("new_algorithm"));
+    }
+    
+    @Test
+    void assertPartialUpdateFailedWithoutPublishingShardingAlgorithm() {
+        ShardingRule actual = createMaximumShardingRule();
+        actual.getConfiguration().getShardingAlgorithms().put("new_algorithm", new AlgorithmConfiguration("CORE.STANDARD.FIXTURE", new Properties()));
+        actual.getConfiguration().getTables().removeIf(each -> "SUB_LOGIC_TABLE".equals(each.getLogicTable()));
+        actual.getConfiguration().getTables().add(createTableRuleConfiguration("SUB_LOGIC_TABLE", "ds_${0..2}.sub_table_${0..2}"));
+        assertFalse(actual.partialUpdate(actual.getConfiguration()));
+        assertFalse(actual.getShardingAlgorithms().containsKey("new_algorithm"));
+    }
+    
+    @Test
+    void assertPartialUpdateWithAlteredShardingAlgorithm() {
+        ShardingRule actual = createMaximumShardingRule();
+        actual.getConfiguration().getShardingAlgorithms().put("core_standard_fixture", new AlgorithmConfiguration("CORE.STANDARD.FIXTURE", PropertiesBuilder.build(new Property("key", "value"))));
+        assertFalse(actual.partialUpdate(actual.getConfiguration()));
+    }
+    
+    @Test
+    void assertPartialUpdateWithAlteredDefaultShardingColumn() {
+        ShardingRule actual = createMaximumShardingRule();
+        actual.getConfiguration().setDefaultShardingColumn("new_column");
+        assertFalse(actual.partialUpdate(actual.getConfiguration()));
+    }
+    
+    @Test
+    void assertPartialUpdateWithToBeAddedDataSource() {
+        ShardingRule actual = createMaximumShardingRule();
+        actual.getConfiguration().getTables().add(createTableRuleConfiguration("NEW_TABLE", "ds_${0..2}.new_table_${0..1}"));
+        assertFalse(actual.partialUpdate(actual.getConfiguration()));
+        assertFalse(actual.isShardingTable("new_table"));
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule.attribute;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import org.apache.shardingsphere.infra.rule.attribute.distribution.TableDistribution;
+import org.apache.shardingsphere.infra.rule.attribute.distribution.TableDistributionType;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.BindingTableRule;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardingTableDistributionRuleAttributeTest {
+    
+    private ShardingTableDistributionRuleAttribute ruleAttribute;
+    
+    @BeforeEach
+    void setUp() {
+        ShardingTable orderTable = mockShardingTable("t_order");
+        ShardingTable orderItemTable = mockShardingTable("t_order_item");
+        ShardingTable userTable = mockShardingTable("t_user");
+        ShardingTable hintTable = mockShardingTable("t_hint");
+        Map<String, ShardingTable> shardingTables = new CaseInsensitiveMap<>();
+        shardingTables.put("t_order", orderTable);
+        shardingTables.put("t_order_item", orderItemTable);
+        shardingTables.put("t_user", userTable);
+        shardingTables.put("t_hint", hintTable);
+        ShardingRule rule = mock(ShardingRule.class);
+        when(rule.getShardingTables()).thenReturn(shardingTables);
+        BindingTableRule bindingTableRule = new BindingTableRule();
+        bindingTableRule.getShardingTables().put("t_order", orderTable);
+        bindingTableRule.getShardingTables().put("t_order_item", orderItemTable);
+        Map<String, BindingTableRule> bindingTableRules = new CaseInsensitiveMap<>();
+        bindingTableRules.put("t_order", bindingTableRule);
+        bindingTableRules.put("t_order_item", bindingTableRule);
+        when(rule.getBindingTableRules()).thenReturn(bindingTableRules);
+        when(rule.getDefaultShardingColumn()).thenReturn("order_id");
+        when(rule.getDatabaseShardingStrategyConfiguration(orderTable)).thenReturn(new StandardShardingStrategyConfiguration("user_id", "foo_algo"));
+        when(rule.getTableShardingStrategyConfiguration(orderTable)).thenReturn(new StandardShardingStrategyConfiguration(null, "foo_algo"));
+        when(rule.getDatabaseShardingStrategyConfiguration(orderItemTable)).thenReturn(new StandardShardingStrategyConfiguration("user_id", "foo_algo"));
+        when(rule.getTableShardingStrategyConfiguration(orderItemTable)).thenReturn(new StandardShardingStrategyConfiguration("order_id", "foo_algo"));
+        when(rule.getDatabaseShardingStrategyConfiguration(userTable)).thenReturn(new NoneShardingStrategyConfiguration());
+        when(rule.getTableShardingStrategyConfiguration(userTable)).thenReturn(new StandardShardingStrategyConfiguration("user_id", "foo_algo"));
+        when(rule.getDatabaseShardingStrategyConfiguration(hintTable)).thenReturn(new HintShardingStrategyConfiguration("foo_algo"));
+        when(rule.getTableShardingStrategyConfiguration(hintTable)).thenReturn(new NoneShardingStrategyConfiguration());
+        ruleAttribute = new ShardingTableDistributionRuleAttribute(rule);
+    }
+    
+    private ShardingTable mockShardingTable(final String logicTable) {
+        ShardingTable result = mock(ShardingTable.class);
+        when(result.getLogicTable()).thenReturn(logicTable);
+        return result;
+    }
+    
+    @Test
+    void assertFindTableDistributionWithBindingTables() {
+        Optional<TableDistribution> orderDistribution = ruleAttribute.findTableDistribution("T_ORDER");
+        Optional<TableDistribution> orderItemDistribution = ruleAttribute.findTableDistribution("t_order_item");
+        assertTrue(orderDistribution.isPresent());
+        assertTrue(orderItemDistribution.isPresent());
+        assertThat(orderDistribution.get().getType(), is(TableDistributionType.HASH));
+        assertThat(orderDistribution.get().getDistributionColumns(), is(Arrays.asList("user_id", "order_id")));
+        assertThat(orderItemDistribution.get().getDistributionColumns(), is(Arrays.asList("user_id", "order_id")));
+        assertThat(orderDistribution.get().getColocationGroup(), is(orderItemDistribution.get().getColocationGroup()));
+    }
+    
+    @Test
+    void assertFindTableDistributionWithoutBindingTable() {
+        Optional<TableDistribution> actual = ruleAttribute.findTableDistribution("t_user");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getColocationGroup(), is("t_user"));
+        assertThat(actual.get().getDistributionColumns(), is(Collections.singletonList("user_id")));
+    }
+    
+    @Test
+    void assertFindTableDistributionWithHintStrategy() {
+        assertFalse(ruleAttribute.findTableDistribution("t_hint").isPresent());
+    }
+    
+    @Test
+    void assertFindTableDistributionWithUnknownTable() {
+        assertFalse(ruleAttribute.findTableDistribution("t_unknown").isPresent());
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.algorithm.cryptographic.aes;
 
+import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
@@ -40,11 +41,14 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
     
     private static final String DIGEST_ALGORITHM_NAME = "digest-algorithm-name";
     
-    private byte[] secretKey;
+    private static final int MAX_CACHED_BUFFER_SIZE = 8192;
+    
+    private ThreadLocal<CipherContext> cipherContext;
     
     @Override
     public void init(final Properties props) {
-        secretKey = getSecretKey(props);
+        SecretKeySpec secretKey = new SecretKeySpec(getSecretKey(props), getType());
+        cipherContext = ThreadLocal.withInitial(() -> new CipherContext(secretKey));
     }
     
     private byte[] getSecretKey(final Properties props) {
@@ -61,28 +65,89 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
-        return Base64.getEncoder().encodeToString(result);
+        CipherContext context = cipherContext.get();
+        try {
+            return Base64.getEncoder().encodeToString(context.getEncryptCipher().doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8)));
+        } catch (final GeneralSecurityException ex) {
+            cipherContext.remove();
+            throw ex;
+        }
     }
     
-    @SneakyThrows(GeneralSecurityException.class)
     @Override
     public Object decrypt(final Object cipherValue) {
-        if (null == cipherValue) {
-            return null;
-        }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue.toString().trim()));
-        return new String(result, StandardCharsets.UTF_8);
+        return null == cipherValue ? null : decryptWithContext(cipherContext.get(), cipherValue);
     }
     
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
-        return result;
+    @SneakyThrows(GeneralSecurityException.class)
+    private String decryptWithContext(final CipherContext context, final Object cipherValue) {
+        try {
+            return context.decrypt(cipherValue.toString());
+        } catch (final GeneralSecurityException ex) {
+            cipherContext.remove();
+            throw ex;
+        }
     }
     
     @Override
     public String getType() {
         return "AES";
     }
+    
+    /**
+     * Initialized ciphers and reusable buffers of current thread.
+     */
+    private static final class CipherContext {
+        
+        @Getter
+        private final Cipher encryptCipher;
+        
+        private final Cipher decryptCipher;
+        
+        private byte[] decodedBuffer = new byte[0];
+        
+        private byte[] outputBuffer = new byte[0];
+        
+        @SneakyThrows(GeneralSecurityException.class)
+        CipherContext(final SecretKeySpec secretKey) {
+            encryptCipher = Cipher.getInstance(secretKey.getAlgorithm());
+            encryptCipher.init(Cipher.ENCRYPT_MODE, secretKey);
+            decryptCipher = Cipher.getInstance(secretKey.getAlgorithm());
+            decryptCipher.init(Cipher.DECRYPT_MODE, secretKey);
+        }
+        
+        String decrypt(final String cipherValue) throws GeneralSecurityException {
+            byte[] decoded = getBuffer(decodedBuffer, cipherValue.length() / 4 * 3 + 3);
+            int decodedLength = Base64.getDecoder().decode(toBase64Bytes(cipherValue), decoded);
+            byte[] output = getBuffer(outputBuffer, decryptCipher.getOutputSize(decodedLength));
+            int outputLength = decryptCipher.doFinal(decoded, 0, decodedLength, output, 0);
+            if (decoded.length <= MAX_CACHED_BUFFER_SIZE) {
+                decodedBuffer = decoded;
+            }
+            if (output.length <= MAX_CACHED_BUFFER_SIZE) {
+                outputBuffer = output;
+            }
+            return new String(output, 0, outputLength, StandardCharsets.UTF_8);
+        }
+        
+        private byte[] toBase64Bytes(final String value) {
+            int start = 0;
+            int end = value.length();
+            while (start < end && value.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && value.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            byte[] result = new byte[end - start];
+            for (int i = start; i < end; i++) {
+                result[i - start] = (byte) value.charAt(i);
+            }
+            return result;
+        }
+        
+        private byte[] getBuffer(final byte[] buffer, final int size) {
+            return buffer.length >= size ? buffer : new byte[size];
+        }
+    }
 }
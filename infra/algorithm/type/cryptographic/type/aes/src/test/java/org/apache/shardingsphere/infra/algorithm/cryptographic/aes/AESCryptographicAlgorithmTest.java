@@ -25,6 +25,15 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.security.GeneralSecurityException;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -71,8 +80,44 @@ class AESCryptographicAlgorithmTest {
         assertThat(cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
     }
     
+    @Test
+    void assertDecryptWithBlankPadding() {
+        assertThat(cryptographicAlgorithm.decrypt(" dSpPiyENQGDUXMKFMJPGWA==\n"), is("test"));
+    }
+    
     @Test
     void assertDecryptNullValue() {
         assertNull(cryptographicAlgorithm.decrypt(null));
     }
+    
+    @Test
+    void assertDecryptLongValue() {
+        String longValue = String.join("", Collections.nCopies(10000, "foo"));
+        assertThat(cryptographicAlgorithm.decrypt(cryptographicAlgorithm.encrypt(longValue)), is(longValue));
+        assertThat(cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
+    }
+    
+    @Test
+    void assertDecryptAfterInvalidCipherValue() {
+        assertThrows(GeneralSecurityException.class, () -> cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPG"));
+        assertThat(cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
+    }
+    
+    @Test
+    void assertDecryptInMultipleThreads() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> futures = new LinkedList<>();
+            for (int i = 0; i < 100; i++) {
+                String plainValue = "foo_" + i;
+                futures.add(executorService.submit(() -> cryptographicAlgorithm.decrypt(cryptographicAlgorithm.encrypt(plainValue))));
+            }
+            int index = 0;
+            for (Future<Object> each : futures) {
+                assertThat(each.get(), is("foo_" + index++));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
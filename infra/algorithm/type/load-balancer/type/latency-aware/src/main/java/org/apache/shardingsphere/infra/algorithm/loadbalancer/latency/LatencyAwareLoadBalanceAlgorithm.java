@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import lombok.Setter;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseAwareLoadBalanceAlgorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency aware load balance algorithm.
+ *
+ * <p>Choose the target with lower EWMA latency weighted by in flight requests from two random candidates (power of two choices).
+ * Targets without finished requests are scored by the mean latency of the other candidates.</p>
+ */
+public final class LatencyAwareLoadBalanceAlgorithm implements DatabaseAwareLoadBalanceAlgorithm, AutoCloseable {
+    
+    @Setter
+    private String databaseName = "";
+    
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        List<TargetLatencyStatistics> candidates = getCandidates(availableTargetNames);
+        int size = candidates.size();
+        if (1 == size) {
+            return candidates.get(0).getTargetName();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        TargetLatencyStatistics first = candidates.get(firstIndex);
+        TargetLatencyStatistics second = candidates.get(secondIndex);
+        double coldLatencyMillis = first.isWarmedUp() && second.isWarmedUp() ? 0D : getMeanLatencyMillis(candidates);
+        return first.getScore(coldLatencyMillis) <= second.getScore(coldLatencyMillis) ? first.getTargetName() : second.getTargetName();
+    }
+    
+    private double getMeanLatencyMillis(final List<TargetLatencyStatistics> candidates) {
+        double totalLatencyMillis = 0D;
+        int warmedUpCount = 0;
+        for (TargetLatencyStatistics each : candidates) {
+            if (each.isWarmedUp()) {
+                totalLatencyMillis += each.getEwmaLatencyMillis();
+                warmedUpCount++;
+            }
+        }
+        return 0 == warmedUpCount ? 0D : totalLatencyMillis / warmedUpCount;
+    }
+    
+    private List<TargetLatencyStatistics> getCandidates(final List<String> availableTargetNames) {
+        List<TargetLatencyStatistics> result = new ArrayList<>(availableTargetNames.size());
+        for (String each : availableTargetNames) {
+            result.add(TargetLatencyStatisticsRegistry.get(databaseName, each));
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+    
+    @Override
+    public void close() {
+        TargetLatencyStatisticsRegistry.remove(databaseName);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency statistics of target.
+ */
+@RequiredArgsConstructor
+public final class TargetLatencyStatistics {
+    
+    private static final double DECAY = 0.3D;
+    
+    @Getter
+    private final String targetName;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final AtomicLong ewmaLatencyNanos = new AtomicLong(Double.doubleToLongBits(0D));
+    
+    private final AtomicLong completedCount = new AtomicLong();
+    
+    private final AtomicLong failedCount = new AtomicLong();
+    
+    /**
+     * Mark request started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Mark request finished.
+     *
+     * @param elapsedNanos elapsed nanoseconds
+     * @param isSuccess whether request finished successfully
+     */
+    public void finish(final long elapsedNanos, final boolean isSuccess) {
+        inFlightCount.decrementAndGet();
+        boolean isFirstSample = 0L == completedCount.getAndIncrement();
+        if (!isSuccess) {
+            failedCount.incrementAndGet();
+        }
+        long prev;
+        long next;
+        do {
+            prev = ewmaLatencyNanos.get();
+            double value = isFirstSample ? elapsedNanos : Double.longBitsToDouble(prev) * (1D - DECAY) + elapsedNanos * DECAY;
+            next = Double.doubleToLongBits(value);
+        } while (!ewmaLatencyNanos.compareAndSet(prev, next));
+    }
+    
+    /**
+     * Get score, lower is better.
+     *
+     * @param coldLatencyMillis latency milliseconds assumed before the first request finished
+     * @return score
+     */
+    public double getScore(final double coldLatencyMillis) {
+        double latencyNanos = isWarmedUp() ? Double.longBitsToDouble(ewmaLatencyNanos.get()) : coldLatencyMillis * TimeUnit.MILLISECONDS.toNanos(1L);
+        return (latencyNanos + 1D) * (inFlightCount.get() + 1);
+    }
+    
+    /**
+     * Judge whether any request finished.
+     *
+     * @return any request finished or not
+     */
+    public boolean isWarmedUp() {
+        return completedCount.get() > 0L;
+    }
+    
+    /**
+     * Get in flight count.
+     *
+     * @return in flight count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get EWMA latency milliseconds.
+     *
+     * @return EWMA latency milliseconds
+     */
+    public double getEwmaLatencyMillis() {
+        return Double.longBitsToDouble(ewmaLatencyNanos.get()) / TimeUnit.MILLISECONDS.toNanos(1L);
+    }
+    
+    /**
+     * Get completed count.
+     *
+     * @return completed count
+     */
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+    
+    /**
+     * Get failed count.
+     *
+     * @return failed count
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+}
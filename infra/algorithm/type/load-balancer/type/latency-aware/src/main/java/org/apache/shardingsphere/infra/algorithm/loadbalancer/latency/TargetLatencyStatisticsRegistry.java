@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Target latency statistics registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TargetLatencyStatisticsRegistry {
+    
+    private static final Map<String, Map<String, TargetLatencyStatistics>> STATISTICS = new ConcurrentHashMap<>();
+    
+    /**
+     * Get or create latency statistics of target.
+     *
+     * @param databaseName database name
+     * @param targetName target name
+     * @return latency statistics
+     */
+    public static TargetLatencyStatistics get(final String databaseName, final String targetName) {
+        Map<String, TargetLatencyStatistics> databaseStatistics = STATISTICS.computeIfAbsent(databaseName, key -> new ConcurrentHashMap<>());
+        TargetLatencyStatistics result = databaseStatistics.get(targetName);
+        return null == result ? databaseStatistics.computeIfAbsent(targetName, TargetLatencyStatistics::new) : result;
+    }
+    
+    /**
+     * Find latency statistics of target.
+     *
+     * @param databaseName database name
+     * @param targetName target name
+     * @return found latency statistics
+     */
+    public static Optional<TargetLatencyStatistics> find(final String databaseName, final String targetName) {
+        if (null == databaseName) {
+            return Optional.empty();
+        }
+        Map<String, TargetLatencyStatistics> databaseStatistics = STATISTICS.get(databaseName);
+        return null == databaseStatistics ? Optional.empty() : Optional.ofNullable(databaseStatistics.get(targetName));
+    }
+    
+    /**
+     * Get latency statistics of all databases.
+     *
+     * @return database name and latency statistics of targets map
+     */
+    public static Map<String, Map<String, TargetLatencyStatistics>> getAll() {
+        return Collections.unmodifiableMap(STATISTICS);
+    }
+    
+    /**
+     * Get latency statistics of all targets in database.
+     *
+     * @param databaseName database name
+     * @return target name and latency statistics map
+     */
+    public static Map<String, TargetLatencyStatistics> getAll(final String databaseName) {
+        Map<String, TargetLatencyStatistics> result = STATISTICS.get(databaseName);
+        return null == result ? Collections.emptyMap() : Collections.unmodifiableMap(result);
+    }
+    
+    /**
+     * Remove statistics of database.
+     *
+     * @param databaseName database name
+     */
+    public static void remove(final String databaseName) {
+        STATISTICS.remove(databaseName);
+    }
+    
+    /**
+     * Clear all statistics.
+     */
+    public static void clear() {
+        STATISTICS.clear();
+    }
+}
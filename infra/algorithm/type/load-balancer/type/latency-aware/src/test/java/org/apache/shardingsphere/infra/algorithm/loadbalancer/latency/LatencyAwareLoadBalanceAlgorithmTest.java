@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseAwareLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyAwareLoadBalanceAlgorithmTest {
+    
+    @AfterEach
+    void tearDown() {
+        TargetLatencyStatisticsRegistry.clear();
+    }
+    
+    @Test
+    void assertGetSingleAvailableTargetName() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(new Properties());
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Collections.singletonList("test_read_ds_1")), is("test_read_ds_1"));
+    }
+    
+    @Test
+    void assertGetAvailableTargetNameWithLowerLatency() {
+        recordLatency("test_read_ds_1", 100L);
+        recordLatency("test_read_ds_2", 1L);
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(new Properties());
+        List<String> availableTargetNames = Arrays.asList("test_read_ds_1", "test_read_ds_2");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("test_read_ds_2"));
+        }
+    }
+    
+    @Test
+    void assertGetAvailableTargetNameWithFewerInFlightRequests() {
+        recordLatency("test_read_ds_1", 10L);
+        recordLatency("test_read_ds_2", 10L);
+        TargetLatencyStatisticsRegistry.get("foo_db", "test_read_ds_1").start();
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(new Properties());
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("test_read_ds_1", "test_read_ds_2")), is("test_read_ds_2"));
+    }
+    
+    @Test
+    void assertGetAvailableTargetNameWithColdTarget() {
+        recordLatency("test_read_ds_1", 10L);
+        TargetLatencyStatisticsRegistry.get("foo_db", "test_read_ds_2").start();
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(new Properties());
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("test_read_ds_1", "test_read_ds_2")), is("test_read_ds_1"));
+    }
+    
+    @Test
+    void assertGetAvailableTargetNameWithStatisticsOfOtherDatabase() {
+        recordLatency("test_read_ds_1", 1L);
+        recordLatency("test_read_ds_2", 100L);
+        TargetLatencyStatistics statistics = TargetLatencyStatisticsRegistry.get("bar_db", "test_read_ds_2");
+        statistics.start();
+        statistics.finish(0L, true);
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(new Properties());
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("test_read_ds_1", "test_read_ds_2")), is("test_read_ds_1"));
+    }
+    
+    @Test
+    void assertClose() throws Exception {
+        recordLatency("test_read_ds_1", 1L);
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(new Properties());
+        ((AutoCloseable) loadBalanceAlgorithm).close();
+        assertTrue(TargetLatencyStatisticsRegistry.getAll("foo_db").isEmpty());
+    }
+    
+    private LoadBalanceAlgorithm createLoadBalanceAlgorithm(final Properties props) {
+        LoadBalanceAlgorithm result = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LATENCY_AWARE", props);
+        ((DatabaseAwareLoadBalanceAlgorithm) result).setDatabaseName("foo_db");
+        return result;
+    }
+    
+    private void recordLatency(final String targetName, final long latencyMillis) {
+        TargetLatencyStatistics statistics = TargetLatencyStatisticsRegistry.get("foo_db", targetName);
+        statistics.start();
+        statistics.finish(TimeUnit.MILLISECONDS.toNanos(latencyMillis), true);
+    }
+}
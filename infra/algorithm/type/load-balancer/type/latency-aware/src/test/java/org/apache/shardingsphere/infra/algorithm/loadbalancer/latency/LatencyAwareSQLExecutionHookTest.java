@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class LatencyAwareSQLExecutionHookTest {
+    
+    @AfterEach
+    void tearDown() {
+        TargetLatencyStatisticsRegistry.clear();
+    }
+    
+    @Test
+    void assertFinishSuccess() {
+        TargetLatencyStatisticsRegistry.get("foo_db", "ds_0");
+        LatencyAwareSQLExecutionHook hook = new LatencyAwareSQLExecutionHook();
+        hook.start("foo_db", "ds_0", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        assertThat(TargetLatencyStatisticsRegistry.get("foo_db", "ds_0").getInFlightCount(), is(1));
+        hook.finishSuccess();
+        TargetLatencyStatistics actual = TargetLatencyStatisticsRegistry.get("foo_db", "ds_0");
+        assertThat(actual.getInFlightCount(), is(0));
+        assertThat(actual.getCompletedCount(), is(1L));
+        assertThat(actual.getFailedCount(), is(0L));
+    }
+    
+    @Test
+    void assertFinishFailure() {
+        TargetLatencyStatisticsRegistry.get("foo_db", "ds_0");
+        LatencyAwareSQLExecutionHook hook = new LatencyAwareSQLExecutionHook();
+        hook.start("foo_db", "ds_0", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        hook.finishFailure(new RuntimeException(""));
+        hook.finishFailure(new RuntimeException(""));
+        TargetLatencyStatistics actual = TargetLatencyStatisticsRegistry.get("foo_db", "ds_0");
+        assertThat(actual.getInFlightCount(), is(0));
+        assertThat(actual.getCompletedCount(), is(1L));
+        assertThat(actual.getFailedCount(), is(1L));
+    }
+    
+    @Test
+    void assertStartWithUnregisteredTarget() {
+        LatencyAwareSQLExecutionHook hook = new LatencyAwareSQLExecutionHook();
+        hook.start("foo_db", "ds_0", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        hook.finishSuccess();
+        assertTrue(TargetLatencyStatisticsRegistry.getAll("foo_db").isEmpty());
+    }
+}
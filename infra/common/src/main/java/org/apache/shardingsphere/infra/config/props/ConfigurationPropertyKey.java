@@ -64,6 +64,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Max rows of multi-row INSERT statement coalesced from batched single-row INSERT statements for ShardingSphere-JDBC.
+     * The default value is 0, which means disable coalescing.
+     */
+    JDBC_BATCH_INSERT_COALESCE_SIZE("jdbc-batch-insert-coalesce-size", String.valueOf(0), int.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -90,6 +96,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_MAX_CONNECTIONS("proxy-frontend-max-connections", "0", int.class, false),
     
+    /**
+     * Proxy frontend virtual thread enabled. Command executors of connections run on virtual threads if JVM supports, otherwise on platform threads.
+     */
+    PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED("proxy-frontend-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Proxy default start port.
      */
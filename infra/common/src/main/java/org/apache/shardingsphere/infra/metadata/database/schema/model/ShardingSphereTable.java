@@ -30,15 +30,18 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * ShardingSphere table.
  */
 @Getter
-@EqualsAndHashCode
-@ToString
+@EqualsAndHashCode(exclude = "version")
+@ToString(exclude = "version")
 public final class ShardingSphereTable {
     
+    private static final AtomicInteger VERSION_GENERATOR = new AtomicInteger();
+    
     private final String name;
     
     @Getter(AccessLevel.NONE)
@@ -58,6 +61,8 @@ public final class ShardingSphereTable {
     
     private final TableType type;
     
+    private volatile int version = VERSION_GENERATOR.incrementAndGet();
+    
     public ShardingSphereTable() {
         this("", Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), TableType.TABLE);
     }
@@ -120,6 +125,7 @@ public final class ShardingSphereTable {
      */
     public void putColumn(final ShardingSphereColumn column) {
         columns.put(new ShardingSphereMetaDataIdentifier(column.getName()), column);
+        bumpVersion();
     }
     
     /**
@@ -158,6 +164,7 @@ public final class ShardingSphereTable {
      */
     public void putIndex(final ShardingSphereIndex index) {
         indexes.put(index.getName(), index);
+        bumpVersion();
     }
     
     /**
@@ -167,6 +174,7 @@ public final class ShardingSphereTable {
      */
     public void removeIndex(final String indexName) {
         indexes.remove(indexName);
+        bumpVersion();
     }
     
     /**
@@ -206,4 +214,11 @@ public final class ShardingSphereTable {
     public Collection<ShardingSphereConstraint> getConstraintValues() {
         return constraints.values();
     }
+    
+    /**
+     * Bump version.
+     */
+    public void bumpVersion() {
+        version = VERSION_GENERATOR.incrementAndGet();
+    }
 }
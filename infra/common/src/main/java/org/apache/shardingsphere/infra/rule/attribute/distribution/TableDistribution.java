@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rule.attribute.distribution;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Table distribution.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class TableDistribution {
+    
+    private final TableDistributionType type;
+    
+    private final String colocationGroup;
+    
+    private final List<String> distributionColumns;
+    
+    /**
+     * Create broadcast table distribution.
+     *
+     * @return broadcast table distribution
+     */
+    public static TableDistribution broadcast() {
+        return new TableDistribution(TableDistributionType.BROADCAST, null, Collections.emptyList());
+    }
+    
+    /**
+     * Create hash table distribution.
+     *
+     * @param colocationGroup co-location group, tables in the same group with equal distribution column values are stored in the same data node
+     * @param distributionColumns ordered distribution columns
+     * @return hash table distribution
+     */
+    public static TableDistribution hash(final String colocationGroup, final List<String> distributionColumns) {
+        return new TableDistribution(TableDistributionType.HASH, colocationGroup, distributionColumns);
+    }
+}
@@ -27,6 +27,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -150,4 +151,23 @@ class ShardingSphereTableTest {
         otherTable.putIndex(new ShardingSphereIndex("foo_index_1"));
         assertThat(shardingSphereTable, is(otherTable));
     }
+    
+    @Test
+    void assertGetVersionOfNewTable() {
+        assertThat(new ShardingSphereTable().getVersion(), not(shardingSphereTable.getVersion()));
+    }
+    
+    @Test
+    void assertGetVersionAfterAltered() {
+        int originalVersion = shardingSphereTable.getVersion();
+        shardingSphereTable.putIndex(new ShardingSphereIndex("foo_index"));
+        assertThat(shardingSphereTable.getVersion(), not(originalVersion));
+    }
+    
+    @Test
+    void assertBumpVersion() {
+        int originalVersion = shardingSphereTable.getVersion();
+        shardingSphereTable.bumpVersion();
+        assertThat(shardingSphereTable.getVersion(), not(originalVersion));
+    }
 }
@@ -42,11 +42,14 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, ExecutorThreadFactoryBuilder.build(nameFormat));
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
-        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
+    public ExecutorServiceManager(final int executorSize, final ThreadFactory threadFactory) {
+        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, threadFactory));
+    }
+    
+    private ExecutorService getExecutorService(final int executorSize, final ThreadFactory threadFactory) {
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
@@ -31,6 +31,8 @@ public final class ExecutorThreadFactoryBuilder {
     
     private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
     
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+    
     /**
      * Build thread factory with thread name format.
      *
@@ -40,4 +42,26 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     *
+     * <p>Fall back to platform thread factory if virtual thread is unsupported by current JVM.</p>
+     *
+     * @param nameFormat thread name format
+     * @return thread factory
+     */
+    public static ThreadFactory buildVirtual(final String nameFormat) {
+        return null == VIRTUAL_THREAD_FACTORY ? build(nameFormat)
+                : new ThreadFactoryBuilder().setThreadFactory(VIRTUAL_THREAD_FACTORY).setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
+    }
+    
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Object virtualThreadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(virtualThreadBuilder);
+        } catch (final ReflectiveOperationException ignored) {
+            return null;
+        }
+    }
 }
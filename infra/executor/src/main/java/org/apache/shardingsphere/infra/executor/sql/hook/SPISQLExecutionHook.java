@@ -32,8 +32,14 @@ public final class SPISQLExecutionHook implements SQLExecutionHook {
     
     @Override
     public void start(final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        start(null, dataSourceName, sql, params, connectionProps, isTrunkThread);
+    }
+    
+    @Override
+    public void start(final String databaseName, final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps,
+                      final boolean isTrunkThread) {
         for (SQLExecutionHook each : sqlExecutionHooks) {
-            each.start(dataSourceName, sql, params, connectionProps, isTrunkThread);
+            each.start(databaseName, dataSourceName, sql, params, connectionProps, isTrunkThread);
         }
     }
     
@@ -37,6 +37,21 @@ public interface SQLExecutionHook {
      */
     void start(String dataSourceName, String sql, List<Object> params, ConnectionProperties connectionProps, boolean isTrunkThread);
     
+    /**
+     * Handle when SQL execution started with logic database name.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param sql SQL
+     * @param params SQL parameters
+     * @param connectionProps connection properties
+     * @param isTrunkThread is execution in trunk thread
+     */
+    default void start(final String databaseName, final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps,
+                       final boolean isTrunkThread) {
+        start(dataSourceName, sql, params, connectionProps, isTrunkThread);
+    }
+    
     /**
      * Handle when SQL execution finished success.
      */
@@ -28,7 +28,6 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 
 import java.sql.Statement;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -82,7 +81,7 @@ public final class Process {
         username = grantee.map(Grantee::getUsername).orElse("");
         hostname = grantee.map(Grantee::getHostname).orElse("");
         totalUnitCount = new AtomicInteger(getTotalUnitCount(executionGroupContext));
-        processStatements.putAll(createProcessStatements(executionGroupContext));
+        addProcessStatements(executionGroupContext);
         completedUnitCount = new AtomicInteger(0);
         this.idle = new AtomicBoolean(idle);
         interrupted = new AtomicBoolean();
@@ -96,17 +95,24 @@ public final class Process {
         return result;
     }
     
-    private Map<Integer, Statement> createProcessStatements(final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext) {
-        Map<Integer, Statement> result = new LinkedHashMap<>();
+    private void addProcessStatements(final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext) {
         for (ExecutionGroup<? extends SQLExecutionUnit> each : executionGroupContext.getInputGroups()) {
             for (SQLExecutionUnit executionUnit : each.getInputs()) {
                 if (executionUnit instanceof JDBCExecutionUnit) {
                     JDBCExecutionUnit jdbcExecutionUnit = (JDBCExecutionUnit) executionUnit;
-                    result.put(System.identityHashCode(jdbcExecutionUnit.getExecutionUnit()), jdbcExecutionUnit.getStorageResource());
+                    processStatements.put(System.identityHashCode(jdbcExecutionUnit.getExecutionUnit()), jdbcExecutionUnit.getStorageResource());
                 }
             }
         }
-        return result;
+    }
+    
+    /**
+     * Create idle process of the same connection.
+     *
+     * @return created idle process
+     */
+    public Process createIdleProcess() {
+        return new Process(id, System.currentTimeMillis(), "", databaseName, username, hostname, new AtomicInteger(), new AtomicInteger(), new AtomicBoolean(true), new AtomicBoolean());
     }
     
     /**
@@ -116,8 +116,6 @@ public final class ProcessEngine {
         if (null == process) {
             return;
         }
-        ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(
-                Collections.emptyList(), new ExecutionGroupReportContext(processId, process.getDatabaseName(), new Grantee(process.getUsername(), process.getHostname())));
-        ProcessRegistry.getInstance().add(new Process(executionGroupContext));
+        ProcessRegistry.getInstance().add(process.createIdleProcess());
     }
 }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupRepor
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.SetAssignmentSegment;
@@ -42,8 +43,14 @@ import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -86,6 +93,26 @@ class ProcessEngineTest {
         return result;
     }
     
+    @Test
+    void assertConnect() {
+        ProcessEngine processEngine = new ProcessEngine();
+        String actual = processEngine.connect(DefaultDatabase.LOGIC_NAME);
+        assertThat(actual.length(), is(32));
+        assertThat(processEngine.connect(DefaultDatabase.LOGIC_NAME), not(actual));
+        verify(processRegistry, times(2)).add(any());
+    }
+    
+    @Test
+    void assertCompleteSQLExecution() {
+        Process process = new Process("UPDATE foo_tbl SET foo_col = 1",
+                new ExecutionGroupContext<>(Collections.emptyList(), new ExecutionGroupReportContext("foo_id", DefaultDatabase.LOGIC_NAME, new Grantee("foo_user", "localhost"))));
+        when(processRegistry.get("foo_id")).thenReturn(process);
+        new ProcessEngine().completeSQLExecution("foo_id");
+        verify(processRegistry).add(argThat(each -> each != process && "foo_id".equals(each.getId()) && each.isIdle() && each.getSql().isEmpty()
+                && DefaultDatabase.LOGIC_NAME.equals(each.getDatabaseName()) && "foo_user".equals(each.getUsername()) && "localhost".equals(each.getHostname())));
+        assertFalse(process.isIdle());
+    }
+    
     @Test
     void assertCompleteSQLUnitExecution() {
         when(processRegistry.get("foo_id")).thenReturn(mock(Process.class));
@@ -19,13 +19,9 @@ package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.rewrite.sql.SQLBuilder;
-import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.Attachable;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
-import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.Substitutable;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Abstract SQL builder.
@@ -33,54 +29,16 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public abstract class AbstractSQLBuilder implements SQLBuilder {
     
-    private final String sql;
+    private final SQLTemplate sqlTemplate;
     
-    private final List<SQLToken> sqlTokens;
+    protected AbstractSQLBuilder(final String sql, final List<SQLToken> sqlTokens) {
+        this(new SQLTemplate(sql, sqlTokens));
+    }
     
     @Override
     public final String toSQL() {
-        if (sqlTokens.isEmpty()) {
-            return sql;
-        }
-        Collections.sort(sqlTokens);
-        StringBuilder result = new StringBuilder(sql.length());
-        result.append(sql, 0, sqlTokens.get(0).getStartIndex());
-        Optional<SQLToken> previousToken = Optional.empty();
-        for (SQLToken each : sqlTokens) {
-            if (isContainsAttachableToken(each, previousToken.orElse(null))
-                    || each.getStartIndex() > previousToken.map(SQLToken::getStopIndex).orElse(0)) {
-                appendRewriteSQL(each, result);
-                previousToken = Optional.of(each);
-            }
-        }
-        return result.toString();
-    }
-    
-    private boolean isContainsAttachableToken(final SQLToken sqlToken, final SQLToken previousToken) {
-        return sqlToken instanceof Attachable || previousToken instanceof Attachable;
-    }
-    
-    private void appendRewriteSQL(final SQLToken sqlToken, final StringBuilder builder) {
-        builder.append(getSQLTokenText(sqlToken));
-        builder.append(getConjunctionText(sqlToken, sqlTokens, sql.length()));
+        return sqlTemplate.toSQL(this::getSQLTokenText);
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
-    
-    private String getConjunctionText(final SQLToken sqlToken, final List<SQLToken> sqlTokens, final int sqlLength) {
-        int startIndex = getStartIndex(sqlToken, sqlLength);
-        int stopIndex = getStopIndex(sqlToken, sqlTokens, sqlLength, startIndex);
-        return sql.substring(startIndex, stopIndex);
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken, final int sqlLength) {
-        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, sqlLength);
-    }
-    
-    private int getStopIndex(final SQLToken sqlToken, final List<SQLToken> sqlTokens, final int sqlLength, final int startIndex) {
-        int currentSQLTokenIndex = sqlTokens.indexOf(sqlToken);
-        int stopIndex = sqlTokens.size() - 1 == currentSQLTokenIndex ? sqlLength : sqlTokens.get(currentSQLTokenIndex + 1).getStartIndex();
-        return startIndex <= stopIndex ? stopIndex : getStopIndex(sqlTokens.get(currentSQLTokenIndex + 1), sqlTokens, sqlLength, startIndex);
-    }
 }
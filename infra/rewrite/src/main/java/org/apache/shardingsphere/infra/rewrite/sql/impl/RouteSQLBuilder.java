@@ -35,6 +35,11 @@ public final class RouteSQLBuilder extends AbstractSQLBuilder {
         this.routeUnit = routeUnit;
     }
     
+    public RouteSQLBuilder(final SQLTemplate sqlTemplate, final RouteUnit routeUnit) {
+        super(sqlTemplate);
+        this.routeUnit = routeUnit;
+    }
+    
     @Override
     protected String getSQLTokenText(final SQLToken sqlToken) {
         if (sqlToken instanceof RouteUnitAware) {
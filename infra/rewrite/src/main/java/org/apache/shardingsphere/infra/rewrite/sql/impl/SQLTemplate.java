@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.Attachable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.Substitutable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * SQL template.
+ *
+ * <p>SQL tokens are sorted and the literal SQL between them is resolved only once when compiling the template.
+ * Texts of SQL tokens which are not route unit aware are merged with the literal SQL into shared fragments,
+ * so building SQL for each route unit only needs to append fragments and route unit aware SQL token texts.</p>
+ */
+@HighFrequencyInvocation
+public final class SQLTemplate {
+    
+    private final String[] fragments;
+    
+    private final SQLToken[] routeUnitAwareTokens;
+    
+    private final int estimatedLength;
+    
+    public SQLTemplate(final String sql, final Collection<SQLToken> sqlTokens) {
+        SQLToken[] sortedTokens = sqlTokens.toArray(new SQLToken[0]);
+        Arrays.sort(sortedTokens);
+        List<String> compiledFragments = new ArrayList<>();
+        List<SQLToken> compiledRouteUnitAwareTokens = new ArrayList<>();
+        StringBuilder fragment = new StringBuilder(sql.length());
+        int routeUnitAwareTokensLength = 0;
+        if (0 != sortedTokens.length) {
+            fragment.append(sql, 0, sortedTokens[0].getStartIndex());
+        }
+        SQLToken previousToken = null;
+        for (int i = 0; i < sortedTokens.length; i++) {
+            SQLToken each = sortedTokens[i];
+            if (!isContainsAttachableToken(each, previousToken) && each.getStartIndex() <= (null == previousToken ? 0 : previousToken.getStopIndex())) {
+                continue;
+            }
+            if (each instanceof RouteUnitAware) {
+                compiledFragments.add(fragment.toString());
+                fragment.setLength(0);
+                compiledRouteUnitAwareTokens.add(each);
+                routeUnitAwareTokensLength += Math.max(each.getStopIndex() - each.getStartIndex() + 1, 0);
+            } else {
+                fragment.append(each.toString());
+            }
+            int conjunctionStartIndex = getConjunctionStartIndex(each, sql.length());
+            fragment.append(sql, conjunctionStartIndex, getConjunctionStopIndex(sortedTokens, i, sql.length(), conjunctionStartIndex));
+            previousToken = each;
+        }
+        compiledFragments.add(0 == sortedTokens.length ? sql : fragment.toString());
+        fragments = compiledFragments.toArray(new String[0]);
+        routeUnitAwareTokens = compiledRouteUnitAwareTokens.toArray(new SQLToken[0]);
+        estimatedLength = compiledFragments.stream().mapToInt(String::length).sum() + routeUnitAwareTokensLength;
+    }
+    
+    private boolean isContainsAttachableToken(final SQLToken sqlToken, final SQLToken previousToken) {
+        return sqlToken instanceof Attachable || previousToken instanceof Attachable;
+    }
+    
+    private int getConjunctionStartIndex(final SQLToken sqlToken, final int sqlLength) {
+        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(startIndex, sqlLength);
+    }
+    
+    private int getConjunctionStopIndex(final SQLToken[] sortedTokens, final int currentIndex, final int sqlLength, final int conjunctionStartIndex) {
+        int low = currentIndex + 1;
+        int high = sortedTokens.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedTokens[middle].getStartIndex() < conjunctionStartIndex) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return sortedTokens.length == low ? sqlLength : sortedTokens[low].getStartIndex();
+    }
+    
+    /**
+     * Build SQL.
+     *
+     * @param routeUnitAwareTokenTextProvider text provider of route unit aware SQL token
+     * @return SQL
+     */
+    public String toSQL(final Function<SQLToken, String> routeUnitAwareTokenTextProvider) {
+        if (0 == routeUnitAwareTokens.length) {
+            return fragments[0];
+        }
+        StringBuilder result = new StringBuilder(estimatedLength);
+        for (int i = 0; i < routeUnitAwareTokens.length; i++) {
+            result.append(fragments[i]).append(routeUnitAwareTokenTextProvider.apply(routeUnitAwareTokens[i]));
+        }
+        return result.append(fragments[routeUnitAwareTokens.length]).toString();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql.impl;
+
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.RouteUnitAwareSQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.RouteUnitAware;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SQLTemplateTest {
+    
+    @Test
+    void assertToSQLWithoutSQLToken() {
+        String sql = "SELECT * FROM tbl WHERE id=?";
+        assertThat(new SQLTemplate(sql, Collections.emptyList()).toSQL(each -> "YYY"), sameInstance(sql));
+    }
+    
+    @Test
+    void assertToSQLWithoutRouteUnitAwareSQLToken() {
+        SQLTemplate sqlTemplate = new SQLTemplate("SELECT * FROM tbl WHERE id=?", Collections.singletonList(new SQLTokenFixture(14, 16)));
+        String actual = sqlTemplate.toSQL(each -> "YYY");
+        assertThat(actual, is("SELECT * FROM XXX WHERE id=?"));
+        assertThat(sqlTemplate.toSQL(each -> "YYY"), sameInstance(actual));
+    }
+    
+    @Test
+    void assertToSQLForMultipleRouteUnits() {
+        SQLTemplate sqlTemplate = new SQLTemplate("SELECT * FROM tbl t JOIN tbl_item i ON t.id=i.id WHERE t.id=?",
+                Arrays.asList(new RouteUnitAwareSQLTokenFixture(25, 32), new SQLTokenFixture(20, 23), new RouteUnitAwareSQLTokenFixture(14, 16)));
+        assertThat(sqlTemplate.toSQL(each -> ((RouteUnitAware) each).toString(createRouteUnit("tbl_0"))), is("SELECT * FROM tbl_0 t XXX tbl_0 i ON t.id=i.id WHERE t.id=?"));
+        assertThat(sqlTemplate.toSQL(each -> ((RouteUnitAware) each).toString(createRouteUnit("tbl_1"))), is("SELECT * FROM tbl_1 t XXX tbl_1 i ON t.id=i.id WHERE t.id=?"));
+    }
+    
+    private RouteUnit createRouteUnit(final String actualTableName) {
+        return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", actualTableName)));
+    }
+}
@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
+import java.sql.Statement;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -37,23 +38,46 @@ import java.util.Map;
 @RequiredArgsConstructor
 @Getter
 @EqualsAndHashCode(of = "executionUnit")
-@ToString
+@ToString(exclude = {"rowsPerActualCall", "addedRows"})
 public final class BatchExecutionUnit {
     
     private final ExecutionUnit executionUnit;
     
+    private final int rowsPerActualCall;
+    
     private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
     
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
+    @Getter(AccessLevel.NONE)
+    private int addedRows;
+    
+    public BatchExecutionUnit(final ExecutionUnit executionUnit) {
+        this(executionUnit, 1);
+    }
+    
     /**
      * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
      *
      * @param jdbcAddBatchTimes times of use JDBC API call addBatch
      */
     public void mapAddBatchCount(final int jdbcAddBatchTimes) {
-        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
+        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, addedRows++ / rowsPerActualCall);
+        actualCallAddBatchTimes = (addedRows + rowsPerActualCall - 1) / rowsPerActualCall;
+    }
+    
+    /**
+     * Get update count of JDBC API call addBatch.
+     *
+     * @param actualUpdateCount update count of actual call addBatch
+     * @return update count of JDBC API call addBatch
+     */
+    public int getAddBatchUpdateCount(final int actualUpdateCount) {
+        if (1 == rowsPerActualCall || actualUpdateCount < 0) {
+            return actualUpdateCount;
+        }
+        return rowsPerActualCall == actualUpdateCount ? 1 : Statement.SUCCESS_NO_INFO;
     }
     
     /**
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Coalescer to rewrite batched single-row INSERT statements into multi-row INSERT statements.
+ */
+@RequiredArgsConstructor
+public final class BatchInsertValuesCoalescer {
+    
+    private static final Pattern VALUES_PATTERN = Pattern.compile("\\bVALUES\\s*(\\([\\s?,]*\\))\\s*$", Pattern.CASE_INSENSITIVE);
+    
+    private static final int MAX_PARAMETERS_PER_STATEMENT = 65535;
+    
+    private final int maxRowsPerStatement;
+    
+    /**
+     * Coalesce batch execution unit.
+     *
+     * @param batchExecutionUnit batch execution unit to be coalesced
+     * @return coalesced batch execution units, or original batch execution unit if it can not be coalesced
+     */
+    public Collection<BatchExecutionUnit> coalesce(final BatchExecutionUnit batchExecutionUnit) {
+        SQLUnit sqlUnit = batchExecutionUnit.getExecutionUnit().getSqlUnit();
+        int rows = batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().size();
+        if (1 != batchExecutionUnit.getRowsPerActualCall() || rows < 2 || sqlUnit.getParameters().isEmpty() || 0 != sqlUnit.getParameters().size() % rows) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        int parametersPerRow = sqlUnit.getParameters().size() / rows;
+        int rowsPerStatement = Math.min(Math.min(maxRowsPerStatement, rows), MAX_PARAMETERS_PER_STATEMENT / parametersPerRow);
+        Matcher matcher = VALUES_PATTERN.matcher(sqlUnit.getSql());
+        if (rowsPerStatement < 2 || !matcher.find() || parametersPerRow != countPlaceholders(matcher.group(1)) || parametersPerRow != countPlaceholders(sqlUnit.getSql())) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        String sqlPrefix = sqlUnit.getSql().substring(0, matcher.start(1));
+        String valuesSQL = matcher.group(1);
+        Collection<BatchExecutionUnit> result = new LinkedList<>();
+        Iterator<Integer> jdbcAddBatchTimes = batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().keySet().iterator();
+        int fullStatementRows = rows / rowsPerStatement * rowsPerStatement;
+        if (fullStatementRows > 0) {
+            result.add(createBatchExecutionUnit(batchExecutionUnit.getExecutionUnit(), sqlPrefix, valuesSQL, rowsPerStatement, 0, fullStatementRows, parametersPerRow, jdbcAddBatchTimes));
+        }
+        if (rows > fullStatementRows) {
+            result.add(createBatchExecutionUnit(batchExecutionUnit.getExecutionUnit(), sqlPrefix, valuesSQL, rows - fullStatementRows, fullStatementRows, rows, parametersPerRow, jdbcAddBatchTimes));
+        }
+        return result;
+    }
+    
+    private int countPlaceholders(final String sql) {
+        int result = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            if ('?' == sql.charAt(i)) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final ExecutionUnit executionUnit, final String sqlPrefix, final String valuesSQL, final int rowsPerStatement,
+                                                        final int startRow, final int endRow, final int parametersPerRow, final Iterator<Integer> jdbcAddBatchTimes) {
+        List<Object> params = new ArrayList<>(executionUnit.getSqlUnit().getParameters().subList(startRow * parametersPerRow, endRow * parametersPerRow));
+        SQLUnit sqlUnit = new SQLUnit(createSQL(sqlPrefix, valuesSQL, rowsPerStatement), params, executionUnit.getSqlUnit().getTableRouteMappers());
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), sqlUnit), rowsPerStatement);
+        for (int i = startRow; i < endRow; i++) {
+            result.mapAddBatchCount(jdbcAddBatchTimes.next());
+        }
+        return result;
+    }
+    
+    private String createSQL(final String sqlPrefix, final String valuesSQL, final int rows) {
+        StringBuilder result = new StringBuilder(sqlPrefix.length() + (valuesSQL.length() + 2) * rows).append(sqlPrefix).append(valuesSQL);
+        for (int i = 1; i < rows; i++) {
+            result.append(", ").append(valuesSQL);
+        }
+        return result.toString();
+    }
+}
@@ -17,8 +17,8 @@
 
 package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
 
-import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -33,12 +33,13 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
 
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -56,8 +57,7 @@ public final class BatchPreparedStatementExecutor {
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
     
     private int batchCount;
     
@@ -65,7 +65,7 @@ public final class BatchPreparedStatementExecutor {
         this.database = database;
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>(), new ExecutionGroupReportContext(processId, database.getName()));
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
     }
     
     /**
@@ -77,50 +77,63 @@ public final class BatchPreparedStatementExecutor {
         this.executionGroupContext = executionGroupContext;
     }
     
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
+    }
+    
     /**
      * Add batch for execution units.
      *
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
-        batchCount++;
-    }
-    
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
         for (ExecutionUnit each : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
-        }
-        return result;
-    }
-    
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
-    }
-    
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
+            BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == batchExecutionUnit) {
+                batchExecutionUnit = new BatchExecutionUnit(each);
+                batchExecutionUnits.put(each, batchExecutionUnit);
+            } else {
+                batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
             }
+            batchExecutionUnit.mapAddBatchCount(batchCount);
         }
+        batchCount++;
     }
     
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
+    /**
+     * Coalesce batched single-row INSERT statements of each data source into multi-row INSERT statements.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param maxRowsPerStatement max rows per coalesced INSERT statement
+     */
+    public void coalesceInsertValues(final SQLStatementContext sqlStatementContext, final int maxRowsPerStatement) {
+        if (maxRowsPerStatement < 2 || !isCoalescibleInsert(sqlStatementContext) || !isNeedAccumulate(sqlStatementContext)) {
+            return;
+        }
+        BatchInsertValuesCoalescer coalescer = new BatchInsertValuesCoalescer(maxRowsPerStatement);
+        Collection<BatchExecutionUnit> coalescedBatchExecutionUnits = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits.values()) {
+            coalescedBatchExecutionUnits.addAll(coalescer.coalesce(each));
+        }
+        batchExecutionUnits.clear();
+        for (BatchExecutionUnit each : coalescedBatchExecutionUnits) {
+            batchExecutionUnits.put(each.getExecutionUnit(), each);
+        }
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
+    private boolean isCoalescibleInsert(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
         }
-        batchExecutionUnits.addAll(newExecutionUnits);
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        InsertStatement insertStatement = insertStatementContext.getSqlStatement();
+        return 1 == insertStatementContext.getValueListCount() && null == insertStatementContext.getInsertSelectContext() && !insertStatement.getOnDuplicateKeyColumns().isPresent()
+                && !insertStatement.getSetAssignment().isPresent() && !insertStatement.getReturningSegment().isPresent() && !insertStatement.getOutputSegment().isPresent();
     }
     
     /**
@@ -177,24 +190,14 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private void accumulate(final int[] executeResult, final int[] addBatchCounts, final JDBCExecutionUnit executionUnit) {
-        for (Entry<Integer, Integer> entry : getJDBCAndActualAddBatchCallTimesMap(executionUnit).entrySet()) {
-            int value = null == executeResult ? 0 : executeResult[entry.getValue()];
-            addBatchCounts[entry.getKey()] += value;
+        BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null == batchExecutionUnit) {
+            return;
         }
-    }
-    
-    private Map<Integer, Integer> getJDBCAndActualAddBatchCallTimesMap(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getJdbcAndActualAddBatchCallTimesMap();
-            }
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+            int value = null == executeResult ? 0 : batchExecutionUnit.getAddBatchUpdateCount(executeResult[entry.getValue()]);
+            addBatchCounts[entry.getKey()] += value;
         }
-        return Collections.emptyMap();
-    }
-    
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
     }
     
     /**
@@ -239,12 +242,11 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
+        BatchExecutionUnit result = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null == result) {
+            throw new IllegalStateException("Can not get value from parameter sets.");
         }
-        throw new IllegalStateException("Can not get value from parameter sets.");
+        return result.getParameterSets();
     }
     
     /**
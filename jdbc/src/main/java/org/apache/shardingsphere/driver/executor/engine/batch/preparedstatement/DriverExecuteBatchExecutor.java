@@ -125,6 +125,7 @@ public final class DriverExecuteBatchExecutor {
                                  final SQLStatementContext sqlStatementContext, final Collection<Comparable<?>> generatedValues, final StatementOption statementOption,
                                  final ExecutionContext executionContext, final StatementAddCallback addCallback, final PreparedStatementParametersReplayCallback replayCallback,
                                  final GeneratedKeyCallback generatedKeyCallback) throws SQLException {
+        coalesceInsertValues(batchExecutor, sqlStatementContext, statementOption);
         initBatchPreparedStatementExecutor(database, batchExecutor, executionContext, replayCallback);
         int[] result = batchExecutor.executeBatch(sqlStatementContext);
         if (statementOption.isReturnGeneratedKeys() && generatedValues.isEmpty()) {
@@ -134,6 +135,13 @@ public final class DriverExecuteBatchExecutor {
         return result;
     }
     
+    private void coalesceInsertValues(final BatchPreparedStatementExecutor batchExecutor, final SQLStatementContext sqlStatementContext, final StatementOption statementOption) {
+        int coalesceSize = metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.JDBC_BATCH_INSERT_COALESCE_SIZE);
+        if (coalesceSize > 1 && !statementOption.isReturnGeneratedKeys()) {
+            batchExecutor.coalesceInsertValues(sqlStatementContext, coalesceSize);
+        }
+    }
+    
     private void initBatchPreparedStatementExecutor(final ShardingSphereDatabase database, final BatchPreparedStatementExecutor batchExecutor,
                                                     final ExecutionContext executionContext, final PreparedStatementParametersReplayCallback replayCallback) throws SQLException {
         List<ExecutionUnit> executionUnits = new ArrayList<>(batchExecutor.getBatchExecutionUnits().size());
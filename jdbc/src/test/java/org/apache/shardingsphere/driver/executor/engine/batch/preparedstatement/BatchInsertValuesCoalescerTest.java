@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class BatchInsertValuesCoalescerTest {
+    
+    @Test
+    void assertCoalesce() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, status) values (?, ?)", 5);
+        List<BatchExecutionUnit> actual = new ArrayList<>(new BatchInsertValuesCoalescer(2).coalesce(batchExecutionUnit));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) values (?, ?), (?, ?)"));
+        assertThat(actual.get(0).getParameterSets(), is(Arrays.asList(Arrays.asList(0, "OK", 1, "OK"), Arrays.asList(2, "OK", 3, "OK"))));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap().get(3), is(1));
+        assertThat(actual.get(0).getAddBatchUpdateCount(2), is(1));
+        assertThat(actual.get(0).getAddBatchUpdateCount(1), is(Statement.SUCCESS_NO_INFO));
+        assertThat(actual.get(0).getAddBatchUpdateCount(Statement.EXECUTE_FAILED), is(Statement.EXECUTE_FAILED));
+        assertThat(actual.get(1).getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) values (?, ?)"));
+        assertThat(actual.get(1).getParameterSets(), is(Collections.singletonList(Arrays.asList(4, "OK"))));
+        assertThat(actual.get(1).getJdbcAndActualAddBatchCallTimesMap(), is(Collections.singletonMap(4, 0)));
+    }
+    
+    @Test
+    void assertCoalesceWithLiteralValues() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, status) VALUES (?, 'OK')", 2);
+        assertThat(new BatchInsertValuesCoalescer(2).coalesce(batchExecutionUnit), is(Collections.singleton(batchExecutionUnit)));
+    }
+    
+    @Test
+    void assertCoalesceWithSingleRow() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)", 1);
+        assertThat(new BatchInsertValuesCoalescer(2).coalesce(batchExecutionUnit), is(Collections.singleton(batchExecutionUnit)));
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final String sql, final int rows) {
+        List<Object> params = new LinkedList<>();
+        for (int i = 0; i < rows; i++) {
+            params.add(i);
+            params.add("OK");
+        }
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(sql, params)));
+        for (int i = 0; i < rows; i++) {
+            result.mapAddBatchCount(i);
+        }
+        return result;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -49,11 +50,15 @@ import org.mockito.quality.Strictness;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -157,6 +162,47 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertAddBatchForExecutionUnits() {
+        executor.addBatchForExecutionUnits(Arrays.asList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(1)))),
+                new ExecutionUnit("ds_1", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(1))))));
+        executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_1", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(2))))));
+        List<BatchExecutionUnit> actual = new ArrayList<>(executor.getBatchExecutionUnits());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap(), is(Collections.singletonMap(0, 0)));
+        assertThat(actual.get(1).getExecutionUnit().getSqlUnit().getParameters(), is(Arrays.asList(1, 2)));
+        assertThat(actual.get(1).getJdbcAndActualAddBatchCallTimesMap().get(1), is(1));
+    }
+    
+    @Test
+    void assertCoalesceInsertValues() throws SQLException {
+        String sql = "INSERT INTO t_order_0 (order_id, status) VALUES (?, ?)";
+        for (int i = 0; i < 3; i++) {
+            executor.addBatchForExecutionUnits(Collections.singleton(new ExecutionUnit("ds_0", new SQLUnit(sql, new LinkedList<>(Arrays.asList(i, "OK"))))));
+        }
+        InsertStatementContext insertStatementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(insertStatementContext.getValueListCount()).thenReturn(1);
+        when(insertStatementContext.getInsertSelectContext()).thenReturn(null);
+        when(insertStatementContext.getSqlStatement().getOnDuplicateKeyColumns()).thenReturn(Optional.empty());
+        when(insertStatementContext.getSqlStatement().getSetAssignment()).thenReturn(Optional.empty());
+        when(insertStatementContext.getSqlStatement().getReturningSegment()).thenReturn(Optional.empty());
+        when(insertStatementContext.getSqlStatement().getOutputSegment()).thenReturn(Optional.empty());
+        executor.coalesceInsertValues(insertStatementContext, 2);
+        List<BatchExecutionUnit> actual = new ArrayList<>(executor.getBatchExecutionUnits());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?), (?, ?)"));
+        assertThat(actual.get(1).getExecutionUnit().getSqlUnit().getSql(), is(sql));
+        PreparedStatement preparedStatement1 = getPreparedStatement();
+        PreparedStatement preparedStatement2 = getPreparedStatement();
+        when(preparedStatement1.executeBatch()).thenReturn(new int[]{2});
+        when(preparedStatement2.executeBatch()).thenReturn(new int[]{1});
+        Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = Collections.singleton(new ExecutionGroup<>(Arrays.asList(
+                new JDBCExecutionUnit(actual.get(0).getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, preparedStatement1),
+                new JDBCExecutionUnit(actual.get(1).getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, preparedStatement2))));
+        executor.init(new ExecutionGroupContext<>(executionGroups, new ExecutionGroupReportContext("foo_process_id", "logic_db")));
+        assertThat(executor.executeBatch(insertStatementContext), is(new int[]{1, 1, 1}));
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
@@ -167,19 +213,19 @@ class BatchPreparedStatementExecutorTest {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), ConnectionMode.MEMORY_STRICTLY, each));
         }
         setFields(executionGroups, batchExecutionUnits);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         String processId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), executor,
                 new ExecutionGroupContext<>(executionGroups, new ExecutionGroupReportContext(processId, "logic_db")));
@@ -157,7 +157,7 @@ public final class CDCClient implements AutoCloseable {
      */
     public String startStreaming(final StartStreamingParameter parameter) {
         StreamDataRequestBody streamDataRequestBody = StreamDataRequestBody.newBuilder().setDatabase(parameter.getDatabase()).setFull(parameter.isFull())
-                .addAllSourceSchemaTable(parameter.getSchemaTables()).build();
+                .addAllSourceSchemaTable(parameter.getSchemaTables()).setRecordEncoding(config.getRecordEncoding()).addAllTableFilter(parameter.getTableFilters()).build();
         String requestId = RequestIdUtils.generateRequestId();
         CDCRequest request = CDCRequest.newBuilder().setRequestId(requestId).setType(Type.STREAM_DATA).setStreamDataRequestBody(streamDataRequestBody).build();
         ClientConnectionContext connectionContext = channel.attr(ClientConnectionContext.CONTEXT_KEY).get();
@@ -176,7 +176,7 @@ public final class CDCClient implements AutoCloseable {
      */
     public void restartStreaming(final String streamingId) {
         String requestId = RequestIdUtils.generateRequestId();
-        StartStreamingRequestBody body = StartStreamingRequestBody.newBuilder().setStreamingId(streamingId).build();
+        StartStreamingRequestBody body = StartStreamingRequestBody.newBuilder().setStreamingId(streamingId).setRecordEncoding(config.getRecordEncoding()).build();
         CDCRequest request = CDCRequest.newBuilder().setRequestId(requestId).setType(Type.START_STREAMING).setStartStreamingRequestBody(body).build();
         ResponseFuture responseFuture = new ResponseFuture(requestId, Type.START_STREAMING);
         ClientConnectionContext connectionContext = channel.attr(ClientConnectionContext.CONTEXT_KEY).get();
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.cdc.client.config;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding;
 
 /**
  * CDC client configuration.
@@ -32,4 +33,10 @@ public final class CDCClientConfiguration {
     private final int port;
     
     private final int timeoutMills;
+    
+    private final RecordEncoding recordEncoding;
+    
+    public CDCClientConfiguration(final String address, final int port, final int timeoutMills) {
+        this(address, port, timeoutMills, RecordEncoding.getDefaultInstance());
+    }
 }
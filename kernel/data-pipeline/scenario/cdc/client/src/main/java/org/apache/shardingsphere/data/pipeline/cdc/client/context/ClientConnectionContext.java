@@ -21,6 +21,7 @@ import io.netty.util.AttributeKey;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.data.pipeline.cdc.client.constant.ClientConnectionStatus;
+import org.apache.shardingsphere.data.pipeline.cdc.client.util.ColumnarDataRecordResultDecoder;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.ResponseFuture;
 
 import java.util.Map;
@@ -43,4 +44,6 @@ public final class ClientConnectionContext {
     private final Set<String> streamingIds = new CopyOnWriteArraySet<>();
     
     private final Map<String, ResponseFuture> responseFutureMap = new ConcurrentHashMap<>();
+    
+    private final ColumnarDataRecordResultDecoder columnarDecoder = new ColumnarDataRecordResultDecoder();
 }
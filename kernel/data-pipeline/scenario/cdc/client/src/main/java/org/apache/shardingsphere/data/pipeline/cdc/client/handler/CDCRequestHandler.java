@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.client.handler;
 
+import com.google.protobuf.InvalidProtocolBufferException;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.cdc.client.constant.ClientConnectionStatus;
 import org.apache.shardingsphere.data.pipeline.cdc.client.context.ClientConnectionContext;
@@ -30,6 +32,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Type;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarDataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ServerGreetingResult;
@@ -104,13 +107,25 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
             connectionContext.getStreamingIds().add(streamDataResult.getStreamingId());
         } else if (response.hasDataRecordResult()) {
             processDataRecords(ctx, response.getDataRecordResult());
+        } else if (response.hasColumnarDataRecordResult()) {
+            processColumnarDataRecords(ctx, connectionContext, response.getColumnarDataRecordResult());
         }
         responseFuture.ifPresent(ResponseFuture::countDown);
     }
     
     private void processDataRecords(final ChannelHandlerContext ctx, final DataRecordResult result) {
         consumer.accept(result.getRecordList());
-        ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(result.getAckId()).build()).build());
+        ack(ctx, result.getAckId());
+    }
+    
+    @SneakyThrows(InvalidProtocolBufferException.class)
+    private void processColumnarDataRecords(final ChannelHandlerContext ctx, final ClientConnectionContext connectionContext, final ColumnarDataRecordResult result) {
+        consumer.accept(connectionContext.getColumnarDecoder().decode(result));
+        ack(ctx, result.getAckId());
+    }
+    
+    private void ack(final ChannelHandlerContext ctx, final String ackId) {
+        ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(ackId).build()).build());
     }
     
     @Override
@@ -20,7 +20,10 @@ package org.apache.shardingsphere.data.pipeline.cdc.client.parameter;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody.SchemaTable;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.TableFilter;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 
 /**
@@ -35,4 +38,10 @@ public final class StartStreamingParameter {
     private final Set<SchemaTable> schemaTables;
     
     private final boolean full;
+    
+    private final Collection<TableFilter> tableFilters;
+    
+    public StartStreamingParameter(final String database, final Set<SchemaTable> schemaTables, final boolean full) {
+        this(database, schemaTables, full, Collections.emptyList());
+    }
 }
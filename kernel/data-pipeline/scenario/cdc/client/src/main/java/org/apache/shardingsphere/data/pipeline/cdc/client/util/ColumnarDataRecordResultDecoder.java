@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.util;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.Empty;
+import com.google.protobuf.FloatValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.compression.Snappy;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnBlock;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnBlock.ColumnType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarDataRecordResult.TableSchema;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarRecords;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.MetaData;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableColumn;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecordBlock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Columnar data record result decoder.
+ *
+ * <p>Table schemas are cached per connection, because server only sends them the first time a table appears in the stream.</p>
+ */
+public final class ColumnarDataRecordResultDecoder {
+    
+    private final Map<Integer, TableSchema> tableSchemas = new ConcurrentHashMap<>();
+    
+    /**
+     * Decode columnar data record result to records.
+     *
+     * @param result columnar data record result
+     * @return records
+     * @throws InvalidProtocolBufferException invalid protocol buffer exception
+     * @throws IllegalStateException table schema is not received
+     */
+    public List<Record> decode(final ColumnarDataRecordResult result) throws InvalidProtocolBufferException {
+        for (TableSchema each : result.getTableSchemaList()) {
+            tableSchemas.put(each.getTableId(), each);
+        }
+        ColumnarRecords columnarRecords = result.hasSnappyColumnarRecords() ? ColumnarRecords.parseFrom(decompress(result.getSnappyColumnarRecords().toByteArray())) : result.getColumnarRecords();
+        List<Record> records = new ArrayList<>();
+        for (TableRecordBlock each : columnarRecords.getBlockList()) {
+            TableSchema tableSchema = tableSchemas.get(each.getTableId());
+            if (null == tableSchema) {
+                throw new IllegalStateException(String.format("Table schema of table id `%s` is not received", each.getTableId()));
+            }
+            records.addAll(decodeBlock(tableSchema, each));
+        }
+        return records;
+    }
+    
+    private byte[] decompress(final byte[] compressed) {
+        ByteBuf in = Unpooled.wrappedBuffer(compressed);
+        ByteBuf out = Unpooled.buffer(compressed.length * 2);
+        try {
+            new Snappy().decode(in, out);
+            byte[] result = new byte[out.readableBytes()];
+            out.readBytes(result);
+            return result;
+        } finally {
+            in.release();
+            out.release();
+        }
+    }
+    
+    private List<Record> decodeBlock(final TableSchema tableSchema, final TableRecordBlock block) {
+        int rowCount = block.getDataChangeTypeCount();
+        List<Any[]> beforeColumns = new ArrayList<>(block.getBeforeCount());
+        List<Any[]> afterColumns = new ArrayList<>(block.getAfterCount());
+        for (int i = 0; i < tableSchema.getColumnNameCount(); i++) {
+            beforeColumns.add(decodeColumnBlock(block.getBefore(i), rowCount));
+            afterColumns.add(decodeColumnBlock(block.getAfter(i), rowCount));
+        }
+        MetaData metaData = MetaData.newBuilder().setDatabase(tableSchema.getDatabase()).setSchema(tableSchema.getSchema()).setTable(tableSchema.getTable()).build();
+        List<Record> result = new ArrayList<>(rowCount);
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            Record.Builder record = Record.newBuilder().setMetaData(metaData)
+                    .setTransactionCommitMillis(block.getTransactionCommitMillis(rowIndex)).setDataChangeType(block.getDataChangeType(rowIndex));
+            for (int columnIndex = 0; columnIndex < tableSchema.getColumnNameCount(); columnIndex++) {
+                String columnName = tableSchema.getColumnName(columnIndex);
+                record.addBefore(TableColumn.newBuilder().setName(columnName).setValue(beforeColumns.get(columnIndex)[rowIndex]).build());
+                record.addAfter(TableColumn.newBuilder().setName(columnName).setValue(afterColumns.get(columnIndex)[rowIndex]).build());
+            }
+            result.add(record.build());
+        }
+        return result;
+    }
+    
+    private Any[] decodeColumnBlock(final ColumnBlock columnBlock, final int rowCount) {
+        Any[] result = new Any[rowCount];
+        Any nullValue = Any.pack(Empty.getDefaultInstance());
+        int[] typedIndexes = new int[ColumnType.values().length];
+        int valueIndex = 0;
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            if (isNull(columnBlock, rowIndex)) {
+                result[rowIndex] = nullValue;
+                continue;
+            }
+            ColumnType valueType = ColumnType.MIXED == columnBlock.getType() ? columnBlock.getValueType(valueIndex) : columnBlock.getType();
+            result[rowIndex] = Any.pack(decodeValue(columnBlock, valueType, typedIndexes[valueType.ordinal()]++));
+            valueIndex++;
+        }
+        return result;
+    }
+    
+    private boolean isNull(final ColumnBlock columnBlock, final int rowIndex) {
+        return !columnBlock.getNullBitmap().isEmpty() && 0 != (columnBlock.getNullBitmap().byteAt(rowIndex / 8) & (1 << (rowIndex % 8)));
+    }
+    
+    private Message decodeValue(final ColumnBlock columnBlock, final ColumnType valueType, final int index) {
+        switch (valueType) {
+            case INT32:
+                return Int32Value.of(columnBlock.getInt32Value(index));
+            case INT64:
+                return Int64Value.of(columnBlock.getInt64Value(index));
+            case FLOAT:
+                return FloatValue.of(columnBlock.getFloatValue(index));
+            case DOUBLE:
+                return DoubleValue.of(columnBlock.getDoubleValue(index));
+            case BOOL:
+                return BoolValue.of(columnBlock.getBoolValue(index));
+            case STRING:
+                return StringValue.of(columnBlock.getStringValue(index));
+            case BYTES:
+                return BytesValue.of(columnBlock.getBytesValue(index));
+            case TIMESTAMP:
+                return Timestamp.newBuilder().setSeconds(columnBlock.getTimestampSeconds(index)).setNanos(columnBlock.getTimestampNanos(index)).build();
+            default:
+                throw new UnsupportedOperationException(String.format("not support decode the type %s", valueType));
+        }
+    }
+}
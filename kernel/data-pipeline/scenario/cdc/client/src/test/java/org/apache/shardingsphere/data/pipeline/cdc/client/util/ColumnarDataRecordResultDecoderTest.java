@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.util;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnBlock;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnBlock.ColumnType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarDataRecordResult.TableSchema;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarRecords;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecordBlock;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColumnarDataRecordResultDecoderTest {
+    
+    @Test
+    void assertDecode() throws InvalidProtocolBufferException {
+        ColumnarDataRecordResultDecoder decoder = new ColumnarDataRecordResultDecoder();
+        TableSchema tableSchema = TableSchema.newBuilder().setTableId(0).setDatabase("foo_db").setTable("t_order").addColumnName("order_id").addColumnName("status").build();
+        ColumnBlock emptyBlock = ColumnBlock.newBuilder().setNullBitmap(ByteString.copyFrom(new byte[]{3})).build();
+        ColumnBlock orderIdBlock = ColumnBlock.newBuilder().setType(ColumnType.MIXED).addValueType(ColumnType.INT32).addValueType(ColumnType.INT64).addInt32Value(1).addInt64Value(2L).build();
+        ColumnBlock statusBlock = ColumnBlock.newBuilder().setType(ColumnType.STRING).setNullBitmap(ByteString.copyFrom(new byte[]{1})).addStringValue("foo").build();
+        TableRecordBlock block = TableRecordBlock.newBuilder().setTableId(0).addDataChangeType(DataChangeType.INSERT).addDataChangeType(DataChangeType.INSERT)
+                .addTransactionCommitMillis(1L).addTransactionCommitMillis(2L).addBefore(emptyBlock).addBefore(emptyBlock).addAfter(orderIdBlock).addAfter(statusBlock).build();
+        ColumnarDataRecordResult result = ColumnarDataRecordResult.newBuilder().setAckId("ack").addTableSchema(tableSchema)
+                .setColumnarRecords(ColumnarRecords.newBuilder().addBlock(block).build()).build();
+        List<Record> actual = decoder.decode(result);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getMetaData().getTable(), is("t_order"));
+        assertThat(actual.get(1).getTransactionCommitMillis(), is(2L));
+        assertNull(ProtobufAnyValueConverter.convertToObject(actual.get(0).getBefore(0).getValue()));
+        assertThat(ProtobufAnyValueConverter.convertToObject(actual.get(0).getAfter(0).getValue()), is(1));
+        assertThat(ProtobufAnyValueConverter.convertToObject(actual.get(1).getAfter(0).getValue()), is(2L));
+        assertNull(ProtobufAnyValueConverter.convertToObject(actual.get(0).getAfter(1).getValue()));
+        assertThat(ProtobufAnyValueConverter.convertToObject(actual.get(1).getAfter(1).getValue()), is("foo"));
+    }
+    
+    @Test
+    void assertDecodeWithoutTableSchema() {
+        ColumnarDataRecordResult result = ColumnarDataRecordResult.newBuilder()
+                .setColumnarRecords(ColumnarRecords.newBuilder().addBlock(TableRecordBlock.newBuilder().setTableId(1).build()).build()).build();
+        assertThrows(IllegalStateException.class, () -> new ColumnarDataRecordResultDecoder().decode(result));
+    }
+}
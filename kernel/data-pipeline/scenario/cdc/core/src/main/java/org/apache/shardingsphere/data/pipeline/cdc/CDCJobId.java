@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.cdc;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.config.yaml.config.YamlCDCTableFilterConfiguration;
 import org.apache.shardingsphere.data.pipeline.cdc.constant.CDCSinkType;
 import org.apache.shardingsphere.data.pipeline.core.context.PipelineContextKey;
 import org.apache.shardingsphere.data.pipeline.core.job.id.PipelineJobId;
@@ -42,4 +43,6 @@ public final class CDCJobId implements PipelineJobId {
     private final boolean full;
     
     private final CDCSinkType sinkType;
+    
+    private final List<YamlCDCTableFilterConfiguration> tableFilters;
 }
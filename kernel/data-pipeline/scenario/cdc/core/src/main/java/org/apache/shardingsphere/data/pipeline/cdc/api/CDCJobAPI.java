@@ -26,7 +26,9 @@ import org.apache.shardingsphere.data.pipeline.cdc.CDCJobType;
 import org.apache.shardingsphere.data.pipeline.cdc.config.CDCJobConfiguration;
 import org.apache.shardingsphere.data.pipeline.cdc.config.yaml.config.YamlCDCJobConfiguration;
 import org.apache.shardingsphere.data.pipeline.cdc.config.yaml.config.YamlCDCJobConfiguration.YamlSinkConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.config.yaml.config.YamlCDCTableFilterConfiguration;
 import org.apache.shardingsphere.data.pipeline.cdc.config.yaml.swapper.YamlCDCJobConfigurationSwapper;
+import org.apache.shardingsphere.data.pipeline.cdc.config.yaml.swapper.YamlCDCTableFilterConfigurationSwapper;
 import org.apache.shardingsphere.data.pipeline.cdc.constant.CDCSinkType;
 import org.apache.shardingsphere.data.pipeline.cdc.core.pojo.CDCJobItemInfo;
 import org.apache.shardingsphere.data.pipeline.core.context.PipelineContextKey;
@@ -105,6 +107,8 @@ public final class CDCJobAPI implements TransmissionJobAPI {
     
     private final YamlPipelineDataSourceConfigurationSwapper pipelineDataSourceConfigSwapper;
     
+    private final YamlCDCTableFilterConfigurationSwapper tableFilterConfigSwapper;
+    
     public CDCJobAPI() {
         jobType = new CDCJobType();
         jobManager = new PipelineJobManager(jobType);
@@ -112,6 +116,7 @@ public final class CDCJobAPI implements TransmissionJobAPI {
         dataSourceConfigSwapper = new YamlDataSourceConfigurationSwapper();
         ruleConfigSwapperEngine = new YamlRuleConfigurationSwapperEngine();
         pipelineDataSourceConfigSwapper = new YamlPipelineDataSourceConfigurationSwapper();
+        tableFilterConfigSwapper = new YamlCDCTableFilterConfigurationSwapper();
     }
     
     /**
@@ -146,11 +151,13 @@ public final class CDCJobAPI implements TransmissionJobAPI {
         YamlCDCJobConfiguration result = new YamlCDCJobConfiguration();
         List<String> schemaTableNames = param.getSchemaTableNames();
         Collections.sort(schemaTableNames);
-        result.setJobId(PipelineJobIdUtils.marshal(new CDCJobId(contextKey, schemaTableNames, param.isFull(), sinkType)));
+        List<YamlCDCTableFilterConfiguration> tableFilters = param.getTableFilters().stream().map(tableFilterConfigSwapper::swapToYamlConfiguration).collect(Collectors.toList());
+        result.setJobId(PipelineJobIdUtils.marshal(new CDCJobId(contextKey, schemaTableNames, param.isFull(), sinkType, tableFilters.isEmpty() ? null : tableFilters)));
         result.setDatabaseName(param.getDatabaseName());
         result.setSchemaTableNames(schemaTableNames);
         result.setFull(param.isFull());
         result.setDecodeWithTX(param.isDecodeWithTX());
+        result.setTableFilters(tableFilters);
         YamlSinkConfiguration sinkConfig = new YamlSinkConfiguration();
         sinkConfig.setSinkType(sinkType.name());
         sinkConfig.setProps(sinkProps);
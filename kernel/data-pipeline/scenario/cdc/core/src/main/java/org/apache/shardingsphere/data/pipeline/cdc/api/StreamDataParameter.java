@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.cdc.api;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.config.CDCTableFilterConfiguration;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 
 import java.util.List;
@@ -40,4 +41,6 @@ public final class StreamDataParameter {
     private final Map<String, List<DataNode>> dataNodesMap;
     
     private final boolean decodeWithTX;
+    
+    private final List<CDCTableFilterConfiguration> tableFilters;
 }
@@ -59,6 +59,8 @@ public final class CDCJobConfiguration implements PipelineJobConfiguration {
     
     private final int retryTimes;
     
+    private final List<CDCTableFilterConfiguration> tableFilters;
+    
     @Override
     public int getJobShardingCount() {
         return jobShardingDataNodes.size();
@@ -22,6 +22,7 @@ import lombok.Setter;
 import org.apache.shardingsphere.data.pipeline.core.datasource.yaml.config.YamlPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.job.config.yaml.config.YamlPipelineJobConfiguration;
 
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
 
@@ -56,6 +57,8 @@ public final class YamlCDCJobConfiguration implements YamlPipelineJobConfigurati
     
     private int retryTimes;
     
+    private List<YamlCDCTableFilterConfiguration> tableFilters = new LinkedList<>();
+    
     /**
      * Sink configuration for YAML.
      */
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.config.yaml.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.util.yaml.YamlConfiguration;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * CDC table filter configuration for YAML.
+ */
+@Getter
+@Setter
+public final class YamlCDCTableFilterConfiguration implements YamlConfiguration {
+    
+    private String tableName;
+    
+    private List<String> projectionColumns = new LinkedList<>();
+    
+    private List<YamlColumnPredicateConfiguration> predicates = new LinkedList<>();
+    
+    /**
+     * Column predicate configuration for YAML.
+     */
+    @Getter
+    @Setter
+    public static class YamlColumnPredicateConfiguration {
+        
+        private String columnName;
+        
+        private String operator;
+        
+        private List<String> values = new LinkedList<>();
+    }
+}
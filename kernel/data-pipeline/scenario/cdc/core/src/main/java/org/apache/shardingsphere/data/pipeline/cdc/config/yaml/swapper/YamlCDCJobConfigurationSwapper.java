@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.cdc.config.yaml.swapper;
 import org.apache.shardingsphere.data.pipeline.api.type.ShardingSpherePipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.cdc.config.CDCJobConfiguration;
 import org.apache.shardingsphere.data.pipeline.cdc.config.CDCJobConfiguration.SinkConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.config.CDCTableFilterConfiguration;
 import org.apache.shardingsphere.data.pipeline.cdc.config.yaml.config.YamlCDCJobConfiguration;
 import org.apache.shardingsphere.data.pipeline.cdc.constant.CDCSinkType;
 import org.apache.shardingsphere.data.pipeline.cdc.config.yaml.config.YamlCDCJobConfiguration.YamlSinkConfiguration;
@@ -41,6 +42,8 @@ public final class YamlCDCJobConfigurationSwapper implements YamlPipelineJobConf
     
     private final YamlPipelineDataSourceConfigurationSwapper dataSourceConfigSwapper = new YamlPipelineDataSourceConfigurationSwapper();
     
+    private final YamlCDCTableFilterConfigurationSwapper tableFilterConfigSwapper = new YamlCDCTableFilterConfigurationSwapper();
+    
     @Override
     public YamlCDCJobConfiguration swapToYamlConfiguration(final CDCJobConfiguration data) {
         YamlCDCJobConfiguration result = new YamlCDCJobConfiguration();
@@ -57,6 +60,7 @@ public final class YamlCDCJobConfigurationSwapper implements YamlPipelineJobConf
         result.setSinkConfig(swapToYamlSinkConfiguration(data.getSinkConfig()));
         result.setConcurrency(data.getConcurrency());
         result.setRetryTimes(data.getRetryTimes());
+        result.setTableFilters(data.getTableFilters().stream().map(tableFilterConfigSwapper::swapToYamlConfiguration).collect(Collectors.toList()));
         return result;
     }
     
@@ -75,10 +79,13 @@ public final class YamlCDCJobConfigurationSwapper implements YamlPipelineJobConf
         YamlSinkConfiguration yamlSinkConfig = yamlConfig.getSinkConfig();
         SinkConfiguration sinkConfig = new SinkConfiguration(CDCSinkType.valueOf(yamlSinkConfig.getSinkType()), yamlSinkConfig.getProps());
         JobDataNodeLine tablesFirstDataNodes = null == yamlConfig.getTablesFirstDataNodes() ? null : JobDataNodeLine.unmarshal(yamlConfig.getTablesFirstDataNodes());
+        List<CDCTableFilterConfiguration> tableFilters = null == yamlConfig.getTableFilters()
+                ? Collections.emptyList()
+                : yamlConfig.getTableFilters().stream().map(tableFilterConfigSwapper::swapToObject).collect(Collectors.toList());
         return new CDCJobConfiguration(yamlConfig.getJobId(), yamlConfig.getDatabaseName(), yamlConfig.getSchemaTableNames(), yamlConfig.isFull(),
                 TypedSPILoader.getService(DatabaseType.class, yamlConfig.getSourceDatabaseType()),
                 (ShardingSpherePipelineDataSourceConfiguration) dataSourceConfigSwapper.swapToObject(yamlConfig.getDataSourceConfiguration()), tablesFirstDataNodes,
-                jobShardingDataNodes, yamlConfig.isDecodeWithTX(), sinkConfig, yamlConfig.getConcurrency(), yamlConfig.getRetryTimes());
+                jobShardingDataNodes, yamlConfig.isDecodeWithTX(), sinkConfig, yamlConfig.getConcurrency(), yamlConfig.getRetryTimes(), tableFilters);
     }
     
     @Override
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.config.yaml.swapper;
+
+import org.apache.shardingsphere.data.pipeline.cdc.config.CDCTableFilterConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.config.CDCTableFilterConfiguration.ColumnPredicateConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.config.yaml.config.YamlCDCTableFilterConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.config.yaml.config.YamlCDCTableFilterConfiguration.YamlColumnPredicateConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.constant.CDCPredicateOperator;
+import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * YAML CDC table filter configuration swapper.
+ */
+public final class YamlCDCTableFilterConfigurationSwapper implements YamlConfigurationSwapper<YamlCDCTableFilterConfiguration, CDCTableFilterConfiguration> {
+    
+    @Override
+    public YamlCDCTableFilterConfiguration swapToYamlConfiguration(final CDCTableFilterConfiguration data) {
+        YamlCDCTableFilterConfiguration result = new YamlCDCTableFilterConfiguration();
+        result.setTableName(data.getTableName());
+        result.setProjectionColumns(new ArrayList<>(data.getProjectionColumns()));
+        result.setPredicates(data.getPredicates().stream().map(this::swapToYamlPredicate).collect(Collectors.toList()));
+        return result;
+    }
+    
+    private YamlColumnPredicateConfiguration swapToYamlPredicate(final ColumnPredicateConfiguration predicate) {
+        YamlColumnPredicateConfiguration result = new YamlColumnPredicateConfiguration();
+        result.setColumnName(predicate.getColumnName());
+        result.setOperator(predicate.getOperator().name());
+        result.setValues(new ArrayList<>(predicate.getValues()));
+        return result;
+    }
+    
+    @Override
+    public CDCTableFilterConfiguration swapToObject(final YamlCDCTableFilterConfiguration yamlConfig) {
+        List<ColumnPredicateConfiguration> predicates = yamlConfig.getPredicates().stream()
+                .map(each -> new ColumnPredicateConfiguration(each.getColumnName(), CDCPredicateOperator.valueOf(each.getOperator()), each.getValues())).collect(Collectors.toList());
+        return new CDCTableFilterConfiguration(yamlConfig.getTableName(), yamlConfig.getProjectionColumns(), predicates);
+    }
+}
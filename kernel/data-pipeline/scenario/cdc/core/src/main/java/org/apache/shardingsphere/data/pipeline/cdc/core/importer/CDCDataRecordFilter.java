@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.cdc.config.CDCTableFilterConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.config.CDCTableFilterConfiguration.ColumnPredicateConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.constant.CDCPredicateOperator;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * CDC data record filter.
+ *
+ * <p>Predicates of one table are combined with AND. Insert is matched by new values, update and delete are matched if either new values or old values match,
+ * so that consumers can observe rows moving into or out of the filtered range.</p>
+ */
+public final class CDCDataRecordFilter {
+    
+    private final Map<String, CompiledTableFilter> tableFilters;
+    
+    public CDCDataRecordFilter(final Collection<CDCTableFilterConfiguration> tableFilterConfigs) {
+        tableFilters = new HashMap<>(tableFilterConfigs.size(), 1F);
+        for (CDCTableFilterConfiguration each : tableFilterConfigs) {
+            tableFilters.put(each.getTableName(), new CompiledTableFilter(each));
+        }
+    }
+    
+    /**
+     * Filter records, and project columns of data records.
+     *
+     * @param records records
+     * @return filtered records
+     */
+    public List<Record> filter(final List<Record> records) {
+        if (tableFilters.isEmpty()) {
+            return records;
+        }
+        List<Record> result = new ArrayList<>(records.size());
+        for (Record each : records) {
+            if (!(each instanceof DataRecord)) {
+                result.add(each);
+                continue;
+            }
+            DataRecord dataRecord = (DataRecord) each;
+            CompiledTableFilter tableFilter = tableFilters.get(dataRecord.getTableName());
+            if (null == tableFilter) {
+                result.add(dataRecord);
+            } else if (tableFilter.matches(dataRecord)) {
+                result.add(tableFilter.project(dataRecord));
+            }
+        }
+        return result;
+    }
+    
+    private static final class CompiledTableFilter {
+        
+        private final Set<String> projectionColumns;
+        
+        private final Collection<CompiledColumnPredicate> predicates;
+        
+        private CompiledTableFilter(final CDCTableFilterConfiguration config) {
+            projectionColumns = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            projectionColumns.addAll(config.getProjectionColumns());
+            predicates = new ArrayList<>(config.getPredicates().size());
+            for (ColumnPredicateConfiguration each : config.getPredicates()) {
+                predicates.add(new CompiledColumnPredicate(each));
+            }
+        }
+        
+        private boolean matches(final DataRecord dataRecord) {
+            if (predicates.isEmpty() || matches(dataRecord, false)) {
+                return true;
+            }
+            return PipelineSQLOperationType.INSERT != dataRecord.getType() && matches(dataRecord, true);
+        }
+        
+        private boolean matches(final DataRecord dataRecord, final boolean oldValue) {
+            for (CompiledColumnPredicate each : predicates) {
+                Column column = findColumn(dataRecord, each.columnName);
+                if (null == column || !each.matches(oldValue ? column.getOldValue() : column.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        private Column findColumn(final DataRecord dataRecord, final String columnName) {
+            for (Column each : dataRecord.getColumns()) {
+                if (each.getName().equalsIgnoreCase(columnName)) {
+                    return each;
+                }
+            }
+            return null;
+        }
+        
+        private DataRecord project(final DataRecord dataRecord) {
+            if (projectionColumns.isEmpty()) {
+                return dataRecord;
+            }
+            DataRecord result = new DataRecord(dataRecord.getType(), dataRecord.getSchemaName(), dataRecord.getTableName(), dataRecord.getPosition(), projectionColumns.size());
+            for (Column each : dataRecord.getColumns()) {
+                if (projectionColumns.contains(each.getName())) {
+                    result.addColumn(each);
+                }
+            }
+            result.setActualTableName(dataRecord.getActualTableName());
+            result.setCsn(dataRecord.getCsn());
+            result.setCommitTime(dataRecord.getCommitTime());
+            return result;
+        }
+    }
+    
+    private static final class CompiledColumnPredicate {
+        
+        private final String columnName;
+        
+        private final CDCPredicateOperator operator;
+        
+        private final List<String> values;
+        
+        private final List<BigDecimal> numericValues;
+        
+        private CompiledColumnPredicate(final ColumnPredicateConfiguration config) {
+            columnName = config.getColumnName();
+            operator = config.getOperator();
+            values = config.getValues();
+            numericValues = new ArrayList<>(values.size());
+            for (String each : values) {
+                numericValues.add(toBigDecimal(each));
+            }
+        }
+        
+        private BigDecimal toBigDecimal(final String value) {
+            try {
+                return new BigDecimal(value);
+            } catch (final NumberFormatException ignored) {
+                return null;
+            }
+        }
+        
+        private boolean matches(final Object value) {
+            if (null == value) {
+                return false;
+            }
+            if (CDCPredicateOperator.IN == operator) {
+                for (int i = 0; i < values.size(); i++) {
+                    if (0 == compare(value, i)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            int compareResult = compare(value, 0);
+            switch (operator) {
+                case EQUAL:
+                    return 0 == compareResult;
+                case NOT_EQUAL:
+                    return 0 != compareResult;
+                case GREATER_THAN:
+                    return compareResult > 0;
+                case GREATER_THAN_OR_EQUAL:
+                    return compareResult >= 0;
+                case LESS_THAN:
+                    return compareResult < 0;
+                case LESS_THAN_OR_EQUAL:
+                    return compareResult <= 0;
+                default:
+                    return false;
+            }
+        }
+        
+        private int compare(final Object value, final int valueIndex) {
+            BigDecimal numericValue = numericValues.get(valueIndex);
+            if (value instanceof Number && null != numericValue) {
+                return new BigDecimal(value.toString()).compareTo(numericValue);
+            }
+            if (value instanceof Boolean) {
+                return Boolean.compare((Boolean) value, Boolean.parseBoolean(values.get(valueIndex)));
+            }
+            return value.toString().compareTo(values.get(valueIndex));
+        }
+    }
+}
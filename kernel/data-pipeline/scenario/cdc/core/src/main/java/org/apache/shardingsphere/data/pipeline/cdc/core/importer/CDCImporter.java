@@ -69,6 +69,8 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
     
     private final JobRateLimitAlgorithm rateLimitAlgorithm;
     
+    private final CDCDataRecordFilter dataRecordFilter;
+    
     private final PriorityQueue<CSNRecords> csnRecordsQueue = new PriorityQueue<>(new CSNRecordsComparator());
     
     private final Cache<String, List<Pair<CDCChannelProgressPair, CDCAckPosition>>> ackCache = Caffeine.newBuilder().maximumSize(10000L).expireAfterAccess(5L, TimeUnit.MINUTES).build();
@@ -192,7 +194,7 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
     private void processCSNRecords(final CSNRecords csnRecords, final String ackId) {
         List<Record> records = csnRecords.getRecords();
         ackCache.put(ackId, Collections.singletonList(Pair.of(csnRecords.getChannelProgressPair(), new CDCAckPosition(records.get(records.size() - 1), getDataRecordsCount(records)))));
-        sink.write(ackId, filterDataRecords(records));
+        write(ackId, filterDataRecords(records));
     }
     
     private void processCSNRecordsList(final List<CSNRecords> csnRecordsList, final String ackId) {
@@ -201,7 +203,17 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
         ackCache.put(ackId, ackValue);
         Collection<Record> records = new ArrayList<>(ackValue.stream().mapToInt(each -> each.getRight().getDataRecordCount()).sum());
         csnRecordsList.forEach(each -> records.addAll(filterDataRecords(each.getRecords())));
-        sink.write(ackId, filterDataRecords(records));
+        write(ackId, filterDataRecords(records));
+    }
+    
+    private void write(final String ackId, final List<Record> records) {
+        List<Record> filteredRecords = dataRecordFilter.filter(records);
+        if (filteredRecords.stream().noneMatch(DataRecord.class::isInstance)) {
+            // Client never acks a batch it does not receive, ack it here to move position forward.
+            ack(ackId);
+            return;
+        }
+        sink.write(ackId, filteredRecords);
     }
     
     private List<Record> filterDataRecords(final Collection<Record> records) {
@@ -234,7 +246,7 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
         }
         String ackId = CDCAckId.build(importerId).marshal();
         ackCache.put(ackId, Collections.singletonList(Pair.of(channelProgressPair, new CDCAckPosition(records.get(records.size() - 1), getDataRecordsCount(records)))));
-        sink.write(ackId, records);
+        write(ackId, records);
     }
     
     /**
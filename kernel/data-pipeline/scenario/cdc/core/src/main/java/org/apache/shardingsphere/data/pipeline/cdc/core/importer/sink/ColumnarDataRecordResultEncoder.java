@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
+
+import com.google.common.base.Strings;
+import com.google.protobuf.ByteString;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.compression.Snappy;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding.Compression;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarDataRecordResult.TableSchema;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarRecords;
+import org.apache.shardingsphere.data.pipeline.cdc.util.ColumnarRecordConvertUtils;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Columnar data record result encoder.
+ *
+ * <p>Table schema is sent once per stream, later record blocks only reference it by table ID.
+ * Table IDs are allocated from a sequence shared by all streams of the connection, because client caches table schemas per connection.</p>
+ */
+@RequiredArgsConstructor
+public final class ColumnarDataRecordResultEncoder {
+    
+    private static final int COMPRESSION_THRESHOLD_BYTES = 1024;
+    
+    private final String databaseName;
+    
+    private final Map<String, String> tableSchemaNameMap;
+    
+    private final Compression compression;
+    
+    private final AtomicInteger tableIdSequence;
+    
+    private final Map<String, TableSchema> sentTableSchemas = new HashMap<>();
+    
+    /**
+     * Encode records to columnar data record result.
+     *
+     * @param ackId ack ID
+     * @param records records
+     * @return columnar data record result
+     */
+    public ColumnarDataRecordResult encode(final String ackId, final Collection<Record> records) {
+        ColumnarDataRecordResult.Builder result = ColumnarDataRecordResult.newBuilder().setAckId(ackId);
+        ColumnarRecords.Builder columnarRecords = ColumnarRecords.newBuilder();
+        List<DataRecord> blockRecords = new ArrayList<>();
+        TableSchema blockTableSchema = null;
+        for (Record each : records) {
+            if (!(each instanceof DataRecord)) {
+                continue;
+            }
+            DataRecord dataRecord = (DataRecord) each;
+            TableSchema tableSchema = sentTableSchemas.get(dataRecord.getTableName());
+            if (null == tableSchema || !isSameColumns(tableSchema, dataRecord)) {
+                tableSchema = createTableSchema(dataRecord);
+                sentTableSchemas.put(dataRecord.getTableName(), tableSchema);
+                result.addTableSchema(tableSchema);
+            }
+            if (tableSchema != blockTableSchema && !blockRecords.isEmpty()) {
+                columnarRecords.addBlock(ColumnarRecordConvertUtils.convertDataRecordsToTableRecordBlock(blockTableSchema.getTableId(), blockRecords));
+                blockRecords = new ArrayList<>();
+            }
+            blockTableSchema = tableSchema;
+            blockRecords.add(dataRecord);
+        }
+        if (!blockRecords.isEmpty()) {
+            columnarRecords.addBlock(ColumnarRecordConvertUtils.convertDataRecordsToTableRecordBlock(blockTableSchema.getTableId(), blockRecords));
+        }
+        ColumnarRecords builtRecords = columnarRecords.build();
+        if (Compression.SNAPPY == compression && builtRecords.getSerializedSize() >= COMPRESSION_THRESHOLD_BYTES) {
+            result.setSnappyColumnarRecords(compress(builtRecords.toByteArray()));
+        } else {
+            result.setColumnarRecords(builtRecords);
+        }
+        return result.build();
+    }
+    
+    private boolean isSameColumns(final TableSchema tableSchema, final DataRecord dataRecord) {
+        if (tableSchema.getColumnNameCount() != dataRecord.getColumnCount()) {
+            return false;
+        }
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (!tableSchema.getColumnName(i).equals(dataRecord.getColumn(i).getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private TableSchema createTableSchema(final DataRecord dataRecord) {
+        TableSchema.Builder result = TableSchema.newBuilder().setTableId(tableIdSequence.getAndIncrement()).setDatabase(databaseName)
+                .setSchema(Strings.nullToEmpty(tableSchemaNameMap.get(dataRecord.getTableName()))).setTable(dataRecord.getTableName());
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            result.addColumnName(dataRecord.getColumn(i).getName());
+        }
+        return result.build();
+    }
+    
+    private ByteString compress(final byte[] uncompressed) {
+        ByteBuf in = Unpooled.wrappedBuffer(uncompressed);
+        ByteBuf out = Unpooled.buffer(uncompressed.length / 2);
+        try {
+            new Snappy().encode(in, out, uncompressed.length);
+            return ByteString.copyFrom(out.nioBuffer());
+        } finally {
+            in.release();
+            out.release();
+        }
+    }
+}
@@ -18,12 +18,18 @@
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
 import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.Future;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseUtils;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding.Format;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.ResponseCase;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultConvertUtils;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
@@ -37,6 +43,8 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -48,6 +56,10 @@ public final class PipelineCDCSocketSink implements PipelineSink {
     
     private static final long DEFAULT_TIMEOUT_MILLISECONDS = 100L;
     
+    private static final int MAX_PENDING_WRITE_COUNT = 16;
+    
+    private static final AttributeKey<AtomicInteger> COLUMNAR_TABLE_ID_SEQUENCE_KEY = AttributeKey.valueOf("cdc.columnar.table.id.sequence");
+    
     private final Lock lock = new ReentrantLock();
     
     private final Condition condition = lock.newCondition();
@@ -59,7 +71,17 @@ public final class PipelineCDCSocketSink implements PipelineSink {
     
     private final Map<String, String> tableSchemaNameMap;
     
+    private final ColumnarDataRecordResultEncoder columnarEncoder;
+    
+    private final AtomicInteger pendingWriteCount = new AtomicInteger();
+    
+    private final AtomicReference<Throwable> writeFailure = new AtomicReference<>();
+    
     public PipelineCDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames) {
+        this(channel, database, schemaTableNames, RecordEncoding.getDefaultInstance());
+    }
+    
+    public PipelineCDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames, final RecordEncoding recordEncoding) {
         this.channel = channel;
         this.database = database;
         tableSchemaNameMap = new HashMap<>(schemaTableNames.size(), 1F);
@@ -67,6 +89,15 @@ public final class PipelineCDCSocketSink implements PipelineSink {
             String[] split = each.split("\\.");
             tableSchemaNameMap.put(split[1], split[0]);
         });
+        columnarEncoder = Format.COLUMNAR == recordEncoding.getFormat()
+                ? new ColumnarDataRecordResultEncoder(database.getName(), tableSchemaNameMap, recordEncoding.getCompression(), getColumnarTableIdSequence(channel))
+                : null;
+    }
+    
+    private AtomicInteger getColumnarTableIdSequence(final Channel channel) {
+        AtomicInteger result = new AtomicInteger();
+        AtomicInteger existedSequence = channel.attr(COLUMNAR_TABLE_ID_SEQUENCE_KEY).setIfAbsent(result);
+        return null == existedSequence ? result : existedSequence;
     }
     
     @Override
@@ -74,18 +105,56 @@ public final class PipelineCDCSocketSink implements PipelineSink {
         if (records.isEmpty()) {
             return new PipelineJobUpdateProgress(0);
         }
-        while (!channel.isWritable() && channel.isActive()) {
+        // Writes submitted from importer thread are only estimated by channel outbound buffer before encoding, so pending writes are bounded too.
+        while ((!channel.isWritable() || MAX_PENDING_WRITE_COUNT <= pendingWriteCount.get()) && channel.isActive()) {
             doAwait();
         }
+        checkWriteFailure();
         if (!channel.isActive()) {
             return new PipelineJobUpdateProgress(0);
         }
+        if (null != columnarEncoder) {
+            return writeColumnarRecords(ackId, records);
+        }
         Collection<DataRecordResult.Record> resultRecords = getResultRecords(records);
         DataRecordResult dataRecordResult = DataRecordResult.newBuilder().addAllRecord(resultRecords).setAckId(ackId).build();
-        channel.writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, dataRecordResult));
+        writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, dataRecordResult));
         return new PipelineJobUpdateProgress(resultRecords.size());
     }
     
+    private void checkWriteFailure() {
+        Throwable cause = writeFailure.get();
+        if (null != cause) {
+            throw new PipelineInternalException("Write CDC records to channel failed", cause);
+        }
+    }
+    
+    private PipelineJobUpdateProgress writeColumnarRecords(final String ackId, final Collection<Record> records) {
+        int dataRecordsCount = (int) records.stream().filter(DataRecord.class::isInstance).count();
+        synchronized (columnarEncoder) {
+            writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.COLUMNAR_DATA_RECORD_RESULT, columnarEncoder.encode(ackId, records)));
+        }
+        return new PipelineJobUpdateProgress(dataRecordsCount);
+    }
+    
+    private void writeAndFlush(final CDCResponse response) {
+        pendingWriteCount.incrementAndGet();
+        channel.writeAndFlush(response).addListener(this::onWriteCompleted);
+    }
+    
+    private void onWriteCompleted(final Future<? super Void> future) {
+        pendingWriteCount.decrementAndGet();
+        if (!future.isSuccess()) {
+            writeFailure.compareAndSet(null, future.cause());
+        }
+        lock.lock();
+        try {
+            condition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private void doAwait() {
         lock.lock();
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Builder;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.ResponseCase;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarDataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ServerGreetingResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.StreamDataResult;
@@ -63,6 +64,9 @@ public final class CDCResponseUtils {
             case DATA_RECORD_RESULT:
                 result.setDataRecordResult((DataRecordResult) response);
                 break;
+            case COLUMNAR_DATA_RECORD_RESULT:
+                result.setColumnarDataRecordResult((ColumnarDataRecordResult) response);
+                break;
             case STREAM_DATA_RESULT:
                 result.setStreamDataResult((StreamDataResult) response);
                 break;
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.config.CDCTableFilterConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.config.CDCTableFilterConfiguration.ColumnPredicateConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.constant.CDCPredicateOperator;
+import org.apache.shardingsphere.data.pipeline.cdc.exception.CDCExceptionWrapper;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.TableFilter;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.TableFilter.ColumnPredicate;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.TableFilter.ColumnPredicate.Operator;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * CDC table filter utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CDCTableFilterUtils {
+    
+    /**
+     * Convert table filters of request to table filter configurations.
+     *
+     * @param requestId request ID
+     * @param database database
+     * @param schemaTableNames subscribed schema table names, formatted as {@code schema.table} or {@code table}
+     * @param tableNames subscribed table names
+     * @param tableFilters table filters of request
+     * @return table filter configurations
+     */
+    public static List<CDCTableFilterConfiguration> convertTableFilters(final String requestId, final ShardingSphereDatabase database,
+                                                                        final Collection<String> schemaTableNames, final Collection<String> tableNames, final List<TableFilter> tableFilters) {
+        List<CDCTableFilterConfiguration> result = new ArrayList<>(tableFilters.size());
+        for (TableFilter each : tableFilters) {
+            ShardingSpherePreconditions.checkContains(tableNames, each.getTable(),
+                    () -> new CDCExceptionWrapper(requestId, new PipelineInvalidParameterException(String.format("Filtered table `%s` is not subscribed", each.getTable()))));
+            Collection<ShardingSphereTable> tables = findTables(database, schemaTableNames, each.getTable());
+            ShardingSpherePreconditions.checkNotEmpty(tables,
+                    () -> new CDCExceptionWrapper(requestId, new PipelineInvalidParameterException(String.format("Filtered table `%s` does not exist", each.getTable()))));
+            for (String projectionColumn : each.getProjectionColumnList()) {
+                checkColumnExisted(requestId, tables, each.getTable(), projectionColumn);
+            }
+            List<ColumnPredicateConfiguration> predicates = new ArrayList<>(each.getPredicateCount());
+            for (ColumnPredicate predicate : each.getPredicateList()) {
+                checkColumnExisted(requestId, tables, each.getTable(), predicate.getColumn());
+                ShardingSpherePreconditions.checkState(isValidPredicate(predicate),
+                        () -> new CDCExceptionWrapper(requestId, new PipelineInvalidParameterException(String.format("Invalid predicate on column `%s`", predicate.getColumn()))));
+                predicates.add(new ColumnPredicateConfiguration(predicate.getColumn(), CDCPredicateOperator.valueOf(predicate.getOperator().name()), new ArrayList<>(predicate.getValueList())));
+            }
+            result.add(new CDCTableFilterConfiguration(each.getTable(), new ArrayList<>(each.getProjectionColumnList()), predicates));
+        }
+        return result;
+    }
+    
+    private static Collection<ShardingSphereTable> findTables(final ShardingSphereDatabase database, final Collection<String> schemaTableNames, final String tableName) {
+        Collection<ShardingSphereTable> result = new LinkedList<>();
+        String schemaTableSuffix = "." + tableName;
+        for (String each : schemaTableNames) {
+            String schemaName;
+            if (each.equals(tableName)) {
+                schemaName = new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(database.getName());
+            } else if (each.endsWith(schemaTableSuffix)) {
+                schemaName = each.substring(0, each.length() - schemaTableSuffix.length());
+            } else {
+                continue;
+            }
+            ShardingSphereSchema schema = database.getSchema(schemaName);
+            ShardingSphereTable table = null == schema ? null : schema.getTable(tableName);
+            if (null != table) {
+                result.add(table);
+            }
+        }
+        return result;
+    }
+    
+    private static void checkColumnExisted(final String requestId, final Collection<ShardingSphereTable> tables, final String tableName, final String columnName) {
+        ShardingSpherePreconditions.checkState(tables.stream().allMatch(each -> each.containsColumn(columnName)),
+                () -> new CDCExceptionWrapper(requestId, new PipelineInvalidParameterException(String.format("Column `%s` of filtered table `%s` does not exist", columnName, tableName))));
+    }
+    
+    private static boolean isValidPredicate(final ColumnPredicate predicate) {
+        if (Operator.UNRECOGNIZED == predicate.getOperator()) {
+            return false;
+        }
+        return Operator.IN == predicate.getOperator() ? 0 != predicate.getValueCount() : 1 == predicate.getValueCount();
+    }
+}
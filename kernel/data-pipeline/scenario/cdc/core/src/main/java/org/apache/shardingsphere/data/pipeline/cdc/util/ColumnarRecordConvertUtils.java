@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.util;
+
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.FloatValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnBlock;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnBlock.ColumnType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecordBlock;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Columnar record convert utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColumnarRecordConvertUtils {
+    
+    /**
+     * Convert data records of the same table and columns to table record block.
+     *
+     * @param tableId table ID of table schema which has been sent to client
+     * @param dataRecords data records
+     * @return table record block
+     */
+    public static TableRecordBlock convertDataRecordsToTableRecordBlock(final int tableId, final List<DataRecord> dataRecords) {
+        TableRecordBlock.Builder result = TableRecordBlock.newBuilder().setTableId(tableId);
+        for (DataRecord each : dataRecords) {
+            result.addDataChangeType(DataRecordResultConvertUtils.getDataChangeType(each.getType()));
+            result.addTransactionCommitMillis(each.getCommitTime());
+        }
+        int columnCount = dataRecords.get(0).getColumnCount();
+        for (int i = 0; i < columnCount; i++) {
+            result.addBefore(convertColumnBlock(dataRecords, i, true));
+            result.addAfter(convertColumnBlock(dataRecords, i, false));
+        }
+        return result.build();
+    }
+    
+    private static ColumnBlock convertColumnBlock(final List<DataRecord> dataRecords, final int columnIndex, final boolean before) {
+        ColumnBlock.Builder result = ColumnBlock.newBuilder();
+        List<ColumnType> valueTypes = new ArrayList<>(dataRecords.size());
+        byte[] nullBitmap = null;
+        ColumnType blockType = ColumnType.UNKNOWN;
+        int rowIndex = 0;
+        for (DataRecord each : dataRecords) {
+            Column column = each.getColumn(columnIndex);
+            ColumnType valueType = appendValue(result, ColumnValueConvertUtils.convertToProtobufMessage(before ? column.getOldValue() : column.getValue()));
+            if (ColumnType.UNKNOWN == valueType) {
+                if (null == nullBitmap) {
+                    nullBitmap = new byte[(dataRecords.size() + 7) / 8];
+                }
+                nullBitmap[rowIndex / 8] |= (byte) (1 << (rowIndex % 8));
+            } else {
+                valueTypes.add(valueType);
+                blockType = ColumnType.UNKNOWN == blockType || blockType == valueType ? valueType : ColumnType.MIXED;
+            }
+            rowIndex++;
+        }
+        result.setType(blockType);
+        if (ColumnType.MIXED == blockType) {
+            result.addAllValueType(valueTypes);
+        }
+        if (null != nullBitmap) {
+            result.setNullBitmap(ByteString.copyFrom(nullBitmap));
+        }
+        return result.build();
+    }
+    
+    private static ColumnType appendValue(final ColumnBlock.Builder builder, final Message message) {
+        if (message instanceof Int32Value) {
+            builder.addInt32Value(((Int32Value) message).getValue());
+            return ColumnType.INT32;
+        }
+        if (message instanceof Int64Value) {
+            builder.addInt64Value(((Int64Value) message).getValue());
+            return ColumnType.INT64;
+        }
+        if (message instanceof FloatValue) {
+            builder.addFloatValue(((FloatValue) message).getValue());
+            return ColumnType.FLOAT;
+        }
+        if (message instanceof DoubleValue) {
+            builder.addDoubleValue(((DoubleValue) message).getValue());
+            return ColumnType.DOUBLE;
+        }
+        if (message instanceof BoolValue) {
+            builder.addBoolValue(((BoolValue) message).getValue());
+            return ColumnType.BOOL;
+        }
+        if (message instanceof StringValue) {
+            builder.addStringValue(((StringValue) message).getValue());
+            return ColumnType.STRING;
+        }
+        if (message instanceof BytesValue) {
+            builder.addBytesValue(((BytesValue) message).getValue());
+            return ColumnType.BYTES;
+        }
+        if (message instanceof Timestamp) {
+            builder.addTimestampSeconds(((Timestamp) message).getSeconds());
+            builder.addTimestampNanos(((Timestamp) message).getNanos());
+            return ColumnType.TIMESTAMP;
+        }
+        return ColumnType.UNKNOWN;
+    }
+}
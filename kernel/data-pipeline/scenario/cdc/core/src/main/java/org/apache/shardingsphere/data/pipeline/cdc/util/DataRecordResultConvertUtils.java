@@ -59,7 +59,13 @@ public final class DataRecordResultConvertUtils {
                 .setDataChangeType(getDataChangeType(dataRecord.getType())).build();
     }
     
-    private static DataChangeType getDataChangeType(final PipelineSQLOperationType type) {
+    /**
+     * Get data change type.
+     *
+     * @param type pipeline SQL operation type
+     * @return data change type
+     */
+    public static DataChangeType getDataChangeType(final PipelineSQLOperationType type) {
         switch (type) {
             case INSERT:
                 return DataChangeType.INSERT;
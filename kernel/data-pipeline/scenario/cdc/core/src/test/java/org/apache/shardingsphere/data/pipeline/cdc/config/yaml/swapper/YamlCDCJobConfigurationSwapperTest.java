@@ -19,13 +19,17 @@ package org.apache.shardingsphere.data.pipeline.cdc.config.yaml.swapper;
 
 import org.apache.shardingsphere.data.pipeline.cdc.config.CDCJobConfiguration;
 import org.apache.shardingsphere.data.pipeline.cdc.config.CDCJobConfiguration.SinkConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.config.CDCTableFilterConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.config.CDCTableFilterConfiguration.ColumnPredicateConfiguration;
 import org.apache.shardingsphere.data.pipeline.cdc.config.yaml.config.YamlCDCJobConfiguration;
 import org.apache.shardingsphere.data.pipeline.cdc.config.yaml.config.YamlCDCJobConfiguration.YamlSinkConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.constant.CDCPredicateOperator;
 import org.apache.shardingsphere.data.pipeline.cdc.constant.CDCSinkType;
 import org.apache.shardingsphere.infra.database.mysql.type.MySQLDatabaseType;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -50,16 +54,22 @@ class YamlCDCJobConfigurationSwapperTest {
         assertThat(actual.getDatabaseName(), is("test_db"));
         assertThat(actual.getSchemaTableNames(), is(Arrays.asList("test.t_order", "t_order_item")));
         assertTrue(actual.isFull());
+        assertTrue(actual.getTableFilters().isEmpty());
     }
     
     @Test
     void assertSwapToYamlConfig() {
         CDCJobConfiguration jobConfig = new CDCJobConfiguration("j0302p00007a8bf46da145dc155ba25c710b550220", "test_db", Arrays.asList("t_order", "t_order_item"), true, new MySQLDatabaseType(),
-                null, null, null, true, new SinkConfiguration(CDCSinkType.SOCKET, new Properties()), 1, 1);
+                null, null, null, true, new SinkConfiguration(CDCSinkType.SOCKET, new Properties()), 1, 1, Collections.singletonList(new CDCTableFilterConfiguration("t_order",
+                        Collections.singletonList("order_id"), Collections.singletonList(new ColumnPredicateConfiguration("status", CDCPredicateOperator.IN, Arrays.asList("OK", "FAIL"))))));
         YamlCDCJobConfiguration actual = new YamlCDCJobConfigurationSwapper().swapToYamlConfiguration(jobConfig);
         assertThat(actual.getJobId(), is("j0302p00007a8bf46da145dc155ba25c710b550220"));
         assertThat(actual.getDatabaseName(), is("test_db"));
         assertThat(actual.getSchemaTableNames(), is(Arrays.asList("t_order", "t_order_item")));
         assertTrue(actual.isFull());
+        assertThat(actual.getTableFilters().size(), is(1));
+        assertThat(actual.getTableFilters().get(0).getTableName(), is("t_order"));
+        assertThat(actual.getTableFilters().get(0).getPredicates().get(0).getOperator(), is("IN"));
+        assertThat(actual.getTableFilters().get(0).getPredicates().get(0).getValues(), is(Arrays.asList("OK", "FAIL")));
     }
 }
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.cdc.config.CDCTableFilterConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.config.CDCTableFilterConfiguration.ColumnPredicateConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.constant.CDCPredicateOperator;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CDCDataRecordFilterTest {
+    
+    @Test
+    void assertFilterWithoutTableFilters() {
+        List<Record> records = Collections.singletonList(createDataRecord(PipelineSQLOperationType.INSERT, 1, null, "OK"));
+        assertThat(new CDCDataRecordFilter(Collections.emptyList()).filter(records), is(records));
+    }
+    
+    @Test
+    void assertFilterWithPredicatesAndProjection() {
+        CDCTableFilterConfiguration tableFilter = new CDCTableFilterConfiguration("t_order", Collections.singletonList("order_id"), Arrays.asList(
+                new ColumnPredicateConfiguration("order_id", CDCPredicateOperator.GREATER_THAN_OR_EQUAL, Collections.singletonList("10")),
+                new ColumnPredicateConfiguration("status", CDCPredicateOperator.IN, Arrays.asList("OK", "FAIL"))));
+        FinishedRecord finishedRecord = new FinishedRecord(new IngestPlaceholderPosition());
+        List<Record> actual = new CDCDataRecordFilter(Collections.singletonList(tableFilter)).filter(Arrays.asList(createDataRecord(PipelineSQLOperationType.INSERT, 10, null, "OK"),
+                createDataRecord(PipelineSQLOperationType.INSERT, 9, null, "OK"), createDataRecord(PipelineSQLOperationType.INSERT, 11, null, "NEW"),
+                createDataRecord(PipelineSQLOperationType.UPDATE, 12, "FAIL", "NEW"), finishedRecord));
+        assertThat(actual.size(), is(3));
+        DataRecord first = (DataRecord) actual.get(0);
+        assertThat(first.getColumnCount(), is(1));
+        assertThat(first.getColumn(0).getName(), is("order_id"));
+        assertThat(first.getColumn(0).getValue(), is(10));
+        assertThat(first.getCommitTime(), is(1L));
+        assertThat(((DataRecord) actual.get(1)).getColumn(0).getValue(), is(12));
+        assertTrue(actual.get(2) instanceof FinishedRecord);
+    }
+    
+    private DataRecord createDataRecord(final PipelineSQLOperationType type, final int orderId, final String oldStatus, final String status) {
+        DataRecord result = new DataRecord(type, "t_order", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("order_id", orderId, orderId, false, true));
+        result.addColumn(new NormalColumn("status", oldStatus, status, false, false));
+        result.setCommitTime(1L);
+        return result;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.cdc.config.CDCTableFilterConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.config.CDCTableFilterConfiguration.ColumnPredicateConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.constant.CDCPredicateOperator;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CDCImporterTest {
+    
+    @Test
+    void assertAckWhenAllDataRecordsFiltered() {
+        PipelineChannel channel = mock(PipelineChannel.class);
+        FinishedRecord finishedRecord = new FinishedRecord(new IngestPlaceholderPosition());
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(Arrays.asList(createDataRecord(1), createDataRecord(2), finishedRecord));
+        PipelineJobProgressListener jobProgressListener = mock(PipelineJobProgressListener.class);
+        PipelineSink sink = mock(PipelineSink.class);
+        CDCTableFilterConfiguration tableFilter = new CDCTableFilterConfiguration("t_order", Collections.emptyList(),
+                Collections.singletonList(new ColumnPredicateConfiguration("order_id", CDCPredicateOperator.GREATER_THAN, Collections.singletonList("10"))));
+        CDCImporter importer = new CDCImporter(new CopyOnWriteArrayList<>(Collections.singletonList(new CDCChannelProgressPair(channel, jobProgressListener))),
+                10, 100L, sink, false, null, new CDCDataRecordFilter(Collections.singletonList(tableFilter)));
+        importer.start();
+        verify(sink, never()).write(anyString(), any());
+        verify(channel).ack(Collections.singletonList(finishedRecord));
+        verify(jobProgressListener).onProgressUpdated(argThat(each -> 2 == each.getProcessedRecordsCount()));
+    }
+    
+    @Test
+    void assertWriteWhenDataRecordsMatched() {
+        PipelineChannel channel = mock(PipelineChannel.class);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(Arrays.asList(createDataRecord(11), new FinishedRecord(new IngestPlaceholderPosition())));
+        PipelineSink sink = mock(PipelineSink.class);
+        CDCTableFilterConfiguration tableFilter = new CDCTableFilterConfiguration("t_order", Collections.emptyList(),
+                Collections.singletonList(new ColumnPredicateConfiguration("order_id", CDCPredicateOperator.GREATER_THAN, Collections.singletonList("10"))));
+        List<CDCChannelProgressPair> channelProgressPairs = new CopyOnWriteArrayList<>(Collections.singletonList(new CDCChannelProgressPair(channel, mock(PipelineJobProgressListener.class))));
+        CDCImporter importer = new CDCImporter(channelProgressPairs, 10, 100L, sink, false, null, new CDCDataRecordFilter(Collections.singletonList(tableFilter)));
+        when(sink.write(anyString(), anyList())).thenAnswer(invocation -> {
+            importer.stop();
+            return new PipelineJobUpdateProgress(1);
+        });
+        importer.start();
+        verify(sink).write(anyString(), argThat(each -> 2 == each.size() && ((DataRecord) each.iterator().next()).getColumn(0).getValue().equals(11)));
+        verify(channel, never()).ack(anyList());
+        assertThat(channelProgressPairs.size(), is(1));
+    }
+    
+    private Record createDataRecord(final int orderId) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 1);
+        result.addColumn(new NormalColumn("order_id", orderId, false, true));
+        return result;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
+
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding.Compression;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnBlock;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnBlock.ColumnType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarDataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableRecordBlock;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnarDataRecordResultEncoderTest {
+    
+    @Test
+    void assertEncodeSendsTableSchemaOnce() {
+        ColumnarDataRecordResultEncoder encoder = new ColumnarDataRecordResultEncoder("foo_db", Collections.singletonMap("t_order", "public"), Compression.NONE, new AtomicInteger());
+        ColumnarDataRecordResult actual = encoder.encode("ack1", Arrays.asList(createDataRecord(1, "foo"), createDataRecord(2, null)));
+        assertThat(actual.getAckId(), is("ack1"));
+        assertThat(actual.getTableSchemaCount(), is(1));
+        assertThat(actual.getTableSchema(0).getSchema(), is("public"));
+        assertThat(actual.getTableSchema(0).getColumnNameList(), is(Arrays.asList("order_id", "status")));
+        assertThat(actual.getColumnarRecords().getBlockCount(), is(1));
+        TableRecordBlock block = actual.getColumnarRecords().getBlock(0);
+        assertThat(block.getDataChangeTypeList(), is(Arrays.asList(DataChangeType.INSERT, DataChangeType.INSERT)));
+        assertThat(block.getAfter(0).getType(), is(ColumnType.INT32));
+        assertThat(block.getAfter(0).getInt32ValueList(), is(Arrays.asList(1, 2)));
+        ColumnBlock statusBlock = block.getAfter(1);
+        assertThat(statusBlock.getType(), is(ColumnType.STRING));
+        assertThat(statusBlock.getStringValueList(), is(Collections.singletonList("foo")));
+        assertThat(statusBlock.getNullBitmap().byteAt(0), is((byte) 2));
+        ColumnarDataRecordResult next = encoder.encode("ack2", Collections.singletonList(createDataRecord(3, "bar")));
+        assertThat(next.getTableSchemaCount(), is(0));
+        assertThat(next.getColumnarRecords().getBlock(0).getTableId(), is(block.getTableId()));
+    }
+    
+    @Test
+    void assertEncodeWithSharedTableIdSequence() {
+        AtomicInteger tableIdSequence = new AtomicInteger();
+        ColumnarDataRecordResult actual = new ColumnarDataRecordResultEncoder("foo_db", Collections.emptyMap(), Compression.NONE, tableIdSequence)
+                .encode("ack1", Collections.singletonList(createDataRecord(1, "foo")));
+        ColumnarDataRecordResult other = new ColumnarDataRecordResultEncoder("bar_db", Collections.emptyMap(), Compression.NONE, tableIdSequence)
+                .encode("ack2", Collections.singletonList(createDataRecord(1, "foo")));
+        assertThat(actual.getTableSchema(0).getTableId(), is(0));
+        assertThat(other.getTableSchema(0).getTableId(), is(1));
+        assertThat(other.getColumnarRecords().getBlock(0).getTableId(), is(1));
+    }
+    
+    @Test
+    void assertEncodeWithSnappyCompression() {
+        ColumnarDataRecordResultEncoder encoder = new ColumnarDataRecordResultEncoder("foo_db", Collections.emptyMap(), Compression.SNAPPY, new AtomicInteger());
+        List<Record> records = new ArrayList<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            records.add(createDataRecord(i, "status"));
+        }
+        ColumnarDataRecordResult actual = encoder.encode("ack", records);
+        assertTrue(actual.hasSnappyColumnarRecords());
+        assertFalse(actual.hasColumnarRecords());
+    }
+    
+    private DataRecord createDataRecord(final int orderId, final String status) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("order_id", orderId, false, true));
+        result.addColumn(new NormalColumn("status", status, false, false));
+        return result;
+    }
+}
@@ -18,6 +18,14 @@
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.ResponseCase;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
@@ -31,6 +39,8 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +51,7 @@ class PipelineCDCSocketSinkTest {
         Channel mockChannel = mock(Channel.class);
         when(mockChannel.isWritable()).thenReturn(false, true);
         when(mockChannel.isActive()).thenReturn(true);
+        when(mockChannel.writeAndFlush(any())).thenReturn(mock(ChannelFuture.class));
         ShardingSphereDatabase mockDatabase = mock(ShardingSphereDatabase.class);
         when(mockDatabase.getName()).thenReturn("test");
         try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(mockChannel, mockDatabase, Collections.singletonList("test.t_order"))) {
@@ -50,4 +61,38 @@ class PipelineCDCSocketSinkTest {
             assertThat(actual.getProcessedRecordsCount(), is(1));
         }
     }
+    
+    @Test
+    void assertWriteInEventLoop() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(channel, mockDatabase(), Collections.singletonList("test.t_order"))) {
+            for (int i = 0; i < 20; i++) {
+                sink.write("ack" + i, Collections.singletonList(new DataRecord(PipelineSQLOperationType.DELETE, "t_order", new IngestPlaceholderPosition(), 1)));
+            }
+        }
+        CDCResponse actual = channel.readOutbound();
+        assertThat(actual.getResponseCase(), is(ResponseCase.DATA_RECORD_RESULT));
+        assertThat(actual.getDataRecordResult().getAckId(), is("ack0"));
+    }
+    
+    @Test
+    void assertWriteAfterWriteFailed() {
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+            
+            @Override
+            public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+                promise.setFailure(new IOException("Connection reset by peer"));
+            }
+        });
+        PipelineCDCSocketSink sink = new PipelineCDCSocketSink(channel, mockDatabase(), Collections.singletonList("test.t_order"));
+        sink.write("ack1", Collections.singletonList(new DataRecord(PipelineSQLOperationType.DELETE, "t_order", new IngestPlaceholderPosition(), 1)));
+        assertThrows(PipelineInternalException.class,
+                () -> sink.write("ack2", Collections.singletonList(new DataRecord(PipelineSQLOperationType.DELETE, "t_order", new IngestPlaceholderPosition(), 1))));
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class);
+        when(result.getName()).thenReturn("test");
+        return result;
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.util;
+
+import org.apache.shardingsphere.data.pipeline.cdc.config.CDCTableFilterConfiguration;
+import org.apache.shardingsphere.data.pipeline.cdc.exception.CDCExceptionWrapper;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.TableFilter;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.TableFilter.ColumnPredicate;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.TableFilter.ColumnPredicate.Operator;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CDCTableFilterUtilsTest {
+    
+    private final Collection<String> tableNames = Collections.singleton("t_order");
+    
+    @Test
+    void assertConvertTableFilters() {
+        TableFilter tableFilter = TableFilter.newBuilder().setTable("t_order").addProjectionColumn("ORDER_ID")
+                .addPredicate(ColumnPredicate.newBuilder().setColumn("status").setOperator(Operator.IN).addValue("OK").addValue("FAIL").build()).build();
+        List<CDCTableFilterConfiguration> actual = CDCTableFilterUtils.convertTableFilters("foo_request", createDatabase(), tableNames, tableNames, Collections.singletonList(tableFilter));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getProjectionColumns(), is(Collections.singletonList("ORDER_ID")));
+        assertThat(actual.get(0).getPredicates().get(0).getValues(), is(Arrays.asList("OK", "FAIL")));
+    }
+    
+    @Test
+    void assertConvertTableFiltersWithUnknownProjectionColumn() {
+        TableFilter tableFilter = TableFilter.newBuilder().setTable("t_order").addProjectionColumn("user_id").build();
+        CDCExceptionWrapper actual = assertThrows(CDCExceptionWrapper.class,
+                () -> CDCTableFilterUtils.convertTableFilters("foo_request", createDatabase(), tableNames, tableNames, Collections.singletonList(tableFilter)));
+        assertThat(actual.getCause(), instanceOf(PipelineInvalidParameterException.class));
+    }
+    
+    @Test
+    void assertConvertTableFiltersWithUnknownPredicateColumn() {
+        TableFilter tableFilter = TableFilter.newBuilder().setTable("t_order")
+                .addPredicate(ColumnPredicate.newBuilder().setColumn("user_id").setOperator(Operator.EQUAL).addValue("1").build()).build();
+        CDCExceptionWrapper actual = assertThrows(CDCExceptionWrapper.class,
+                () -> CDCTableFilterUtils.convertTableFilters("foo_request", createDatabase(), tableNames, tableNames, Collections.singletonList(tableFilter)));
+        assertThat(actual.getCause(), instanceOf(PipelineInvalidParameterException.class));
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false, false),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true)), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema schema = new ShardingSphereSchema("sharding_db", Collections.singletonMap("t_order", table), Collections.emptyMap());
+        return new ShardingSphereDatabase("sharding_db", TypedSPILoader.getService(DatabaseType.class, "FIXTURE"), null, null, Collections.singletonMap("sharding_db", schema));
+    }
+}
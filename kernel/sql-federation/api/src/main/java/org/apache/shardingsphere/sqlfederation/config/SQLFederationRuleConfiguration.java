@@ -34,4 +34,10 @@ public final class SQLFederationRuleConfiguration implements GlobalRuleConfigura
     private final boolean allQueryUseSQLFederation;
     
     private final CacheOption executionPlanCache;
+    
+    private final long queryMemoryBudget;
+    
+    public SQLFederationRuleConfiguration(final boolean sqlFederationEnabled, final boolean allQueryUseSQLFederation, final CacheOption executionPlanCache) {
+        this(sqlFederationEnabled, allQueryUseSQLFederation, executionPlanCache, 0L);
+    }
 }
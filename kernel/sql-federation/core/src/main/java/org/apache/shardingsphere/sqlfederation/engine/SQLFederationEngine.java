@@ -18,8 +18,6 @@
 package org.apache.shardingsphere.sqlfederation.engine;
 
 import lombok.Getter;
-import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
-import org.apache.calcite.adapter.enumerable.EnumerableRel;
 import org.apache.calcite.adapter.java.JavaTypeFactory;
 import org.apache.calcite.config.CalciteConnectionConfig;
 import org.apache.calcite.config.CalciteConnectionConfigImpl;
@@ -65,6 +63,8 @@ import org.apache.shardingsphere.sqlfederation.optimizer.exception.SQLFederation
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
+import org.apache.shardingsphere.sqlfederation.optimizer.runtimefilter.RuntimeFilterContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.spill.SpillContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
 import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
@@ -74,7 +74,6 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -87,8 +86,6 @@ import java.util.Map.Entry;
 @Getter
 public final class SQLFederationEngine implements AutoCloseable {
     
-    private static final int DEFAULT_METADATA_VERSION = 0;
-    
     private static final JavaTypeFactory DEFAULT_DATA_TYPE_FACTORY = new JavaTypeFactoryImpl();
     
     private final ProcessEngine processEngine = new ProcessEngine();
@@ -110,6 +107,8 @@ public final class SQLFederationEngine implements AutoCloseable {
     
     private ResultSet resultSet;
     
+    private SpillContext spillContext;
+    
     public SQLFederationEngine(final String currentDatabaseName, final String currentSchemaName, final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics,
                                final JDBCExecutor jdbcExecutor) {
         deciders = OrderedSPILoader.getServices(SQLFederationDecider.class, metaData.getDatabase(currentDatabaseName).getRuleMetaData().getRules());
@@ -221,18 +220,38 @@ public final class SQLFederationEngine implements AutoCloseable {
         SQLStatementContext sqlStatementContext = federationContext.getQueryContext().getSqlStatementContext();
         ShardingSpherePreconditions.checkState(sqlStatementContext instanceof SelectStatementContext, () -> new IllegalArgumentException("SQL statement context must be select statement context."));
         registerTableScanExecutor(sqlFederationSchema, prepareEngine, callback, federationContext, sqlFederationRule.getOptimizerContext(), databaseName, schemaName);
-        SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(converter);
+        SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(converter, sqlFederationRule.getConfiguration().getQueryMemoryBudget());
         SQLFederationCompilerEngine compilerEngine = new SQLFederationCompilerEngine(databaseName, schemaName, sqlFederationRule.getConfiguration().getExecutionPlanCache());
-        // TODO open useCache flag when ShardingSphereTable contains version
-        return compilerEngine.compile(buildCacheKey(federationContext, (SelectStatementContext) sqlStatementContext, sqlStatementCompiler, databaseName, schemaName), false);
+        ShardingSphereDatabase database = federationContext.getMetaData().getDatabase(databaseName);
+        ShardingSphereSchema schema = database.getSchema(schemaName);
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        return compilerEngine.compile(buildCacheKey(federationContext, selectStatementContext, sqlStatementCompiler, database, schema), isUseCache(selectStatementContext, schema));
+    }
+    
+    private boolean isUseCache(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) {
+        // TODO support cache for view when versions of view underlying tables are tracked
+        for (String each : selectStatementContext.getTablesContext().getTableNames()) {
+            if (schema.containsView(each)) {
+                return false;
+            }
+        }
+        return true;
     }
     
-    @SuppressWarnings("unchecked")
     private ResultSet executePlan(final SQLFederationContext federationContext, final SQLFederationExecutionPlan executionPlan, final SqlValidator validator, final SqlToRelConverter converter,
                                   final Schema sqlFederationSchema) {
         try {
-            Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) executionPlan.getPhysicalPlan(), EnumerableRel.Prefer.ARRAY);
+            Bindable<Object> executablePlan = executionPlan.getBindable();
             Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters());
+            if (!federationContext.isPreview()) {
+                params.put(RuntimeFilterContext.KEY, new RuntimeFilterContext());
+            }
+            long queryMemoryBudget = sqlFederationRule.getConfiguration().getQueryMemoryBudget();
+            if (!federationContext.isPreview() && queryMemoryBudget > 0L) {
+                closeSpillContext();
+                spillContext = new SpillContext(queryMemoryBudget);
+                params.put(SpillContext.KEY, spillContext);
+            }
             Enumerator<Object> enumerator = executablePlan.bind(new SQLFederationBindContext(validator, converter, params)).enumerator();
             return new SQLFederationResultSet(enumerator, sqlFederationSchema, (SelectStatementContext) federationContext.getQueryContext().getSqlStatementContext(),
                     executionPlan.getResultColumnType());
@@ -242,17 +261,17 @@ public final class SQLFederationEngine implements AutoCloseable {
     }
     
     private ExecutionPlanCacheKey buildCacheKey(final SQLFederationContext federationContext, final SelectStatementContext selectStatementContext,
-                                                final SQLStatementCompiler sqlStatementCompiler, final String databaseName, final String schemaName) {
-        ShardingSphereSchema schema = federationContext.getMetaData().getDatabase(databaseName).getSchema(schemaName);
+                                                final SQLStatementCompiler sqlStatementCompiler, final ShardingSphereDatabase database, final ShardingSphereSchema schema) {
         ExecutionPlanCacheKey result =
                 new ExecutionPlanCacheKey(federationContext.getQueryContext().getSql(), selectStatementContext.getSqlStatement(), selectStatementContext.getDatabaseType().getType(),
                         sqlStatementCompiler);
         for (String each : selectStatementContext.getTablesContext().getTableNames()) {
             ShardingSphereTable table = schema.getTable(each);
             ShardingSpherePreconditions.checkNotNull(table, () -> new NoSuchTableException(each));
-            // TODO replace DEFAULT_METADATA_VERSION with actual version in ShardingSphereTable
-            result.getTableMetaDataVersions().put(table.getName(), DEFAULT_METADATA_VERSION);
+            result.getTableMetaDataVersions().put(table.getName(), table.getVersion());
         }
+        result.getRuleConfigurations().addAll(database.getRuleMetaData().getConfigurations());
+        result.getRuleConfigurations().add(sqlFederationRule.getConfiguration());
         return result;
     }
     
@@ -270,6 +289,7 @@ public final class SQLFederationEngine implements AutoCloseable {
             Table table = sqlFederationSchema.getTable(each.getName());
             if (table instanceof SQLFederationTable) {
                 ((SQLFederationTable) table).setScanExecutor(scanExecutor);
+                ((SQLFederationTable) table).setStatistics(databaseName, metaData, statistics);
             }
         }
     }
@@ -285,8 +305,19 @@ public final class SQLFederationEngine implements AutoCloseable {
     
     @Override
     public void close() throws SQLException {
-        if (null != resultSet) {
-            resultSet.close();
+        try {
+            if (null != resultSet) {
+                resultSet.close();
+            }
+        } finally {
+            closeSpillContext();
+        }
+    }
+    
+    private void closeSpillContext() {
+        if (null != spillContext) {
+            spillContext.close();
+            spillContext = null;
         }
     }
 }
@@ -37,6 +37,8 @@ public final class YamlSQLFederationRuleConfiguration implements YamlGlobalRuleC
     
     private YamlSQLFederationExecutionPlanCacheRuleConfiguration executionPlanCache;
     
+    private long queryMemoryBudget;
+    
     @Override
     public Class<SQLFederationRuleConfiguration> getRuleConfigurationType() {
         return SQLFederationRuleConfiguration.class;
@@ -36,13 +36,14 @@ public final class YamlSQLFederationRuleConfigurationSwapper implements YamlRule
         result.setSqlFederationEnabled(data.isSqlFederationEnabled());
         result.setAllQueryUseSQLFederation(data.isAllQueryUseSQLFederation());
         result.setExecutionPlanCache(executionPlanCacheConfigSwapper.swapToYamlConfiguration(data.getExecutionPlanCache()));
+        result.setQueryMemoryBudget(data.getQueryMemoryBudget());
         return result;
     }
     
     @Override
     public SQLFederationRuleConfiguration swapToObject(final YamlSQLFederationRuleConfiguration yamlConfig) {
         CacheOption executionPlanCacheConfig = executionPlanCacheConfigSwapper.swapToObject(yamlConfig.getExecutionPlanCache());
-        return new SQLFederationRuleConfiguration(yamlConfig.isSqlFederationEnabled(), yamlConfig.isAllQueryUseSQLFederation(), executionPlanCacheConfig);
+        return new SQLFederationRuleConfiguration(yamlConfig.isSqlFederationEnabled(), yamlConfig.isAllQueryUseSQLFederation(), executionPlanCacheConfig, yamlConfig.getQueryMemoryBudget());
     }
     
     @Override
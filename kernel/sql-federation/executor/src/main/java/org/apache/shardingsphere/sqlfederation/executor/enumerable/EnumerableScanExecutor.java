@@ -23,7 +23,9 @@ import org.apache.calcite.linq4j.AbstractEnumerable;
 import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.metadata.database.system.SystemDatabase;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -40,6 +42,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
@@ -61,11 +64,13 @@ import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationCon
 import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationExecutorContext;
 import org.apache.shardingsphere.sqlfederation.executor.enumerator.JDBCRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.enumerator.MemoryRowEnumerator;
+import org.apache.shardingsphere.sqlfederation.executor.enumerator.ParallelRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.utils.StatisticsAssembleUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.EmptyRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutor;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.runtimefilter.RuntimeFilterProbe;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -85,6 +90,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public final class EnumerableScanExecutor implements ScanExecutor {
     
+    private static final int PREFETCH_BUFFER_SIZE = 1024;
+    
     private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine;
     
     private final JDBCExecutor jdbcExecutor;
@@ -123,26 +130,56 @@ public final class EnumerableScanExecutor implements ScanExecutor {
     private AbstractEnumerable<Object> createJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
         return new AbstractEnumerable<Object>() {
             
-            @SneakyThrows
             @Override
             public Enumerator<Object> enumerator() {
-                computeConnectionOffsets(context);
-                // TODO pass grantee from proxy and jdbc adapter
-                ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(
-                        database.getName(), context.getRouteContext(), executorContext.getConnectionOffsets(),
-                        context.getExecutionUnits(), new ExecutionGroupReportContext(federationContext.getProcessId(), database.getName()));
-                setParameters(executionGroupContext.getInputGroups());
-                ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(federationContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
-                processEngine.executeSQL(executionGroupContext, federationContext.getQueryContext());
-                List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
-                MergeEngine mergeEngine = new MergeEngine(federationContext.getMetaData(), database, executorContext.getProps(), new ConnectionContext(Collections::emptySet));
-                MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
-                Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-                return new JDBCRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+                return createJDBCEnumerator(queryContext, database, context);
             }
         };
     }
     
+    @SneakyThrows
+    private Enumerator<Object> createJDBCEnumerator(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+        computeConnectionOffsets(context);
+        // TODO pass grantee from proxy and jdbc adapter
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(
+                database.getName(), context.getRouteContext(), executorContext.getConnectionOffsets(),
+                context.getExecutionUnits(), new ExecutionGroupReportContext(federationContext.getProcessId(), database.getName()));
+        setParameters(executionGroupContext.getInputGroups());
+        ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(federationContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
+        processEngine.executeSQL(executionGroupContext, federationContext.getQueryContext());
+        List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(QueryResult.class::cast).collect(Collectors.toList());
+        MergeEngine mergeEngine = new MergeEngine(federationContext.getMetaData(), database, executorContext.getProps(), new ConnectionContext(Collections::emptySet));
+        Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
+        if (isParallelScanAvailable(queryContext.getSqlStatementContext(), queryResults)) {
+            return createParallelRowEnumerator(mergeEngine, queryContext.getSqlStatementContext(), queryResults, statements);
+        }
+        MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
+        return new JDBCRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+    }
+    
+    private boolean isParallelScanAvailable(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) {
+        if (queryResults.size() < 2 || !(sqlStatementContext instanceof SelectStatementContext)) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        if (!selectStatementContext.getOrderByContext().getItems().isEmpty() || !selectStatementContext.getGroupByContext().getItems().isEmpty()
+                || !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty() || selectStatementContext.getProjectionsContext().isDistinctRow()
+                || selectStatementContext.getPaginationContext().isHasPagination()) {
+            return false;
+        }
+        return queryResults.stream().allMatch(AbstractStreamQueryResult.class::isInstance);
+    }
+    
+    private Enumerator<Object> createParallelRowEnumerator(final MergeEngine mergeEngine, final SQLStatementContext sqlStatementContext,
+                                                           final List<QueryResult> queryResults, final Collection<Statement> statements) throws SQLException {
+        List<Enumerator<Object>> shardEnumerators = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            shardEnumerators.add(new JDBCRowEnumerator(mergeEngine.merge(Collections.singletonList(each), sqlStatementContext), each.getMetaData(), Collections.emptyList()));
+        }
+        return new ParallelRowEnumerator(shardEnumerators, statements, jdbcExecutor.getExecutorEngine().getExecutorServiceManager().getExecutorService(),
+                PREFETCH_BUFFER_SIZE, executorContext.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY));
+    }
+    
     private void computeConnectionOffsets(final ExecutionContext context) {
         for (ExecutionUnit each : context.getExecutionUnits()) {
             if (executorContext.getConnectionOffsets().containsKey(each.getDataSourceName())) {
@@ -205,19 +242,20 @@ public final class EnumerableScanExecutor implements ScanExecutor {
         String sql = sqlString.getSql().replace(System.lineSeparator(), " ");
         SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType,
                 optimizerContext.getSqlParserRule().getSqlStatementCache(), optimizerContext.getSqlParserRule().getParseTreeCache()).parse(sql, useCache);
-        List<Object> params = getParameters(sqlString.getParamIndexes());
+        List<Object> params = getParameters(sqlString);
         HintValueContext hintValueContext = new HintValueContext();
         SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, executorContext.getDatabaseName(), hintValueContext).bind(sqlStatement, params);
         return new QueryContext(sqlStatementContext, sql, params, hintValueContext, new ConnectionContext(Collections::emptySet), metaData, useCache);
     }
     
-    private List<Object> getParameters(final int[] paramIndexes) {
+    private List<Object> getParameters(final ScanExecutorContext scanContext) {
+        int[] paramIndexes = scanContext.getParamIndexes();
         if (null == paramIndexes) {
             return Collections.emptyList();
         }
         List<Object> result = new ArrayList<>(paramIndexes.length);
         for (int each : paramIndexes) {
-            result.add(federationContext.getQueryContext().getParameters().get(each));
+            result.add(each < 0 ? scanContext.getRuntimeParameters().get(RuntimeFilterProbe.getValueIndex(each)) : federationContext.getQueryContext().getParameters().get(each));
         }
         return result;
     }
@@ -0,0 +1,322 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Parallel row enumerator, which prefetches rows of each shard on executor threads into bounded buffers.
+ *
+ * <p>At most {@code maxPrefetchTasks} prefetch tasks of one enumerator are in flight. A prefetch task gives its thread back when the shard buffer is full,
+ * and the shard is rescheduled after the consumer has taken rows from it, so a consumer which stops reading never holds executor threads.</p>
+ */
+public final class ParallelRowEnumerator implements Enumerator<Object> {
+    
+    private static final Object NULL_ROW = new Object();
+    
+    private static final Object END_OF_SHARD = new Object();
+    
+    private final List<ShardBuffer> shardBuffers;
+    
+    private final Collection<Statement> statements;
+    
+    private final ExecutorService executorService;
+    
+    private final int bufferSize;
+    
+    private final int maxPrefetchTasks;
+    
+    private final Semaphore bufferedRows = new Semaphore(0);
+    
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition prefetchStopped = lock.newCondition();
+    
+    private final Queue<ShardBuffer> pendingShards = new LinkedList<>();
+    
+    private final Collection<PrefetchTask> runningTasks = new LinkedList<>();
+    
+    private volatile boolean cancelled;
+    
+    private int remainingShards;
+    
+    private int nextBufferIndex;
+    
+    private Object currentRow;
+    
+    public ParallelRowEnumerator(final List<Enumerator<Object>> shardEnumerators, final Collection<Statement> statements,
+                                 final ExecutorService executorService, final int bufferSize, final int maxPrefetchTasks) {
+        shardBuffers = new ArrayList<>(shardEnumerators.size());
+        this.statements = statements;
+        this.executorService = executorService;
+        this.bufferSize = bufferSize;
+        this.maxPrefetchTasks = Math.max(1, maxPrefetchTasks);
+        remainingShards = shardEnumerators.size();
+        for (Enumerator<Object> each : shardEnumerators) {
+            shardBuffers.add(new ShardBuffer(each));
+        }
+        pendingShards.addAll(shardBuffers);
+        schedule();
+    }
+    
+    private void schedule() {
+        lock.lock();
+        try {
+            while (!cancelled && runningTasks.size() < maxPrefetchTasks && !pendingShards.isEmpty()) {
+                submit(new PrefetchTask(pendingShards.poll()));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void submit(final PrefetchTask task) {
+        runningTasks.add(task);
+        try {
+            task.future = executorService.submit(task);
+        } catch (final RejectedExecutionException ex) {
+            runningTasks.remove(task);
+            failure.compareAndSet(null, ex);
+            task.shardBuffer.end();
+        }
+    }
+    
+    private void reschedule(final ShardBuffer shardBuffer) {
+        lock.lock();
+        try {
+            if (!cancelled) {
+                pendingShards.add(shardBuffer);
+            }
+        } finally {
+            lock.unlock();
+        }
+        schedule();
+    }
+    
+    private void prefetch(final ShardBuffer shardBuffer) {
+        try {
+            while (!cancelled && shardBuffer.bufferedCount.get() < bufferSize) {
+                if (!shardBuffer.enumerator.moveNext()) {
+                    shardBuffer.end();
+                    return;
+                }
+                Object row = shardBuffer.enumerator.current();
+                shardBuffer.add(null == row ? NULL_ROW : row);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            failure.compareAndSet(null, ex);
+            shardBuffer.end();
+        }
+    }
+    
+    private void finish(final PrefetchTask task) {
+        lock.lock();
+        try {
+            runningTasks.remove(task);
+            prefetchStopped.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        ShardBuffer shardBuffer = task.shardBuffer;
+        if (!cancelled && !shardBuffer.ended) {
+            shardBuffer.parked.set(true);
+            if (shardBuffer.bufferedCount.get() < bufferSize && shardBuffer.parked.compareAndSet(true, false)) {
+                reschedule(shardBuffer);
+                return;
+            }
+        }
+        schedule();
+    }
+    
+    @Override
+    public Object current() {
+        return currentRow;
+    }
+    
+    @SneakyThrows
+    @Override
+    public boolean moveNext() {
+        while (remainingShards > 0) {
+            bufferedRows.acquire();
+            Object row = pollBufferedRow();
+            if (END_OF_SHARD == row) {
+                remainingShards--;
+                if (null != failure.get()) {
+                    throw failure.get();
+                }
+                continue;
+            }
+            currentRow = NULL_ROW == row ? null : row;
+            return true;
+        }
+        return false;
+    }
+    
+    private Object pollBufferedRow() {
+        Object result = null;
+        ShardBuffer shardBuffer = null;
+        while (null == result) {
+            shardBuffer = shardBuffers.get(nextBufferIndex);
+            nextBufferIndex = (nextBufferIndex + 1) % shardBuffers.size();
+            result = shardBuffer.rows.poll();
+        }
+        if (END_OF_SHARD != result) {
+            shardBuffer.bufferedCount.decrementAndGet();
+            if (shardBuffer.parked.compareAndSet(true, false)) {
+                reschedule(shardBuffer);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public void reset() {
+    }
+    
+    @Override
+    public void close() {
+        Collection<PrefetchTask> tasks;
+        lock.lock();
+        try {
+            cancelled = true;
+            pendingShards.clear();
+            tasks = new ArrayList<>(runningTasks);
+        } finally {
+            lock.unlock();
+        }
+        cancelStatements();
+        for (PrefetchTask each : tasks) {
+            each.cancel();
+        }
+        awaitPrefetchStopped();
+        for (ShardBuffer each : shardBuffers) {
+            each.rows.clear();
+        }
+        try {
+            for (Statement each : statements) {
+                each.close();
+            }
+            currentRow = null;
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
+    
+    private void cancelStatements() {
+        for (Statement each : statements) {
+            try {
+                each.cancel();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
+    private void awaitPrefetchStopped() {
+        lock.lock();
+        try {
+            while (!runningTasks.isEmpty()) {
+                prefetchStopped.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class ShardBuffer {
+        
+        private final Enumerator<Object> enumerator;
+        
+        private final Queue<Object> rows = new ConcurrentLinkedQueue<>();
+        
+        private final AtomicInteger bufferedCount = new AtomicInteger();
+        
+        private final AtomicBoolean parked = new AtomicBoolean();
+        
+        private volatile boolean ended;
+        
+        private void add(final Object row) {
+            bufferedCount.incrementAndGet();
+            rows.add(row);
+            bufferedRows.release();
+        }
+        
+        private void end() {
+            ended = true;
+            rows.add(END_OF_SHARD);
+            bufferedRows.release();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class PrefetchTask implements Runnable {
+        
+        private final ShardBuffer shardBuffer;
+        
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        
+        private volatile Future<?> future;
+        
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                prefetch(shardBuffer);
+            } finally {
+                finish(this);
+            }
+        }
+        
+        private void cancel() {
+            if (claimed.compareAndSet(false, true)) {
+                finish(this);
+            }
+            if (null != future) {
+                future.cancel(true);
+            }
+        }
+    }
+}
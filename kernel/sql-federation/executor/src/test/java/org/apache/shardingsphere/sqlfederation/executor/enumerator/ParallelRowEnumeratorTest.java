@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerator;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParallelRowEnumeratorTest {
+    
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    void assertMoveNextWithAllShards() throws SQLException {
+        Statement statement = mock(Statement.class);
+        ParallelRowEnumerator enumerator = new ParallelRowEnumerator(Arrays.asList(createShardEnumerator(0, 100), createShardEnumerator(100, 200), Linq4j.enumerator(Collections.singletonList(null))),
+                Collections.singletonList(statement), executorService, 2, 2);
+        List<Object> actual = new ArrayList<>();
+        while (enumerator.moveNext()) {
+            actual.add(enumerator.current());
+        }
+        enumerator.close();
+        assertThat(actual.size(), is(201));
+        assertTrue(actual.contains(null));
+        assertThat(actual.stream().filter(Integer.class::isInstance).map(Integer.class::cast).sorted().collect(Collectors.toList()), is(IntStream.range(0, 200).boxed().collect(Collectors.toList())));
+        verify(statement).close();
+    }
+    
+    @Test
+    void assertCloseBeforeAllRowsConsumed() {
+        ParallelRowEnumerator enumerator = new ParallelRowEnumerator(Arrays.asList(createShardEnumerator(0, 10000), createShardEnumerator(0, 10000)), Collections.emptyList(), executorService, 1, 2);
+        assertTrue(enumerator.moveNext());
+        enumerator.close();
+        assertThat(enumerator.current(), is((Object) null));
+    }
+    
+    @Test
+    void assertMoveNextWithMoreShardsThanExecutorThreadsWhenConsumerStopsReading() {
+        ExecutorService fixedExecutorService = Executors.newFixedThreadPool(2);
+        try {
+            ParallelRowEnumerator outerEnumerator = new ParallelRowEnumerator(createShardEnumerators(6, 100), Collections.emptyList(), fixedExecutorService, 4, 4);
+            assertTrue(outerEnumerator.moveNext());
+            assertTimeoutPreemptively(Duration.ofSeconds(10L), () -> {
+                ParallelRowEnumerator innerEnumerator = new ParallelRowEnumerator(createShardEnumerators(6, 100), Collections.emptyList(), fixedExecutorService, 4, 4);
+                assertThat(countRows(innerEnumerator), is(600));
+                innerEnumerator.close();
+            });
+            assertTimeoutPreemptively(Duration.ofSeconds(10L), () -> assertThat(countRows(outerEnumerator), is(599)));
+            outerEnumerator.close();
+        } finally {
+            fixedExecutorService.shutdownNow();
+        }
+    }
+    
+    @Test
+    void assertCloseCancelsStatementsBeforeAwaitingPrefetch() throws SQLException {
+        ExecutorService singleThreadExecutorService = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch cancelledLatch = new CountDownLatch(1);
+            Statement statement = mock(Statement.class);
+            doAnswer(invocation -> {
+                cancelledLatch.countDown();
+                return null;
+            }).when(statement).cancel();
+            Enumerator<Object> blockedEnumerator = mock(Enumerator.class);
+            when(blockedEnumerator.moveNext()).thenAnswer(invocation -> {
+                cancelledLatch.await();
+                return false;
+            });
+            ParallelRowEnumerator enumerator = new ParallelRowEnumerator(Arrays.asList(blockedEnumerator, createShardEnumerator(0, 10)),
+                    Collections.singletonList(statement), singleThreadExecutorService, 1, 2);
+            assertTimeoutPreemptively(Duration.ofSeconds(10L), enumerator::close);
+            InOrder inOrder = inOrder(statement);
+            inOrder.verify(statement).cancel();
+            inOrder.verify(statement).close();
+        } finally {
+            singleThreadExecutorService.shutdownNow();
+        }
+    }
+    
+    @Test
+    void assertMoveNextWithShardFailure() {
+        Enumerator<Object> failedEnumerator = mock(Enumerator.class);
+        when(failedEnumerator.moveNext()).thenThrow(new IllegalStateException("failed"));
+        ParallelRowEnumerator enumerator = new ParallelRowEnumerator(Arrays.asList(createShardEnumerator(0, 10), failedEnumerator), Collections.emptyList(), executorService, 4, 2);
+        assertThrows(IllegalStateException.class, () -> {
+            while (enumerator.moveNext()) {
+                enumerator.current();
+            }
+        });
+        enumerator.close();
+    }
+    
+    private List<Enumerator<Object>> createShardEnumerators(final int shardCount, final int rowCount) {
+        List<Enumerator<Object>> result = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            result.add(createShardEnumerator(i * rowCount, (i + 1) * rowCount));
+        }
+        return result;
+    }
+    
+    private int countRows(final ParallelRowEnumerator enumerator) {
+        int result = 0;
+        while (enumerator.moveNext()) {
+            result++;
+        }
+        return result;
+    }
+    
+    private Enumerator<Object> createShardEnumerator(final int startInclusive, final int endExclusive) {
+        return Linq4j.enumerator(IntStream.range(startInclusive, endExclusive).boxed().collect(Collectors.toList()));
+    }
+}
@@ -17,10 +17,16 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.runtime.Bindable;
+
+import java.util.Collections;
 
 /**
  * SQL federation execution plan.
@@ -32,4 +38,22 @@ public final class SQLFederationExecutionPlan {
     private final RelNode physicalPlan;
     
     private final RelDataType resultColumnType;
+    
+    @Getter(AccessLevel.NONE)
+    private volatile Bindable<Object> bindable;
+    
+    /**
+     * Get bindable of physical plan, generated code is compiled once and reused by cached execution plan.
+     *
+     * @return bindable
+     */
+    @SuppressWarnings("unchecked")
+    public Bindable<Object> getBindable() {
+        Bindable<Object> result = bindable;
+        if (null == result) {
+            result = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) physicalPlan, EnumerableRel.Prefer.ARRAY);
+            bindable = result;
+        }
+        return result;
+    }
 }
@@ -26,14 +26,21 @@ import org.apache.calcite.schema.Table;
 import org.apache.calcite.schema.impl.AbstractSchema;
 import org.apache.calcite.schema.impl.ViewTable;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.distribution.TableDistribution;
+import org.apache.shardingsphere.infra.rule.attribute.distribution.TableDistributionRuleAttribute;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.util.SQLFederationDataTypeUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * SQL federation schema.
@@ -46,23 +53,50 @@ public final class SQLFederationSchema extends AbstractSchema {
     private final Map<String, Table> tableMap;
     
     public SQLFederationSchema(final String schemaName, final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
+        this(schemaName, schema, new RuleMetaData(Collections.emptyList()), protocolType, javaTypeFactory);
+    }
+    
+    public SQLFederationSchema(final String schemaName, final ShardingSphereSchema schema, final RuleMetaData ruleMetaData, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
         name = schemaName;
-        tableMap = createTableMap(schema, protocolType, javaTypeFactory);
+        tableMap = createTableMap(schema, ruleMetaData, protocolType, javaTypeFactory);
     }
     
-    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
+    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final RuleMetaData ruleMetaData, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
+        Collection<TableDistributionRuleAttribute> distributionRuleAttributes = ruleMetaData.getAttributes(TableDistributionRuleAttribute.class);
+        Collection<DataNodeRuleAttribute> dataNodeRuleAttributes = ruleMetaData.getAttributes(DataNodeRuleAttribute.class);
         Map<String, Table> result = new CaseInsensitiveMap<>(schema.getTables().size(), 1F);
         for (ShardingSphereTable each : schema.getTables().values()) {
             if (schema.containsView(each.getName())) {
                 result.put(each.getName(), getViewTable(schema, each, protocolType, javaTypeFactory));
             } else {
-                // TODO implement table statistic logic after using custom operators
-                result.put(each.getName(), new SQLFederationTable(each, new SQLFederationStatistic(), protocolType));
+                TableDistribution tableDistribution = findTableDistribution(distributionRuleAttributes, each.getName()).orElse(null);
+                boolean singleDataNode = isSingleDataNode(dataNodeRuleAttributes, each.getName());
+                result.put(each.getName(), new SQLFederationTable(each, new SQLFederationStatistic(each, tableDistribution, singleDataNode), protocolType));
             }
         }
         return result;
     }
     
+    private Optional<TableDistribution> findTableDistribution(final Collection<TableDistributionRuleAttribute> distributionRuleAttributes, final String tableName) {
+        for (TableDistributionRuleAttribute each : distributionRuleAttributes) {
+            Optional<TableDistribution> result = each.findTableDistribution(tableName);
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isSingleDataNode(final Collection<DataNodeRuleAttribute> dataNodeRuleAttributes, final String tableName) {
+        for (DataNodeRuleAttribute each : dataNodeRuleAttributes) {
+            Collection<DataNode> dataNodes = each.getDataNodesByTableName(tableName);
+            if (!dataNodes.isEmpty()) {
+                return 1 == dataNodes.size();
+            }
+        }
+        return false;
+    }
+    
     private ViewTable getViewTable(final ShardingSphereSchema schema, final ShardingSphereTable table, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
         RelDataType relDataType = SQLFederationDataTypeUtils.createRelDataType(table, protocolType, javaTypeFactory);
         ShardingSphereView view = schema.getView(table.getName());
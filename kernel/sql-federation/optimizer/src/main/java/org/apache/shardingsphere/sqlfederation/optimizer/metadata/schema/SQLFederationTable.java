@@ -45,18 +45,25 @@ import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.TranslatableTable;
 import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.exception.core.external.sql.ShardingSphereSQLException;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.EmptyRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutor;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.util.SQLFederationDataTypeUtils;
+import org.apache.shardingsphere.sqlfederation.optimizer.runtimefilter.RuntimeFilter;
+import org.apache.shardingsphere.sqlfederation.optimizer.runtimefilter.RuntimeFilterContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.runtimefilter.RuntimeFilterProbe;
 import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
 
 import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL federation table.
@@ -98,6 +105,17 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
         return LogicalTableScan.create(context.getCluster(), relOptTable, Collections.emptyList());
     }
     
+    /**
+     * Set statistics used to estimate row count.
+     *
+     * @param databaseName database name
+     * @param metaData ShardingSphere meta data
+     * @param statistics ShardingSphere statistics
+     */
+    public void setStatistics(final String databaseName, final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics) {
+        statistic.setStatistics(databaseName, metaData, statistics);
+    }
+    
     /**
      * Execute.
      *
@@ -113,6 +131,47 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
         return scanExecutor.execute(table, new ScanExecutorContext(root, sql, paramIndexes));
     }
     
+    /**
+     * Execute with runtime filter.
+     *
+     * @param root data context
+     * @param sql sql
+     * @param paramIndexes param indexes
+     * @param runtimeFilterProbe runtime filter probe
+     * @return enumerable result
+     */
+    public Enumerable<Object> execute(final DataContext root, final String sql, final int[] paramIndexes, final RuntimeFilterProbe runtimeFilterProbe) {
+        if (!RuntimeFilterContext.isEnabled(root)) {
+            return execute(root, sql, paramIndexes);
+        }
+        if (null == scanExecutor) {
+            return createEmptyEnumerable();
+        }
+        return new AbstractEnumerable<Object>() {
+            
+            @Override
+            public Enumerator<Object> enumerator() {
+                return createRuntimeFilterEnumerator(root, sql, paramIndexes, runtimeFilterProbe);
+            }
+        };
+    }
+    
+    private Enumerator<Object> createRuntimeFilterEnumerator(final DataContext root, final String sql, final int[] paramIndexes, final RuntimeFilterProbe runtimeFilterProbe) {
+        Optional<RuntimeFilter> runtimeFilter = RuntimeFilterContext.findCompletedRuntimeFilter(root, runtimeFilterProbe.getRuntimeFilterId());
+        if (runtimeFilter.isPresent() && runtimeFilter.get().isEmpty()) {
+            return new EmptyRowEnumerator();
+        }
+        Optional<ScanExecutorContext> scanContext = runtimeFilter.flatMap(optional -> runtimeFilterProbe.createScanExecutorContext(root, optional));
+        if (scanContext.isPresent()) {
+            try {
+                return scanExecutor.execute(table, scanContext.get()).enumerator();
+            } catch (final ShardingSphereSQLException ignored) {
+                // fall back to scan without runtime filter when filtered SQL can not be routed, e.g. range on encrypted column
+            }
+        }
+        return scanExecutor.execute(table, new ScanExecutorContext(root, sql, paramIndexes)).enumerator();
+    }
+    
     private AbstractEnumerable<Object> createEmptyEnumerable() {
         return new AbstractEnumerable<Object>() {
             
@@ -21,6 +21,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Scan executor context.
  */
@@ -33,4 +36,10 @@ public final class ScanExecutorContext {
     private final String sql;
     
     private final int[] paramIndexes;
+    
+    private final List<Object> runtimeParameters;
+    
+    public ScanExecutorContext(final DataContext root, final String sql, final int[] paramIndexes) {
+        this(root, sql, paramIndexes, Collections.emptyList());
+    }
 }
@@ -22,6 +22,7 @@ import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.logical.LogicalJoin;
 import org.apache.calcite.rel.logical.LogicalProject;
 import org.apache.calcite.rel.logical.LogicalTableScan;
 import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.LogicalScanPushDownRelBuilder;
@@ -71,6 +72,19 @@ public final class LogicalScan extends TableScan {
         resetRowType(logicalProject);
     }
     
+    /**
+     * Push down logical join.
+     *
+     * @param logicalJoin logical join
+     * @param right right logical scan of join
+     */
+    public void pushDown(final LogicalJoin logicalJoin, final LogicalScan right) {
+        RelNode rightRelNode = right.peek();
+        pushDownRelBuilder.push(rightRelNode);
+        pushDownRelBuilder.join(logicalJoin.getJoinType(), logicalJoin.getCondition(), logicalJoin.getVariablesSet());
+        resetRowType(logicalJoin);
+    }
+    
     /**
      * Peek rel node.
      *
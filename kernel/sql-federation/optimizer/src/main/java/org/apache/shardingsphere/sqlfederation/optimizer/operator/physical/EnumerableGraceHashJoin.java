@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.function.EqualityComparer;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.function.Function2;
+import org.apache.calcite.linq4j.function.Predicate2;
+import org.apache.calcite.linq4j.tree.Types;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.CorrelationId;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.BuiltInMethod;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.SpillableExpressionShuttle;
+import org.apache.shardingsphere.sqlfederation.optimizer.spill.SpillContext;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Enumerable grace hash join, which partitions both join inputs into spill files when build side exceeds memory budget of execution.
+ */
+public final class EnumerableGraceHashJoin extends EnumerableHashJoin {
+    
+    private static final Method HASH_JOIN_METHOD = Types.lookupMethod(SpillContext.class, "hashJoin", DataContext.class, Enumerable.class, Enumerable.class, Function1.class, Function1.class,
+            Function2.class, EqualityComparer.class, boolean.class, boolean.class, Predicate2.class);
+    
+    public EnumerableGraceHashJoin(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode left, final RelNode right, final RexNode condition,
+                                   final Set<CorrelationId> variablesSet, final JoinRelType joinType) {
+        super(cluster, traitSet, left, right, condition, variablesSet, joinType);
+    }
+    
+    @Override
+    public EnumerableGraceHashJoin copy(final RelTraitSet traitSet, final RexNode condition, final RelNode left, final RelNode right, final JoinRelType joinType, final boolean semiJoinDone) {
+        return new EnumerableGraceHashJoin(getCluster(), traitSet, left, right, condition, variablesSet, joinType);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        return SpillableExpressionShuttle.replace(super.implement(implementor, pref), implementor.getRootExpression(), BuiltInMethod.HASH_JOIN.method, HASH_JOIN_METHOD);
+    }
+}
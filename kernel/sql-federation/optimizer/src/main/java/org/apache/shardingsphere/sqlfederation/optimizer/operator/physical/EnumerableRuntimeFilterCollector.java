@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import lombok.Getter;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.shardingsphere.sqlfederation.optimizer.runtimefilter.RuntimeFilterContext;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Enumerable runtime filter collector, which collects join keys of hash join build side.
+ */
+@Getter
+public final class EnumerableRuntimeFilterCollector extends SingleRel implements EnumerableRel {
+    
+    private final int runtimeFilterId;
+    
+    private final int keyIndex;
+    
+    public EnumerableRuntimeFilterCollector(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode input, final int runtimeFilterId, final int keyIndex) {
+        super(cluster, traitSet, input);
+        this.runtimeFilterId = runtimeFilterId;
+        this.keyIndex = keyIndex;
+    }
+    
+    @Override
+    public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
+        return new EnumerableRuntimeFilterCollector(getCluster(), traitSet, sole(inputs), runtimeFilterId, keyIndex);
+    }
+    
+    @Override
+    public RelWriter explainTerms(final RelWriter relWriter) {
+        return super.explainTerms(relWriter).item("runtimeFilterId", runtimeFilterId).item("key", keyIndex);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        BlockBuilder builder = new BlockBuilder();
+        Result inputResult = implementor.visitChild(this, 0, (EnumerableRel) getInput(), pref);
+        Expression inputExpression = builder.append("input", inputResult.block);
+        builder.add(Expressions.call(RuntimeFilterContext.class, "collect", implementor.getRootExpression(), Expressions.constant(runtimeFilterId), inputExpression,
+                inputResult.physType.generateAccessor(Collections.singletonList(keyIndex))));
+        return implementor.result(inputResult.physType, builder.toBlock());
+    }
+}
@@ -24,24 +24,45 @@ import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
 import org.apache.calcite.adapter.enumerable.PhysType;
 import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
 import org.apache.calcite.linq4j.tree.Blocks;
+import org.apache.calcite.linq4j.tree.Expression;
 import org.apache.calcite.linq4j.tree.Expressions;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable;
 import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Project;
 import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalFilter;
 import org.apache.calcite.rel.rel2sql.RelToSqlConverter;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlCall;
 import org.apache.calcite.sql.SqlDialect;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.parser.SqlParserPos;
+import org.apache.calcite.sql.util.SqlShuttle;
 import org.apache.calcite.sql.util.SqlString;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.runtimefilter.RuntimeFilter;
+import org.apache.shardingsphere.sqlfederation.optimizer.runtimefilter.RuntimeFilterProbe;
 import org.apache.shardingsphere.sqlfederation.optimizer.sql.SQLDialectFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Enumerable scan.
@@ -49,30 +70,81 @@ import java.util.Objects;
 @Getter
 public final class EnumerableScan extends TableScan implements EnumerableRel {
     
+    private final RelNode pushDownRelNode;
+    
+    private final String databaseType;
+    
     private final SqlString sqlString;
     
     private final RelDataType pushDownRowType;
     
+    private final RuntimeFilterProbe runtimeFilterProbe;
+    
     public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final RelNode pushDownRelNode, final String databaseType) {
-        super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
-        sqlString = createSQLString(pushDownRelNode, databaseType);
-        pushDownRowType = pushDownRelNode.getRowType();
+        this(cluster, traitSet, table, pushDownRelNode, databaseType, createSQLString(pushDownRelNode, databaseType), null);
     }
     
-    public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final SqlString sqlString, final RelDataType pushDownRowType) {
+    private EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final RelNode pushDownRelNode, final String databaseType,
+                           final SqlString sqlString, final RuntimeFilterProbe runtimeFilterProbe) {
         super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
+        this.pushDownRelNode = pushDownRelNode;
+        this.databaseType = databaseType;
         this.sqlString = sqlString;
-        this.pushDownRowType = pushDownRowType;
+        pushDownRowType = pushDownRelNode.getRowType();
+        this.runtimeFilterProbe = runtimeFilterProbe;
     }
     
     @Override
     public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
-        return new EnumerableScan(getCluster(), traitSet, table, sqlString, pushDownRowType);
+        return new EnumerableScan(getCluster(), traitSet, table, pushDownRelNode, databaseType, sqlString, runtimeFilterProbe);
+    }
+    
+    /**
+     * Create enumerable scan with runtime filter applied on key column.
+     *
+     * @param runtimeFilterId runtime filter ID
+     * @param keyIndex key column index
+     * @param rangeAvailable whether key range can be pushed down when there are too many keys
+     * @return enumerable scan with runtime filter
+     */
+    public EnumerableScan withRuntimeFilter(final int runtimeFilterId, final int keyIndex, final boolean rangeAvailable) {
+        RexBuilder rexBuilder = getCluster().getRexBuilder();
+        RelDataType keyType = pushDownRowType.getFieldList().get(keyIndex).getType();
+        RelNode inRelNode = createRuntimeFilterRelNode(pushDownRelNode, keyIndex,
+                keyRef -> rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, keyRef, rexBuilder.makeDynamicParam(keyType, RuntimeFilterProbe.getParameterIndex(0))));
+        SqlString inSQLString = createInSQLString(inRelNode, databaseType);
+        SqlString rangeSQLString = rangeAvailable
+                ? createSQLString(createRuntimeFilterRelNode(pushDownRelNode, keyIndex, keyRef -> createRangeCondition(rexBuilder, keyRef, keyType)), databaseType)
+                : null;
+        RuntimeFilterProbe probe = new RuntimeFilterProbe(runtimeFilterId, formatSQL(inSQLString), getParamIndexes(inSQLString),
+                null == rangeSQLString ? null : formatSQL(rangeSQLString), null == rangeSQLString ? new int[]{} : getParamIndexes(rangeSQLString));
+        return new EnumerableScan(getCluster(), traitSet, table, pushDownRelNode, databaseType, sqlString, probe);
+    }
+    
+    private RelNode createRuntimeFilterRelNode(final RelNode relNode, final int keyIndex, final Function<RexNode, RexNode> conditionFactory) {
+        if (relNode instanceof Project && ((Project) relNode).getProjects().get(keyIndex) instanceof RexInputRef) {
+            Project project = (Project) relNode;
+            RelNode input = createRuntimeFilterRelNode(project.getInput(), ((RexInputRef) project.getProjects().get(keyIndex)).getIndex(), conditionFactory);
+            return project.copy(project.getTraitSet(), Collections.singletonList(input));
+        }
+        RexNode condition = conditionFactory.apply(getCluster().getRexBuilder().makeInputRef(relNode, keyIndex));
+        if (relNode instanceof Filter) {
+            Filter filter = (Filter) relNode;
+            return LogicalFilter.create(filter.getInput(), RexUtil.composeConjunction(getCluster().getRexBuilder(), Arrays.asList(filter.getCondition(), condition)));
+        }
+        return LogicalFilter.create(relNode, condition);
+    }
+    
+    private RexNode createRangeCondition(final RexBuilder rexBuilder, final RexNode keyRef, final RelDataType keyType) {
+        return rexBuilder.makeCall(SqlStdOperatorTable.AND,
+                rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN_OR_EQUAL, keyRef, rexBuilder.makeDynamicParam(keyType, RuntimeFilterProbe.getParameterIndex(0))),
+                rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN_OR_EQUAL, keyRef, rexBuilder.makeDynamicParam(keyType, RuntimeFilterProbe.getParameterIndex(1))));
     }
     
     @Override
     public RelWriter explainTerms(final RelWriter relWriter) {
-        return super.explainTerms(relWriter).item("sql", sqlString.getSql().replaceAll(System.lineSeparator(), " ")).item("dynamicParameters", sqlString.getDynamicParameters());
+        RelWriter result = super.explainTerms(relWriter).item("sql", sqlString.getSql().replaceAll(System.lineSeparator(), " ")).item("dynamicParameters", sqlString.getDynamicParameters());
+        return null == runtimeFilterProbe ? result : result.item("runtimeFilterId", runtimeFilterProbe.getRuntimeFilterId());
     }
     
     @Override
@@ -83,17 +155,52 @@ public final class EnumerableScan extends TableScan implements EnumerableRel {
     @Override
     public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
         PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getPushDownRowType(), pref.preferArray());
-        int[] paramIndexes = null == sqlString.getDynamicParameters() ? new int[]{} : getParamIndexes(sqlString.getDynamicParameters());
-        return implementor.result(physType, Blocks.toBlock(Expressions.call(Objects.requireNonNull(table.getExpression(SQLFederationTable.class)), "execute", implementor.getRootExpression(),
-                Expressions.constant(sqlString.getSql().replace("u&'\\", "'\\u")), Expressions.constant(paramIndexes))));
+        Expression tableExpression = Objects.requireNonNull(table.getExpression(SQLFederationTable.class));
+        Expression sqlExpression = Expressions.constant(formatSQL(sqlString));
+        Expression paramIndexesExpression = Expressions.constant(getParamIndexes(sqlString));
+        if (null == runtimeFilterProbe) {
+            return implementor.result(physType, Blocks.toBlock(Expressions.call(tableExpression, "execute", implementor.getRootExpression(), sqlExpression, paramIndexesExpression)));
+        }
+        Expression probeExpression = Expressions.new_(RuntimeFilterProbe.class, Expressions.constant(runtimeFilterProbe.getRuntimeFilterId()),
+                Expressions.constant(runtimeFilterProbe.getInSQL()), Expressions.constant(runtimeFilterProbe.getInParamIndexes()),
+                Expressions.constant(runtimeFilterProbe.getRangeSQL(), String.class), Expressions.constant(runtimeFilterProbe.getRangeParamIndexes()));
+        return implementor.result(physType, Blocks.toBlock(Expressions.call(tableExpression, "execute", implementor.getRootExpression(), sqlExpression, paramIndexesExpression, probeExpression)));
     }
     
-    private SqlString createSQLString(final RelNode scanContext, final String databaseType) {
+    private static SqlString createSQLString(final RelNode scanContext, final String databaseType) {
         SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
         return new RelToSqlConverter(sqlDialect).visitRoot(scanContext).asStatement().toSqlString(sqlDialect);
     }
     
-    private int[] getParamIndexes(final Collection<Integer> dynamicParameters) {
+    private static SqlString createInSQLString(final RelNode scanContext, final String databaseType) {
+        SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
+        SqlNode sqlNode = new RelToSqlConverter(sqlDialect).visitRoot(scanContext).asStatement();
+        return Objects.requireNonNull(sqlNode.accept(new SqlShuttle() {
+            
+            @Override
+            public SqlNode visit(final SqlCall call) {
+                if (SqlKind.EQUALS == call.getKind() && call.operand(1) instanceof SqlDynamicParam
+                        && RuntimeFilterProbe.getParameterIndex(0) == ((SqlDynamicParam) call.operand(1)).getIndex()) {
+                    List<SqlNode> values = new ArrayList<>(RuntimeFilter.MAX_IN_VALUES);
+                    for (int i = 0; i < RuntimeFilter.MAX_IN_VALUES; i++) {
+                        values.add(new SqlDynamicParam(RuntimeFilterProbe.getParameterIndex(i), SqlParserPos.ZERO));
+                    }
+                    return SqlStdOperatorTable.IN.createCall(SqlParserPos.ZERO, call.operand(0), new SqlNodeList(values, SqlParserPos.ZERO));
+                }
+                return super.visit(call);
+            }
+        })).toSqlString(sqlDialect);
+    }
+    
+    private String formatSQL(final SqlString sqlString) {
+        return sqlString.getSql().replace("u&'\\", "'\\u");
+    }
+    
+    private int[] getParamIndexes(final SqlString sqlString) {
+        Collection<Integer> dynamicParameters = sqlString.getDynamicParameters();
+        if (null == dynamicParameters) {
+            return new int[]{};
+        }
         int[] result = new int[dynamicParameters.size()];
         int index = 0;
         for (Integer each : dynamicParameters) {
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.adapter.enumerable.EnumerableAggregate;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.function.Function0;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.function.Function2;
+import org.apache.calcite.linq4j.tree.Types;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.InvalidRelException;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.util.BuiltInMethod;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.SpillableExpressionShuttle;
+import org.apache.shardingsphere.sqlfederation.optimizer.spill.SpillContext;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Enumerable spillable hash aggregate, which spills rows of new groups into hash partitions when memory budget of execution is exhausted.
+ */
+public final class EnumerableSpillableHashAggregate extends EnumerableAggregate {
+    
+    private static final Method GROUP_BY_METHOD =
+            Types.lookupMethod(SpillContext.class, "groupBy", DataContext.class, Enumerable.class, Function1.class, Function0.class, Function2.class, Function2.class);
+    
+    public EnumerableSpillableHashAggregate(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode input, final ImmutableBitSet groupSet, final List<ImmutableBitSet> groupSets,
+                                            final List<AggregateCall> aggCalls) throws InvalidRelException {
+        super(cluster, traitSet, input, groupSet, groupSets, aggCalls);
+    }
+    
+    @Override
+    public EnumerableSpillableHashAggregate copy(final RelTraitSet traitSet, final RelNode input, final ImmutableBitSet groupSet, final List<ImmutableBitSet> groupSets,
+                                                 final List<AggregateCall> aggCalls) {
+        try {
+            return new EnumerableSpillableHashAggregate(getCluster(), traitSet, input, groupSet, groupSets, aggCalls);
+        } catch (final InvalidRelException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        return SpillableExpressionShuttle.replace(super.implement(implementor, pref), implementor.getRootExpression(), BuiltInMethod.GROUP_BY2.method, GROUP_BY_METHOD);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.EnumerableSort;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.tree.Types;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.BuiltInMethod;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.SpillableExpressionShuttle;
+import org.apache.shardingsphere.sqlfederation.optimizer.spill.SpillContext;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+
+/**
+ * Enumerable spillable sort, which sorts with external merge sort when memory budget of execution is exhausted.
+ */
+public final class EnumerableSpillableSort extends EnumerableSort {
+    
+    private static final Method ORDER_BY_METHOD = Types.lookupMethod(SpillContext.class, "orderBy", DataContext.class, Enumerable.class, Function1.class, Comparator.class);
+    
+    public EnumerableSpillableSort(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode input, final RelCollation collation, final RexNode offset, final RexNode fetch) {
+        super(cluster, traitSet, input, collation, offset, fetch);
+    }
+    
+    @Override
+    public EnumerableSpillableSort copy(final RelTraitSet traitSet, final RelNode newInput, final RelCollation newCollation, final RexNode offset, final RexNode fetch) {
+        return new EnumerableSpillableSort(getCluster(), traitSet, newInput, newCollation, offset, fetch);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        return SpillableExpressionShuttle.replace(super.implement(implementor, pref), implementor.getRootExpression(), BuiltInMethod.ORDER_BY.method, ORDER_BY_METHOD);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelShuttleImpl;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelColumnOrigin;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableRuntimeFilterCollector;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Optional;
+
+/**
+ * Runtime filter rel shuttle, which pushes join keys of hash join build side into probe side scan.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RuntimeFilterRelShuttle extends RelShuttleImpl {
+    
+    private static final Collection<SqlTypeName> NUMERIC_KEY_TYPES = EnumSet.of(SqlTypeName.TINYINT, SqlTypeName.SMALLINT, SqlTypeName.INTEGER, SqlTypeName.BIGINT, SqlTypeName.DECIMAL);
+    
+    private static final Collection<SqlTypeName> CHARACTER_KEY_TYPES = EnumSet.of(SqlTypeName.CHAR, SqlTypeName.VARCHAR);
+    
+    private int runtimeFilterCount;
+    
+    @Override
+    public RelNode visit(final RelNode other) {
+        RelNode result = super.visit(other);
+        return result instanceof EnumerableHashJoin ? attachRuntimeFilter((EnumerableHashJoin) result) : result;
+    }
+    
+    private RelNode attachRuntimeFilter(final EnumerableHashJoin join) {
+        if (JoinRelType.INNER != join.getJoinType() && JoinRelType.RIGHT != join.getJoinType() || !(join.getLeft() instanceof EnumerableScan)) {
+            return join;
+        }
+        EnumerableScan probeScan = (EnumerableScan) join.getLeft();
+        if (null != probeScan.getRuntimeFilterProbe()) {
+            return join;
+        }
+        JoinInfo joinInfo = join.analyzeCondition();
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            int probeKeyIndex = joinInfo.leftKeys.get(i);
+            SqlTypeName keyType = probeScan.getRowType().getFieldList().get(probeKeyIndex).getType().getSqlTypeName();
+            if (NUMERIC_KEY_TYPES.contains(keyType) || CHARACTER_KEY_TYPES.contains(keyType)) {
+                int runtimeFilterId = runtimeFilterCount++;
+                RelNode buildInput = join.getRight();
+                RelNode collector = new EnumerableRuntimeFilterCollector(buildInput.getCluster(), buildInput.getTraitSet(), buildInput, runtimeFilterId, joinInfo.rightKeys.get(i));
+                boolean rangeAvailable = NUMERIC_KEY_TYPES.contains(keyType) && !isDistributionKey(probeScan, probeKeyIndex);
+                return join.copy(join.getTraitSet(), Arrays.asList(probeScan.withRuntimeFilter(runtimeFilterId, probeKeyIndex, rangeAvailable), collector));
+            }
+        }
+        return join;
+    }
+    
+    private boolean isDistributionKey(final EnumerableScan probeScan, final int keyIndex) {
+        RelColumnOrigin columnOrigin = probeScan.getCluster().getMetadataQuery().getColumnOrigin(probeScan.getPushDownRelNode(), keyIndex);
+        if (null == columnOrigin) {
+            return true;
+        }
+        Statistic statistic = Optional.ofNullable(columnOrigin.getOriginTable().unwrap(SQLFederationTable.class)).map(SQLFederationTable::getStatistic).orElse(null);
+        return statistic instanceof SQLFederationStatistic && ((SQLFederationStatistic) statistic).getDistributionKeys().contains(columnOrigin.getOriginColumnOrdinal());
+    }
+    
+    /**
+     * Attach runtime filters to hash joins.
+     *
+     * @param relNode rel node
+     * @return rel node with runtime filters
+     */
+    public static RelNode attach(final RelNode relNode) {
+        return relNode.accept(new RuntimeFilterRelShuttle());
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.util;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.adapter.enumerable.EnumerableRel.Result;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.linq4j.tree.MethodCallExpression;
+import org.apache.calcite.linq4j.tree.Shuttle;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spillable expression shuttle, which replaces in memory linq4j operator call with spillable operator call.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillableExpressionShuttle extends Shuttle {
+    
+    private final Expression rootExpression;
+    
+    private final Method inMemoryMethod;
+    
+    private final Method spillableMethod;
+    
+    @Override
+    public Expression visit(final MethodCallExpression methodCallExpression, final Expression targetExpression, final List<Expression> expressions) {
+        if (!inMemoryMethod.equals(methodCallExpression.method)) {
+            return super.visit(methodCallExpression, targetExpression, expressions);
+        }
+        List<Expression> arguments = new ArrayList<>(expressions.size() + 2);
+        arguments.add(rootExpression);
+        arguments.add(targetExpression);
+        arguments.addAll(expressions);
+        return Expressions.call(spillableMethod, arguments);
+    }
+    
+    /**
+     * Replace in memory operator call of implement result with spillable operator call.
+     *
+     * @param result implement result
+     * @param rootExpression data context root expression
+     * @param inMemoryMethod in memory operator method
+     * @param spillableMethod spillable operator method, which accepts data context root and target enumerable as leading arguments
+     * @return replaced implement result
+     */
+    public static Result replace(final Result result, final Expression rootExpression, final Method inMemoryMethod, final Method spillableMethod) {
+        return new Result(result.block.accept(new SpillableExpressionShuttle(rootExpression, inMemoryMethod, spillableMethod)), result.physType, result.format);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.adapter.enumerable.EnumerableAggregate;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.adapter.enumerable.EnumerableSort;
+import org.apache.calcite.rel.InvalidRelException;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelShuttleImpl;
+import org.apache.calcite.rel.core.Aggregate.Group;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableGraceHashJoin;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableSpillableHashAggregate;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableSpillableSort;
+
+/**
+ * Spillable rel shuttle, which replaces in memory sort, hash aggregate and hash join with spillable operators.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillableRelShuttle extends RelShuttleImpl {
+    
+    @Override
+    public RelNode visit(final RelNode other) {
+        RelNode result = super.visit(other);
+        if (EnumerableSort.class == result.getClass()) {
+            EnumerableSort sort = (EnumerableSort) result;
+            return new EnumerableSpillableSort(sort.getCluster(), sort.getTraitSet(), sort.getInput(), sort.getCollation(), sort.offset, sort.fetch);
+        }
+        if (EnumerableAggregate.class == result.getClass() && Group.SIMPLE == ((EnumerableAggregate) result).getGroupType() && !((EnumerableAggregate) result).getGroupSet().isEmpty()) {
+            return createSpillableHashAggregate((EnumerableAggregate) result);
+        }
+        if (EnumerableHashJoin.class == result.getClass() && ((EnumerableHashJoin) result).getJoinType().projectsRight()) {
+            EnumerableHashJoin join = (EnumerableHashJoin) result;
+            return new EnumerableGraceHashJoin(join.getCluster(), join.getTraitSet(), join.getLeft(), join.getRight(), join.getCondition(), join.getVariablesSet(), join.getJoinType());
+        }
+        return result;
+    }
+    
+    private RelNode createSpillableHashAggregate(final EnumerableAggregate aggregate) {
+        try {
+            return new EnumerableSpillableHashAggregate(aggregate.getCluster(), aggregate.getTraitSet(), aggregate.getInput(), aggregate.getGroupSet(), aggregate.getGroupSets(),
+                    aggregate.getAggCallList());
+        } catch (final InvalidRelException ignored) {
+            return aggregate;
+        }
+    }
+    
+    /**
+     * Replace in memory operators with spillable operators.
+     *
+     * @param relNode rel node
+     * @return rel node with spillable operators
+     */
+    public static RelNode replace(final RelNode relNode) {
+        return relNode.accept(new SpillableRelShuttle());
+    }
+}
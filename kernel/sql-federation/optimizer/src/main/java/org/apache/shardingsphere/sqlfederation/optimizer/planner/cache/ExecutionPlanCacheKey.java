@@ -20,10 +20,13 @@ package org.apache.shardingsphere.sqlfederation.optimizer.planner.cache;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
 
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
 
 /**
@@ -31,7 +34,7 @@ import java.util.Map;
  */
 @RequiredArgsConstructor
 @Getter
-@EqualsAndHashCode(of = {"sql", "tableMetaDataVersions"})
+@EqualsAndHashCode(of = {"sql", "tableMetaDataVersions", "ruleConfigurations"})
 public final class ExecutionPlanCacheKey {
     
     // TODO replace sql with parameterized sql
@@ -44,4 +47,7 @@ public final class ExecutionPlanCacheKey {
     private final SQLStatementCompiler sqlStatementCompiler;
     
     private final Map<String, Integer> tableMetaDataVersions = new LinkedHashMap<>();
+    
+    // Rule configurations are compared by identity, every rule alteration installs a new configuration instance
+    private final Collection<RuleConfiguration> ruleConfigurations = new LinkedList<>();
 }
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelDistribution;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.metadata.RelColumnOrigin;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+import org.immutables.value.Value;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Push join into scan rule.
+ *
+ * <p>Join is pushed down when the rows to be joined are always stored in the same data node,
+ * which means one side only contains broadcast tables, or both sides belong to the same co-location group and are joined on all distribution keys.</p>
+ */
+@Value.Enclosing
+public final class PushJoinIntoScanRule extends RelRule<PushJoinIntoScanRule.Config> implements TransformationRule {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new CaseInsensitiveSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    private PushJoinIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+        LogicalScan leftScan = call.rel(1);
+        LogicalScan rightScan = call.rel(2);
+        if (JoinRelType.INNER != logicalJoin.getJoinType() && JoinRelType.LEFT != logicalJoin.getJoinType() || !logicalJoin.getVariablesSet().isEmpty()) {
+            return false;
+        }
+        if (isSystemSchemaTable(leftScan) || isSystemSchemaTable(rightScan) || !isSameSchema(leftScan, rightScan) || !Objects.equals(leftScan.getDatabaseType(), rightScan.getDatabaseType())) {
+            return false;
+        }
+        Optional<Collection<SQLFederationStatistic>> leftStatistics = findStatistics(leftScan.peek());
+        Optional<Collection<SQLFederationStatistic>> rightStatistics = findStatistics(rightScan.peek());
+        if (!leftStatistics.isPresent() || !rightStatistics.isPresent()) {
+            return false;
+        }
+        if (isAllBroadcast(rightStatistics.get())) {
+            return true;
+        }
+        if (isAllBroadcast(leftStatistics.get())) {
+            return JoinRelType.INNER == logicalJoin.getJoinType();
+        }
+        return isColocated(call.getMetadataQuery(), logicalJoin, leftScan.peek(), rightScan.peek(), leftStatistics.get(), rightStatistics.get());
+    }
+    
+    private boolean isSystemSchemaTable(final LogicalScan logicalScan) {
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isSameSchema(final LogicalScan leftScan, final LogicalScan rightScan) {
+        List<String> leftNames = leftScan.getTable().getQualifiedName();
+        List<String> rightNames = rightScan.getTable().getQualifiedName();
+        return leftNames.subList(0, leftNames.size() - 1).equals(rightNames.subList(0, rightNames.size() - 1));
+    }
+    
+    private Optional<Collection<SQLFederationStatistic>> findStatistics(final RelNode relNode) {
+        Collection<SQLFederationStatistic> result = new LinkedList<>();
+        for (RelOptTable each : RelOptUtil.findAllTables(relNode)) {
+            Optional<SQLFederationStatistic> statistic = findStatistic(each);
+            if (!statistic.isPresent() || RelDistribution.Type.ANY == statistic.get().getDistribution().getType()) {
+                return Optional.empty();
+            }
+            result.add(statistic.get());
+        }
+        return result.isEmpty() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private Optional<SQLFederationStatistic> findStatistic(final RelOptTable table) {
+        SQLFederationTable federationTable = table.unwrap(SQLFederationTable.class);
+        return null != federationTable && federationTable.getStatistic() instanceof SQLFederationStatistic ? Optional.of((SQLFederationStatistic) federationTable.getStatistic()) : Optional.empty();
+    }
+    
+    private boolean isAllBroadcast(final Collection<SQLFederationStatistic> statistics) {
+        return statistics.stream().allMatch(each -> RelDistribution.Type.BROADCAST_DISTRIBUTED == each.getDistribution().getType());
+    }
+    
+    private boolean isColocated(final RelMetadataQuery metadataQuery, final LogicalJoin logicalJoin, final RelNode left, final RelNode right,
+                                final Collection<SQLFederationStatistic> leftStatistics, final Collection<SQLFederationStatistic> rightStatistics) {
+        Optional<String> colocationGroup = findColocationGroup(leftStatistics);
+        if (!colocationGroup.isPresent() || !colocationGroup.equals(findColocationGroup(rightStatistics))) {
+            return false;
+        }
+        JoinInfo joinInfo = logicalJoin.analyzeCondition();
+        Collection<RelColumnOrigin[]> equiColumnOrigins = new LinkedList<>();
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            RelColumnOrigin leftOrigin = metadataQuery.getColumnOrigin(left, joinInfo.leftKeys.get(i));
+            RelColumnOrigin rightOrigin = metadataQuery.getColumnOrigin(right, joinInfo.rightKeys.get(i));
+            if (null != leftOrigin && null != rightOrigin && !leftOrigin.isDerived() && !rightOrigin.isDerived()) {
+                equiColumnOrigins.add(new RelColumnOrigin[]{leftOrigin, rightOrigin});
+            }
+        }
+        for (RelOptTable each : RelOptUtil.findAllTables(left)) {
+            for (RelOptTable other : RelOptUtil.findAllTables(right)) {
+                if (isJoinedOnDistributionKeys(each, other, equiColumnOrigins)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    private Optional<String> findColocationGroup(final Collection<SQLFederationStatistic> statistics) {
+        String result = null;
+        for (SQLFederationStatistic each : statistics) {
+            if (null == each.getColocationGroup()) {
+                continue;
+            }
+            if (null != result && !result.equals(each.getColocationGroup())) {
+                return Optional.empty();
+            }
+            result = each.getColocationGroup();
+        }
+        return Optional.ofNullable(result);
+    }
+    
+    private boolean isJoinedOnDistributionKeys(final RelOptTable leftTable, final RelOptTable rightTable, final Collection<RelColumnOrigin[]> equiColumnOrigins) {
+        Optional<SQLFederationStatistic> leftStatistic = findStatistic(leftTable);
+        Optional<SQLFederationStatistic> rightStatistic = findStatistic(rightTable);
+        if (!leftStatistic.isPresent() || !rightStatistic.isPresent() || leftStatistic.get().getDistributionKeys().isEmpty()
+                || leftStatistic.get().getDistributionKeys().size() != rightStatistic.get().getDistributionKeys().size()) {
+            return false;
+        }
+        for (int i = 0; i < leftStatistic.get().getDistributionKeys().size(); i++) {
+            if (!containsEquiColumnOrigin(equiColumnOrigins, leftTable, leftStatistic.get().getDistributionKeys().get(i), rightTable, rightStatistic.get().getDistributionKeys().get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean containsEquiColumnOrigin(final Collection<RelColumnOrigin[]> equiColumnOrigins, final RelOptTable leftTable, final int leftOrdinal,
+                                             final RelOptTable rightTable, final int rightOrdinal) {
+        for (RelColumnOrigin[] each : equiColumnOrigins) {
+            if (isColumnOrigin(each[0], leftTable, leftOrdinal) && isColumnOrigin(each[1], rightTable, rightOrdinal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isColumnOrigin(final RelColumnOrigin columnOrigin, final RelOptTable table, final int ordinal) {
+        return columnOrigin.getOriginColumnOrdinal() == ordinal && columnOrigin.getOriginTable().getQualifiedName().equals(table.getQualifiedName());
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+        LogicalScan leftScan = call.rel(1);
+        LogicalScan rightScan = call.rel(2);
+        leftScan.pushDown(logicalJoin, rightScan);
+        call.transformTo(leftScan);
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushJoinIntoScanRule.Config.builder().description(PushJoinIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalJoin.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs(), b2 -> b2.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushJoinIntoScanRule toRule() {
+            return new PushJoinIntoScanRule(this);
+        }
+    }
+}
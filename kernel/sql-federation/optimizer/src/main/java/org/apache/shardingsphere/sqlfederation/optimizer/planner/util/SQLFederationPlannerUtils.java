@@ -57,6 +57,7 @@ import org.apache.shardingsphere.sqlfederation.optimizer.metadata.view.ShardingS
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableModifyConverterRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableScanConverterRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushFilterIntoScanRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushJoinIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushProjectIntoScanRule;
 
 import java.util.Arrays;
@@ -103,6 +104,7 @@ public final class SQLFederationPlannerUtils {
         HepProgramBuilder builder = new HepProgramBuilder();
         builder.addGroupBegin().addRuleCollection(getFilterRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getProjectRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
+        builder.addGroupBegin().addRuleCollection(getJoinRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getAggregationRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getCalcRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getSubQueryRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
@@ -171,6 +173,14 @@ public final class SQLFederationPlannerUtils {
         return result;
     }
     
+    private static Collection<RelOptRule> getJoinRules() {
+        Collection<RelOptRule> result = new LinkedList<>();
+        result.add(PushJoinIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushFilterIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushProjectIntoScanRule.Config.DEFAULT.toRule());
+        return result;
+    }
+    
     private static Collection<RelOptRule> getFilterRules() {
         Collection<RelOptRule> result = new LinkedList<>();
         result.add(CoreRules.FILTER_INTO_JOIN);
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.runtimefilter;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Runtime filter which collects join keys from build side of hash join.
+ */
+public final class RuntimeFilter {
+    
+    public static final int MAX_IN_VALUES = 32;
+    
+    private final Set<Object> inValues = new LinkedHashSet<>(MAX_IN_VALUES * 2, 1F);
+    
+    private boolean inValuesOverflow;
+    
+    private boolean rangeAvailable;
+    
+    private Comparable<Object> minValue;
+    
+    private Comparable<Object> maxValue;
+    
+    @Getter
+    private boolean completed;
+    
+    public RuntimeFilter() {
+        reset();
+    }
+    
+    /**
+     * Reset runtime filter before build side is enumerated.
+     */
+    public void reset() {
+        inValues.clear();
+        inValuesOverflow = false;
+        rangeAvailable = true;
+        minValue = null;
+        maxValue = null;
+        completed = false;
+    }
+    
+    /**
+     * Add join key from build side.
+     *
+     * @param value join key value
+     */
+    public void add(final Object value) {
+        if (null == value) {
+            return;
+        }
+        if (!inValuesOverflow && inValues.add(value) && inValues.size() > MAX_IN_VALUES) {
+            inValuesOverflow = true;
+            inValues.clear();
+        }
+        updateRange(value);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void updateRange(final Object value) {
+        if (!rangeAvailable) {
+            return;
+        }
+        if (!(value instanceof Number) || !(value instanceof Comparable) || null != minValue && minValue.getClass() != value.getClass()) {
+            rangeAvailable = false;
+            return;
+        }
+        Comparable<Object> comparableValue = (Comparable<Object>) value;
+        if (null == minValue || comparableValue.compareTo(minValue) < 0) {
+            minValue = comparableValue;
+        }
+        if (null == maxValue || comparableValue.compareTo(maxValue) > 0) {
+            maxValue = comparableValue;
+        }
+    }
+    
+    /**
+     * Mark build side is enumerated completely.
+     */
+    public void complete() {
+        completed = true;
+    }
+    
+    /**
+     * Judge whether build side has no join key, which means probe side can be skipped for inner join.
+     *
+     * @return build side has no join key or not
+     */
+    public boolean isEmpty() {
+        return !inValuesOverflow && inValues.isEmpty();
+    }
+    
+    /**
+     * Find distinct join keys to be pushed down as IN list.
+     *
+     * @return distinct join keys
+     */
+    public Optional<Collection<Object>> findInValues() {
+        return inValuesOverflow ? Optional.empty() : Optional.of(inValues);
+    }
+    
+    /**
+     * Find min and max join keys to be pushed down as range.
+     *
+     * @return min and max join keys
+     */
+    public Optional<Object[]> findRange() {
+        return rangeAvailable && null != minValue ? Optional.of(new Object[]{minValue, maxValue}) : Optional.empty();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.runtimefilter;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.function.Function1;
+
+/**
+ * Runtime filter collect enumerator.
+ *
+ * @param <T> type of row
+ */
+@RequiredArgsConstructor
+public final class RuntimeFilterCollectEnumerator<T> implements Enumerator<T> {
+    
+    private final Enumerator<T> delegate;
+    
+    private final RuntimeFilter runtimeFilter;
+    
+    private final Function1<T, Object> keySelector;
+    
+    @Override
+    public T current() {
+        return delegate.current();
+    }
+    
+    @Override
+    public boolean moveNext() {
+        if (delegate.moveNext()) {
+            runtimeFilter.add(keySelector.apply(delegate.current()));
+            return true;
+        }
+        runtimeFilter.complete();
+        return false;
+    }
+    
+    @Override
+    public void reset() {
+        delegate.reset();
+        runtimeFilter.reset();
+    }
+    
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.runtimefilter;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.function.Function1;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Runtime filter context, which holds runtime filters of one execution.
+ */
+public final class RuntimeFilterContext {
+    
+    public static final String KEY = "shardingsphere.runtimeFilterContext";
+    
+    private final Map<Integer, RuntimeFilter> runtimeFilters = new HashMap<>();
+    
+    /**
+     * Judge whether runtime filter is enabled for current execution.
+     *
+     * @param root data context
+     * @return runtime filter is enabled or not
+     */
+    public static boolean isEnabled(final DataContext root) {
+        return root.get(KEY) instanceof RuntimeFilterContext;
+    }
+    
+    /**
+     * Collect join keys of build side into runtime filter.
+     *
+     * @param root data context
+     * @param runtimeFilterId runtime filter ID
+     * @param input build side enumerable
+     * @param keySelector join key selector
+     * @param <T> type of row
+     * @return build side enumerable which collects join keys while enumerating
+     */
+    public static <T> Enumerable<T> collect(final DataContext root, final int runtimeFilterId, final Enumerable<T> input, final Function1<T, Object> keySelector) {
+        Object runtimeFilterContext = root.get(KEY);
+        if (!(runtimeFilterContext instanceof RuntimeFilterContext)) {
+            return input;
+        }
+        RuntimeFilter runtimeFilter = ((RuntimeFilterContext) runtimeFilterContext).runtimeFilters.computeIfAbsent(runtimeFilterId, unused -> new RuntimeFilter());
+        return new AbstractEnumerable<T>() {
+            
+            @Override
+            public Enumerator<T> enumerator() {
+                runtimeFilter.reset();
+                return new RuntimeFilterCollectEnumerator<>(input.enumerator(), runtimeFilter, keySelector);
+            }
+        };
+    }
+    
+    /**
+     * Find runtime filter whose build side is enumerated completely.
+     *
+     * @param root data context
+     * @param runtimeFilterId runtime filter ID
+     * @return completed runtime filter
+     */
+    public static Optional<RuntimeFilter> findCompletedRuntimeFilter(final DataContext root, final int runtimeFilterId) {
+        Object runtimeFilterContext = root.get(KEY);
+        if (!(runtimeFilterContext instanceof RuntimeFilterContext)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(((RuntimeFilterContext) runtimeFilterContext).runtimeFilters.get(runtimeFilterId)).filter(RuntimeFilter::isCompleted);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.runtimefilter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runtime filter probe, which holds SQL of probe side scan with runtime filter applied.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class RuntimeFilterProbe {
+    
+    private final int runtimeFilterId;
+    
+    private final String inSQL;
+    
+    private final int[] inParamIndexes;
+    
+    private final String rangeSQL;
+    
+    private final int[] rangeParamIndexes;
+    
+    /**
+     * Get parameter index of runtime filter value.
+     *
+     * <p>Runtime filter values are marked as negative parameter indexes to distinguish from parameters of original SQL.</p>
+     *
+     * @param valueIndex runtime filter value index
+     * @return parameter index
+     */
+    public static int getParameterIndex(final int valueIndex) {
+        return -valueIndex - 1;
+    }
+    
+    /**
+     * Get runtime filter value index.
+     *
+     * @param paramIndex parameter index
+     * @return runtime filter value index
+     */
+    public static int getValueIndex(final int paramIndex) {
+        return -paramIndex - 1;
+    }
+    
+    /**
+     * Create scan executor context with runtime filter applied.
+     *
+     * @param root data context
+     * @param runtimeFilter runtime filter
+     * @return created scan executor context
+     */
+    public Optional<ScanExecutorContext> createScanExecutorContext(final DataContext root, final RuntimeFilter runtimeFilter) {
+        Optional<Collection<Object>> inValues = runtimeFilter.findInValues();
+        if (inValues.isPresent() && !inValues.get().isEmpty()) {
+            return Optional.of(new ScanExecutorContext(root, inSQL, inParamIndexes, createInParameters(inValues.get())));
+        }
+        if (null == rangeSQL) {
+            return Optional.empty();
+        }
+        return runtimeFilter.findRange().map(optional -> new ScanExecutorContext(root, rangeSQL, rangeParamIndexes, Arrays.asList(optional)));
+    }
+    
+    private List<Object> createInParameters(final Collection<Object> inValues) {
+        List<Object> result = new ArrayList<>(RuntimeFilter.MAX_IN_VALUES);
+        result.addAll(inValues);
+        Object lastValue = result.get(result.size() - 1);
+        while (result.size() < RuntimeFilter.MAX_IN_VALUES) {
+            result.add(lastValue);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.spill;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.linq4j.function.Function1;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+/**
+ * External merge sort enumerator, which sorts rows in memory until memory budget is exhausted and merges sorted runs spilled to temp files.
+ *
+ * @param <T> type of row
+ * @param <K> type of sort key
+ */
+public final class ExternalMergeSortEnumerator<T, K> implements Enumerator<T> {
+    
+    private static final int MAX_MERGE_RUNS = 64;
+    
+    private final SpillContext spillContext;
+    
+    private final Enumerator<T> source;
+    
+    private final Function1<T, K> keySelector;
+    
+    private final Comparator<K> comparator;
+    
+    private final List<SpillFile> runs = new LinkedList<>();
+    
+    private final Collection<RunCursor<T, K>> runCursors = new LinkedList<>();
+    
+    private PriorityQueue<RunCursor<T, K>> mergeQueue;
+    
+    private long reservedMemory;
+    
+    private T current;
+    
+    @SuppressWarnings("unchecked")
+    public ExternalMergeSortEnumerator(final SpillContext spillContext, final Enumerator<T> source, final Function1<T, K> keySelector, final Comparator<K> comparator) {
+        this.spillContext = spillContext;
+        this.source = source;
+        this.keySelector = keySelector;
+        this.comparator = null == comparator ? (Comparator<K>) Comparator.naturalOrder() : comparator;
+    }
+    
+    @Override
+    public T current() {
+        return current;
+    }
+    
+    @Override
+    public boolean moveNext() {
+        if (null == mergeQueue) {
+            boolean sorted = false;
+            try {
+                mergeQueue = createMergeQueue(sort());
+                sorted = true;
+            } finally {
+                if (!sorted) {
+                    close();
+                }
+            }
+        }
+        RunCursor<T, K> cursor = mergeQueue.poll();
+        if (null == cursor) {
+            closeRuns();
+            current = null;
+            return false;
+        }
+        current = cursor.row;
+        if (cursor.moveNext()) {
+            mergeQueue.add(cursor);
+        }
+        return true;
+    }
+    
+    private List<T> sort() {
+        List<Entry<K, T>> buffer = new ArrayList<>();
+        while (source.moveNext()) {
+            T row = source.current();
+            long rowSize = RowSizeEstimator.estimate(row);
+            if (!spillContext.tryReserve(rowSize)) {
+                spillRun(buffer);
+                if (!spillContext.tryReserve(rowSize)) {
+                    spillContext.forceReserve(rowSize);
+                }
+            }
+            reservedMemory += rowSize;
+            buffer.add(new SimpleImmutableEntry<>(keySelector.apply(row), row));
+        }
+        return sortBuffer(buffer);
+    }
+    
+    private List<T> sortBuffer(final List<Entry<K, T>> buffer) {
+        buffer.sort((o1, o2) -> comparator.compare(o1.getKey(), o2.getKey()));
+        return buffer.stream().map(Entry::getValue).collect(Collectors.toList());
+    }
+    
+    private void spillRun(final List<Entry<K, T>> buffer) {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        SpillFile run = spillContext.createSpillFile();
+        for (T each : sortBuffer(buffer)) {
+            run.write(each);
+        }
+        buffer.clear();
+        runs.add(run);
+        releaseMemory();
+        if (runs.size() >= MAX_MERGE_RUNS) {
+            mergeRuns();
+        }
+    }
+    
+    private void mergeRuns() {
+        SpillFile mergedRun = spillContext.createSpillFile();
+        PriorityQueue<RunCursor<T, K>> queue = createMergeQueue(new LinkedList<>());
+        while (!queue.isEmpty()) {
+            RunCursor<T, K> cursor = queue.poll();
+            mergedRun.write(cursor.row);
+            if (cursor.moveNext()) {
+                queue.add(cursor);
+            }
+        }
+        closeRuns();
+        runs.add(mergedRun);
+    }
+    
+    private PriorityQueue<RunCursor<T, K>> createMergeQueue(final List<T> memoryRun) {
+        PriorityQueue<RunCursor<T, K>> result = new PriorityQueue<>(runs.size() + 1, (o1, o2) -> {
+            int compareResult = comparator.compare(o1.key, o2.key);
+            return 0 == compareResult ? Integer.compare(o1.index, o2.index) : compareResult;
+        });
+        int index = 0;
+        for (SpillFile each : runs) {
+            addRunCursor(result, new RunCursor<>(index++, each.<T>read().enumerator(), keySelector));
+        }
+        addRunCursor(result, new RunCursor<>(index, Linq4j.enumerator(memoryRun), keySelector));
+        return result;
+    }
+    
+    private void addRunCursor(final PriorityQueue<RunCursor<T, K>> queue, final RunCursor<T, K> cursor) {
+        runCursors.add(cursor);
+        if (cursor.moveNext()) {
+            queue.add(cursor);
+        }
+    }
+    
+    private void releaseMemory() {
+        spillContext.release(reservedMemory);
+        reservedMemory = 0L;
+    }
+    
+    private void closeRuns() {
+        for (RunCursor<T, K> each : runCursors) {
+            each.enumerator.close();
+        }
+        runCursors.clear();
+        for (SpillFile each : runs) {
+            each.close();
+        }
+        runs.clear();
+    }
+    
+    @Override
+    public void reset() {
+    }
+    
+    @Override
+    public void close() {
+        source.close();
+        closeRuns();
+        releaseMemory();
+        mergeQueue = null;
+        current = null;
+    }
+    
+    private static final class RunCursor<T, K> {
+        
+        private final int index;
+        
+        private final Enumerator<T> enumerator;
+        
+        private final Function1<T, K> keySelector;
+        
+        private T row;
+        
+        private K key;
+        
+        private RunCursor(final int index, final Enumerator<T> enumerator, final Function1<T, K> keySelector) {
+            this.index = index;
+            this.enumerator = enumerator;
+            this.keySelector = keySelector;
+        }
+        
+        private boolean moveNext() {
+            if (!enumerator.moveNext()) {
+                enumerator.close();
+                return false;
+            }
+            row = enumerator.current();
+            key = keySelector.apply(row);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.spill;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.linq4j.function.EqualityComparer;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.function.Function2;
+import org.apache.calcite.linq4j.function.Predicate2;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Grace hash join enumerable, which joins in memory when inner side fits memory budget,
+ * otherwise partitions both sides into spill files by join key hash and joins partition pairs one by one.
+ *
+ * @param <O> type of outer row
+ * @param <I> type of inner row
+ * @param <K> type of join key
+ * @param <R> type of result
+ */
+@RequiredArgsConstructor
+public final class GraceHashJoinEnumerable<O, I, K, R> extends AbstractEnumerable<R> {
+    
+    private final SpillContext spillContext;
+    
+    private final Enumerable<O> outer;
+    
+    private final Enumerable<I> inner;
+    
+    private final Function1<O, K> outerKeySelector;
+    
+    private final Function1<I, K> innerKeySelector;
+    
+    private final Function2<O, I, R> resultSelector;
+    
+    private final EqualityComparer<K> comparer;
+    
+    private final boolean generateNullsOnLeft;
+    
+    private final boolean generateNullsOnRight;
+    
+    private final Predicate2<O, I> predicate;
+    
+    @Override
+    public Enumerator<R> enumerator() {
+        return new GraceHashJoinEnumerator();
+    }
+    
+    private Enumerable<R> join(final Enumerable<O> outerRows, final Enumerable<I> innerRows) {
+        return outerRows.hashJoin(innerRows, outerKeySelector, innerKeySelector, resultSelector, comparer, generateNullsOnLeft, generateNullsOnRight, predicate);
+    }
+    
+    private int getKeyHashCode(final K key) {
+        return null == comparer || null == key ? Objects.hashCode(key) : comparer.hashCode(key);
+    }
+    
+    private final class GraceHashJoinEnumerator implements Enumerator<R> {
+        
+        private long reservedMemory;
+        
+        private SpillPartitions innerPartitions;
+        
+        private SpillPartitions outerPartitions;
+        
+        private int partitionIndex;
+        
+        private Enumerator<R> delegate;
+        
+        private R current;
+        
+        @Override
+        public R current() {
+            return current;
+        }
+        
+        @Override
+        public boolean moveNext() {
+            if (null == delegate) {
+                boolean built = false;
+                try {
+                    delegate = build();
+                    built = true;
+                } finally {
+                    if (!built) {
+                        close();
+                    }
+                }
+            }
+            while (true) {
+                if (delegate.moveNext()) {
+                    current = delegate.current();
+                    return true;
+                }
+                if (null == innerPartitions || partitionIndex >= innerPartitions.getPartitionCount()) {
+                    closePartitions();
+                    current = null;
+                    return false;
+                }
+                delegate.close();
+                delegate = join(outerPartitions.read(partitionIndex), innerPartitions.read(partitionIndex)).enumerator();
+                partitionIndex++;
+            }
+        }
+        
+        private Enumerator<R> build() {
+            List<I> innerRows = new LinkedList<>();
+            try (Enumerator<I> innerEnumerator = inner.enumerator()) {
+                while (innerEnumerator.moveNext()) {
+                    I row = innerEnumerator.current();
+                    if (null == innerPartitions && !reserve(row)) {
+                        innerPartitions = new SpillPartitions(spillContext, 0);
+                        spillInnerRows(innerRows);
+                    }
+                    if (null == innerPartitions) {
+                        innerRows.add(row);
+                    } else {
+                        innerPartitions.write(getKeyHashCode(innerKeySelector.apply(row)), row);
+                    }
+                }
+            }
+            if (null == innerPartitions) {
+                return join(outer, Linq4j.asEnumerable(innerRows)).enumerator();
+            }
+            outerPartitions = new SpillPartitions(spillContext, 0);
+            try (Enumerator<O> outerEnumerator = outer.enumerator()) {
+                while (outerEnumerator.moveNext()) {
+                    O row = outerEnumerator.current();
+                    outerPartitions.write(getKeyHashCode(outerKeySelector.apply(row)), row);
+                }
+            }
+            return Linq4j.emptyEnumerator();
+        }
+        
+        private boolean reserve(final I row) {
+            long rowSize = RowSizeEstimator.estimate(row);
+            if (!spillContext.tryReserve(rowSize)) {
+                return false;
+            }
+            reservedMemory += rowSize;
+            return true;
+        }
+        
+        private void spillInnerRows(final List<I> innerRows) {
+            for (I each : innerRows) {
+                innerPartitions.write(getKeyHashCode(innerKeySelector.apply(each)), each);
+            }
+            innerRows.clear();
+            spillContext.release(reservedMemory);
+            reservedMemory = 0L;
+        }
+        
+        private void closePartitions() {
+            if (null != innerPartitions) {
+                innerPartitions.close();
+                innerPartitions = null;
+            }
+            if (null != outerPartitions) {
+                outerPartitions.close();
+                outerPartitions = null;
+            }
+        }
+        
+        @Override
+        public void reset() {
+        }
+        
+        @Override
+        public void close() {
+            if (null != delegate) {
+                delegate.close();
+                delegate = null;
+            }
+            closePartitions();
+            spillContext.release(reservedMemory);
+            reservedMemory = 0L;
+            current = null;
+        }
+    }
+}
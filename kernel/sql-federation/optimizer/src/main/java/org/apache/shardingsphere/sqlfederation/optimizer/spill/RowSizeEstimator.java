@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.avatica.util.ByteString;
+
+import java.math.BigDecimal;
+
+/**
+ * Row size estimator, which roughly estimates heap size of rows buffered by spillable operators.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RowSizeEstimator {
+    
+    private static final int OBJECT_HEADER_SIZE = 16;
+    
+    private static final int REFERENCE_SIZE = 8;
+    
+    private static final int DEFAULT_VALUE_SIZE = 64;
+    
+    /**
+     * Estimate heap size of row.
+     *
+     * @param row row
+     * @return estimated heap size in bytes
+     */
+    public static long estimate(final Object row) {
+        if (!(row instanceof Object[])) {
+            return REFERENCE_SIZE + estimateValue(row);
+        }
+        Object[] values = (Object[]) row;
+        long result = OBJECT_HEADER_SIZE + (long) REFERENCE_SIZE * values.length;
+        for (Object each : values) {
+            result += estimateValue(each);
+        }
+        return result;
+    }
+    
+    private static long estimateValue(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_HEADER_SIZE * 3L + 2L * ((String) value).length();
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof Boolean
+                || value instanceof Double || value instanceof Float || value instanceof Character) {
+            return OBJECT_HEADER_SIZE + REFERENCE_SIZE;
+        }
+        if (value instanceof BigDecimal) {
+            return OBJECT_HEADER_SIZE * 2L + ((BigDecimal) value).unscaledValue().bitLength() / 8 + REFERENCE_SIZE;
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_HEADER_SIZE + ((byte[]) value).length;
+        }
+        if (value instanceof ByteString) {
+            return OBJECT_HEADER_SIZE * 2L + ((ByteString) value).length();
+        }
+        return DEFAULT_VALUE_SIZE;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.spill;
+
+import lombok.Getter;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.function.EqualityComparer;
+import org.apache.calcite.linq4j.function.Function0;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.function.Function2;
+import org.apache.calcite.linq4j.function.Predicate2;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spill context, which holds memory budget and spill files of one execution shared by spillable operators.
+ */
+public final class SpillContext implements AutoCloseable {
+    
+    public static final String KEY = "shardingsphere.spillContext";
+    
+    @Getter
+    private final long memoryBudget;
+    
+    @Getter
+    private final int partitionCount;
+    
+    private final AtomicLong reservedMemory = new AtomicLong();
+    
+    private final Collection<SpillFile> spillFiles = ConcurrentHashMap.newKeySet();
+    
+    public SpillContext(final long memoryBudget) {
+        this(memoryBudget, 32);
+    }
+    
+    public SpillContext(final long memoryBudget, final int partitionCount) {
+        this.memoryBudget = memoryBudget;
+        this.partitionCount = partitionCount;
+    }
+    
+    /**
+     * Try to reserve memory.
+     *
+     * @param bytes bytes to reserve
+     * @return reserved or not
+     */
+    public boolean tryReserve(final long bytes) {
+        while (true) {
+            long current = reservedMemory.get();
+            if (current + bytes > memoryBudget) {
+                return false;
+            }
+            if (reservedMemory.compareAndSet(current, current + bytes)) {
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Reserve memory regardless of budget, which is used when nothing can be spilled any more.
+     *
+     * @param bytes bytes to reserve
+     */
+    public void forceReserve(final long bytes) {
+        reservedMemory.addAndGet(bytes);
+    }
+    
+    /**
+     * Release memory.
+     *
+     * @param bytes bytes to release
+     */
+    public void release(final long bytes) {
+        reservedMemory.addAndGet(-bytes);
+    }
+    
+    /**
+     * Get reserved memory.
+     *
+     * @return reserved memory in bytes
+     */
+    public long getReservedMemory() {
+        return reservedMemory.get();
+    }
+    
+    /**
+     * Create spill file.
+     *
+     * @return created spill file
+     */
+    public SpillFile createSpillFile() {
+        SpillFile result = new SpillFile(this);
+        spillFiles.add(result);
+        return result;
+    }
+    
+    void removeSpillFile(final SpillFile spillFile) {
+        spillFiles.remove(spillFile);
+    }
+    
+    /**
+     * Delete spill files which are not closed by spillable operators, e.g. when execution is cancelled.
+     */
+    @Override
+    public void close() {
+        for (SpillFile each : spillFiles) {
+            each.close();
+        }
+    }
+    
+    /**
+     * Sort rows with external merge sort when memory budget is configured.
+     *
+     * @param root data context
+     * @param source source enumerable
+     * @param keySelector sort key selector
+     * @param comparator sort key comparator
+     * @param <T> type of row
+     * @param <K> type of sort key
+     * @return sorted enumerable
+     */
+    public static <T, K> Enumerable<T> orderBy(final DataContext root, final Enumerable<T> source, final Function1<T, K> keySelector, final Comparator<K> comparator) {
+        Object spillContext = root.get(KEY);
+        if (!(spillContext instanceof SpillContext)) {
+            return source.orderBy(keySelector, comparator);
+        }
+        return new AbstractEnumerable<T>() {
+            
+            @Override
+            public Enumerator<T> enumerator() {
+                return new ExternalMergeSortEnumerator<>((SpillContext) spillContext, source.enumerator(), keySelector, comparator);
+            }
+        };
+    }
+    
+    /**
+     * Group rows with spillable hash aggregate when memory budget is configured.
+     *
+     * @param root data context
+     * @param source source enumerable
+     * @param keySelector group key selector
+     * @param accumulatorInitializer accumulator initializer
+     * @param accumulatorAdder accumulator adder
+     * @param resultSelector result selector
+     * @param <T> type of row
+     * @param <K> type of group key
+     * @param <A> type of accumulator
+     * @param <R> type of result
+     * @return grouped enumerable
+     */
+    public static <T, K, A, R> Enumerable<R> groupBy(final DataContext root, final Enumerable<T> source, final Function1<T, K> keySelector, final Function0<A> accumulatorInitializer,
+                                                     final Function2<A, T, A> accumulatorAdder, final Function2<K, A, R> resultSelector) {
+        Object spillContext = root.get(KEY);
+        if (!(spillContext instanceof SpillContext)) {
+            return source.groupBy(keySelector, accumulatorInitializer, accumulatorAdder, resultSelector);
+        }
+        return new SpillableHashAggregateEnumerable<>((SpillContext) spillContext, source, keySelector, accumulatorInitializer, accumulatorAdder, resultSelector, 0);
+    }
+    
+    /**
+     * Join rows with grace hash join when memory budget is configured.
+     *
+     * @param root data context
+     * @param outer outer enumerable
+     * @param inner inner enumerable
+     * @param outerKeySelector outer key selector
+     * @param innerKeySelector inner key selector
+     * @param resultSelector result selector
+     * @param comparer key comparer
+     * @param generateNullsOnLeft generate nulls on left or not
+     * @param generateNullsOnRight generate nulls on right or not
+     * @param predicate non equi join predicate
+     * @param <O> type of outer row
+     * @param <I> type of inner row
+     * @param <K> type of join key
+     * @param <R> type of result
+     * @return joined enumerable
+     */
+    public static <O, I, K, R> Enumerable<R> hashJoin(final DataContext root, final Enumerable<O> outer, final Enumerable<I> inner, final Function1<O, K> outerKeySelector,
+                                                      final Function1<I, K> innerKeySelector, final Function2<O, I, R> resultSelector, final EqualityComparer<K> comparer,
+                                                      final boolean generateNullsOnLeft, final boolean generateNullsOnRight, final Predicate2<O, I> predicate) {
+        Object spillContext = root.get(KEY);
+        if (!(spillContext instanceof SpillContext)) {
+            return outer.hashJoin(inner, outerKeySelector, innerKeySelector, resultSelector, comparer, generateNullsOnLeft, generateNullsOnRight, predicate);
+        }
+        return new GraceHashJoinEnumerable<>((SpillContext) spillContext, outer, inner, outerKeySelector, innerKeySelector, resultSelector, comparer, generateNullsOnLeft, generateNullsOnRight,
+                predicate);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.spill;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Spill file, which writes rows of spillable operators into local temp file and reads them back in written order.
+ *
+ * <p>Temp file is deleted when writing fails, when spill file is closed, or when its spill context is closed.</p>
+ */
+public final class SpillFile implements AutoCloseable {
+    
+    private final SpillContext spillContext;
+    
+    @Getter
+    private final Path path;
+    
+    private DataOutputStream output;
+    
+    @Getter
+    private int rowCount;
+    
+    @SneakyThrows(IOException.class)
+    SpillFile(final SpillContext spillContext) {
+        this.spillContext = spillContext;
+        path = Files.createTempFile("shardingsphere-federation-spill-", ".tmp");
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row
+     */
+    @SneakyThrows(IOException.class)
+    public void write(final Object row) {
+        boolean written = false;
+        try {
+            if (null == output) {
+                output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+            }
+            SpillRowCodec.write(output, row);
+            written = true;
+        } finally {
+            if (!written) {
+                close();
+            }
+        }
+        rowCount++;
+    }
+    
+    /**
+     * Finish writing and read rows back.
+     *
+     * @param <T> type of row
+     * @return enumerable of written rows
+     */
+    @SneakyThrows(IOException.class)
+    public <T> Enumerable<T> read() {
+        if (null != output) {
+            output.close();
+            output = null;
+        }
+        return new AbstractEnumerable<T>() {
+            
+            @Override
+            public Enumerator<T> enumerator() {
+                return new SpillFileEnumerator<>(path, rowCount);
+            }
+        };
+    }
+    
+    @SneakyThrows(IOException.class)
+    @Override
+    public void close() {
+        try {
+            if (null != output) {
+                output.close();
+                output = null;
+            }
+        } finally {
+            Files.deleteIfExists(path);
+            spillContext.removeSpillFile(this);
+        }
+    }
+    
+    private static final class SpillFileEnumerator<T> implements Enumerator<T> {
+        
+        private final Path path;
+        
+        private final int rowCount;
+        
+        private DataInputStream input;
+        
+        private int readCount;
+        
+        private T current;
+        
+        private SpillFileEnumerator(final Path path, final int rowCount) {
+            this.path = path;
+            this.rowCount = rowCount;
+        }
+        
+        @Override
+        public T current() {
+            return current;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @SneakyThrows(IOException.class)
+        @Override
+        public boolean moveNext() {
+            if (readCount >= rowCount) {
+                current = null;
+                return false;
+            }
+            if (null == input) {
+                input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+            }
+            current = (T) SpillRowCodec.read(input);
+            readCount++;
+            return true;
+        }
+        
+        @Override
+        public void reset() {
+            close();
+            readCount = 0;
+            current = null;
+        }
+        
+        @SneakyThrows(IOException.class)
+        @Override
+        public void close() {
+            if (null != input) {
+                input.close();
+                input = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.spill;
+
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+
+/**
+ * Spill partitions, which spread rows into spill files by hash code of their keys.
+ */
+public final class SpillPartitions implements AutoCloseable {
+    
+    private final SpillContext spillContext;
+    
+    private final SpillFile[] spillFiles;
+    
+    private final int level;
+    
+    public SpillPartitions(final SpillContext spillContext, final int level) {
+        this.spillContext = spillContext;
+        spillFiles = new SpillFile[spillContext.getPartitionCount()];
+        this.level = level;
+    }
+    
+    /**
+     * Get partition count.
+     *
+     * @return partition count
+     */
+    public int getPartitionCount() {
+        return spillFiles.length;
+    }
+    
+    /**
+     * Write row into partition.
+     *
+     * @param keyHashCode hash code of row key
+     * @param row row
+     */
+    public void write(final int keyHashCode, final Object row) {
+        int index = getPartitionIndex(keyHashCode);
+        if (null == spillFiles[index]) {
+            spillFiles[index] = spillContext.createSpillFile();
+        }
+        spillFiles[index].write(row);
+    }
+    
+    private int getPartitionIndex(final int keyHashCode) {
+        int hash = (keyHashCode ^ level * 0x61C88647) * 0x9E3779B9;
+        return Math.floorMod(hash ^ hash >>> 16, spillFiles.length);
+    }
+    
+    /**
+     * Read rows of partition.
+     *
+     * @param index partition index
+     * @param <T> type of row
+     * @return enumerable of partition rows
+     */
+    public <T> Enumerable<T> read(final int index) {
+        return null == spillFiles[index] ? Linq4j.emptyEnumerable() : spillFiles[index].read();
+    }
+    
+    @Override
+    public void close() {
+        for (int i = 0; i < spillFiles.length; i++) {
+            if (null != spillFiles[i]) {
+                spillFiles[i].close();
+                spillFiles[i] = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.calcite.avatica.util.ByteString;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Spill row codec, which writes rows of spillable operators with a type tag for each value.
+ *
+ * <p>{@link Clob}, {@link Blob} and {@link Array} are read into string, byte array and object array when written,
+ * because they are bound to JDBC result sets which may be closed before spilled rows are read back.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillRowCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte OBJECT_ARRAY = 1;
+    
+    private static final byte STRING = 2;
+    
+    private static final byte BOOLEAN = 3;
+    
+    private static final byte BYTE = 4;
+    
+    private static final byte SHORT = 5;
+    
+    private static final byte INTEGER = 6;
+    
+    private static final byte LONG = 7;
+    
+    private static final byte FLOAT = 8;
+    
+    private static final byte DOUBLE = 9;
+    
+    private static final byte CHARACTER = 10;
+    
+    private static final byte BIG_DECIMAL = 11;
+    
+    private static final byte BIG_INTEGER = 12;
+    
+    private static final byte BYTES = 13;
+    
+    private static final byte BYTE_STRING = 14;
+    
+    private static final byte SQL_DATE = 15;
+    
+    private static final byte SQL_TIME = 16;
+    
+    private static final byte SQL_TIMESTAMP = 17;
+    
+    private static final byte DATE = 18;
+    
+    private static final byte LOCAL_DATE = 19;
+    
+    private static final byte LOCAL_TIME = 20;
+    
+    private static final byte LOCAL_DATE_TIME = 21;
+    
+    private static final byte OFFSET_DATE_TIME = 22;
+    
+    private static final byte UUID_VALUE = 23;
+    
+    /**
+     * Write row.
+     *
+     * @param output data output
+     * @param row row, which is object array or single value
+     * @throws IOException IO exception
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception if row contains value of unsupported type
+     */
+    public static void write(final DataOutput output, final Object row) throws IOException {
+        if (null == row) {
+            output.writeByte(NULL);
+        } else if (row instanceof Object[]) {
+            writeObjectArray(output, (Object[]) row);
+        } else if (row instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(output, ((String) row).getBytes(StandardCharsets.UTF_8));
+        } else if (row instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) row);
+        } else if (row instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) row);
+        } else if (row instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) row);
+        } else if (row instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) row);
+        } else if (row instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) row);
+        } else if (row instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) row);
+        } else if (row instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) row);
+        } else if (row instanceof Character) {
+            output.writeByte(CHARACTER);
+            output.writeChar((Character) row);
+        } else if (row instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) row).scale());
+            writeBytes(output, ((BigDecimal) row).unscaledValue().toByteArray());
+        } else if (row instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) row).toByteArray());
+        } else if (row instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) row);
+        } else if (row instanceof ByteString) {
+            output.writeByte(BYTE_STRING);
+            writeBytes(output, ((ByteString) row).getBytes());
+        } else if (row instanceof Date) {
+            writeDate(output, (Date) row);
+        } else {
+            writeOtherValue(output, row);
+        }
+    }
+    
+    private static void writeObjectArray(final DataOutput output, final Object[] values) throws IOException {
+        output.writeByte(OBJECT_ARRAY);
+        output.writeInt(values.length);
+        for (Object each : values) {
+            write(output, each);
+        }
+    }
+    
+    private static void writeBytes(final DataOutput output, final byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+    
+    private static void writeDate(final DataOutput output, final Date value) throws IOException {
+        if (value instanceof Timestamp) {
+            output.writeByte(SQL_TIMESTAMP);
+            output.writeLong(value.getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+            return;
+        }
+        if (value instanceof java.sql.Date) {
+            output.writeByte(SQL_DATE);
+        } else if (value instanceof Time) {
+            output.writeByte(SQL_TIME);
+        } else {
+            output.writeByte(DATE);
+        }
+        output.writeLong(value.getTime());
+    }
+    
+    private static void writeOtherValue(final DataOutput output, final Object value) throws IOException {
+        if (value instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            output.writeByte(LOCAL_TIME);
+            output.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            writeLocalDateTime(output, (LocalDateTime) value);
+        } else if (value instanceof OffsetDateTime) {
+            output.writeByte(OFFSET_DATE_TIME);
+            writeLocalDateTime(output, ((OffsetDateTime) value).toLocalDateTime());
+            output.writeInt(((OffsetDateTime) value).getOffset().getTotalSeconds());
+        } else if (value instanceof UUID) {
+            output.writeByte(UUID_VALUE);
+            output.writeLong(((UUID) value).getMostSignificantBits());
+            output.writeLong(((UUID) value).getLeastSignificantBits());
+        } else if (value instanceof Clob || value instanceof Blob || value instanceof Array) {
+            write(output, readLob(value));
+        } else {
+            throw new UnsupportedSQLOperationException(String.format("spill value of type `%s`", value.getClass().getName()));
+        }
+    }
+    
+    private static void writeLocalDateTime(final DataOutput output, final LocalDateTime value) throws IOException {
+        output.writeLong(value.toLocalDate().toEpochDay());
+        output.writeLong(value.toLocalTime().toNanoOfDay());
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private static Object readLob(final Object value) {
+        if (value instanceof Clob) {
+            return ((Clob) value).getSubString(1L, (int) ((Clob) value).length());
+        }
+        if (value instanceof Blob) {
+            return ((Blob) value).getBytes(1L, (int) ((Blob) value).length());
+        }
+        Object result = ((Array) value).getArray();
+        if (null == result || result instanceof Object[]) {
+            return result;
+        }
+        throw new UnsupportedSQLOperationException(String.format("spill array of type `%s`", result.getClass().getName()));
+    }
+    
+    /**
+     * Read row.
+     *
+     * @param input data input
+     * @return row, which is object array or single value
+     * @throws IOException IO exception
+     */
+    public static Object read(final DataInput input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case OBJECT_ARRAY:
+                return readObjectArray(input);
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case BOOLEAN:
+                return input.readBoolean();
+            case BYTE:
+                return input.readByte();
+            case SHORT:
+                return input.readShort();
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case CHARACTER:
+                return input.readChar();
+            case BIG_DECIMAL:
+                return readBigDecimal(input);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BYTES:
+                return readBytes(input);
+            case BYTE_STRING:
+                return new ByteString(readBytes(input));
+            default:
+                return readDateTime(input, type);
+        }
+    }
+    
+    private static Object[] readObjectArray(final DataInput input) throws IOException {
+        Object[] result = new Object[input.readInt()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = read(input);
+        }
+        return result;
+    }
+    
+    private static BigDecimal readBigDecimal(final DataInput input) throws IOException {
+        int scale = input.readInt();
+        return new BigDecimal(new BigInteger(readBytes(input)), scale);
+    }
+    
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    private static Object readDateTime(final DataInput input, final byte type) throws IOException {
+        switch (type) {
+            case SQL_DATE:
+                return new java.sql.Date(input.readLong());
+            case SQL_TIME:
+                return new Time(input.readLong());
+            case SQL_TIMESTAMP:
+                return readTimestamp(input);
+            case DATE:
+                return new Date(input.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                return readLocalDateTime(input);
+            case OFFSET_DATE_TIME:
+                return OffsetDateTime.of(readLocalDateTime(input), ZoneOffset.ofTotalSeconds(input.readInt()));
+            case UUID_VALUE:
+                return new UUID(input.readLong(), input.readLong());
+            default:
+                throw new IOException(String.format("Unknown spill value type `%d`.", type));
+        }
+    }
+    
+    private static Timestamp readTimestamp(final DataInput input) throws IOException {
+        Timestamp result = new Timestamp(input.readLong());
+        result.setNanos(input.readInt());
+        return result;
+    }
+    
+    private static LocalDateTime readLocalDateTime(final DataInput input) throws IOException {
+        return LocalDateTime.of(LocalDate.ofEpochDay(input.readLong()), LocalTime.ofNanoOfDay(input.readLong()));
+    }
+}
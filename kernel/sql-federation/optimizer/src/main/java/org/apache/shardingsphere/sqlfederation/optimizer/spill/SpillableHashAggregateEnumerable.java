@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.spill;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.function.Function0;
+import org.apache.calcite.linq4j.function.Function1;
+import org.apache.calcite.linq4j.function.Function2;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * Spillable hash aggregate enumerable, which aggregates groups in memory until memory budget is exhausted,
+ * spills rows of new groups into hash partitions and aggregates spilled partitions recursively.
+ *
+ * @param <T> type of row
+ * @param <K> type of group key
+ * @param <A> type of accumulator
+ * @param <R> type of result
+ */
+@RequiredArgsConstructor
+public final class SpillableHashAggregateEnumerable<T, K, A, R> extends AbstractEnumerable<R> {
+    
+    private static final int MAX_SPILL_LEVEL = 3;
+    
+    private static final long GROUP_OVERHEAD_SIZE = 64L;
+    
+    private final SpillContext spillContext;
+    
+    private final Enumerable<T> source;
+    
+    private final Function1<T, K> keySelector;
+    
+    private final Function0<A> accumulatorInitializer;
+    
+    private final Function2<A, T, A> accumulatorAdder;
+    
+    private final Function2<K, A, R> resultSelector;
+    
+    private final int level;
+    
+    @Override
+    public Enumerator<R> enumerator() {
+        return new SpillableHashAggregateEnumerator();
+    }
+    
+    private final class SpillableHashAggregateEnumerator implements Enumerator<R> {
+        
+        private Map<K, A> groups;
+        
+        private Iterator<Entry<K, A>> groupIterator;
+        
+        private long reservedMemory;
+        
+        private SpillPartitions partitions;
+        
+        private int partitionIndex;
+        
+        private Enumerator<R> partitionEnumerator;
+        
+        private R current;
+        
+        @Override
+        public R current() {
+            return current;
+        }
+        
+        @Override
+        public boolean moveNext() {
+            if (null == groups) {
+                boolean aggregated = false;
+                try {
+                    aggregate();
+                    aggregated = true;
+                } finally {
+                    if (!aggregated) {
+                        close();
+                    }
+                }
+            }
+            if (groupIterator.hasNext()) {
+                Entry<K, A> entry = groupIterator.next();
+                current = resultSelector.apply(entry.getKey(), entry.getValue());
+                return true;
+            }
+            releaseMemory();
+            return moveNextPartition();
+        }
+        
+        private void aggregate() {
+            groups = new HashMap<>();
+            try (Enumerator<T> enumerator = source.enumerator()) {
+                while (enumerator.moveNext()) {
+                    T row = enumerator.current();
+                    K key = keySelector.apply(row);
+                    A accumulator = groups.get(key);
+                    if (null == accumulator && !groups.containsKey(key)) {
+                        if (!reserveGroup(row)) {
+                            spill(key, row);
+                            continue;
+                        }
+                        accumulator = accumulatorInitializer.apply();
+                    }
+                    groups.put(key, accumulatorAdder.apply(accumulator, row));
+                }
+            }
+            groupIterator = groups.entrySet().iterator();
+        }
+        
+        private boolean reserveGroup(final T row) {
+            long groupSize = RowSizeEstimator.estimate(row) + GROUP_OVERHEAD_SIZE;
+            if (!spillContext.tryReserve(groupSize)) {
+                if (level < MAX_SPILL_LEVEL) {
+                    return false;
+                }
+                spillContext.forceReserve(groupSize);
+            }
+            reservedMemory += groupSize;
+            return true;
+        }
+        
+        private void spill(final K key, final T row) {
+            if (null == partitions) {
+                partitions = new SpillPartitions(spillContext, level);
+            }
+            partitions.write(Objects.hashCode(key), row);
+        }
+        
+        private boolean moveNextPartition() {
+            while (null != partitions) {
+                if (null != partitionEnumerator && partitionEnumerator.moveNext()) {
+                    current = partitionEnumerator.current();
+                    return true;
+                }
+                if (null != partitionEnumerator) {
+                    partitionEnumerator.close();
+                    partitionEnumerator = null;
+                }
+                if (partitionIndex >= partitions.getPartitionCount()) {
+                    partitions.close();
+                    partitions = null;
+                    continue;
+                }
+                partitionEnumerator = new SpillableHashAggregateEnumerable<>(
+                        spillContext, partitions.<T>read(partitionIndex++), keySelector, accumulatorInitializer, accumulatorAdder, resultSelector, level + 1).enumerator();
+            }
+            current = null;
+            return false;
+        }
+        
+        private void releaseMemory() {
+            groups.clear();
+            spillContext.release(reservedMemory);
+            reservedMemory = 0L;
+        }
+        
+        @Override
+        public void reset() {
+        }
+        
+        @Override
+        public void close() {
+            if (null != partitionEnumerator) {
+                partitionEnumerator.close();
+                partitionEnumerator = null;
+            }
+            if (null != partitions) {
+                partitions.close();
+                partitions = null;
+            }
+            if (null != groups) {
+                releaseMemory();
+            }
+            current = null;
+        }
+    }
+}
@@ -30,6 +30,8 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatemen
 import org.apache.shardingsphere.sqlfederation.optimizer.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.optimizer.converter.SQLNodeConverterEngine;
 import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.LogicalScanRelShuttle;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.RuntimeFilterRelShuttle;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.SpillableRelShuttle;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
 
 import java.util.Objects;
@@ -42,6 +44,8 @@ public final class SQLStatementCompiler {
     
     private final SqlToRelConverter converter;
     
+    private final long queryMemoryBudget;
+    
     /**
      * Compile sql statement to execution plan.
      *
@@ -56,7 +60,8 @@ public final class SQLStatementCompiler {
         RelDataType resultColumnType = Objects.requireNonNull(converter.validator).getValidatedNodeType(sqlNode);
         RelNode replacePlan = LogicalScanRelShuttle.replace(logicalPlan, databaseType);
         RelNode rewritePlan = rewrite(replacePlan, SQLFederationPlannerUtils.createHepPlanner());
-        RelNode physicalPlan = optimize(rewritePlan, converter);
+        RelNode optimizedPlan = RuntimeFilterRelShuttle.attach(optimize(rewritePlan, converter));
+        RelNode physicalPlan = queryMemoryBudget > 0L ? SpillableRelShuttle.replace(optimizedPlan) : optimizedPlan;
         RelMetadataQueryBase.THREAD_PROVIDERS.remove();
         return new SQLFederationExecutionPlan(physicalPlan, resultColumnType);
     }
@@ -17,13 +17,31 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
 
+import lombok.Getter;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
-import org.apache.calcite.rel.RelDistributionTraitDef;
+import org.apache.calcite.rel.RelDistributions;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.rule.attribute.distribution.TableDistribution;
+import org.apache.shardingsphere.infra.rule.attribute.distribution.TableDistributionType;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 /**
@@ -31,18 +49,198 @@ import java.util.List;
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    private static final String SHARDING_SPHERE = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final String LOGIC_DATABASE_NAME = "logic_database_name";
+    
+    private static final String LOGIC_TABLE_NAME = "logic_table_name";
+    
+    private static final String ROW_COUNT = "row_count";
+    
+    private final String tableName;
+    
+    @Getter
+    private final List<ImmutableBitSet> keys;
+    
+    @Getter
+    private final RelDistribution distribution;
+    
+    @Getter
+    private final String colocationGroup;
+    
+    @Getter
+    private final List<Integer> distributionKeys;
+    
+    private volatile String databaseName;
+    
+    private volatile ShardingSphereMetaData metaData;
+    
+    private volatile ShardingSphereStatistics statistics;
+    
+    public SQLFederationStatistic(final ShardingSphereTable table) {
+        this(table, null, true);
+    }
+    
+    public SQLFederationStatistic(final ShardingSphereTable table, final TableDistribution tableDistribution, final boolean singleDataNode) {
+        tableName = table.getName();
+        distributionKeys = createDistributionKeys(table, tableDistribution);
+        distribution = createDistribution(tableDistribution, distributionKeys);
+        keys = createKeys(table, singleDataNode);
+        colocationGroup = RelDistribution.Type.HASH_DISTRIBUTED == distribution.getType() ? tableDistribution.getColocationGroup() : null;
+    }
+    
+    private List<ImmutableBitSet> createKeys(final ShardingSphereTable table, final boolean singleDataNode) {
+        if (table.getPrimaryKeyColumns().isEmpty()) {
+            return Collections.emptyList();
+        }
+        ImmutableBitSet.Builder result = ImmutableBitSet.builder();
+        int index = 0;
+        for (ShardingSphereColumn each : table.getColumnValues()) {
+            if (each.isPrimaryKey()) {
+                result.set(index);
+            }
+            index++;
+        }
+        ImmutableBitSet primaryKey = result.build();
+        return isGloballyUnique(primaryKey, singleDataNode) ? Collections.singletonList(primaryKey) : Collections.emptyList();
+    }
+    
+    private boolean isGloballyUnique(final ImmutableBitSet primaryKey, final boolean singleDataNode) {
+        if (singleDataNode || RelDistribution.Type.BROADCAST_DISTRIBUTED == distribution.getType()) {
+            return true;
+        }
+        return RelDistribution.Type.HASH_DISTRIBUTED == distribution.getType() && primaryKey.contains(ImmutableBitSet.of(distributionKeys));
+    }
+    
+    private List<Integer> createDistributionKeys(final ShardingSphereTable table, final TableDistribution tableDistribution) {
+        if (null == tableDistribution || TableDistributionType.HASH != tableDistribution.getType()) {
+            return Collections.emptyList();
+        }
+        List<String> columnNames = new ArrayList<>(table.getColumnValues().size());
+        for (ShardingSphereColumn each : table.getColumnValues()) {
+            columnNames.add(each.getName());
+        }
+        List<Integer> result = new ArrayList<>(tableDistribution.getDistributionColumns().size());
+        for (String each : tableDistribution.getDistributionColumns()) {
+            int index = indexOfIgnoreCase(columnNames, each);
+            if (-1 == index) {
+                return Collections.emptyList();
+            }
+            result.add(index);
+        }
+        return Collections.unmodifiableList(result);
+    }
+    
+    private int indexOfIgnoreCase(final List<String> columnNames, final String columnName) {
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (columnNames.get(i).equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private RelDistribution createDistribution(final TableDistribution tableDistribution, final List<Integer> distributionKeys) {
+        if (null != tableDistribution && TableDistributionType.BROADCAST == tableDistribution.getType()) {
+            return RelDistributions.BROADCAST_DISTRIBUTED;
+        }
+        return distributionKeys.isEmpty() ? RelDistributions.ANY : RelDistributions.hash(distributionKeys);
+    }
+    
+    /**
+     * Set statistics used to estimate row count.
+     *
+     * <p>Only row count is estimated from {@code sharding_table_statistics}. No distinct value count or min/max value is collected for columns,
+     * so distinct row count falls back to Calcite defaults, which use the unique keys returned by {@link #isKey(ImmutableBitSet)}.</p>
+     *
+     * @param databaseName database name
+     * @param metaData ShardingSphere meta data
+     * @param statistics ShardingSphere statistics
+     */
+    public void setStatistics(final String databaseName, final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics) {
+        this.databaseName = databaseName;
+        this.metaData = metaData;
+        this.statistics = statistics;
+    }
+    
     @Override
-    public List<RelReferentialConstraint> getReferentialConstraints() {
-        return new ArrayList<>();
+    public Double getRowCount() {
+        String currentDatabaseName = databaseName;
+        ShardingSphereMetaData currentMetaData = metaData;
+        ShardingSphereStatistics currentStatistics = statistics;
+        if (null == currentDatabaseName || null == currentMetaData || null == currentStatistics) {
+            return null;
+        }
+        for (String each : new LinkedHashSet<>(Arrays.asList(currentDatabaseName, SHARDING_SPHERE))) {
+            ShardingSphereTable table = findShardingTableStatisticsTable(currentMetaData, each);
+            ShardingSphereTableData tableData = findShardingTableStatisticsData(currentStatistics, each);
+            if (null != table && null != tableData) {
+                return sumRowCount(currentDatabaseName, table, tableData);
+            }
+        }
+        return null;
+    }
+    
+    private ShardingSphereTable findShardingTableStatisticsTable(final ShardingSphereMetaData metaData, final String databaseName) {
+        ShardingSphereDatabase database = metaData.getDatabase(databaseName);
+        if (null == database || !database.containsSchema(SHARDING_SPHERE)) {
+            return null;
+        }
+        ShardingSphereSchema schema = database.getSchema(SHARDING_SPHERE);
+        return schema.containsTable(SHARDING_TABLE_STATISTICS) ? schema.getTable(SHARDING_TABLE_STATISTICS) : null;
+    }
+    
+    private ShardingSphereTableData findShardingTableStatisticsData(final ShardingSphereStatistics statistics, final String databaseName) {
+        ShardingSphereDatabaseData databaseData = statistics.getDatabase(databaseName);
+        if (null == databaseData) {
+            return null;
+        }
+        ShardingSphereSchemaData schemaData = databaseData.getSchema(SHARDING_SPHERE);
+        return null == schemaData ? null : schemaData.getTable(SHARDING_TABLE_STATISTICS);
+    }
+    
+    private Double sumRowCount(final String databaseName, final ShardingSphereTable table, final ShardingSphereTableData tableData) {
+        List<String> columnNames = new ArrayList<>(table.getColumnValues().size());
+        for (ShardingSphereColumn each : table.getColumnValues()) {
+            columnNames.add(each.getName());
+        }
+        int logicDatabaseNameIndex = indexOfIgnoreCase(columnNames, LOGIC_DATABASE_NAME);
+        int logicTableNameIndex = indexOfIgnoreCase(columnNames, LOGIC_TABLE_NAME);
+        int rowCountIndex = indexOfIgnoreCase(columnNames, ROW_COUNT);
+        if (-1 == logicDatabaseNameIndex || -1 == logicTableNameIndex || -1 == rowCountIndex) {
+            return null;
+        }
+        int minRowSize = Math.max(rowCountIndex, Math.max(logicDatabaseNameIndex, logicTableNameIndex)) + 1;
+        BigDecimal result = BigDecimal.ZERO;
+        for (ShardingSphereRowData each : tableData.getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() >= minRowSize && databaseName.equalsIgnoreCase(String.valueOf(row.get(logicDatabaseNameIndex)))
+                    && tableName.equalsIgnoreCase(String.valueOf(row.get(logicTableNameIndex))) && null != row.get(rowCountIndex)) {
+                result = result.add(new BigDecimal(row.get(rowCountIndex).toString()));
+            }
+        }
+        return 0 == result.signum() ? null : result.doubleValue();
     }
     
     @Override
-    public List<RelCollation> getCollations() {
+    public boolean isKey(final ImmutableBitSet columns) {
+        for (ImmutableBitSet each : keys) {
+            if (columns.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
     }
     
     @Override
-    public RelDistribution getDistribution() {
-        return RelDistributionTraitDef.INSTANCE.getDefault();
+    public List<RelCollation> getCollations() {
+        return new ArrayList<>();
     }
 }
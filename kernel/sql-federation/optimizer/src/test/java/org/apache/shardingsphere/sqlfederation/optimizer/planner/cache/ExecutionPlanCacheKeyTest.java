@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.cache;
+
+import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ExecutionPlanCacheKeyTest {
+    
+    @Test
+    void assertEqualsWithSameRuleConfigurations() {
+        RuleConfiguration ruleConfig = mock(RuleConfiguration.class);
+        assertThat(createCacheKey(ruleConfig), is(createCacheKey(ruleConfig)));
+    }
+    
+    @Test
+    void assertNotEqualsWithAlteredRuleConfigurations() {
+        assertThat(createCacheKey(mock(RuleConfiguration.class)), not(createCacheKey(mock(RuleConfiguration.class))));
+    }
+    
+    private ExecutionPlanCacheKey createCacheKey(final RuleConfiguration ruleConfig) {
+        ExecutionPlanCacheKey result = new ExecutionPlanCacheKey("SELECT * FROM t_order", mock(SQLStatement.class), "MySQL", mock(SQLStatementCompiler.class));
+        result.getTableMetaDataVersions().put("t_order", 1);
+        result.getRuleConfigurations().add(ruleConfig);
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.runtimefilter;
+
+import org.apache.calcite.DataContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class RuntimeFilterProbeTest {
+    
+    private final RuntimeFilterProbe probe =
+            new RuntimeFilterProbe(0, "SELECT * FROM t_order WHERE order_id IN (?)", new int[]{-1}, "SELECT * FROM t_order WHERE order_id >= ? AND order_id <= ?", new int[]{-1, -2});
+    
+    @Test
+    void assertGetParameterIndex() {
+        assertThat(RuntimeFilterProbe.getParameterIndex(0), is(-1));
+        assertThat(RuntimeFilterProbe.getValueIndex(-1), is(0));
+    }
+    
+    @Test
+    void assertCreateScanExecutorContextWithInValues() {
+        RuntimeFilter runtimeFilter = new RuntimeFilter();
+        runtimeFilter.add(1);
+        runtimeFilter.add(2);
+        Optional<ScanExecutorContext> actual = probe.createScanExecutorContext(mock(DataContext.class), runtimeFilter);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id IN (?)"));
+        assertThat(actual.get().getRuntimeParameters().size(), is(RuntimeFilter.MAX_IN_VALUES));
+        assertThat(actual.get().getRuntimeParameters().subList(0, 3), is(Arrays.<Object>asList(1, 2, 2)));
+    }
+    
+    @Test
+    void assertCreateScanExecutorContextWithRange() {
+        RuntimeFilter runtimeFilter = new RuntimeFilter();
+        for (int i = 0; i <= RuntimeFilter.MAX_IN_VALUES; i++) {
+            runtimeFilter.add(i);
+        }
+        Optional<ScanExecutorContext> actual = probe.createScanExecutorContext(mock(DataContext.class), runtimeFilter);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id >= ? AND order_id <= ?"));
+        assertThat(actual.get().getRuntimeParameters(), is(Arrays.<Object>asList(0, RuntimeFilter.MAX_IN_VALUES)));
+    }
+    
+    @Test
+    void assertCreateScanExecutorContextWithoutRange() {
+        RuntimeFilter runtimeFilter = new RuntimeFilter();
+        for (int i = 0; i <= RuntimeFilter.MAX_IN_VALUES; i++) {
+            runtimeFilter.add(String.valueOf(i));
+        }
+        assertFalse(new RuntimeFilterProbe(0, "", new int[]{}, null, new int[]{}).createScanExecutorContext(mock(DataContext.class), runtimeFilter).isPresent());
+    }
+}
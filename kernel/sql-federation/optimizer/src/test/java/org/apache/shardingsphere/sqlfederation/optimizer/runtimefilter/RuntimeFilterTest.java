@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.runtimefilter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RuntimeFilterTest {
+    
+    @Test
+    void assertAddInValues() {
+        RuntimeFilter runtimeFilter = new RuntimeFilter();
+        runtimeFilter.add(3L);
+        runtimeFilter.add(null);
+        runtimeFilter.add(1L);
+        runtimeFilter.add(3L);
+        runtimeFilter.complete();
+        assertTrue(runtimeFilter.isCompleted());
+        assertFalse(runtimeFilter.isEmpty());
+        assertThat(new ArrayList<>(runtimeFilter.findInValues().orElse(Collections.emptyList())), is(Arrays.<Object>asList(3L, 1L)));
+        assertThat(runtimeFilter.findRange().orElse(new Object[0]), is(new Object[]{1L, 3L}));
+    }
+    
+    @Test
+    void assertAddWhenInValuesOverflow() {
+        RuntimeFilter runtimeFilter = new RuntimeFilter();
+        for (int i = 0; i <= RuntimeFilter.MAX_IN_VALUES; i++) {
+            runtimeFilter.add(i);
+        }
+        assertFalse(runtimeFilter.isEmpty());
+        assertFalse(runtimeFilter.findInValues().isPresent());
+        assertThat(runtimeFilter.findRange().orElse(new Object[0]), is(new Object[]{0, RuntimeFilter.MAX_IN_VALUES}));
+    }
+    
+    @Test
+    void assertFindRangeWithNonNumericValues() {
+        RuntimeFilter runtimeFilter = new RuntimeFilter();
+        runtimeFilter.add("foo");
+        assertFalse(runtimeFilter.findRange().isPresent());
+    }
+    
+    @Test
+    void assertReset() {
+        RuntimeFilter runtimeFilter = new RuntimeFilter();
+        runtimeFilter.add(1);
+        runtimeFilter.complete();
+        runtimeFilter.reset();
+        assertFalse(runtimeFilter.isCompleted());
+        assertTrue(runtimeFilter.isEmpty());
+        assertFalse(runtimeFilter.findRange().isPresent());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.spill;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ExternalMergeSortEnumeratorTest {
+    
+    @Test
+    void assertSortInMemory() {
+        SpillContext spillContext = new SpillContext(Long.MAX_VALUE);
+        List<Object[]> actual = sort(spillContext, Arrays.asList(new Object[]{3, "c"}, new Object[]{1, "a"}, new Object[]{2, "b"}));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0)[1], is("a"));
+        assertThat(actual.get(1)[1], is("b"));
+        assertThat(actual.get(2)[1], is("c"));
+        assertThat(spillContext.getReservedMemory(), is(0L));
+    }
+    
+    @Test
+    void assertSortWithSpilledRuns() {
+        SpillContext spillContext = new SpillContext(1024L);
+        List<Object[]> rows = new ArrayList<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            rows.add(new Object[]{(i * 7) % 100, i});
+        }
+        List<Object[]> actual = sort(spillContext, rows);
+        assertThat(actual.size(), is(1000));
+        for (int i = 1; i < actual.size(); i++) {
+            int previousKey = (int) actual.get(i - 1)[0];
+            int currentKey = (int) actual.get(i)[0];
+            assertThat(previousKey <= currentKey, is(true));
+            if (previousKey == currentKey) {
+                assertThat((int) actual.get(i - 1)[1] < (int) actual.get(i)[1], is(true));
+            }
+        }
+        assertThat(spillContext.getReservedMemory(), is(0L));
+    }
+    
+    private List<Object[]> sort(final SpillContext spillContext, final List<Object[]> rows) {
+        List<Object[]> result = new ArrayList<>(rows.size());
+        try (Enumerator<Object[]> enumerator = new ExternalMergeSortEnumerator<>(spillContext, Linq4j.enumerator(rows), row -> (Integer) row[0], Comparator.<Integer>naturalOrder())) {
+            while (enumerator.moveNext()) {
+                result.add(enumerator.current());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.spill;
+
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GraceHashJoinEnumerableTest {
+    
+    @Test
+    void assertInnerJoinInMemory() {
+        SpillContext spillContext = new SpillContext(Long.MAX_VALUE);
+        assertThat(join(spillContext, false), is(expectedJoinResult(false)));
+        assertThat(spillContext.getReservedMemory(), is(0L));
+    }
+    
+    @Test
+    void assertInnerJoinWithSpilledPartitions() {
+        SpillContext spillContext = new SpillContext(256L, 8);
+        assertThat(join(spillContext, false), is(expectedJoinResult(false)));
+        assertThat(spillContext.getReservedMemory(), is(0L));
+    }
+    
+    @Test
+    void assertLeftJoinWithSpilledPartitions() {
+        SpillContext spillContext = new SpillContext(256L, 8);
+        assertThat(join(spillContext, true), is(expectedJoinResult(true)));
+        assertThat(spillContext.getReservedMemory(), is(0L));
+    }
+    
+    private List<String> join(final SpillContext spillContext, final boolean generateNullsOnRight) {
+        Enumerable<String> actual = new GraceHashJoinEnumerable<Object[], Object[], Integer, String>(spillContext, Linq4j.asEnumerable(createRows(200)), Linq4j.asEnumerable(createRows(100)),
+                row -> (Integer) row[0], row -> (Integer) row[0], (outer, inner) -> outer[1] + "-" + (null == inner ? null : inner[1]), null, false, generateNullsOnRight, null);
+        List<String> result = actual.toList();
+        Collections.sort(result);
+        return result;
+    }
+    
+    private List<String> expectedJoinResult(final boolean generateNullsOnRight) {
+        List<String> result = Linq4j.asEnumerable(createRows(200)).hashJoin(Linq4j.asEnumerable(createRows(100)), row -> (Integer) row[0], row -> (Integer) row[0],
+                (outer, inner) -> outer[1] + "-" + (null == inner ? null : inner[1]), null, false, generateNullsOnRight, null).toList();
+        Collections.sort(result);
+        return result;
+    }
+    
+    private List<Object[]> createRows(final int rowCount) {
+        List<Object[]> result = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            result.add(new Object[]{i % 150, "row_" + i});
+        }
+        return result;
+    }
+}
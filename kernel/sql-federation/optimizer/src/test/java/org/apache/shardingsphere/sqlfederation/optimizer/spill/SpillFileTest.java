@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.spill;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillFileTest {
+    
+    @Test
+    void assertWriteAndRead() {
+        try (SpillFile spillFile = new SpillContext(1024L).createSpillFile()) {
+            spillFile.write(new Object[]{1, "foo"});
+            spillFile.write(null);
+            try (Enumerator<Object[]> actual = spillFile.<Object[]>read().enumerator()) {
+                assertTrue(actual.moveNext());
+                assertThat(actual.current(), is(new Object[]{1, "foo"}));
+                assertTrue(actual.moveNext());
+                assertThat(actual.current(), is((Object[]) null));
+                assertFalse(actual.moveNext());
+            }
+        }
+    }
+    
+    @Test
+    void assertDeleteFileWhenWriteFailed() {
+        SpillFile spillFile = new SpillContext(1024L).createSpillFile();
+        assertThrows(UnsupportedSQLOperationException.class, () -> spillFile.write(new Object()));
+        assertFalse(Files.exists(spillFile.getPath()));
+    }
+    
+    @Test
+    void assertDeleteFileWhenSpillContextClosed() {
+        SpillContext spillContext = new SpillContext(1024L);
+        SpillFile spillFile = spillContext.createSpillFile();
+        spillFile.write("foo");
+        assertTrue(Files.exists(spillFile.getPath()));
+        spillContext.close();
+        assertFalse(Files.exists(spillFile.getPath()));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.spill;
+
+import org.apache.calcite.avatica.util.ByteString;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SpillRowCodecTest {
+    
+    @Test
+    void assertWriteAndReadRow() throws IOException {
+        Timestamp timestamp = Timestamp.valueOf("2024-01-02 03:04:05.123456789");
+        Object[] row = {null, "foo", true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.5D, 'c', new BigDecimal("-123.450"), new BigInteger("12345678901234567890"), new byte[]{1, 2},
+                new ByteString(new byte[]{3, 4}), java.sql.Date.valueOf("2024-01-02"), Time.valueOf("03:04:05"), timestamp, new Date(1000L), LocalDate.of(2024, 1, 2),
+                LocalTime.of(3, 4, 5, 6), LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6), OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 6, ZoneOffset.ofHours(8)), new UUID(1L, 2L),
+                new Object[]{1, "bar"}};
+        assertThat(writeAndRead(row), is(row));
+        assertThat(((Timestamp) ((Object[]) writeAndRead(row))[16]).getNanos(), is(123456789));
+    }
+    
+    @Test
+    void assertWriteAndReadSingleValue() throws IOException {
+        assertThat(writeAndRead("foo"), is("foo"));
+    }
+    
+    @Test
+    void assertWriteClob() throws IOException, SQLException {
+        Clob clob = mock(Clob.class);
+        when(clob.length()).thenReturn(3L);
+        when(clob.getSubString(1L, 3)).thenReturn("foo");
+        assertThat(writeAndRead(clob), is("foo"));
+    }
+    
+    @Test
+    void assertWriteUnsupportedValue() {
+        assertThrows(UnsupportedSQLOperationException.class, () -> SpillRowCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new Object[]{new Object()}));
+    }
+    
+    private Object writeAndRead(final Object row) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SpillRowCodec.write(new DataOutputStream(bytes), row);
+        return SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.spill;
+
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SpillableHashAggregateEnumerableTest {
+    
+    @Test
+    void assertAggregateInMemory() {
+        SpillContext spillContext = new SpillContext(Long.MAX_VALUE);
+        Map<Integer, Long> actual = aggregate(spillContext, 100);
+        assertThat(actual.size(), is(10));
+        assertThat(actual.get(0), is(10L));
+        assertThat(spillContext.getReservedMemory(), is(0L));
+    }
+    
+    @Test
+    void assertAggregateWithSpilledPartitions() {
+        SpillContext spillContext = new SpillContext(512L, 4);
+        Map<Integer, Long> actual = aggregate(spillContext, 5000);
+        assertThat(actual.size(), is(500));
+        for (long each : actual.values()) {
+            assertThat(each, is(10L));
+        }
+        assertThat(spillContext.getReservedMemory(), is(0L));
+    }
+    
+    private Map<Integer, Long> aggregate(final SpillContext spillContext, final int rowCount) {
+        List<Object[]> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new Object[]{i % (rowCount / 10), i});
+        }
+        Enumerable<Object[]> actual = new SpillableHashAggregateEnumerable<Object[], Integer, long[], Object[]>(
+                spillContext, Linq4j.asEnumerable(rows), row -> (Integer) row[0], () -> new long[1], (accumulator, row) -> {
+                    accumulator[0]++;
+                    return accumulator;
+                }, (key, accumulator) -> new Object[]{key, accumulator[0]}, 0);
+        Map<Integer, Long> result = new HashMap<>(rowCount, 1F);
+        for (Object[] each : actual) {
+            assertThat(result.put((Integer) each[0], (Long) each[1]), is((Long) null));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.calcite.rel.RelDistributions;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.rule.attribute.distribution.TableDistribution;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationStatisticTest {
+    
+    private static final List<String> DEFAULT_STATISTICS_COLUMNS =
+            Arrays.asList("id", "logic_database_name", "logic_table_name", "actual_database_name", "actual_table_name", "row_count", "size");
+    
+    @Test
+    void assertIsKey() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable());
+        assertTrue(actual.isKey(ImmutableBitSet.of(0)));
+        assertTrue(actual.isKey(ImmutableBitSet.of(0, 1)));
+        assertFalse(actual.isKey(ImmutableBitSet.of(1)));
+    }
+    
+    @Test
+    void assertIsKeyWithBroadcastTable() {
+        assertTrue(new SQLFederationStatistic(createTable(), TableDistribution.broadcast(), false).isKey(ImmutableBitSet.of(0)));
+    }
+    
+    @Test
+    void assertIsKeyWithShardingColumnsInPrimaryKey() {
+        assertTrue(new SQLFederationStatistic(createTable(), TableDistribution.hash("foo_group", Collections.singletonList("order_id")), false).isKey(ImmutableBitSet.of(0)));
+    }
+    
+    @Test
+    void assertIsNotKeyWithShardingColumnsOutOfPrimaryKey() {
+        assertFalse(new SQLFederationStatistic(createTable(), TableDistribution.hash("foo_group", Collections.singletonList("user_id")), false).isKey(ImmutableBitSet.of(0)));
+    }
+    
+    @Test
+    void assertIsNotKeyWithMultipleDataNodesWithoutDistribution() {
+        assertFalse(new SQLFederationStatistic(createTable(), null, false).isKey(ImmutableBitSet.of(0)));
+    }
+    
+    @Test
+    void assertGetRowCountWithoutStatistics() {
+        assertNull(new SQLFederationStatistic(createTable()).getRowCount());
+    }
+    
+    @Test
+    void assertGetRowCount() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable());
+        actual.setStatistics("foo_db", createMetaData("foo_db", createStatisticsTable(DEFAULT_STATISTICS_COLUMNS)), createStatistics("foo_db", DEFAULT_STATISTICS_COLUMNS));
+        assertThat(actual.getRowCount(), is(300D));
+    }
+    
+    @Test
+    void assertGetRowCountWithReorderedStatisticsColumns() {
+        List<String> columnNames = Arrays.asList("row_count", "logic_table_name", "id", "logic_database_name", "actual_database_name", "actual_table_name", "size");
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable());
+        actual.setStatistics("foo_db", createMetaData("foo_db", createStatisticsTable(columnNames)), createStatistics("foo_db", columnNames));
+        assertThat(actual.getRowCount(), is(300D));
+    }
+    
+    @Test
+    void assertGetRowCountFromSystemDatabase() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable());
+        actual.setStatistics("foo_db", createMetaData("shardingsphere", createStatisticsTable(DEFAULT_STATISTICS_COLUMNS)), createStatistics("shardingsphere", DEFAULT_STATISTICS_COLUMNS));
+        assertThat(actual.getRowCount(), is(300D));
+    }
+    
+    @Test
+    void assertGetRowCountWithoutRowCountColumn() {
+        List<String> columnNames = Arrays.asList("id", "logic_database_name", "logic_table_name", "actual_database_name", "actual_table_name");
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable());
+        actual.setStatistics("foo_db", createMetaData("foo_db", createStatisticsTable(columnNames)), createStatistics("foo_db", DEFAULT_STATISTICS_COLUMNS));
+        assertNull(actual.getRowCount());
+    }
+    
+    @Test
+    void assertGetDistributionWithoutTableDistribution() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable());
+        assertThat(actual.getDistribution(), is(RelDistributions.ANY));
+        assertNull(actual.getColocationGroup());
+    }
+    
+    @Test
+    void assertGetBroadcastDistribution() {
+        assertThat(new SQLFederationStatistic(createTable(), TableDistribution.broadcast(), false).getDistribution(), is(RelDistributions.BROADCAST_DISTRIBUTED));
+    }
+    
+    @Test
+    void assertGetHashDistribution() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(), TableDistribution.hash("foo_group", Collections.singletonList("USER_ID")), false);
+        assertThat(actual.getDistribution(), is(RelDistributions.hash(Collections.singletonList(1))));
+        assertThat(actual.getDistributionKeys(), is(Collections.singletonList(1)));
+        assertThat(actual.getColocationGroup(), is("foo_group"));
+    }
+    
+    @Test
+    void assertGetHashDistributionWithUnknownColumn() {
+        SQLFederationStatistic actual = new SQLFederationStatistic(createTable(), TableDistribution.hash("foo_group", Collections.singletonList("status")), false);
+        assertThat(actual.getDistribution(), is(RelDistributions.ANY));
+        assertNull(actual.getColocationGroup());
+    }
+    
+    private ShardingSphereTable createTable() {
+        ShardingSphereColumn idColumn = new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false, false);
+        ShardingSphereColumn userIdColumn = new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false);
+        return new ShardingSphereTable("t_order", Arrays.asList(idColumn, userIdColumn), Collections.emptyList(), Collections.emptyList());
+    }
+    
+    private ShardingSphereTable createStatisticsTable(final List<String> columnNames) {
+        Collection<ShardingSphereColumn> columns = new LinkedList<>();
+        for (String each : columnNames) {
+            columns.add(new ShardingSphereColumn(each, Types.VARCHAR, false, false, false, true, false, false));
+        }
+        return new ShardingSphereTable("sharding_table_statistics", columns, Collections.emptyList(), Collections.emptyList());
+    }
+    
+    private ShardingSphereMetaData createMetaData(final String databaseName, final ShardingSphereTable statisticsTable) {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(database.containsSchema("shardingsphere")).thenReturn(true);
+        when(database.getSchema("shardingsphere"))
+                .thenReturn(new ShardingSphereSchema("shardingsphere", Collections.singletonMap("sharding_table_statistics", statisticsTable), Collections.emptyMap()));
+        ShardingSphereMetaData result = mock(ShardingSphereMetaData.class);
+        when(result.getDatabase(databaseName)).thenReturn(database);
+        return result;
+    }
+    
+    private ShardingSphereStatistics createStatistics(final String databaseName, final List<String> columnNames) {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(createRow(columnNames, 1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal("100"), BigDecimal.ZERO));
+        tableData.getRows().add(createRow(columnNames, 2, "foo_db", "t_order", "ds_1", "t_order_1", new BigDecimal("200"), BigDecimal.ZERO));
+        tableData.getRows().add(createRow(columnNames, 3, "foo_db", "t_order_item", "ds_0", "t_order_item_0", new BigDecimal("500"), BigDecimal.ZERO));
+        tableData.getRows().add(createRow(columnNames, 4, "bar_db", "t_order", "ds_0", "t_order_0", new BigDecimal("700"), BigDecimal.ZERO));
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.putTable("sharding_table_statistics", tableData);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.putSchema("shardingsphere", schemaData);
+        ShardingSphereStatistics result = new ShardingSphereStatistics();
+        result.putDatabase(databaseName, databaseData);
+        return result;
+    }
+    
+    private ShardingSphereRowData createRow(final List<String> columnNames, final Object... values) {
+        List<Object> result = new ArrayList<>(columnNames.size());
+        for (String each : columnNames) {
+            result.add(values[DEFAULT_STATISTICS_COLUMNS.indexOf(each)]);
+        }
+        return new ShardingSphereRowData(result);
+    }
+}
@@ -62,6 +62,7 @@ import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.Backen
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowWriter;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
@@ -350,6 +351,13 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         return new QueryResponseRow(cells);
     }
     
+    @Override
+    public void writeRowData(final QueryResponseRowWriter writer) throws SQLException {
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            writer.write(queryHeaders.get(columnIndex - 1).getColumnType(), mergedResult.getValue(columnIndex, Object.class));
+        }
+    }
+    
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
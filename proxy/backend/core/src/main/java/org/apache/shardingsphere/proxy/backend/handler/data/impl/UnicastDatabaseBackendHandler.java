@@ -29,6 +29,7 @@ import org.apache.shardingsphere.proxy.backend.connector.DatabaseConnectorFactor
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.data.DatabaseBackendHandler;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowWriter;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 
@@ -89,6 +90,11 @@ public final class UnicastDatabaseBackendHandler implements DatabaseBackendHandl
         return databaseConnector.getRowData();
     }
     
+    @Override
+    public void writeRowData(final QueryResponseRowWriter writer) throws SQLException {
+        databaseConnector.writeRowData(writer);
+    }
+    
     @Override
     public void close() throws SQLException {
         if (null != databaseConnector) {
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -51,6 +52,8 @@ import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.fixture.QueryHeaderBuilderFixture;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowWriter;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilder;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -173,6 +176,24 @@ class StandardDatabaseConnectorTest {
         }
     }
     
+    @Test
+    void assertWriteRowData() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        DatabaseConnector engine = createDatabaseConnector(JDBCDriverType.STATEMENT, createQueryContext(sqlStatementContext));
+        QueryHeader queryHeader = mock(QueryHeader.class);
+        when(queryHeader.getColumnType()).thenReturn(Types.VARCHAR);
+        Plugins.getMemberAccessor().set(StandardDatabaseConnector.class.getDeclaredField("queryHeaders"), engine, Arrays.asList(queryHeader, queryHeader));
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("foo");
+        when(mergedResult.getValue(2, Object.class)).thenReturn(null);
+        Plugins.getMemberAccessor().set(StandardDatabaseConnector.class.getDeclaredField("mergedResult"), engine, mergedResult);
+        QueryResponseRowWriter writer = mock(QueryResponseRowWriter.class);
+        engine.writeRowData(writer);
+        verify(writer).write(Types.VARCHAR, "foo");
+        verify(writer).write(Types.VARCHAR, null);
+    }
+    
     private DatabaseConnector createDatabaseConnector(final String driverType, final QueryContext queryContext) {
         DatabaseConnector result = new StandardDatabaseConnector(driverType, queryContext, databaseConnectionManager);
         databaseConnectionManager.add(result);
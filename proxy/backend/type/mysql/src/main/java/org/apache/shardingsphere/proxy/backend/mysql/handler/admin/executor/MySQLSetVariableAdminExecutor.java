@@ -18,8 +18,11 @@
 package org.apache.shardingsphere.proxy.backend.mysql.handler.admin.executor;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.QuoteCharacter;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.mysql.exception.UnknownSystemVariableException;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
@@ -45,6 +48,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
 /**
@@ -62,6 +66,7 @@ public final class MySQLSetVariableAdminExecutor implements DatabaseAdminExecuto
         Map<String, String> sessionVariables = extractSessionVariables();
         validateSessionVariables(sessionVariables.keySet());
         new CharsetSetExecutor(databaseType, connectionSession).set(sessionVariables);
+        setResultSetMetadataIfPresent(connectionSession, sessionVariables);
         new SessionVariableRecordExecutor(databaseType, connectionSession).recordVariable(sessionVariables);
         executeSetGlobalVariablesIfPresent(connectionSession);
     }
@@ -78,6 +83,20 @@ public final class MySQLSetVariableAdminExecutor implements DatabaseAdminExecuto
         }
     }
     
+    private void setResultSetMetadataIfPresent(final ConnectionSession connectionSession, final Map<String, String> sessionVariables) {
+        for (Entry<String, String> entry : sessionVariables.entrySet()) {
+            if (MySQLSystemVariable.RESULTSET_METADATA.name().equalsIgnoreCase(entry.getKey())) {
+                MySQLResultSetMetadata resultSetMetadata =
+                        "NONE".equalsIgnoreCase(formatValue(entry.getValue())) ? MySQLResultSetMetadata.RESULTSET_METADATA_NONE : MySQLResultSetMetadata.RESULTSET_METADATA_FULL;
+                connectionSession.getAttributeMap().attr(MySQLConstants.RESULTSET_METADATA_ATTRIBUTE_KEY).set(resultSetMetadata);
+            }
+        }
+    }
+    
+    private String formatValue(final String variableValue) {
+        return QuoteCharacter.SINGLE_QUOTE.isWrapped(variableValue) || QuoteCharacter.QUOTE.isWrapped(variableValue) ? variableValue.substring(1, variableValue.length() - 1) : variableValue.trim();
+    }
+    
     private void executeSetGlobalVariablesIfPresent(final ConnectionSession connectionSession) throws SQLException {
         if (null == connectionSession.getUsedDatabaseName()) {
             return;
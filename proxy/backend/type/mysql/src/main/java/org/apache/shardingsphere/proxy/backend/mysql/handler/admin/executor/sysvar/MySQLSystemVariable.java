@@ -761,7 +761,7 @@ public enum MySQLSystemVariable {
     
     REQUIRE_SECURE_TRANSPORT(Flag.GLOBAL, "0"),
     
-    // RESULTSET_METADATA(Flag.ONLY_SESSION, "TODO"),
+    RESULTSET_METADATA(Flag.ONLY_SESSION, "FULL"),
     
     RPL_READ_SIZE(Flag.GLOBAL, "8192"),
     
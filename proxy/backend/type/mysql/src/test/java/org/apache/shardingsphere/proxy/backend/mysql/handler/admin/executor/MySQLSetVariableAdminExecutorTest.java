@@ -19,6 +19,8 @@ package org.apache.shardingsphere.proxy.backend.mysql.handler.admin.executor;
 
 import io.netty.util.DefaultAttributeMap;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.infra.exception.mysql.exception.ErrorGlobalVariableException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.UnknownSystemVariableException;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -105,6 +107,16 @@ class MySQLSetVariableAdminExecutorTest {
         return result;
     }
     
+    @Test
+    void assertExecuteWithResultSetMetadata() throws SQLException {
+        SetStatement setStatement = new MySQLSetStatement();
+        setStatement.getVariableAssigns().add(new VariableAssignSegment(0, 0, new VariableSegment(0, 0, "resultset_metadata"), "'NONE'"));
+        ConnectionSession connectionSession = mock(ConnectionSession.class);
+        when(connectionSession.getAttributeMap()).thenReturn(new DefaultAttributeMap());
+        new MySQLSetVariableAdminExecutor(setStatement).execute(connectionSession);
+        assertThat(connectionSession.getAttributeMap().attr(MySQLConstants.RESULTSET_METADATA_ATTRIBUTE_KEY).get(), is(MySQLResultSetMetadata.RESULTSET_METADATA_NONE));
+    }
+    
     @Test
     void assertSetUnknownSystemVariable() {
         SetStatement setStatement = new MySQLSetStatement();
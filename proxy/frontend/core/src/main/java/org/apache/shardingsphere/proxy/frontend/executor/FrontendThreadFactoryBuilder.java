@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Frontend thread factory builder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FrontendThreadFactoryBuilder {
+    
+    /**
+     * Build thread factory for frontend executor.
+     *
+     * @param nameFormat thread name format
+     * @param platformThreadFactory thread factory used if virtual thread is disabled
+     * @return virtual thread factory if proxy frontend virtual thread is enabled, otherwise platform thread factory
+     */
+    public static ThreadFactory build(final String nameFormat, final ThreadFactory platformThreadFactory) {
+        return isVirtualThreadEnabled() ? ExecutorThreadFactoryBuilder.buildVirtual(nameFormat) : platformThreadFactory;
+    }
+    
+    private static boolean isVirtualThreadEnabled() {
+        ContextManager contextManager = ProxyContext.getInstance().getContextManager();
+        return null != contextManager && Boolean.TRUE.equals(contextManager.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED));
+    }
+}
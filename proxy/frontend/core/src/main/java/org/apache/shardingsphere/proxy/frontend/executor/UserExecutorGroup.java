@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.util.concurrent.ExecutorService;
 
@@ -35,7 +36,7 @@ public final class UserExecutorGroup {
     private final ExecutorService executorService;
     
     private UserExecutorGroup() {
-        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, FrontendThreadFactoryBuilder.build(NAME_FORMAT, ExecutorThreadFactoryBuilder.build(NAME_FORMAT)));
         executorService = executorServiceManager.getExecutorService();
     }
     
@@ -23,6 +23,7 @@ import io.netty.handler.codec.protobuf.ProtobufDecoder;
 import io.netty.handler.codec.protobuf.ProtobufEncoder;
 import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
 import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 
 /**
@@ -32,6 +33,7 @@ public final class CDCServerHandlerInitializer extends ChannelInitializer<Socket
     
     @Override
     protected void initChannel(final SocketChannel channel) {
+        channel.pipeline().addLast(new FlushConsolidationHandler(FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true));
         channel.pipeline().addLast(new ProtobufVarint32FrameDecoder());
         channel.pipeline().addLast(new ProtobufDecoder(CDCRequest.getDefaultInstance()));
         channel.pipeline().addLast(new ProtobufVarint32LengthFieldPrepender());
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.ThreadFactory;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+class FrontendThreadFactoryBuilderTest {
+    
+    private final ThreadFactory platformThreadFactory = Thread::new;
+    
+    @Test
+    void assertBuildWithoutContextManager() {
+        assertThat(FrontendThreadFactoryBuilder.build("Command-%d", platformThreadFactory), is(sameInstance(platformThreadFactory)));
+    }
+    
+    @Test
+    void assertBuildWithVirtualThreadDisabled() {
+        mockVirtualThreadEnabled(false);
+        assertThat(FrontendThreadFactoryBuilder.build("Command-%d", platformThreadFactory), is(sameInstance(platformThreadFactory)));
+    }
+    
+    @Test
+    void assertBuildWithVirtualThreadEnabled() {
+        mockVirtualThreadEnabled(true);
+        ThreadFactory actual = FrontendThreadFactoryBuilder.build("Command-%d", platformThreadFactory);
+        assertThat(actual, not(sameInstance(platformThreadFactory)));
+        Thread thread = actual.newThread(() -> {
+        });
+        assertThat(thread.getName(), is("ShardingSphere-Command-0"));
+        assertTrue(thread.isDaemon());
+    }
+    
+    private void mockVirtualThreadEnabled(final boolean enabled) {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED)).thenReturn(enabled);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.frontend.command.executor;
 
+import io.netty.buffer.ByteBufAllocator;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 
 import java.sql.SQLException;
@@ -48,4 +49,15 @@ public interface QueryCommandExecutor extends CommandExecutor {
      * @throws SQLException SQL exception
      */
     DatabasePacket getQueryRowPacket() throws SQLException;
+    
+    /**
+     * Get query row packet.
+     *
+     * @param allocator byte buffer allocator of the channel which the packet is written to
+     * @return database packet of query row
+     * @throws SQLException SQL exception
+     */
+    default DatabasePacket getQueryRowPacket(final ByteBufAllocator allocator) throws SQLException {
+        return getQueryRowPacket();
+    }
 }
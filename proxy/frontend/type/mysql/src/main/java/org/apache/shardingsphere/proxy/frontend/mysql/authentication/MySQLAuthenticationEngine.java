@@ -28,7 +28,9 @@ import org.apache.shardingsphere.authentication.result.AuthenticationResult;
 import org.apache.shardingsphere.authentication.result.AuthenticationResultBuilder;
 import org.apache.shardingsphere.authority.checker.AuthorityChecker;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressionCodec;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
@@ -74,6 +76,8 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     
     private AuthenticationResult currentAuthResult;
     
+    private boolean compressionRequested;
+    
     @Override
     public int handshake(final ChannelHandlerContext context) {
         int result = ConnectionIdGenerator.getInstance().nextId();
@@ -106,6 +110,9 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
             throw new DatabaseAccessDeniedException(currentAuthResult.getUsername(), grantee.getHostname(), currentAuthResult.getDatabase());
         }
         writeOKPacket(context);
+        if (compressionRequested) {
+            enableCompression(context);
+        }
         return AuthenticationResultBuilder.finished(grantee.getUsername(), grantee.getHostname(), currentAuthResult.getDatabase());
     }
     
@@ -121,6 +128,8 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         }
         authResponse = handshakeResponsePacket.getAuthResponse();
         setMultiStatementsOption(context, handshakeResponsePacket);
+        setClientCapabilityFlags(context, handshakeResponsePacket);
+        compressionRequested = isClientCompress(handshakeResponsePacket);
         setCharacterSet(context, handshakeResponsePacket);
         String database = handshakeResponsePacket.getDatabase();
         if (!Strings.isNullOrEmpty(database) && !ProxyContext.getInstance().databaseExists(database)) {
@@ -142,6 +151,10 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         context.channel().attr(MySQLConstants.OPTION_MULTI_STATEMENTS_ATTRIBUTE_KEY).set(handshakeResponsePacket.getMultiStatementsOption());
     }
     
+    private void setClientCapabilityFlags(final ChannelHandlerContext context, final MySQLHandshakeResponse41Packet handshakeResponsePacket) {
+        context.channel().attr(MySQLConstants.CLIENT_CAPABILITY_FLAGS_ATTRIBUTE_KEY).set(handshakeResponsePacket.getCapabilityFlags());
+    }
+    
     private void setCharacterSet(final ChannelHandlerContext context, final MySQLHandshakeResponse41Packet handshakeResponsePacket) {
         MySQLCharacterSet characterSet = MySQLCharacterSet.findById(handshakeResponsePacket.getCharacterSet());
         context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(characterSet.getCharset());
@@ -152,6 +165,10 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         return 0 != (packet.getCapabilityFlags() & MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH.getValue());
     }
     
+    private boolean isClientCompress(final MySQLHandshakeResponse41Packet packet) {
+        return 0 != (packet.getCapabilityFlags() & MySQLCapabilityFlag.CLIENT_COMPRESS.getValue());
+    }
+    
     private void authenticateMismatchedMethod(final MySQLPacketPayload payload) {
         authResponse = new MySQLAuthSwitchResponsePacket(payload).getAuthPluginResponse();
     }
@@ -177,4 +194,8 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     private void writeOKPacket(final ChannelHandlerContext context) {
         context.writeAndFlush(new MySQLOKPacket(MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue()));
     }
+    
+    private void enableCompression(final ChannelHandlerContext context) {
+        context.pipeline().addBefore(context.pipeline().context(PacketCodec.class).name(), MySQLCompressionCodec.class.getSimpleName(), new MySQLCompressionCodec());
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import io.netty.util.AttributeMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+
+/**
+ * MySQL client capability flag loader.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ClientCapabilityFlagLoader {
+    
+    /**
+     * Load capability flags negotiated by client in handshake.
+     *
+     * @param attributeMap attribute map of connection
+     * @return client capability flags, 0 if not negotiated
+     */
+    public static int load(final AttributeMap attributeMap) {
+        if (!attributeMap.hasAttr(MySQLConstants.CLIENT_CAPABILITY_FLAGS_ATTRIBUTE_KEY)) {
+            return 0;
+        }
+        Integer result = attributeMap.attr(MySQLConstants.CLIENT_CAPABILITY_FLAGS_ATTRIBUTE_KEY).get();
+        return null == result ? 0 : result;
+    }
+}
@@ -17,15 +17,20 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.execute;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
-import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLNewParametersBoundFlag;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
-import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowEncoder;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.binder.context.aware.ParameterAware;
@@ -36,20 +41,18 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.ClientCapabilityFlagLoader;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLServerPreparedStatement;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -68,6 +71,8 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     @Getter
     private ResponseType responseType;
     
+    private int columnCount;
+    
     @Override
     public Collection<DatabasePacket> execute() throws SQLException {
         MySQLServerPreparedStatement preparedStatement = updateAndGetPreparedStatement();
@@ -82,7 +87,7 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
         connectionSession.setQueryContext(queryContext);
         proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(TypedSPILoader.getService(DatabaseType.class, "MySQL"), queryContext, connectionSession, true);
         ResponseHeader responseHeader = proxyBackendHandler.execute();
-        return responseHeader instanceof QueryResponseHeader ? processQuery((QueryResponseHeader) responseHeader) : processUpdate((UpdateResponseHeader) responseHeader);
+        return responseHeader instanceof QueryResponseHeader ? processQuery(preparedStatement, (QueryResponseHeader) responseHeader) : processUpdate((UpdateResponseHeader) responseHeader);
     }
     
     private MySQLServerPreparedStatement updateAndGetPreparedStatement() {
@@ -94,10 +99,23 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
         return result;
     }
     
-    private Collection<DatabasePacket> processQuery(final QueryResponseHeader queryResponseHeader) {
+    private Collection<DatabasePacket> processQuery(final MySQLServerPreparedStatement preparedStatement, final QueryResponseHeader queryResponseHeader) {
         responseType = ResponseType.QUERY;
         int characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
-        return ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet, ServerStatusFlagCalculator.calculateFor(connectionSession));
+        List<MySQLColumnDefinition41Packet> columnDefinitions = ResponsePacketBuilder.buildColumnDefinition41Packets(queryResponseHeader, characterSet);
+        columnCount = columnDefinitions.size();
+        int clientCapabilityFlags = ClientCapabilityFlagLoader.load(connectionSession.getAttributeMap());
+        boolean metadataFollows = true;
+        if (isResultSetMetadataOptional(clientCapabilityFlags)) {
+            metadataFollows = !columnDefinitions.equals(preparedStatement.getSentColumnDefinitions());
+            preparedStatement.setSentColumnDefinitions(columnDefinitions);
+        }
+        return ResponsePacketBuilder.buildQueryResponsePackets(columnDefinitions, ServerStatusFlagCalculator.calculateFor(connectionSession), clientCapabilityFlags, metadataFollows);
+    }
+    
+    private boolean isResultSetMetadataOptional(final int clientCapabilityFlags) {
+        return MySQLCapabilityFlag.CLIENT_OPTIONAL_RESULTSET_METADATA.isEnabled(clientCapabilityFlags)
+                && MySQLResultSetMetadata.RESULTSET_METADATA_NONE == connectionSession.getAttributeMap().attr(MySQLConstants.RESULTSET_METADATA_ATTRIBUTE_KEY).get();
     }
     
     private Collection<DatabasePacket> processUpdate(final UpdateResponseHeader updateResponseHeader) {
@@ -112,16 +130,22 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
-        QueryResponseRow queryResponseRow = proxyBackendHandler.getRowData();
-        return new MySQLBinaryResultSetRowPacket(createBinaryRow(queryResponseRow));
+        return getQueryRowPacket(UnpooledByteBufAllocator.DEFAULT);
     }
     
-    private BinaryRow createBinaryRow(final QueryResponseRow queryResponseRow) {
-        List<BinaryCell> result = new ArrayList<>(queryResponseRow.getCells().size());
-        for (QueryResponseCell each : queryResponseRow.getCells()) {
-            result.add(new BinaryCell(MySQLBinaryColumnType.valueOfJDBCType(each.getJdbcType()), each.getData()));
+    @Override
+    public MySQLPacket getQueryRowPacket(final ByteBufAllocator allocator) throws SQLException {
+        ByteBuf byteBuf = allocator.buffer();
+        try {
+            MySQLBinaryResultSetRowEncoder encoder = new MySQLBinaryResultSetRowEncoder(byteBuf, columnCount, connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+            proxyBackendHandler.writeRowData((jdbcType, data) -> encoder.writeValue(MySQLBinaryColumnType.valueOfJDBCType(jdbcType), data));
+            return encoder.toPacket();
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            byteBuf.release();
+            throw ex;
         }
-        return new BinaryRow(result);
     }
     
     @Override
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.prep
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.MySQLComSetOptionPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
@@ -48,6 +50,7 @@ import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.ClientCapabilityFlagLoader;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLServerPreparedStatement;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLStatementIdGenerator;
@@ -107,16 +110,23 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
         Collection<Projection> projections = getProjections(sqlStatementContext);
         int parameterCount = sqlStatementContext.getSqlStatement().getParameterCount();
         ShardingSpherePreconditions.checkState(parameterCount <= MAX_PARAMETER_COUNT, TooManyPlaceholdersException::new);
-        result.add(new MySQLComStmtPrepareOKPacket(statementId, projections.size(), parameterCount, 0));
+        int clientCapabilityFlags = ClientCapabilityFlagLoader.load(connectionSession.getAttributeMap());
+        result.add(MySQLCapabilityFlag.CLIENT_OPTIONAL_RESULTSET_METADATA.isEnabled(clientCapabilityFlags)
+                ? new MySQLComStmtPrepareOKPacket(statementId, projections.size(), parameterCount, 0, MySQLResultSetMetadata.RESULTSET_METADATA_FULL)
+                : new MySQLComStmtPrepareOKPacket(statementId, projections.size(), parameterCount, 0));
         int characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
-        int statusFlags = ServerStatusFlagCalculator.calculateFor(connectionSession);
+        boolean deprecateEof = MySQLCapabilityFlag.CLIENT_DEPRECATE_EOF.isEnabled(clientCapabilityFlags);
         if (parameterCount > 0) {
             result.addAll(createParameterColumnDefinition41Packets(sqlStatementContext, characterSet, serverPreparedStatement));
-            result.add(new MySQLEofPacket(statusFlags));
+            if (!deprecateEof) {
+                result.add(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(connectionSession)));
+            }
         }
         if (!projections.isEmpty() && sqlStatementContext instanceof SelectStatementContext) {
             result.addAll(createProjectionColumnDefinition41Packets((SelectStatementContext) sqlStatementContext, characterSet));
-            result.add(new MySQLEofPacket(statusFlags));
+            if (!deprecateEof) {
+                result.add(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(connectionSession)));
+            }
         }
         return result;
     }
@@ -20,9 +20,12 @@ package org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinitionFlag;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofOKPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -30,6 +33,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -51,20 +55,68 @@ public final class ResponsePacketBuilder {
      * @param queryResponseHeader query response header
      * @param characterSet MySQL character set id
      * @param statusFlags server status flags
+     * @param clientCapabilityFlags client capability flags
      * @return query response packets
      */
-    public static Collection<DatabasePacket> buildQueryResponsePackets(final QueryResponseHeader queryResponseHeader, final int characterSet, final int statusFlags) {
+    public static Collection<DatabasePacket> buildQueryResponsePackets(final QueryResponseHeader queryResponseHeader, final int characterSet, final int statusFlags, final int clientCapabilityFlags) {
+        return buildQueryResponsePackets(buildColumnDefinition41Packets(queryResponseHeader, characterSet), statusFlags, clientCapabilityFlags, true);
+    }
+    
+    /**
+     * Build query response packets.
+     *
+     * @param columnDefinitions column definition packets
+     * @param statusFlags server status flags
+     * @param clientCapabilityFlags client capability flags
+     * @param metadataFollows whether column definitions should be sent, only takes effect if client negotiated optional result set metadata
+     * @return query response packets
+     */
+    public static Collection<DatabasePacket> buildQueryResponsePackets(final List<MySQLColumnDefinition41Packet> columnDefinitions, final int statusFlags,
+                                                                       final int clientCapabilityFlags, final boolean metadataFollows) {
         Collection<DatabasePacket> result = new LinkedList<>();
+        if (MySQLCapabilityFlag.CLIENT_OPTIONAL_RESULTSET_METADATA.isEnabled(clientCapabilityFlags)) {
+            result.add(new MySQLFieldCountPacket(columnDefinitions.size(), metadataFollows ? MySQLResultSetMetadata.RESULTSET_METADATA_FULL : MySQLResultSetMetadata.RESULTSET_METADATA_NONE));
+            if (!metadataFollows) {
+                return result;
+            }
+        } else {
+            result.add(new MySQLFieldCountPacket(columnDefinitions.size()));
+        }
+        result.addAll(columnDefinitions);
+        if (!MySQLCapabilityFlag.CLIENT_DEPRECATE_EOF.isEnabled(clientCapabilityFlags)) {
+            result.add(new MySQLEofPacket(statusFlags));
+        }
+        return result;
+    }
+    
+    /**
+     * Build column definition packets.
+     *
+     * @param queryResponseHeader query response header
+     * @param characterSet MySQL character set id
+     * @return column definition packets
+     */
+    public static List<MySQLColumnDefinition41Packet> buildColumnDefinition41Packets(final QueryResponseHeader queryResponseHeader, final int characterSet) {
         List<QueryHeader> queryHeaders = queryResponseHeader.getQueryHeaders();
-        result.add(new MySQLFieldCountPacket(queryHeaders.size()));
+        List<MySQLColumnDefinition41Packet> result = new ArrayList<>(queryHeaders.size());
         for (QueryHeader each : queryHeaders) {
             result.add(new MySQLColumnDefinition41Packet(characterSet, getColumnDefinitionFlag(each), each.getSchema(), each.getTable(), each.getTable(),
                     each.getColumnLabel(), each.getColumnName(), each.getColumnLength(), MySQLBinaryColumnType.valueOfJDBCType(each.getColumnType()), each.getDecimals(), false));
         }
-        result.add(new MySQLEofPacket(statusFlags));
         return result;
     }
     
+    /**
+     * Build packet which terminates result set rows or column definitions.
+     *
+     * @param statusFlags server status flags
+     * @param clientCapabilityFlags client capability flags
+     * @return EOF packet, or OK packet with EOF header if client negotiated deprecate EOF
+     */
+    public static DatabasePacket buildEofPacket(final int statusFlags, final int clientCapabilityFlags) {
+        return MySQLCapabilityFlag.CLIENT_DEPRECATE_EOF.isEnabled(clientCapabilityFlags) ? new MySQLEofOKPacket(statusFlags) : new MySQLEofPacket(statusFlags);
+    }
+    
     private static int getColumnDefinitionFlag(final QueryHeader header) {
         int result = 0;
         if (header.isPrimaryKey()) {
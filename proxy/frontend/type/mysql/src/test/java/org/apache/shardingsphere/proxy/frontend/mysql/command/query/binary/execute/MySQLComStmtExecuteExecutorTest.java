@@ -17,13 +17,19 @@
 
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.execute;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLNewParametersBoundFlag;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLEncodedPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
-import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
@@ -44,6 +50,7 @@ import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowWriter;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
@@ -69,6 +76,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Collections;
@@ -84,6 +92,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -158,6 +167,8 @@ class MySQLComStmtExecuteExecutorTest {
         when(proxyBackendHandler.execute()).thenReturn(new QueryResponseHeader(Collections.singletonList(queryHeader)));
         when(proxyBackendHandler.next()).thenReturn(true, false);
         when(proxyBackendHandler.getRowData()).thenReturn(new QueryResponseRow(Collections.singletonList(new QueryResponseCell(Types.INTEGER, 1))));
+        doCallRealMethod().when(proxyBackendHandler).writeRowData(any(QueryResponseRowWriter.class));
+        when(connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
         when(ProxyBackendHandlerFactory.newInstance(any(MySQLDatabaseType.class), any(QueryContext.class), eq(connectionSession), anyBoolean())).thenReturn(proxyBackendHandler);
         Iterator<DatabasePacket> actual = executor.execute().iterator();
         assertThat(executor.getResponseType(), is(ResponseType.QUERY));
@@ -166,12 +177,55 @@ class MySQLComStmtExecuteExecutorTest {
         assertThat(actual.next(), instanceOf(MySQLEofPacket.class));
         assertFalse(actual.hasNext());
         assertTrue(executor.next());
-        MySQLPacket actualQueryRowPacket = executor.getQueryRowPacket();
-        assertThat(actualQueryRowPacket, instanceOf(MySQLBinaryResultSetRowPacket.class));
+        MySQLPacket actualQueryRowPacket = executor.getQueryRowPacket(UnpooledByteBufAllocator.DEFAULT);
+        assertThat(actualQueryRowPacket, instanceOf(MySQLEncodedPacket.class));
+        ByteBuf actualByteBuf = ((MySQLEncodedPacket) actualQueryRowPacket).getByteBuf();
+        assertThat(ByteBufUtil.getBytes(actualByteBuf, MySQLEncodedPacket.HEADER_LENGTH, actualByteBuf.readableBytes() - MySQLEncodedPacket.HEADER_LENGTH), is(new byte[]{0, 0, 1, 0, 0, 0}));
+        assertTrue(((MySQLEncodedPacket) actualQueryRowPacket).release());
         executor.close();
         verify(proxyBackendHandler).close();
     }
     
+    @Test
+    void assertIsQueryResponseWithoutRepeatedMetadata() throws SQLException {
+        int clientCapabilityFlags = MySQLCapabilityFlag.CLIENT_DEPRECATE_EOF.getValue() | MySQLCapabilityFlag.CLIENT_OPTIONAL_RESULTSET_METADATA.getValue();
+        when(connectionSession.getAttributeMap().hasAttr(MySQLConstants.CLIENT_CAPABILITY_FLAGS_ATTRIBUTE_KEY)).thenReturn(true);
+        when(connectionSession.getAttributeMap().attr(MySQLConstants.CLIENT_CAPABILITY_FLAGS_ATTRIBUTE_KEY).get()).thenReturn(clientCapabilityFlags);
+        when(connectionSession.getAttributeMap().attr(MySQLConstants.RESULTSET_METADATA_ATTRIBUTE_KEY).get()).thenReturn(MySQLResultSetMetadata.RESULTSET_METADATA_NONE);
+        MySQLComStmtExecutePacket packet = mock(MySQLComStmtExecutePacket.class);
+        when(packet.getStatementId()).thenReturn(1);
+        QueryHeader queryHeader = mock(QueryHeader.class);
+        when(queryHeader.getColumnTypeName()).thenReturn("VARCHAR");
+        when(proxyBackendHandler.execute()).thenReturn(new QueryResponseHeader(Collections.singletonList(queryHeader)));
+        when(ProxyBackendHandlerFactory.newInstance(any(MySQLDatabaseType.class), any(QueryContext.class), eq(connectionSession), anyBoolean())).thenReturn(proxyBackendHandler);
+        Iterator<DatabasePacket> firstActual = new MySQLComStmtExecuteExecutor(packet, connectionSession).execute().iterator();
+        assertThat(firstActual.next(), instanceOf(MySQLFieldCountPacket.class));
+        assertThat(firstActual.next(), instanceOf(MySQLColumnDefinition41Packet.class));
+        assertFalse(firstActual.hasNext());
+        Iterator<DatabasePacket> secondActual = new MySQLComStmtExecuteExecutor(packet, connectionSession).execute().iterator();
+        assertThat(secondActual.next(), instanceOf(MySQLFieldCountPacket.class));
+        assertFalse(secondActual.hasNext());
+    }
+    
+    @Test
+    void assertIsQueryResponseWithRepeatedMetadataWhenResultSetMetadataIsFull() throws SQLException {
+        int clientCapabilityFlags = MySQLCapabilityFlag.CLIENT_DEPRECATE_EOF.getValue() | MySQLCapabilityFlag.CLIENT_OPTIONAL_RESULTSET_METADATA.getValue();
+        when(connectionSession.getAttributeMap().hasAttr(MySQLConstants.CLIENT_CAPABILITY_FLAGS_ATTRIBUTE_KEY)).thenReturn(true);
+        when(connectionSession.getAttributeMap().attr(MySQLConstants.CLIENT_CAPABILITY_FLAGS_ATTRIBUTE_KEY).get()).thenReturn(clientCapabilityFlags);
+        MySQLComStmtExecutePacket packet = mock(MySQLComStmtExecutePacket.class);
+        when(packet.getStatementId()).thenReturn(1);
+        QueryHeader queryHeader = mock(QueryHeader.class);
+        when(queryHeader.getColumnTypeName()).thenReturn("VARCHAR");
+        when(proxyBackendHandler.execute()).thenReturn(new QueryResponseHeader(Collections.singletonList(queryHeader)));
+        when(ProxyBackendHandlerFactory.newInstance(any(MySQLDatabaseType.class), any(QueryContext.class), eq(connectionSession), anyBoolean())).thenReturn(proxyBackendHandler);
+        new MySQLComStmtExecuteExecutor(packet, connectionSession).execute();
+        Iterator<DatabasePacket> actual = new MySQLComStmtExecuteExecutor(packet, connectionSession).execute().iterator();
+        MySQLFieldCountPacket actualFieldCountPacket = (MySQLFieldCountPacket) actual.next();
+        assertThat(actualFieldCountPacket.getResultSetMetadata(), is(MySQLResultSetMetadata.RESULTSET_METADATA_FULL));
+        assertThat(actual.next(), instanceOf(MySQLColumnDefinition41Packet.class));
+        assertFalse(actual.hasNext());
+    }
+    
     @Test
     void assertIsUpdateResponse() throws SQLException {
         MySQLComStmtExecutePacket packet = mock(MySQLComStmtExecutePacket.class);
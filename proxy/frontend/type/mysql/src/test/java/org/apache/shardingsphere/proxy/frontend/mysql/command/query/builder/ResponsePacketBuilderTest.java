@@ -18,8 +18,11 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder;
 
 import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLResultSetMetadata;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLFieldCountPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofOKPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
@@ -33,6 +36,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.anyOf;
@@ -51,11 +55,37 @@ class ResponsePacketBuilderTest {
         QueryHeader queryHeader2 = new QueryHeader("schema2", "table2", "columnLabel2", "columnName2", 8, "VARCHAR", 7, 9, false, true, true, true);
         List<QueryHeader> queryHeaders = Arrays.asList(queryHeader1, queryHeader2);
         QueryResponseHeader queryResponseHeader = new QueryResponseHeader(queryHeaders);
-        Collection<DatabasePacket> actual = ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, 255, 0);
+        Collection<DatabasePacket> actual = ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, 255, 0, 0);
         assertTrue(actual.stream().findAny().isPresent());
         assertThat(actual.stream().findAny().get(), anyOf(instanceOf(MySQLFieldCountPacket.class), instanceOf(MySQLColumnDefinition41Packet.class), instanceOf(MySQLEofPacket.class)));
     }
     
+    @Test
+    void assertBuildQueryResponsePacketsWithDeprecateEof() {
+        QueryHeader queryHeader = new QueryHeader("schema1", "table1", "columnLabel1", "columnName1", 5, "VARCHAR", 4, 6, false, true, false, true);
+        QueryResponseHeader queryResponseHeader = new QueryResponseHeader(Collections.singletonList(queryHeader));
+        List<DatabasePacket> actual = new ArrayList<>(ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, 255, 0, MySQLCapabilityFlag.CLIENT_DEPRECATE_EOF.getValue()));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), instanceOf(MySQLFieldCountPacket.class));
+        assertThat(actual.get(1), instanceOf(MySQLColumnDefinition41Packet.class));
+    }
+    
+    @Test
+    void assertBuildQueryResponsePacketsWithoutMetadata() {
+        QueryHeader queryHeader = new QueryHeader("schema1", "table1", "columnLabel1", "columnName1", 5, "VARCHAR", 4, 6, false, true, false, true);
+        QueryResponseHeader queryResponseHeader = new QueryResponseHeader(Collections.singletonList(queryHeader));
+        Collection<DatabasePacket> actual = ResponsePacketBuilder.buildQueryResponsePackets(ResponsePacketBuilder.buildColumnDefinition41Packets(queryResponseHeader, 255), 0,
+                MySQLCapabilityFlag.CLIENT_OPTIONAL_RESULTSET_METADATA.getValue(), false);
+        assertThat(actual.size(), is(1));
+        assertThat(((MySQLFieldCountPacket) actual.iterator().next()).getResultSetMetadata(), is(MySQLResultSetMetadata.RESULTSET_METADATA_NONE));
+    }
+    
+    @Test
+    void assertBuildEofPacket() {
+        assertThat(ResponsePacketBuilder.buildEofPacket(0, 0), instanceOf(MySQLEofPacket.class));
+        assertThat(ResponsePacketBuilder.buildEofPacket(0, MySQLCapabilityFlag.CLIENT_DEPRECATE_EOF.getValue()), instanceOf(MySQLEofOKPacket.class));
+    }
+    
     @Test
     void assertBuildUpdateResponsePackets() {
         UpdateResponseHeader updateResponseHeader = mock(UpdateResponseHeader.class);
@@ -76,7 +106,7 @@ class ResponsePacketBuilderTest {
         QueryHeader binaryHeader = new QueryHeader("s", "t", "columnLabel2", "columnName2", 8, "VARBINARY", 1, 1, false, false, false, false);
         List<QueryHeader> queryHeaders = Arrays.asList(nonBinaryHeader, binaryHeader);
         QueryResponseHeader queryResponseHeader = new QueryResponseHeader(queryHeaders);
-        List<DatabasePacket> actual = new ArrayList(ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, 255, 0));
+        List<DatabasePacket> actual = new ArrayList(ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, 255, 0, 0));
         assertThat(actual.size(), is(4));
         byte[] actualNonBinaryData = new byte[48];
         actual.get(1).write(new MySQLPacketPayload(Unpooled.wrappedBuffer(actualNonBinaryData).writerIndex(0), StandardCharsets.UTF_8));